@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.appformer.client.stateControl.registry;
+
+/**
+ * A monotonically increasing modification counter for registries.
+ * <p>
+ * All counters draw their values from a single sequence, so two registries never share a value. This way a value
+ * stored from a registry is also detected as stale once that registry is replaced by a new one.
+ */
+public final class ModificationCounter {
+
+    private static long sequence = 0;
+
+    private long count = next();
+
+    /**
+     * Returns the current value of the counter.
+     *
+     * @return the current value
+     */
+    public long get() {
+        return count;
+    }
+
+    /**
+     * Increases the counter.
+     */
+    public void increment() {
+        count = next();
+    }
+
+    private static long next() {
+        return ++sequence;
+    }
+}
@@ -78,4 +78,13 @@ public interface Registry<C> {
      * @param registryChangeListener A {@link RegistryChangeListener}
      */
     void setRegistryChangeListener(RegistryChangeListener registryChangeListener);
+
+    /**
+     * Returns a counter that increases every time the registry changes, that is, every time an item is registered
+     * or popped, or the registry is cleared. It allows checking in constant time whether anything has changed since
+     * a value was taken.
+     *
+     * @return The current modification count
+     */
+    long getModificationCount();
 }
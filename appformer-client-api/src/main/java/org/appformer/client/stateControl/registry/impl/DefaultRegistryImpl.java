@@ -22,6 +22,7 @@ import java.util.Deque;
 import java.util.List;
 
 import org.appformer.client.stateControl.registry.DefaultRegistry;
+import org.appformer.client.stateControl.registry.ModificationCounter;
 import org.appformer.client.stateControl.registry.Registry;
 import org.appformer.client.stateControl.registry.RegistryChangeListener;
 
@@ -34,6 +35,7 @@ import org.appformer.client.stateControl.registry.RegistryChangeListener;
 public class DefaultRegistryImpl<C> implements DefaultRegistry<C> {
 
     private final Deque<C> items = new ArrayDeque<>();
+    private final ModificationCounter modificationCounter = new ModificationCounter();
     private int maxStackSize = 200;
     private RegistryChangeListener registryChangeListener;
 
@@ -67,6 +69,11 @@ public class DefaultRegistryImpl<C> implements DefaultRegistry<C> {
         this.registryChangeListener = registryChangeListener;
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCounter.get();
+    }
+
     @Override
     public C peek() {
         return items.peek();
@@ -85,6 +92,7 @@ public class DefaultRegistryImpl<C> implements DefaultRegistry<C> {
     }
 
     private void notifyRegistryChange() {
+        modificationCounter.increment();
         if (registryChangeListener != null) {
             registryChangeListener.notifyRegistryChange();
         }
@@ -24,7 +24,9 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -101,6 +103,33 @@ public class DefaultRegistryImplTest {
                 .isEmpty();
     }
 
+    @Test
+    public void testModificationCount() {
+        final long initialCount = registry.getModificationCount();
+
+        registry.register(COMMAND1);
+        registry.register(COMMAND2);
+        final long registeredCount = registry.getModificationCount();
+        assertTrue(registeredCount > initialCount);
+
+        registry.peek();
+        registry.getHistory();
+        assertEquals(registeredCount, registry.getModificationCount());
+
+        registry.pop();
+        final long poppedCount = registry.getModificationCount();
+        assertTrue(poppedCount > registeredCount);
+
+        registry.clear();
+        assertTrue(registry.getModificationCount() > poppedCount);
+    }
+
+    @Test
+    public void testModificationCountIsNotSharedByRegistries() {
+        final DefaultRegistryImpl<Command> otherRegistry = new DefaultRegistryImpl<>();
+        assertNotEquals(registry.getModificationCount(), otherRegistry.getModificationCount());
+    }
+
     @Test
     public void testAddReachingMax() {
         registry.setMaxSize(2);
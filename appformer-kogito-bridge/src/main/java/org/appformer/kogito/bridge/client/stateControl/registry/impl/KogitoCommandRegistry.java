@@ -22,6 +22,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.appformer.client.stateControl.registry.ModificationCounter;
 import org.appformer.client.stateControl.registry.Registry;
 import org.appformer.client.stateControl.registry.RegistryChangeListener;
 import org.appformer.kogito.bridge.client.interop.WindowRef;
@@ -37,6 +38,7 @@ public class KogitoCommandRegistry<C> implements Registry<C> {
 
     private KogitoJSCommandRegistry<C> wrapped;
     private RegistryChangeListener registryChangeListener;
+    private final ModificationCounter modificationCounter = new ModificationCounter();
 
     public KogitoCommandRegistry() {
         this(WindowRef::isEnvelopeAvailable, () -> StateControl.get().getCommandRegistry());
@@ -94,12 +96,18 @@ public class KogitoCommandRegistry<C> implements Registry<C> {
         return wrapped.isEmpty();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCounter.get();
+    }
+
     @Override
     public void setRegistryChangeListener(final RegistryChangeListener registryChangeListener) {
         this.registryChangeListener = registryChangeListener;
     }
 
     private void notifyRegistryChange() {
+        modificationCounter.increment();
         if (registryChangeListener != null) {
             registryChangeListener.notifyRegistryChange();
         }
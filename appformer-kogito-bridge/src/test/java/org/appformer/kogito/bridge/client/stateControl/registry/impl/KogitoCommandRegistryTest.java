@@ -90,6 +90,29 @@ public class KogitoCommandRegistryTest {
         verify(registryChangeListener).notifyRegistryChange();
     }
 
+    @Test
+    public void testModificationCount() {
+        final long initialCount = commandRegistry.getModificationCount();
+
+        commandRegistry.register(new Object());
+        final long registeredCount = commandRegistry.getModificationCount();
+        Assertions.assertThat(registeredCount).isGreaterThan(initialCount);
+
+        commandRegistry.peek();
+        Assertions.assertThat(commandRegistry.getModificationCount()).isEqualTo(registeredCount);
+
+        commandRegistry.pop();
+        final long poppedCount = commandRegistry.getModificationCount();
+        Assertions.assertThat(poppedCount).isGreaterThan(registeredCount);
+
+        when(kogitoJSCommandRegistry.pop()).thenReturn(null);
+        commandRegistry.pop();
+        Assertions.assertThat(commandRegistry.getModificationCount()).isEqualTo(poppedCount);
+
+        commandRegistry.clear();
+        Assertions.assertThat(commandRegistry.getModificationCount()).isGreaterThan(poppedCount);
+    }
+
     @Test
     public void testIsEmpty() {
         commandRegistry.isEmpty();
@@ -477,6 +477,36 @@ public class ScenarioSimulationContext {
         }
 
         public Status cloneStatus() {
+            return copyStatus(this.simulation.cloneModel(), this.background.cloneModel());
+        }
+
+        /**
+         * Returns a copy of the current status where only the model of the given <code>GridWidget</code> is cloned,
+         * while the model of the other grid is shared with the current status.
+         * @param gridWidget
+         * @return
+         */
+        public Status cloneStatus(GridWidget gridWidget) {
+            switch (gridWidget) {
+                case SIMULATION:
+                    return copyStatus(this.simulation.cloneModel(), this.background);
+                case BACKGROUND:
+                    return copyStatus(this.simulation, this.background.cloneModel());
+                default:
+                    throw new IllegalArgumentException(ILLEGAL_WIDGET_MESSAGE_PREFIX + gridWidget);
+            }
+        }
+
+        /**
+         * Returns a copy of the current status sharing its <code>Simulation</code> and <code>Background</code>.
+         * To be used only when those models are going to be replaced inside the editor, so that they can not be modified anymore.
+         * @return
+         */
+        public Status shallowCloneStatus() {
+            return copyStatus(this.simulation, this.background);
+        }
+
+        private Status copyStatus(Simulation simulation, Background background) {
             Status toReturn = new Status();
             toReturn.columnId = this.columnId;
             toReturn.columnIndex = this.columnIndex;
@@ -490,8 +520,8 @@ public class ScenarioSimulationContext {
             toReturn.keepData = this.keepData;
             toReturn.gridCellValue = this.gridCellValue;
             toReturn.rowIndex = this.rowIndex;
-            toReturn.simulation = this.simulation.cloneModel();
-            toReturn.background = this.background.cloneModel();
+            toReturn.simulation = simulation;
+            toReturn.background = background;
             toReturn.currentGrid = this.currentGrid;
             toReturn.importPrefix = this.importPrefix;
             return toReturn;
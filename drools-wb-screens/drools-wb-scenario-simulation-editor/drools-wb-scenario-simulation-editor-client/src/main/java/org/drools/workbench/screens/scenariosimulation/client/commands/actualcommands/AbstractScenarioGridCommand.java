@@ -50,23 +50,38 @@ public abstract class AbstractScenarioGridCommand extends AbstractScenarioSimula
         this.gridWidget = gridWidget;
     }
 
+    /**
+     * A command only modifies the model of its own <code>GridWidget</code>, so only that one is cloned
+     * @param context
+     * @return
+     */
     @Override
     protected ScenarioSimulationContext.Status setRestorableStatusPreExecution(ScenarioSimulationContext context) {
-        return context.getStatus().cloneStatus();
+        return context.getStatus().cloneStatus(gridWidget);
     }
 
+    /**
+     * It restores the model of the command's <code>GridWidget</code>, keeping the current model of the other grid, since
+     * it may have been replaced by the undo/redo of other commands. The models being replaced are not cloned: they are
+     * detached from the editor and stored as they are, to be restored by the next undo/redo.
+     * @param context
+     * @return
+     */
     @Override
     protected CommandResult<ScenarioSimulationViolation> setCurrentContext(ScenarioSimulationContext context) {
         try {
-            final Simulation simulationToRestore = restorableStatus.getSimulation();
-            final Background backgroundToRestore = restorableStatus.getBackground();
+            final ScenarioSimulationContext.Status currentStatus = context.getStatus();
+            final Simulation simulationToRestore = GridWidget.BACKGROUND.equals(gridWidget) ? currentStatus.getSimulation() : restorableStatus.getSimulation();
+            final Background backgroundToRestore = GridWidget.SIMULATION.equals(gridWidget) ? currentStatus.getBackground() : restorableStatus.getBackground();
             if (simulationToRestore == null) {
                 throw new IllegalStateException("Simulation is null in restorable status");
             }
             if (backgroundToRestore == null) {
                 throw new IllegalStateException("Background is null in restorable status");
             }
-            final ScenarioSimulationContext.Status originalStatus = context.getStatus().cloneStatus();
+            final ScenarioSimulationContext.Status originalStatus = currentStatus.shallowCloneStatus();
+            restorableStatus.setSimulation(simulationToRestore);
+            restorableStatus.setBackground(backgroundToRestore);
             ScenarioSimulationModel.Type type = context.getScenarioSimulationModel().getSettings().getType();
             context.getSimulationGrid().getModel().clearSelections();
             context.getBackgroundGrid().getModel().clearSelections();
@@ -31,8 +31,12 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.FULL_PACKAGE;
+import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.ROW_INDEX;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
@@ -229,4 +233,33 @@ public class ScenarioSimulationContextTest extends AbstractScenarioSimulationTes
         assertEquals(FULL_PACKAGE, scenarioSimulationContextLocal.getStatus().getFullPackage());
     }
 
+    @Test
+    public void cloneStatus() {
+        final ScenarioSimulationContext.Status status = scenarioSimulationContextLocal.getStatus().cloneStatus();
+        assertEquals(clonedSimulationMock, status.getSimulation());
+        assertEquals(clonedBackgroundMock, status.getBackground());
+    }
+
+    @Test
+    public void cloneStatusByGridWidget() {
+        final ScenarioSimulationContext.Status simulationStatus = scenarioSimulationContextLocal.getStatus().cloneStatus(GridWidget.SIMULATION);
+        assertEquals(clonedSimulationMock, simulationStatus.getSimulation());
+        assertEquals(backgroundMock, simulationStatus.getBackground());
+
+        final ScenarioSimulationContext.Status backgroundStatus = scenarioSimulationContextLocal.getStatus().cloneStatus(GridWidget.BACKGROUND);
+        assertEquals(simulationMock, backgroundStatus.getSimulation());
+        assertEquals(clonedBackgroundMock, backgroundStatus.getBackground());
+    }
+
+    @Test
+    public void shallowCloneStatus() {
+        scenarioSimulationContextLocal.getStatus().setRowIndex(ROW_INDEX);
+        final ScenarioSimulationContext.Status status = scenarioSimulationContextLocal.getStatus().shallowCloneStatus();
+        assertNotEquals(scenarioSimulationContextLocal.getStatus().getId(), status.getId());
+        assertEquals(ROW_INDEX, status.getRowIndex());
+        assertEquals(simulationMock, status.getSimulation());
+        assertEquals(backgroundMock, status.getBackground());
+        verify(simulationMock, never()).cloneModel();
+        verify(backgroundMock, never()).cloneModel();
+    }
 }
\ No newline at end of file
@@ -30,6 +30,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.eq;
@@ -49,10 +50,22 @@ public abstract class AbstractScenarioGridCommandTest extends AbstractScenarioSi
 
     @Test
     public void setRestorableStatus() {
+        commandSpy.gridWidget = GridWidget.SIMULATION;
         ScenarioSimulationContext.Status clonedStatus = commandSpy.setRestorableStatusPreExecution(scenarioSimulationContextLocal);
         assertNotNull(clonedStatus);
         assertEquals(clonedSimulationMock, clonedStatus.getSimulation());
+        assertEquals(backgroundMock, clonedStatus.getBackground());
+        verify(backgroundMock, never()).cloneModel();
+    }
+
+    @Test
+    public void setRestorableStatusBACKGROUND() {
+        commandSpy.gridWidget = GridWidget.BACKGROUND;
+        ScenarioSimulationContext.Status clonedStatus = commandSpy.setRestorableStatusPreExecution(scenarioSimulationContextLocal);
+        assertNotNull(clonedStatus);
+        assertEquals(simulationMock, clonedStatus.getSimulation());
         assertEquals(clonedBackgroundMock, clonedStatus.getBackground());
+        verify(simulationMock, never()).cloneModel();
     }
 
     @Test
@@ -84,8 +97,9 @@ public abstract class AbstractScenarioGridCommandTest extends AbstractScenarioSi
     @Test
     public void execute() {
         final ScenarioSimulationContext.Status status = scenarioSimulationContextLocal.getStatus();
+        commandSpy.gridWidget = GridWidget.SIMULATION;
         commandSpy.execute(scenarioSimulationContextLocal);
-        assertEquals(clonedBackgroundMock, commandSpy.restorableStatus.getBackground());
+        assertEquals(backgroundMock, commandSpy.restorableStatus.getBackground());
         assertEquals(clonedSimulationMock, commandSpy.restorableStatus.getSimulation());
         try {
             verify(commandSpy, times(1)).internalExecute(eq(scenarioSimulationContextLocal));
@@ -131,6 +145,42 @@ public abstract class AbstractScenarioGridCommandTest extends AbstractScenarioSi
         assertNotEquals(status, commandSpy.restorableStatus);
     }
 
+    @Test
+    public void setCurrentContextSIMULATION() {
+        final ScenarioSimulationContext.Status status = scenarioSimulationContextLocal.getStatus();
+        commandSpy.gridWidget = GridWidget.SIMULATION;
+        commandSpy.restorableStatus = status.cloneStatus();
+        final ScenarioSimulationContext.Status restorableStatus = commandSpy.restorableStatus;
+        final CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.setCurrentContext(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
+        verify(scenarioGridMock, times(1)).setContent(eq(clonedSimulationMock), eq(settingsLocal.getType()));
+        verify(backgroundGridMock, times(1)).setContent(eq(backgroundMock), eq(settingsLocal.getType()));
+        assertSame(restorableStatus, scenarioSimulationContextLocal.getStatus());
+        assertEquals(clonedSimulationMock, scenarioSimulationContextLocal.getStatus().getSimulation());
+        assertEquals(backgroundMock, scenarioSimulationContextLocal.getStatus().getBackground());
+        assertEquals(simulationMock, commandSpy.restorableStatus.getSimulation());
+        assertEquals(backgroundMock, commandSpy.restorableStatus.getBackground());
+        verify(simulationMock, times(1)).cloneModel();
+        verify(clonedSimulationMock, never()).cloneModel();
+    }
+
+    @Test
+    public void setCurrentContextBACKGROUND() {
+        final ScenarioSimulationContext.Status status = scenarioSimulationContextLocal.getStatus();
+        commandSpy.gridWidget = GridWidget.BACKGROUND;
+        commandSpy.restorableStatus = status.cloneStatus();
+        final CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.setCurrentContext(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
+        verify(scenarioGridMock, times(1)).setContent(eq(simulationMock), eq(settingsLocal.getType()));
+        verify(backgroundGridMock, times(1)).setContent(eq(clonedBackgroundMock), eq(settingsLocal.getType()));
+        assertEquals(simulationMock, scenarioSimulationContextLocal.getStatus().getSimulation());
+        assertEquals(clonedBackgroundMock, scenarioSimulationContextLocal.getStatus().getBackground());
+        assertEquals(simulationMock, commandSpy.restorableStatus.getSimulation());
+        assertEquals(backgroundMock, commandSpy.restorableStatus.getBackground());
+        verify(backgroundMock, times(1)).cloneModel();
+        verify(clonedBackgroundMock, never()).cloneModel();
+    }
+
     @Test
     public void commonUndoRedoPreExecutionSameGrid() {
         when(backgroundGridWidgetSpy.isSelected()).thenReturn(false);
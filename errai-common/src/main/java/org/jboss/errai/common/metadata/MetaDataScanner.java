@@ -22,6 +22,7 @@ import org.jboss.errai.common.rebind.CacheStore;
 import org.jboss.errai.common.rebind.CacheUtil;
 import org.jboss.errai.reflections.Configuration;
 import org.jboss.errai.reflections.Reflections;
+import org.jboss.errai.reflections.ScanCache;
 import org.jboss.errai.reflections.scanners.FieldAnnotationsScanner;
 import org.jboss.errai.reflections.scanners.MethodAnnotationsScanner;
 import org.jboss.errai.reflections.util.ConfigurationBuilder;
@@ -72,6 +73,13 @@ public class MetaDataScanner extends Reflections {
 
   private static final String EXTENSION_KEY = "errai.class_scanning_extension";
 
+  /**
+   * Set this system property to true to keep the metadata scanned from each jar and directory in the Errai cache
+   * directory, and only scan again the ones that changed. The class files of the types read from that cache are not
+   * available to {@link #getHashForTypesAnnotatedWith(String, Class)}.
+   */
+  private static final String SCAN_CACHE_PROPERTY = "errai.reflections.scan_cache";
+
   private static final ErraiPropertyScanner propScanner = new ErraiPropertyScanner(file -> file.endsWith(".properties"));
 
   private final Map<Class<? extends Annotation>, Set<Class<?>>> _annotationCache = new HashMap<>();
@@ -170,9 +178,14 @@ public class MetaDataScanner extends Reflections {
   }
 
   private static Configuration getConfiguration(final List<URL> urls) {
-    return new ConfigurationBuilder().setUrls(urls).setExecutorService(Executors.newFixedThreadPool(2))
+    final ConfigurationBuilder configuration = new ConfigurationBuilder().setUrls(urls)
+            .setExecutorService(Executors.newFixedThreadPool(2))
             .setScanners(new FieldAnnotationsScanner(), new MethodAnnotationsScanner(),
                     new ExtendedTypeAnnotationScanner(), propScanner);
+    if (Boolean.getBoolean(SCAN_CACHE_PROPERTY)) {
+      configuration.setScanCache(new ScanCache(new File(RebindUtils.getErraiCacheDir(), "reflections")));
+    }
+    return configuration;
   }
 
   private static void registerTypeHandler(final Vfs.UrlType handler) {
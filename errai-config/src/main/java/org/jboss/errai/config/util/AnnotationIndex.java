@@ -0,0 +1,197 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.config.util;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.errai.codegen.meta.HasAnnotations;
+import org.jboss.errai.codegen.meta.MetaClass;
+import org.jboss.errai.codegen.meta.MetaField;
+import org.jboss.errai.codegen.meta.MetaMethod;
+import org.jboss.errai.codegen.meta.MetaParameter;
+
+/**
+ * Inverted index from annotation names to the types, methods, fields and parameters of a set of classes annotated
+ * with them. Each {@link MetaClass} is indexed the first time it is seen and dropped once it is not part of the
+ * indexed classes anymore, so that a reloaded class does not require rebuilding the whole index.
+ *
+ * @see ClassScanner
+ */
+final class AnnotationIndex {
+
+  private final Map<MetaClass, ClassEntry> classes = new IdentityHashMap<MetaClass, ClassEntry>();
+  private final Map<String, Map<MetaClass, Integer>> types = new HashMap<String, Map<MetaClass, Integer>>();
+  private final Map<String, Map<MetaMethod, Integer>> methods = new HashMap<String, Map<MetaMethod, Integer>>();
+  private final Map<String, Map<MetaField, Integer>> fields = new HashMap<String, Map<MetaField, Integer>>();
+  private final Map<String, Map<MetaParameter, Integer>> parameters = new HashMap<String, Map<MetaParameter, Integer>>();
+  private int updates;
+
+  /**
+   * Brings the index in line with the given classes: classes that are not indexed yet are indexed, and indexed
+   * classes that are not part of the given ones anymore, for instance because they were reloaded, are dropped.
+   */
+  synchronized void update(final Collection<MetaClass> metaClasses) {
+    final int update = ++updates;
+    final List<MetaClass> added = new ArrayList<MetaClass>();
+    int seen = 0;
+    for (final MetaClass metaClass : metaClasses) {
+      final ClassEntry entry = classes.get(metaClass);
+      if (entry == null) {
+        added.add(metaClass);
+      }
+      else if (entry.update != update) {
+        entry.update = update;
+        seen++;
+      }
+    }
+
+    // Drop the replaced classes first, so that the elements of a reloaded class replace the equal ones of its
+    // previous version.
+    if (seen != classes.size()) {
+      final Iterator<ClassEntry> entries = classes.values().iterator();
+      while (entries.hasNext()) {
+        final ClassEntry entry = entries.next();
+        if (entry.update != update) {
+          entries.remove();
+          remove(entry);
+        }
+      }
+    }
+
+    for (final MetaClass metaClass : added) {
+      if (!classes.containsKey(metaClass)) {
+        final ClassEntry entry = index(metaClass);
+        entry.update = update;
+        classes.put(metaClass, entry);
+      }
+    }
+  }
+
+  synchronized void clear() {
+    classes.clear();
+    types.clear();
+    methods.clear();
+    fields.clear();
+    parameters.clear();
+  }
+
+  synchronized void addTypes(final Class<? extends Annotation> annotation, final Collection<MetaClass> result) {
+    addAll(types, annotation, result);
+  }
+
+  synchronized void addMethods(final Class<? extends Annotation> annotation, final Collection<MetaMethod> result) {
+    addAll(methods, annotation, result);
+  }
+
+  synchronized void addFields(final Class<? extends Annotation> annotation, final Collection<MetaField> result) {
+    addAll(fields, annotation, result);
+  }
+
+  synchronized void addParameters(final Class<? extends Annotation> annotation,
+          final Collection<MetaParameter> result) {
+    addAll(parameters, annotation, result);
+  }
+
+  private ClassEntry index(final MetaClass metaClass) {
+    final ClassEntry entry = new ClassEntry();
+    put(types, entry.types, metaClass, metaClass);
+    for (final MetaMethod method : metaClass.getDeclaredMethods()) {
+      put(methods, entry.methods, method, method);
+      for (final MetaParameter parameter : method.getParameters()) {
+        put(parameters, entry.parameters, parameter, parameter);
+      }
+    }
+    for (final MetaField field : metaClass.getDeclaredFields()) {
+      put(fields, entry.fields, field, field);
+    }
+    return entry;
+  }
+
+  private void remove(final ClassEntry entry) {
+    removeAll(types, entry.types);
+    removeAll(methods, entry.methods);
+    removeAll(fields, entry.fields);
+    removeAll(parameters, entry.parameters);
+  }
+
+  /**
+   * Adds the element under the names of its annotations. Equal elements can be declared by different
+   * {@link MetaClass} instances of the same type, so the elements are counted to keep them until the last one is
+   * removed.
+   */
+  private static <T> void put(final Map<String, Map<T, Integer>> index, final List<Object[]> indexed,
+          final HasAnnotations annotated, final T element) {
+    final Annotation[] annotations = annotated.getAnnotations();
+    if (annotations == null) {
+      return;
+    }
+    for (final Annotation annotation : annotations) {
+      final String name = annotation.annotationType().getName();
+      Map<T, Integer> elements = index.get(name);
+      if (elements == null) {
+        elements = new HashMap<T, Integer>();
+        index.put(name, elements);
+      }
+      final Integer count = elements.get(element);
+      elements.put(element, count == null ? 1 : count + 1);
+      indexed.add(new Object[] { name, element });
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> void removeAll(final Map<String, Map<T, Integer>> index, final List<Object[]> indexed) {
+    for (final Object[] nameAndElement : indexed) {
+      final Map<T, Integer> elements = index.get(nameAndElement[0]);
+      final Integer count = elements.get(nameAndElement[1]);
+      if (count > 1) {
+        elements.put((T) nameAndElement[1], count - 1);
+      }
+      else {
+        elements.remove(nameAndElement[1]);
+        if (elements.isEmpty()) {
+          index.remove(nameAndElement[0]);
+        }
+      }
+    }
+  }
+
+  private static <T> void addAll(final Map<String, Map<T, Integer>> index,
+          final Class<? extends Annotation> annotation, final Collection<T> result) {
+    final Map<T, Integer> elements = index.get(annotation.getName());
+    if (elements != null) {
+      result.addAll(elements.keySet());
+    }
+  }
+
+  /**
+   * The annotation name and element pairs added to the index for one class, so that they can be removed again.
+   */
+  private static class ClassEntry {
+    final List<Object[]> types = new ArrayList<Object[]>();
+    final List<Object[]> methods = new ArrayList<Object[]>();
+    final List<Object[]> fields = new ArrayList<Object[]>();
+    final List<Object[]> parameters = new ArrayList<Object[]>();
+    int update;
+  }
+}
@@ -56,6 +56,8 @@ public final class ClassScanner {
     final Collection<MetaClass> reloadableClasses =  new CopyOnWriteArrayList<MetaClass>();
     final Set<String> reloadableClassNames =  Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
     final Set<String> reloadablePackages =  Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    final AnnotationIndex reloadableAnnotationIndex = new AnnotationIndex();
+    final AnnotationIndex cachedAnnotationIndex = new AnnotationIndex();
 
     @Override
     public void clear() {
@@ -63,6 +65,8 @@ public final class ClassScanner {
       reloadableClasses.clear();
       reloadableClassNames.clear();
       reloadablePackages.clear();
+      reloadableAnnotationIndex.clear();
+      cachedAnnotationIndex.clear();
     }
   }
   final static CacheHolder cache = CacheUtil.getCache(CacheHolder.class);
@@ -74,6 +78,12 @@ public final class ClassScanner {
     }
   };
 
+  /**
+   * Set this system property to true to look annotated elements up by scanning the members of every cached class,
+   * instead of using the annotation indexes.
+   */
+  public static final String DISABLE_ANNOTATION_INDEX_PROPERTY = "errai.class_scanner.disable_annotation_index";
+
   private static AtomicLong totalClassScanTime = new AtomicLong(0);
 
   private ClassScanner() {
@@ -82,17 +92,16 @@ public final class ClassScanner {
   public static Collection<MetaParameter> getParametersAnnotatedWith(final Class<? extends Annotation> annotation,
           final Set<String> packages, final GeneratorContext genCtx) {
 
+    final long start = System.currentTimeMillis();
     final Collection<MetaParameter> result = new HashSet<MetaParameter>();
 
     if (genCtx != null) {
-      for (final MetaClass metaClass : getAllReloadableCachedClasses(genCtx)) {
-        for (final MetaMethod method : metaClass.getDeclaredMethods()) {
-          for (final MetaParameter parameter : method.getParameters()) {
-            if (parameter.isAnnotationPresent(annotation)) {
-              result.add(parameter);
-            }
-          }
-        }
+      final AnnotationIndex index = getReloadableAnnotationIndex(genCtx);
+      if (index != null) {
+        index.addParameters(annotation, result);
+      }
+      else {
+        addParametersAnnotatedWith(annotation, getAllReloadableCachedClasses(genCtx), result);
       }
       try {
         for (final Method m : ScannerSingleton.getOrCreateInstance().getMethodsWithAnyParamAnnotated(annotation)) {
@@ -110,18 +119,17 @@ public final class ClassScanner {
       }
     }
     else {
-      for (final MetaClass metaClass : MetaClassFactory.getAllCachedClasses()) {
-        for (final MetaMethod method : metaClass.getDeclaredMethods()) {
-          for (final MetaParameter parameter : method.getParameters()) {
-            if (parameter.isAnnotationPresent(annotation)) {
-              result.add(parameter);
-            }
-          }
-        }
+      final AnnotationIndex index = getCachedAnnotationIndex();
+      if (index != null) {
+        index.addParameters(annotation, result);
+      }
+      else {
+        addParametersAnnotatedWith(annotation, MetaClassFactory.getAllCachedClasses(), result);
       }
     }
 
     filterResultsParameter(result, packages, null);
+    totalClassScanTime.addAndGet(System.currentTimeMillis() - start);
     return Collections.unmodifiableCollection(result);
   }
 
@@ -133,13 +141,16 @@ public final class ClassScanner {
   public static Collection<MetaClass> getTypesAnnotatedWith(final Class<? extends Annotation> annotation,
           final Set<String> packages, final String excludeRegEx, final GeneratorContext genCtx, boolean reflections) {
 
+    final long start = System.currentTimeMillis();
     final Collection<MetaClass> result = new HashSet<MetaClass>();
 
     if (genCtx != null) {
-      for (final MetaClass metaClass : getAllReloadableCachedClasses(genCtx)) {
-        if (metaClass.isAnnotationPresent(annotation)) {
-          result.add(metaClass);
-        }
+      final AnnotationIndex index = getReloadableAnnotationIndex(genCtx);
+      if (index != null) {
+        index.addTypes(annotation, result);
+      }
+      else {
+        addTypesAnnotatedWith(annotation, getAllReloadableCachedClasses(genCtx), result);
       }
       try {
         for (final Class<?> cls : ScannerSingleton.getOrCreateInstance().getTypesAnnotatedWith(annotation)) {
@@ -151,10 +162,12 @@ public final class ClassScanner {
       }
     }
     else {
-      for (final MetaClass metaClass : MetaClassFactory.getAllCachedClasses()) {
-        if (metaClass.isAnnotationPresent(annotation)) {
-          result.add(metaClass);
-        }
+      final AnnotationIndex index = getCachedAnnotationIndex();
+      if (index != null) {
+        index.addTypes(annotation, result);
+      }
+      else {
+        addTypesAnnotatedWith(annotation, MetaClassFactory.getAllCachedClasses(), result);
       }
 
       try {
@@ -168,6 +181,7 @@ public final class ClassScanner {
       }
     }
     filterResultsClass(result, packages, excludeRegEx);
+    totalClassScanTime.addAndGet(System.currentTimeMillis() - start);
     return Collections.unmodifiableCollection(result);
   }
 
@@ -197,15 +211,16 @@ public final class ClassScanner {
 
   public static Collection<MetaMethod> getMethodsAnnotatedWith(final Class<? extends Annotation> annotation,
           final Set<String> packages, final GeneratorContext genCtx) {
+    final long start = System.currentTimeMillis();
     final Collection<MetaMethod> result = new HashSet<MetaMethod>(50);
 
     if (genCtx != null) {
-      for (final MetaClass metaClass : getAllReloadableCachedClasses(genCtx)) {
-        for (final MetaMethod metaMethod : metaClass.getDeclaredMethods()) {
-          if (metaMethod.isAnnotationPresent(annotation)) {
-            result.add(metaMethod);
-          }
-        }
+      final AnnotationIndex index = getReloadableAnnotationIndex(genCtx);
+      if (index != null) {
+        index.addMethods(annotation, result);
+      }
+      else {
+        addMethodsAnnotatedWith(annotation, getAllReloadableCachedClasses(genCtx), result);
       }
       try {
         for (final Method m : ScannerSingleton.getOrCreateInstance().getMethodsAnnotatedWith(annotation)) {
@@ -219,30 +234,32 @@ public final class ClassScanner {
       }
     }
     else {
-      for (final MetaClass metaClass : MetaClassFactory.getAllCachedClasses()) {
-        for (final MetaMethod metaMethod : metaClass.getDeclaredMethods()) {
-          if (metaMethod.isAnnotationPresent(annotation)) {
-            result.add(metaMethod);
-          }
-        }
+      final AnnotationIndex index = getCachedAnnotationIndex();
+      if (index != null) {
+        index.addMethods(annotation, result);
+      }
+      else {
+        addMethodsAnnotatedWith(annotation, MetaClassFactory.getAllCachedClasses(), result);
       }
     }
 
     filterResultsMethod(result, packages, null);
+    totalClassScanTime.addAndGet(System.currentTimeMillis() - start);
     return Collections.unmodifiableCollection(result);
   }
 
   public static Collection<MetaField> getFieldsAnnotatedWith(final Class<? extends Annotation> annotation,
           final Set<String> packages, final GeneratorContext genCtx) {
+    final long start = System.currentTimeMillis();
     final Collection<MetaField> result = new HashSet<MetaField>(50);
 
     if (genCtx != null) {
-      for (final MetaClass metaClass : getAllReloadableCachedClasses(genCtx)) {
-        for (final MetaField metaField : metaClass.getDeclaredFields()) {
-          if (metaField.isAnnotationPresent(annotation)) {
-            result.add(metaField);
-          }
-        }
+      final AnnotationIndex index = getReloadableAnnotationIndex(genCtx);
+      if (index != null) {
+        index.addFields(annotation, result);
+      }
+      else {
+        addFieldsAnnotatedWith(annotation, getAllReloadableCachedClasses(genCtx), result);
       }
       try {
         for (final Field f : ScannerSingleton.getOrCreateInstance().getFieldsAnnotatedWith(annotation)) {
@@ -255,16 +272,17 @@ public final class ClassScanner {
       }
     }
     else {
-      for (final MetaClass metaClass : MetaClassFactory.getAllCachedClasses()) {
-        for (final MetaField metaField : metaClass.getDeclaredFields()) {
-          if (metaField.isAnnotationPresent(annotation)) {
-            result.add(metaField);
-          }
-        }
+      final AnnotationIndex index = getCachedAnnotationIndex();
+      if (index != null) {
+        index.addFields(annotation, result);
+      }
+      else {
+        addFieldsAnnotatedWith(annotation, MetaClassFactory.getAllCachedClasses(), result);
       }
     }
 
     filterResultsField(result, packages, null);
+    totalClassScanTime.addAndGet(System.currentTimeMillis() - start);
     return Collections.unmodifiableCollection(result);
   }
 
@@ -299,6 +317,74 @@ public final class ClassScanner {
     return result;
   }
 
+  /**
+   * @return The annotation index of the reloadable classes, or null if the index is disabled. The index is built the
+   *         first time it is used in a generation context, after that only reloaded classes are indexed again.
+   */
+  private static AnnotationIndex getReloadableAnnotationIndex(final GeneratorContext context) {
+    if (Boolean.getBoolean(DISABLE_ANNOTATION_INDEX_PROPERTY)) {
+      return null;
+    }
+    cache.reloadableAnnotationIndex.update(getAllReloadableCachedClasses(context));
+    return cache.reloadableAnnotationIndex;
+  }
+
+  /**
+   * @return The annotation index of all the classes in the {@link MetaClassFactory} cache, or null if the index is
+   *         disabled.
+   */
+  private static AnnotationIndex getCachedAnnotationIndex() {
+    if (Boolean.getBoolean(DISABLE_ANNOTATION_INDEX_PROPERTY)) {
+      return null;
+    }
+    cache.cachedAnnotationIndex.update(MetaClassFactory.getAllCachedClasses());
+    return cache.cachedAnnotationIndex;
+  }
+
+  private static void addTypesAnnotatedWith(final Class<? extends Annotation> annotation,
+          final Collection<MetaClass> classes, final Collection<MetaClass> result) {
+    for (final MetaClass metaClass : classes) {
+      if (metaClass.isAnnotationPresent(annotation)) {
+        result.add(metaClass);
+      }
+    }
+  }
+
+  private static void addMethodsAnnotatedWith(final Class<? extends Annotation> annotation,
+          final Collection<MetaClass> classes, final Collection<MetaMethod> result) {
+    for (final MetaClass metaClass : classes) {
+      for (final MetaMethod metaMethod : metaClass.getDeclaredMethods()) {
+        if (metaMethod.isAnnotationPresent(annotation)) {
+          result.add(metaMethod);
+        }
+      }
+    }
+  }
+
+  private static void addFieldsAnnotatedWith(final Class<? extends Annotation> annotation,
+          final Collection<MetaClass> classes, final Collection<MetaField> result) {
+    for (final MetaClass metaClass : classes) {
+      for (final MetaField metaField : metaClass.getDeclaredFields()) {
+        if (metaField.isAnnotationPresent(annotation)) {
+          result.add(metaField);
+        }
+      }
+    }
+  }
+
+  private static void addParametersAnnotatedWith(final Class<? extends Annotation> annotation,
+          final Collection<MetaClass> classes, final Collection<MetaParameter> result) {
+    for (final MetaClass metaClass : classes) {
+      for (final MetaMethod method : metaClass.getDeclaredMethods()) {
+        for (final MetaParameter parameter : method.getParameters()) {
+          if (parameter.isAnnotationPresent(annotation)) {
+            result.add(parameter);
+          }
+        }
+      }
+    }
+  }
+
   private static Collection<MetaClass> getAllReloadableCachedClasses(final GeneratorContext context) {
     if (cache.reloadablePackages.isEmpty()) {
       cache.reloadablePackages.addAll(RebindUtils.getReloadablePackageNames(context));
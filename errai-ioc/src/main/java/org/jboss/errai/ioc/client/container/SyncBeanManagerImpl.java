@@ -20,8 +20,10 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.enterprise.context.Dependent;
@@ -56,6 +58,14 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
   private final Multimap<String, FactoryHandle> handlesByName = ArrayListMultimap.create();
   private final Multimap<String, SyncBeanDef<?>> runtimeBeanDefsByName = ArrayListMultimap.create();
 
+  /*
+   * Bean definitions resolved by type or name and qualifiers. Only factories and runtime bean definitions are cached;
+   * JsType providers can be registered by other scripts at any time and are looked up on each resolution.
+   */
+  private final Map<ResolutionKey, Resolution> resolutionCache = new HashMap<>();
+  private int resolutionCacheHits;
+  private int resolutionCacheMisses;
+
   @Override
   public void destroyBean(final Object ref) {
     contextManager.destroy(ref);
@@ -136,6 +146,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
   }
 
   private void addFactory(final FactoryHandle handle) {
+    resolutionCache.clear();
     for (final Class<?> assignableType : handle.getAssignableTypes()) {
       handlesByName.put(assignableType.getName(), handle);
     }
@@ -155,22 +166,38 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     Assert.notNull(name);
     logger.debug("Looking up beans for {}", name);
 
-    final Collection<FactoryHandle> handles = handlesByName.get(name);
-    final Collection<SyncBeanDef<?>> runtimeBeanDefs = runtimeBeanDefsByName.get(name);
-    final JsArray<JsTypeProvider<?>> jsProviders = getJsProviders(name);
+    final Collection beanDefs = resolve(name, keepJsDups);
 
-    final Set<String> beanDefFactoryNames = new HashSet<>();
-    final Collection beanDefs = new ArrayList<SyncBeanDef<Object>>(handles.size()+runtimeBeanDefs.size()+jsProviders.length());
-    beanDefs.addAll(runtimeBeanDefs);
-    for (final FactoryHandle handle : handles) {
-      if (handle.isAvailableByLookup()) {
-        beanDefs.add(new IOCBeanDefImplementation<>(handle, this.<Object>getType(name, handle, handle.getActualType())));
-        beanDefFactoryNames.add(handle.getFactoryName());
-      }
+    logger.debug("Looked up {} beans: {}", beanDefs.size(), beanDefs);
+
+    return beanDefs;
+  }
+
+  /**
+   * Resolves the bean definitions for a type or name satisfying all of the given qualifiers. Factories and runtime
+   * bean definitions are resolved once per distinct type and qualifiers, until beans are next registered.
+   *
+   * @return A new, modifiable collection of the bean definitions.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private Collection resolve(final String name, final boolean keepJsDups, final Annotation... qualifiers) {
+    final ResolutionKey key = new ResolutionKey(name, qualifiers);
+    Resolution resolution = resolutionCache.get(key);
+    if (resolution == null) {
+      resolutionCacheMisses++;
+      resolution = newResolution(name, qualifiers);
+      resolutionCache.put(key, resolution);
+    }
+    else {
+      resolutionCacheHits++;
     }
+
+    final JsArray<JsTypeProvider<?>> jsProviders = getJsProviders(name);
+    final Collection beanDefs = new ArrayList<SyncBeanDef<Object>>(resolution.beanDefs.size()+jsProviders.length());
+    beanDefs.addAll(resolution.beanDefs);
     for (final JsTypeProvider<?> provider : JsArray.iterable(jsProviders)) {
       logger.debug("Found JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
-      if (keepJsDups || provider.getFactoryName() == null || !beanDefFactoryNames.contains(provider.getFactoryName())) {
+      if (keepJsDups || provider.getFactoryName() == null || !resolution.factoryNames.contains(provider.getFactoryName())) {
         logger.debug("Keeping JS provider for name {} from factory {}", provider.getName(), provider.getFactoryName());
         beanDefs.add(new JsTypeBeanDefImplementation(provider, name));
       }
@@ -179,11 +206,48 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
       }
     }
 
-    logger.debug("Looked up {} beans: {}", beanDefs.size(), beanDefs);
-
     return beanDefs;
   }
 
+  private Resolution newResolution(final String name, final Annotation... qualifiers) {
+    final Collection<FactoryHandle> handles = handlesByName.get(name);
+    final Collection<SyncBeanDef<?>> runtimeBeanDefs = runtimeBeanDefsByName.get(name);
+    final Set<Annotation> qualifierSet = new HashSet<>(Arrays.asList(qualifiers));
+
+    final Resolution resolution = new Resolution(handles.size()+runtimeBeanDefs.size());
+    for (final SyncBeanDef<?> beanDef : runtimeBeanDefs) {
+      if (qualifiers.length == 0 || beanDef.matches(qualifierSet)) {
+        resolution.beanDefs.add(beanDef);
+      }
+    }
+    for (final FactoryHandle handle : handles) {
+      if (handle.isAvailableByLookup()) {
+        final SyncBeanDef<?> beanDef = new IOCBeanDefImplementation<>(handle, this.<Object>getType(name, handle, handle.getActualType()));
+        if (qualifiers.length == 0 || beanDef.matches(qualifierSet)) {
+          resolution.beanDefs.add(beanDef);
+        }
+        // JsType providers from these factories are duplicates, whether or not they satisfy the qualifiers.
+        resolution.factoryNames.add(handle.getFactoryName());
+      }
+    }
+
+    return resolution;
+  }
+
+  /**
+   * @return The number of bean lookups resolved from the resolution cache.
+   */
+  public int getResolutionCacheHits() {
+    return resolutionCacheHits;
+  }
+
+  /**
+   * @return The number of bean lookups that could not be resolved from the resolution cache.
+   */
+  public int getResolutionCacheMisses() {
+    return resolutionCacheMisses;
+  }
+
   private JsArray<JsTypeProvider<?>> getJsProviders(final String name) {
     final WindowInjectionContext windowInjectionContext = WindowInjectionContextStorage.createOrGet();
 
@@ -220,19 +284,13 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     return (Class<T>) defaultType;
   }
 
+  @SuppressWarnings({ "rawtypes", "unchecked" })
   @Override
   public <T> Collection<SyncBeanDef<T>> lookupBeans(final Class<T> type, final Annotation... qualifiers) {
-    final Set<Annotation> qualifierSet = new HashSet<>(Arrays.asList(qualifiers));
-    final Collection<SyncBeanDef<T>> candidates = lookupBeans(type);
-    final Iterator<SyncBeanDef<T>> iter = candidates.iterator();
-    while (iter.hasNext()) {
-      final SyncBeanDef<T> beanDef = iter.next();
-      if (!beanDef.matches(qualifierSet)) {
-        iter.remove();
-      }
-    }
+    Assert.notNull(type);
+    logger.debug("Looking up beans for {}", type.getName());
 
-    return candidates;
+    return resolve(type.getName(), false, qualifiers);
   }
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -253,6 +311,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
 
   @Override
   public <T> void registerBean(final SyncBeanDef<T> beanDef) {
+    resolutionCache.clear();
     runtimeBeanDefsByName.put(beanDef.getType().getName(), beanDef);
     if (!beanDef.getType().getName().equals(beanDef.getBeanClass().getName())) {
       runtimeBeanDefsByName.put(beanDef.getBeanClass().getName(), beanDef);
@@ -264,6 +323,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
 
   @Override
   public <T> void registerBeanTypeAlias(final SyncBeanDef<T> beanDef, final Class<?> type) {
+    resolutionCache.clear();
     runtimeBeanDefsByName.put(type.getName(), beanDef);
   }
 
@@ -274,6 +334,63 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     contextManager = null;
     handlesByName.clear();
     runtimeBeanDefsByName.clear();
+    resolutionCache.clear();
+    resolutionCacheHits = 0;
+    resolutionCacheMisses = 0;
+  }
+
+  /**
+   * The qualifiers of a lookup, keyed by annotation type as in {@link QualifierUtil#matches(Collection, Collection)},
+   * so that lookups with equal qualifiers share a resolution regardless of order or annotation instances.
+   */
+  private static final class ResolutionKey {
+    private final String name;
+    private final Map<String, Annotation> qualifiersByType;
+    private final int hashCode;
+
+    private ResolutionKey(final String name, final Annotation[] qualifiers) {
+      this.name = name;
+      this.qualifiersByType = new HashMap<>(qualifiers.length * 2);
+      for (final Annotation qualifier : qualifiers) {
+        qualifiersByType.put(qualifier.annotationType().getName(), qualifier);
+      }
+      this.hashCode = 31 * name.hashCode() + qualifiersByType.keySet().hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof ResolutionKey)) {
+        return false;
+      }
+      final ResolutionKey other = (ResolutionKey) obj;
+      if (hashCode != other.hashCode || !name.equals(other.name) || !qualifiersByType.keySet().equals(other.qualifiersByType.keySet())) {
+        return false;
+      }
+      for (final Map.Entry<String, Annotation> entry : qualifiersByType.entrySet()) {
+        final Annotation otherQualifier = other.qualifiersByType.get(entry.getKey());
+        if (entry.getValue() != otherQualifier && !QualifierUtil.isEqual(entry.getValue(), otherQualifier)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static final class Resolution {
+    private final List<SyncBeanDef<?>> beanDefs;
+    private final Set<String> factoryNames = new HashSet<>();
+
+    private Resolution(final int size) {
+      this.beanDefs = new ArrayList<>(size);
+    }
   }
 
   // TODO Find way to properly get scope, qualifiers, and assignable types.
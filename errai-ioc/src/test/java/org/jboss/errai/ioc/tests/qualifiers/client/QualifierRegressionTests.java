@@ -20,6 +20,8 @@ import java.lang.annotation.Annotation;
 
 import org.jboss.errai.ioc.client.IOCClientTestCase;
 import org.jboss.errai.ioc.client.container.IOC;
+import org.jboss.errai.ioc.client.container.SyncBeanDef;
+import org.jboss.errai.ioc.client.container.SyncBeanManagerImpl;
 import org.jboss.errai.ioc.tests.qualifiers.client.res.AImpl;
 import org.jboss.errai.ioc.tests.qualifiers.client.res.ClassWIthArrayValuedQual;
 import org.jboss.errai.ioc.tests.qualifiers.client.res.InjectionPoint;
@@ -61,4 +63,44 @@ public class QualifierRegressionTests extends IOCClientTestCase {
     }
   }
 
+  public void testLookupWithEqualQualifiersIsResolvedOnce() throws Exception {
+    final SyncBeanManagerImpl beanManager = (SyncBeanManagerImpl) IOC.getBeanManager();
+    final SyncBeanDef<ClassWIthArrayValuedQual> beanDef = beanManager.lookupBean(ClassWIthArrayValuedQual.class, qualWithArrayValue("test"));
+    final int hits = beanManager.getResolutionCacheHits();
+    final int misses = beanManager.getResolutionCacheMisses();
+
+    assertEquals(beanDef.getBeanClass(),
+        beanManager.lookupBean(ClassWIthArrayValuedQual.class, qualWithArrayValue("test")).getBeanClass());
+    assertEquals(hits + 1, beanManager.getResolutionCacheHits());
+    assertEquals(misses, beanManager.getResolutionCacheMisses());
+
+    assertTrue(beanManager.lookupBeans(ClassWIthArrayValuedQual.class, qualWithArrayValue("other")).isEmpty());
+    assertEquals(misses + 1, beanManager.getResolutionCacheMisses());
+  }
+
+  public void testRegisterBeanInvalidatesResolutions() throws Exception {
+    final SyncBeanManagerImpl beanManager = (SyncBeanManagerImpl) IOC.getBeanManager();
+    final SyncBeanDef<InjectionPoint> beanDef = beanManager.lookupBean(InjectionPoint.class);
+    final int misses = beanManager.getResolutionCacheMisses();
+
+    beanManager.registerBeanTypeAlias(beanDef, Runnable.class);
+
+    assertEquals(1, beanManager.lookupBeans(Runnable.class).size());
+    assertEquals(misses + 1, beanManager.getResolutionCacheMisses());
+  }
+
+  private static QualWithArrayValue qualWithArrayValue(final String value) {
+    return new QualWithArrayValue() {
+
+      @Override
+      public Class<? extends Annotation> annotationType() {
+        return QualWithArrayValue.class;
+      }
+
+      @Override
+      public String[] value() {
+        return new String[] { value };
+      }
+    };
+  }
 }
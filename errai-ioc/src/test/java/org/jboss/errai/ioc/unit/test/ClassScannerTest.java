@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.ioc.unit.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.jboss.errai.codegen.meta.MetaClass;
+import org.jboss.errai.codegen.meta.MetaClassFactory;
+import org.jboss.errai.codegen.meta.MetaField;
+import org.jboss.errai.codegen.meta.MetaMethod;
+import org.jboss.errai.codegen.meta.MetaParameter;
+import org.jboss.errai.codegen.meta.impl.java.JavaReflectionClass;
+import org.jboss.errai.common.rebind.CacheUtil;
+import org.jboss.errai.config.util.ClassScanner;
+import org.jboss.errai.ioc.unit.res.CustomQualifier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the annotation index of the {@link ClassScanner} finds the same elements as scanning the cached
+ * classes, and that it reads the members of each class once for all the lookups.
+ */
+public class ClassScannerTest {
+
+  private static final List<Class<? extends Annotation>> ANNOTATIONS = Arrays.asList(Inject.class,
+          Named.class, Produces.class, PostConstruct.class, ApplicationScoped.class, Dependent.class, Singleton.class,
+          CustomQualifier.class);
+  private static final int PASSES = 20;
+
+  @Before
+  public void setup() {
+    CacheUtil.clearAll();
+    MetaClassFactory.get(AnnotatedType.class);
+    MetaClassFactory.get(OtherType.class);
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(ClassScanner.DISABLE_ANNOTATION_INDEX_PROPERTY);
+  }
+
+  @Test
+  public void typesAnnotatedWith() throws Exception {
+    assertEquals(Collections.singleton(MetaClassFactory.get(AnnotatedType.class)),
+            new HashSet<>(ClassScanner.getTypesAnnotatedWith(CustomQualifier.class)));
+  }
+
+  @Test
+  public void methodsAnnotatedWith() throws Exception {
+    final Collection<MetaMethod> methods = ClassScanner.getMethodsAnnotatedWith(CustomQualifier.class, null, null);
+    assertEquals(Arrays.asList("annotatedMethod"), names(methods));
+  }
+
+  @Test
+  public void fieldsAnnotatedWith() throws Exception {
+    final Collection<MetaField> fields = ClassScanner.getFieldsAnnotatedWith(CustomQualifier.class, null, null);
+    assertEquals(Arrays.asList("annotatedField"), fields.stream().map(MetaField::getName).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void parametersAnnotatedWith() throws Exception {
+    final Collection<MetaParameter> parameters = ClassScanner.getParametersAnnotatedWith(CustomQualifier.class, null);
+    assertEquals(1, parameters.size());
+    assertEquals("otherMethod", parameters.iterator().next().getDeclaringMember().getName());
+  }
+
+  @Test
+  public void packagesAreFiltered() throws Exception {
+    assertEquals(0, ClassScanner.getMethodsAnnotatedWith(CustomQualifier.class,
+            Collections.singleton("org.jboss.errai.ioc.unit.res"), null).size());
+  }
+
+  @Test
+  public void indexMatchesScan() throws Exception {
+    for (final Class<? extends Annotation> annotation : ANNOTATIONS) {
+      final List<Collection<?>> indexed = lookup(annotation);
+      System.setProperty(ClassScanner.DISABLE_ANNOTATION_INDEX_PROPERTY, "true");
+      final List<Collection<?>> scanned = lookup(annotation);
+      System.clearProperty(ClassScanner.DISABLE_ANNOTATION_INDEX_PROPERTY);
+      for (int i = 0; i < indexed.size(); i++) {
+        assertEquals(annotation.getName(), new HashSet<>(scanned.get(i)), new HashSet<>(indexed.get(i)));
+      }
+    }
+  }
+
+  @Test
+  public void reloadedClassIsIndexedAgain() throws Exception {
+    ClassScanner.getTypesAnnotatedWith(CustomQualifier.class);
+
+    final MetaClass reloaded = JavaReflectionClass.newUncachedInstance(AnnotatedType.class);
+    MetaClassFactory.getMetaClassCache().updateCache(Collections.singletonMap(AnnotatedType.class.getName(), reloaded));
+
+    final Collection<MetaClass> types = ClassScanner.getTypesAnnotatedWith(CustomQualifier.class);
+    assertEquals(1, types.size());
+    assertSame(reloaded, types.iterator().next());
+    assertEquals(Arrays.asList("annotatedMethod"),
+            names(ClassScanner.getMethodsAnnotatedWith(CustomQualifier.class, null, null)));
+  }
+
+  @Test
+  public void classMembersAreReadOnceForAllLookups() throws Exception {
+    final MetaClass cached = spy(JavaReflectionClass.newUncachedInstance(AnnotatedType.class));
+    MetaClassFactory.getMetaClassCache().updateCache(Collections.singletonMap(AnnotatedType.class.getName(), cached));
+
+    lookupAll();
+
+    verify(cached, times(1)).getDeclaredMethods();
+    verify(cached, times(1)).getDeclaredFields();
+  }
+
+  @Test
+  public void classMembersAreReadForEachLookupWithoutIndex() throws Exception {
+    System.setProperty(ClassScanner.DISABLE_ANNOTATION_INDEX_PROPERTY, "true");
+    final MetaClass cached = spy(JavaReflectionClass.newUncachedInstance(AnnotatedType.class));
+    MetaClassFactory.getMetaClassCache().updateCache(Collections.singletonMap(AnnotatedType.class.getName(), cached));
+
+    lookupAll();
+
+    verify(cached, atLeast(PASSES * ANNOTATIONS.size())).getDeclaredMethods();
+  }
+
+  /**
+   * Runs the lookups a generation pass does for each annotation several times.
+   */
+  private static void lookupAll() {
+    for (int pass = 0; pass < PASSES; pass++) {
+      for (final Class<? extends Annotation> annotation : ANNOTATIONS) {
+        lookup(annotation);
+      }
+    }
+  }
+
+  private static List<Collection<?>> lookup(final Class<? extends Annotation> annotation) {
+    return Arrays.asList(ClassScanner.getTypesAnnotatedWith(annotation),
+            ClassScanner.getMethodsAnnotatedWith(annotation, null, null),
+            ClassScanner.getFieldsAnnotatedWith(annotation, null, null),
+            ClassScanner.getParametersAnnotatedWith(annotation, null));
+  }
+
+  private static List<String> names(final Collection<MetaMethod> methods) {
+    return methods.stream().map(MetaMethod::getName).collect(Collectors.toList());
+  }
+
+  @CustomQualifier
+  public static class AnnotatedType {
+
+    @CustomQualifier
+    private Object annotatedField;
+
+    private Object otherField;
+
+    @CustomQualifier
+    public void annotatedMethod() {
+    }
+  }
+
+  public static class OtherType {
+
+    public void otherMethod(@CustomQualifier final Object annotatedParameter, final Object otherParameter) {
+    }
+  }
+}
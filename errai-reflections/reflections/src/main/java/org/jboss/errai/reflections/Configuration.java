@@ -48,4 +48,8 @@ public interface Configuration {
 
     /** the default serializer to use when saving Reflection */
     Serializer getSerializer();
+
+    /** cache of the metadata scanned from each url
+     * if null, all urls are scanned */
+    ScanCache getScanCache();
 }
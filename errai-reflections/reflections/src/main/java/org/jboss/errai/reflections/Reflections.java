@@ -28,13 +28,16 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.regex.Pattern;
 
+import org.jboss.errai.reflections.scanners.AbstractScanner;
 import org.jboss.errai.reflections.scanners.MethodParameterScanner;
 import org.jboss.errai.reflections.scanners.Scanner;
 import org.jboss.errai.reflections.scanners.SubTypesScanner;
@@ -50,8 +53,11 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
+import com.google.common.collect.ForwardingMultimap;
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 
 /**
@@ -95,9 +101,16 @@ import com.google.common.collect.Sets;
 public class Reflections extends ReflectionUtils {
   private static final Logger log = LoggerFactory.getLogger(Reflections.class);
 
+  /** name under which the classes found outside of jars are stored in a {@link ScanCache} entry */
+  private static final String CLASSES_NOT_IN_JAR = "classesNotInJar";
+
   protected final transient Configuration configuration;
   private Store store;
 
+  /** the metadata of the url being scanned by the current thread, when it is going to be stored in the scan cache */
+  private final transient ThreadLocal<Map<String, Multimap<String, String>>> scannedUrl =
+      new ThreadLocal<Map<String, Multimap<String, String>>>();
+
   /**
    * constructs a Reflections instance and scan according to given {@link Configuration}
    * <p>it is preferred to use {@link org.jboss.errai.reflections.util.ConfigurationBuilder}
@@ -109,7 +122,12 @@ public class Reflections extends ReflectionUtils {
     //inject to scanners
     for (Scanner scanner : configuration.getScanners()) {
       scanner.setConfiguration(configuration);
-      scanner.setStore(store.get(scanner));
+      if (configuration.getScanCache() != null) {
+        scanner.setStore(new ScannedUrlMultimap(scanner.getName(), store.get(scanner)));
+      }
+      else {
+        scanner.setStore(store.get(scanner));
+      }
     }
   }
 
@@ -223,7 +241,10 @@ public class Reflections extends ReflectionUtils {
 
     ExecutorService executorService = configuration.getExecutorService();
 
-    if (executorService == null) {
+    if (configuration.getScanCache() != null) {
+      scan(configuration.getScanCache(), executorService);
+    }
+    else if (executorService == null) {
       for (URL url : configuration.getUrls()) {
         try {
           for (final Vfs.File file : Vfs.fromURL(url).getFiles()) {
@@ -280,6 +301,104 @@ public class Reflections extends ReflectionUtils {
             format("[using %d cores]", ((ThreadPoolExecutor) executorService).getMaximumPoolSize()) : ""));
   }
 
+  /**
+   * reads the urls that did not change from the given cache, and scans the others, one url per task when an executor
+   * service is configured. the metadata of each scanned url is then stored in the cache.
+   */
+  private void scan(final ScanCache scanCache, final ExecutorService executorService) {
+    final List<Future<?>> futures = Lists.newArrayList();
+    int cached = 0;
+    try {
+      for (final URL url : configuration.getUrls()) {
+        final String key = scanCache.getKey(url, configuration.getScanners());
+        final Map<String, Multimap<String, String>> metadata = key != null ? scanCache.read(key) : null;
+        if (metadata != null) {
+          merge(metadata);
+          cached++;
+        }
+        else if (executorService == null) {
+          scan(url, key, scanCache);
+        }
+        else {
+          futures.add(executorService.submit(new Runnable() {
+            public void run() {
+              scan(url, key, scanCache);
+            }
+          }));
+        }
+      }
+
+      for (Future future : futures) {
+        try {
+          future.get();
+        }
+        catch (Exception e) {
+          throw new RuntimeException(e);
+        }
+      }
+    }
+    finally {
+      if (executorService != null) {
+        executorService.shutdown();
+      }
+    }
+
+    log.info(format("Reflections read %d of %d urls from the scan cache %s",
+        cached, configuration.getUrls().size(), scanCache.getDirectory()));
+  }
+
+  private void scan(final URL url, final String key, final ScanCache scanCache) {
+    final Map<String, Multimap<String, String>> metadata = new HashMap<String, Multimap<String, String>>();
+    scannedUrl.set(metadata);
+    try {
+      for (final Vfs.File file : Vfs.fromURL(url).getFiles()) {
+        scan(file);
+        final String input = file.getRelativePath();
+        final String fullPath = file.getFullPath();
+        if (input.endsWith(".class") && configuration.acceptsInput(input) && fullPath != null && !fullPath.contains(".jar")) {
+          getMetadata(metadata, CLASSES_NOT_IN_JAR).put(CLASSES_NOT_IN_JAR,
+              input.substring(0, input.length() - ".class".length()).replace('/', '.'));
+        }
+      }
+    }
+    catch (ReflectionsException e) {
+      log.error("could not create Vfs.Dir from url. ignoring the exception and continuing", e);
+      return;
+    }
+    finally {
+      scannedUrl.remove();
+    }
+
+    if (key != null) {
+      scanCache.write(key, metadata);
+    }
+  }
+
+  /**
+   * merges the metadata of an url read from the scan cache into the store
+   */
+  private void merge(final Map<String, Multimap<String, String>> metadata) {
+    for (final Map.Entry<String, Multimap<String, String>> entry : metadata.entrySet()) {
+      if (entry.getKey().equals(CLASSES_NOT_IN_JAR)) {
+        for (final String className : entry.getValue().values()) {
+          AbstractScanner.addClassNotInJar(className);
+        }
+      }
+      else {
+        store.get(entry.getKey()).putAll(entry.getValue());
+      }
+    }
+  }
+
+  private static Multimap<String, String> getMetadata(final Map<String, Multimap<String, String>> metadata,
+                                                      final String name) {
+    Multimap<String, String> multimap = metadata.get(name);
+    if (multimap == null) {
+      metadata.put(name, multimap = HashMultimap.create());
+    }
+    return multimap;
+  }
+
   private void scan(Vfs.File file) {
     String input = file.getRelativePath();
     if (configuration.acceptsInput(input)) {
@@ -573,4 +692,32 @@ public class Reflections extends ReflectionUtils {
     log.info("Reflections successfully saved in " + file + " using " + serializer.getClass().getSimpleName());
     return file;
   }
+
+  /**
+   * the store of a scanner, that also records what is put into it in the metadata of the url being scanned by the
+   * current thread
+   */
+  private class ScannedUrlMultimap extends ForwardingMultimap<String, String> {
+    private final String name;
+    private final Multimap<String, String> delegate;
+
+    ScannedUrlMultimap(final String name, final Multimap<String, String> delegate) {
+      this.name = name;
+      this.delegate = delegate;
+    }
+
+    @Override
+    protected Multimap<String, String> delegate() {
+      return delegate;
+    }
+
+    @Override
+    public boolean put(final String key, final String value) {
+      final Map<String, Multimap<String, String>> metadata = scannedUrl.get();
+      if (metadata != null) {
+        getMetadata(metadata, name).put(key, value);
+      }
+      return super.put(key, value);
+    }
+  }
 }
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.reflections;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.errai.reflections.scanners.Scanner;
+import org.jboss.errai.reflections.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * Persists the metadata scanned from each url of a {@link Reflections} configuration, so that urls that did not
+ * change since they were last scanned are read back instead of being scanned again.
+ * <p>each url is stored in its own file, named after a hash of the url, of the names of the scanners and of the size
+ * and last modification time of the files it contains. a jar or directory that changes therefore gets a new entry,
+ * the previous one is left behind and can be deleted along with the whole cache directory.
+ * <p>the scanners result filters are not part of the key: use a different directory for each configuration.
+ * <p>the metadata is written in a binary format, where every distinct string is written once and then referenced by
+ * its index.
+ */
+public class ScanCache {
+  private static final Logger log = LoggerFactory.getLogger(ScanCache.class);
+
+  private static final int MAGIC = 0x45525343;
+  private static final int VERSION = 1;
+  private static final String SUFFIX = ".scan";
+
+  private final File directory;
+
+  public ScanCache(final File directory) {
+    this.directory = directory;
+  }
+
+  public File getDirectory() {
+    return directory;
+  }
+
+  /**
+   * @return the key of the current content of the given url, or null if the url is not a local jar or directory
+   * and cannot be cached
+   */
+  public String getKey(final URL url, final Collection<Scanner> scanners) {
+    final File root = toFile(url);
+    if (root == null || !root.exists()) {
+      return null;
+    }
+
+    final MessageDigest digest = createDigest();
+    update(digest, url.toExternalForm());
+    final List<String> names = new ArrayList<String>();
+    for (final Scanner scanner : scanners) {
+      names.add(scanner.getName());
+    }
+    names.sort(null);
+    for (final String name : names) {
+      update(digest, name);
+    }
+    fingerprint(digest, root, "");
+
+    return toHex(digest.digest());
+  }
+
+  /**
+   * @return the metadata stored under the given key by scanner name, or null if there is none or it cannot be read
+   */
+  public Map<String, Multimap<String, String>> read(final String key) {
+    final File file = getFile(key);
+    if (!file.isFile()) {
+      return null;
+    }
+
+    DataInputStream input = null;
+    try {
+      input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+      if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+        return null;
+      }
+
+      final String[] strings = new String[input.readInt()];
+      for (int i = 0; i < strings.length; i++) {
+        strings[i] = readString(input);
+      }
+
+      final Map<String, Multimap<String, String>> indexes = new HashMap<String, Multimap<String, String>>();
+      final int indexCount = input.readInt();
+      for (int i = 0; i < indexCount; i++) {
+        final Multimap<String, String> index = HashMultimap.create();
+        indexes.put(strings[input.readInt()], index);
+        final int keyCount = input.readInt();
+        for (int k = 0; k < keyCount; k++) {
+          final String indexKey = strings[input.readInt()];
+          final int valueCount = input.readInt();
+          for (int v = 0; v < valueCount; v++) {
+            index.put(indexKey, strings[input.readInt()]);
+          }
+        }
+      }
+      return indexes;
+    }
+    catch (final IOException e) {
+      log.warn("could not read scan cache " + file + ". the url will be scanned again", e);
+      return null;
+    }
+    catch (final RuntimeException e) {
+      log.warn("corrupted scan cache " + file + ". the url will be scanned again", e);
+      return null;
+    }
+    finally {
+      Utils.close(input);
+    }
+  }
+
+  /**
+   * stores the given metadata by scanner name under the given key. the file is written next to its final location
+   * and then renamed, so that concurrent builds never read a partial entry.
+   */
+  public void write(final String key, final Map<String, Multimap<String, String>> indexes) {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      log.warn("could not create scan cache directory " + directory);
+      return;
+    }
+
+    final Map<String, Integer> strings = new LinkedHashMap<String, Integer>();
+    for (final Map.Entry<String, Multimap<String, String>> index : indexes.entrySet()) {
+      intern(strings, index.getKey());
+      for (final Map.Entry<String, String> entry : index.getValue().entries()) {
+        intern(strings, entry.getKey());
+        intern(strings, entry.getValue());
+      }
+    }
+
+    final File file = getFile(key);
+    final File temp = new File(directory, key + "." + Thread.currentThread().getId() + ".tmp");
+    DataOutputStream output = null;
+    try {
+      output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+
+      output.writeInt(strings.size());
+      for (final String string : strings.keySet()) {
+        writeString(output, string);
+      }
+
+      output.writeInt(indexes.size());
+      for (final Map.Entry<String, Multimap<String, String>> index : indexes.entrySet()) {
+        output.writeInt(strings.get(index.getKey()));
+        final Map<String, Collection<String>> map = index.getValue().asMap();
+        output.writeInt(map.size());
+        for (final Map.Entry<String, Collection<String>> entry : map.entrySet()) {
+          output.writeInt(strings.get(entry.getKey()));
+          output.writeInt(entry.getValue().size());
+          for (final String value : entry.getValue()) {
+            output.writeInt(strings.get(value));
+          }
+        }
+      }
+      output.close();
+      output = null;
+
+      if (!temp.renameTo(file)) {
+        file.delete();
+        if (!temp.renameTo(file)) {
+          log.warn("could not write scan cache " + file);
+        }
+      }
+    }
+    catch (final IOException e) {
+      log.warn("could not write scan cache " + file, e);
+    }
+    finally {
+      if (output != null) try {
+        output.close();
+      }
+      catch (final IOException e) { /*ignore*/ }
+      temp.delete();
+    }
+  }
+
+  private File getFile(final String key) {
+    return new File(directory, key + SUFFIX);
+  }
+
+  /**
+   * @return the local jar or directory of the given url, or null if there is none
+   */
+  static File toFile(final URL url) {
+    String path = url.toExternalForm();
+    if (path.startsWith("jar:")) {
+      path = path.substring("jar:".length());
+      final int separator = path.indexOf("!/");
+      if (separator != -1) {
+        path = path.substring(0, separator);
+      }
+    }
+    if (!path.startsWith("file:")) {
+      return null;
+    }
+
+    try {
+      return new File(URLDecoder.decode(path.substring("file:".length()), "UTF-8"));
+    }
+    catch (final UnsupportedEncodingException e) {
+      return null;
+    }
+  }
+
+  private static void fingerprint(final MessageDigest digest, final File file, final String relativePath) {
+    if (file.isDirectory()) {
+      final String[] children = file.list();
+      if (children == null) {
+        return;
+      }
+      Arrays.sort(children);
+      for (final String child : children) {
+        fingerprint(digest, new File(file, child), relativePath + "/" + child);
+      }
+    }
+    else {
+      update(digest, relativePath + ":" + file.length() + ":" + file.lastModified());
+    }
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-1");
+    }
+    catch (final NoSuchAlgorithmException e) {
+      throw new ReflectionsException("could not create scan cache key", e);
+    }
+  }
+
+  private static void update(final MessageDigest digest, final String value) {
+    digest.update(value.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+  }
+
+  private static String toHex(final byte[] bytes) {
+    final StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (final byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+
+  private static void intern(final Map<String, Integer> strings, final String string) {
+    if (!strings.containsKey(string)) {
+      strings.put(string, strings.size());
+    }
+  }
+
+  private static void writeString(final DataOutputStream output, final String string) throws IOException {
+    final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static String readString(final DataInputStream input) throws IOException {
+    final byte[] bytes = new byte[input.readInt()];
+    input.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -123,6 +123,13 @@ public abstract class AbstractScanner implements Scanner {
 		return configuration.getMetadataAdapter();
 	}
 	
+	/**
+	 * Marks a class as not coming from a jar, as scanning its class file would.
+	 */
+	public static void addClassNotInJar(String className) {
+	  classesNotInJar.add(className);
+	}
+
 	public static boolean isInJar(String className) {
 	  return !(classesNotInJar.contains(className));
 	}
@@ -26,6 +26,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.jboss.errai.reflections.Configuration;
+import org.jboss.errai.reflections.ScanCache;
 import org.jboss.errai.reflections.adapters.JavassistAdapter;
 import org.jboss.errai.reflections.adapters.MetadataAdapter;
 import org.jboss.errai.reflections.scanners.Scanner;
@@ -61,6 +62,7 @@ public class ConfigurationBuilder implements Configuration {
     private Predicate<String> inputsFilter = Predicates.alwaysTrue();
     private Serializer serializer;
     private ExecutorService executorService;
+    private ScanCache scanCache;
 
     public ConfigurationBuilder() {
       final Scanner[] builtins = new Scanner[] {new TypeAnnotationsScanner(), new SubTypesScanner()};
@@ -190,4 +192,15 @@ public class ConfigurationBuilder implements Configuration {
         this.serializer = serializer;
         return this;
     }
+
+    public ScanCache getScanCache() {
+        return scanCache;
+    }
+
+    /** sets the cache used to skip scanning the urls that did not change since they were last scanned
+     * <p>default is null, all urls are scanned */
+    public ConfigurationBuilder setScanCache(ScanCache scanCache) {
+        this.scanCache = scanCache;
+        return this;
+    }
 }
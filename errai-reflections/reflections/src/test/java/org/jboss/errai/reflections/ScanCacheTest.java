@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.reflections;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.errai.reflections.scanners.Scanner;
+import org.jboss.errai.reflections.scanners.SubTypesScanner;
+import org.jboss.errai.reflections.scanners.TypeAnnotationsScanner;
+import org.jboss.errai.reflections.util.ClasspathHelper;
+import org.jboss.errai.reflections.util.ConfigurationBuilder;
+import org.jboss.errai.reflections.util.FilterBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+
+public class ScanCacheTest {
+  private File directory;
+  private ScanCache scanCache;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = File.createTempFile("scan-cache", "");
+    directory.delete();
+    scanCache = new ScanCache(directory);
+  }
+
+  @After
+  public void tearDown() {
+    delete(directory);
+  }
+
+  @Test
+  public void writeAndRead() {
+    final Multimap<String, String> subTypes = HashMultimap.create();
+    subTypes.put("a.I", "a.C1");
+    subTypes.put("a.I", "a.C2");
+    subTypes.put("a.C1", "a.C3");
+    final Multimap<String, String> properties = HashMultimap.create();
+    properties.put("key", "a.C1");
+    final Map<String, Multimap<String, String>> metadata = new HashMap<String, Multimap<String, String>>();
+    metadata.put("subTypes", subTypes);
+    metadata.put("properties", properties);
+
+    scanCache.write("key", metadata);
+
+    assertEquals(metadata, scanCache.read("key"));
+    assertNull(scanCache.read("other"));
+  }
+
+  @Test
+  public void readCorrupted() throws IOException {
+    directory.mkdirs();
+    final FileOutputStream output = new FileOutputStream(new File(directory, "key.scan"));
+    output.write(new byte[] { 0x45, 0x52, 0x53, 0x43, 0, 0, 0, 1, 0, 0 });
+    output.close();
+
+    assertNull(scanCache.read("key"));
+  }
+
+  @Test
+  public void keyChangesWithContent() throws IOException {
+    final File root = new File(directory, "classes");
+    final File file = new File(root, "a/C1.class");
+    file.getParentFile().mkdirs();
+    write(file, "1");
+    final URL url = root.toURI().toURL();
+    final List<Scanner> scanners = Collections.<Scanner>singletonList(new SubTypesScanner());
+
+    final String key = scanCache.getKey(url, scanners);
+    assertNotNull(key);
+    assertEquals(key, scanCache.getKey(url, scanners));
+
+    write(file, "12");
+    assertFalse(key.equals(scanCache.getKey(url, scanners)));
+
+    assertNull(scanCache.getKey(new URL("http://localhost/classes/"), scanners));
+  }
+
+  @Test
+  public void scanReadsUnchangedUrlsFromCache() {
+    final URL url = ClasspathHelper.forClass(TestModel.class);
+    final Reflections scanned = createReflections(url);
+    scanned.scan();
+    assertTrue(scanned.getStore().getSubTypesOf(TestModel.I1.class.getName()).contains(TestModel.C1.class.getName()));
+
+    // Mark the entry, to check that the next scan reads it rather than scanning the url again.
+    final Reflections reflections = createReflections(url);
+    final String key = scanCache.getKey(url, reflections.configuration.getScanners());
+    final Map<String, Multimap<String, String>> metadata = scanCache.read(key);
+    metadata.get(SubTypesScanner.class.getName()).put(TestModel.I1.class.getName(), "cached");
+    scanCache.write(key, metadata);
+
+    reflections.scan();
+    assertEquals(scanned.getStore().getSubTypesOf(TestModel.I2.class.getName()),
+        reflections.getStore().getSubTypesOf(TestModel.I2.class.getName()));
+    assertEquals(scanned.getStore().getTypesAnnotatedWith(TestModel.AC1.class.getName()),
+        reflections.getStore().getTypesAnnotatedWith(TestModel.AC1.class.getName()));
+    assertTrue(reflections.getStore().get(SubTypesScanner.class, TestModel.I1.class.getName()).contains("cached"));
+  }
+
+  private Reflections createReflections(final URL url) {
+    final Predicate<String> filter = new FilterBuilder().include("org.jboss.errai.reflections.TestModel\\$.*");
+    return new Reflections(new ConfigurationBuilder()
+        .setScanners(
+            new SubTypesScanner().filterResultsBy(filter),
+            new TypeAnnotationsScanner().filterResultsBy(filter))
+        .setUrls(asList(url))
+        .setScanCache(scanCache));
+  }
+
+  private static void write(final File file, final String content) throws IOException {
+    final FileOutputStream output = new FileOutputStream(file);
+    output.write(content.getBytes("UTF-8"));
+    output.close();
+  }
+
+  private static void delete(final File file) {
+    final File[] children = file.listFiles();
+    if (children != null) {
+      for (final File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+}
@@ -92,6 +92,7 @@ import org.kie.workbench.common.stunner.forms.client.event.RefreshFormProperties
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
 import org.uberfire.ext.wires.core.grids.client.util.CellContextUtilities;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.impl.BaseGridColumnRenderer;
 import org.uberfire.mvp.Command;
 
 import static org.kie.workbench.common.dmn.client.editors.expressions.util.RendererUtils.getExpressionTextLineHeight;
@@ -191,12 +192,14 @@ public class DecisionTableGrid extends BaseExpressionGrid<DecisionTable, Decisio
         int uiColumnIndex = 0;
         if (getExpression().get().isPresent()) {
             final DecisionTable e = getExpression().get().get();
-            model.appendColumn(new DecisionTableRowNumberColumn(e::getHitPolicy,
-                                                                e::getAggregation,
-                                                                cellEditorControls,
-                                                                hitPolicyEditor,
-                                                                getAndSetInitialWidth(uiColumnIndex++, DecisionTableRowNumberColumn.DEFAULT_WIDTH),
-                                                                this));
+            final DecisionTableRowNumberColumn rowNumberColumn = new DecisionTableRowNumberColumn(e::getHitPolicy,
+                                                                                                  e::getAggregation,
+                                                                                                  cellEditorControls,
+                                                                                                  hitPolicyEditor,
+                                                                                                  getAndSetInitialWidth(uiColumnIndex++, DecisionTableRowNumberColumn.DEFAULT_WIDTH),
+                                                                                                  this);
+            virtualize(rowNumberColumn);
+            model.appendColumn(rowNumberColumn);
             for (int index = 0; index < e.getInput().size(); index++) {
                 model.appendColumn(makeInputClauseColumn(uiColumnIndex++, e.getInput().get(index)));
             }
@@ -211,12 +214,18 @@ public class DecisionTableGrid extends BaseExpressionGrid<DecisionTable, Decisio
         getRenderer().setColumnRenderConstraint((isSelectionLayer, gridColumn) -> !isSelectionLayer);
     }
 
+    //Decision tables can have many rules, so their cells recycle the primitives of the rows scrolled out of view
+    private static void virtualize(final GridColumn<?> column) {
+        ((BaseGridColumnRenderer<?>) column.getColumnRenderer()).setVirtualized(true);
+    }
+
     private RuleAnnotationClauseColumn makeRuleAnnotationClauseColumn(final int index,
                                                                       final RuleAnnotationClause ruleAnnotationClause) {
         final RuleAnnotationClauseColumn column = new RuleAnnotationClauseColumn(ruleAnnotationClauseHeaderMetaData(ruleAnnotationClause),
                                                                                  textAreaFactory,
                                                                                  getAndSetInitialWidth(index, DMNGridColumn.DEFAULT_WIDTH),
                                                                                  this);
+        virtualize(column);
         return column;
     }
 
@@ -250,6 +259,7 @@ public class DecisionTableGrid extends BaseExpressionGrid<DecisionTable, Decisio
                                                                textAreaFactory,
                                                                getAndSetInitialWidth(index, DMNGridColumn.DEFAULT_WIDTH),
                                                                this);
+        virtualize(column);
         return column;
     }
 
@@ -259,6 +269,7 @@ public class DecisionTableGrid extends BaseExpressionGrid<DecisionTable, Decisio
                                                                  textAreaFactory,
                                                                  getAndSetInitialWidth(index, DMNGridColumn.DEFAULT_WIDTH),
                                                                  this);
+        virtualize(column);
         return column;
     }
 
@@ -16,6 +16,8 @@
 
 package org.kie.workbench.common.dmn.client.editors.expressions.util;
 
+import java.util.function.Function;
+
 import com.ait.lienzo.client.core.shape.Group;
 import com.ait.lienzo.client.core.shape.Text;
 import com.ait.lienzo.client.core.shape.TextLineBreakWrap;
@@ -43,6 +45,8 @@ public class RendererUtils {
 
     public static final double SPACING = 8.0;
 
+    public static final Function<GridRendererTheme, Text> EXPRESSION_TEXT = RendererUtils::makeWrappedExpressionText;
+
     public static Group getExpressionCellText(final GridBodyCellRenderContext context,
                                               final GridCell<String> gridCell) {
         final GridRenderer gridRenderer = context.getRenderer();
@@ -153,16 +157,21 @@ public class RendererUtils {
                                            final String text) {
         final Group g = GWT.create(Group.class);
 
-        final Text t = makeExpressionText(theme);
+        final Text t = makeWrappedExpressionText(theme);
         t.setText(text);
+        g.add(t);
+
+        return g;
+    }
+
+    private static Text makeWrappedExpressionText(final GridRendererTheme theme) {
+        final Text t = makeExpressionText(theme);
         t.setListening(false);
         t.setX(EXPRESSION_TEXT_PADDING);
         t.setY(EXPRESSION_TEXT_PADDING);
         t.setTextAlign(TextAlign.LEFT);
         t.setWrapper(new TextLineBreakWrap(t));
-        g.add(t);
-
-        return g;
+        return t;
     }
 
     private static Text makeExpressionText(final GridRendererTheme theme) {
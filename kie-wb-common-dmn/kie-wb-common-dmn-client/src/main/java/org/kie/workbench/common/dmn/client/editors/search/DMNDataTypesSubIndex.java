@@ -19,7 +19,6 @@ package org.kie.workbench.common.dmn.client.editors.search;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -29,7 +28,14 @@ import org.kie.workbench.common.dmn.client.editors.types.listview.DataTypeList;
 import org.kie.workbench.common.dmn.client.editors.types.listview.DataTypeListItem;
 import org.kie.workbench.common.dmn.client.editors.types.persistence.DataTypeStore;
 import org.kie.workbench.common.dmn.client.editors.types.shortcuts.DataTypeShortcuts;
+import org.kie.workbench.common.widgets.client.search.common.SearchableElementIndex;
 
+/**
+ * {@link DMNDataTypesSubIndex} indexes the names of the items in the {@link DataTypeList}.
+ * ---
+ * The items are indexed once. When the asset changes, only the items whose name has changed are indexed again,
+ * unless items have been added, removed or moved.
+ */
 @ApplicationScoped
 public class DMNDataTypesSubIndex implements DMNSubIndex {
 
@@ -39,6 +45,10 @@ public class DMNDataTypesSubIndex implements DMNSubIndex {
 
     private final DataTypeStore dataTypeStore;
 
+    private final SearchableElementIndex<DataTypeListItem, DMNSearchableElement> index = new SearchableElementIndex<>();
+
+    private boolean stale = true;
+
     @Inject
     public DMNDataTypesSubIndex(final DataTypeList dataTypeList,
                                 final DataTypeShortcuts dataTypeShortcuts,
@@ -50,11 +60,36 @@ public class DMNDataTypesSubIndex implements DMNSubIndex {
 
     @Override
     public List<DMNSearchableElement> getSearchableElements() {
-        return dataTypeList
-                .getItems()
-                .stream()
-                .map(this::makeDataTypeListItem)
-                .collect(Collectors.toList());
+        return getIndex().getElements();
+    }
+
+    @Override
+    public List<DMNSearchableElement> search(final String term) {
+        return getIndex().search(term);
+    }
+
+    @Override
+    public void invalidate() {
+        stale = true;
+    }
+
+    private SearchableElementIndex<DataTypeListItem, DMNSearchableElement> getIndex() {
+        final List<DataTypeListItem> items = dataTypeList.getItems();
+        if (!index.getKeys().equals(items)) {
+            index.clear();
+            items.forEach(this::put);
+        } else if (stale) {
+            items.stream()
+                    .filter(item -> !Objects.equals(item.getDataType().getName(), index.get(item).getText()))
+                    .forEach(this::put);
+        }
+        stale = false;
+        return index;
+    }
+
+    private void put(final DataTypeListItem item) {
+        final DMNSearchableElement element = makeDataTypeListItem(item);
+        index.put(item, element, element.getText());
     }
 
     private DMNSearchableElement makeDataTypeListItem(final DataTypeListItem item) {
@@ -24,8 +24,10 @@ import java.util.function.Supplier;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
+import org.kie.workbench.common.dmn.client.editors.types.DataTypeChangedEvent;
 import org.kie.workbench.common.dmn.client.session.DMNSession;
 import org.kie.workbench.common.stunner.core.client.api.SessionManager;
 import org.kie.workbench.common.stunner.core.client.session.ClientSession;
@@ -69,11 +71,19 @@ public class DMNEditorSearchIndex extends BaseEditorSearchIndex<DMNSearchableEle
     public void init() {
         registerSubIndex(graphSubIndex);
         registerSubIndex(gridSubIndex);
+        registerSubIndex(dataTypesSubIndex);
         setNoResultsFoundCallback(getNoResultsFoundCallback());
         setSearchClosedCallback(getSearchClosedCallback());
         setSearchPerformedCallback(getSearchPerformedCallback());
     }
 
+    /**
+     * Data types are not changed through commands, so their changes are not tracked by the modification count.
+     */
+    void onDataTypeChanged(final @Observes DataTypeChangedEvent event) {
+        markAsDirty();
+    }
+
     Command getSearchPerformedCallback() {
         return () -> {
             final Optional<DMNSearchableElement> current = getCurrentResult();
@@ -93,6 +103,11 @@ public class DMNEditorSearchIndex extends BaseEditorSearchIndex<DMNSearchableEle
         return getSubIndex().getSearchableElements();
     }
 
+    @Override
+    protected List<DMNSearchableElement> findSearchResults(final String term) {
+        return getSubIndex().search(term);
+    }
+
     Command getNoResultsFoundCallback() {
         return () -> getSubIndex().onNoResultsFound();
     }
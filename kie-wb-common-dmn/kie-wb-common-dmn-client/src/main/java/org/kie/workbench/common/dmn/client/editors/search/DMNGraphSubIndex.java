@@ -16,13 +16,15 @@
 
 package org.kie.workbench.common.dmn.client.editors.search;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.dmn.api.definition.NOPDomainObject;
@@ -30,14 +32,28 @@ import org.kie.workbench.common.dmn.api.definition.model.DRGElement;
 import org.kie.workbench.common.dmn.api.definition.model.TextAnnotation;
 import org.kie.workbench.common.dmn.client.graph.DMNGraphUtils;
 import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.AbstractCanvasHandlerEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasClearSelectionEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasFocusedShapeEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasSelectionEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.DomainObjectSelectionEvent;
+import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
+import org.kie.workbench.common.widgets.client.search.common.SearchableElementIndex;
 import org.uberfire.mvp.Command;
 
+/**
+ * {@link DMNGraphSubIndex} indexes the names of the nodes in the current DRD.
+ * ---
+ * The index is loaded once per diagram, and then it's kept up to date by the canvas element events. When the asset
+ * changes, the nodes are checked again, and only the nodes whose name has changed are indexed again.
+ */
 @ApplicationScoped
 public class DMNGraphSubIndex implements DMNSubIndex {
 
@@ -51,6 +67,14 @@ public class DMNGraphSubIndex implements DMNSubIndex {
 
     private final Event<DomainObjectSelectionEvent> domainObjectSelectionEvent;
 
+    private final SearchableElementIndex<String, DMNSearchableElement> index = new SearchableElementIndex<>();
+
+    private boolean indexed = false;
+
+    private boolean stale = false;
+
+    private Diagram indexedDiagram;
+
     @Inject
     public DMNGraphSubIndex(final DMNGraphUtils graphUtils,
                             final Event<CanvasSelectionEvent> canvasSelectionEvent,
@@ -66,11 +90,88 @@ public class DMNGraphSubIndex implements DMNSubIndex {
 
     @Override
     public List<DMNSearchableElement> getSearchableElements() {
-        return graphUtils
-                .getNodeStream()
-                .map(this::makeElement)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return getIndex().getElements();
+    }
+
+    @Override
+    public List<DMNSearchableElement> search(final String term) {
+        return getIndex().search(term);
+    }
+
+    @Override
+    public void invalidate() {
+        stale = true;
+    }
+
+    void onCanvasElementAdded(final @Observes CanvasElementAddedEvent event) {
+        onCanvasElementChanged(event, event.getElement());
+    }
+
+    void onCanvasElementUpdated(final @Observes CanvasElementUpdatedEvent event) {
+        onCanvasElementChanged(event, event.getElement());
+    }
+
+    void onCanvasElementRemoved(final @Observes CanvasElementRemovedEvent event) {
+        if (isIndexed(event)) {
+            index.remove(event.getElement().getUUID());
+        }
+    }
+
+    void onCanvasElementsClear(final @Observes CanvasElementsClearEvent event) {
+        if (isIndexed(event)) {
+            indexed = false;
+        }
+    }
+
+    private void onCanvasElementChanged(final AbstractCanvasHandlerEvent<?> event,
+                                        final Element<?> element) {
+        if (isIndexed(event) && element instanceof Node) {
+            indexNode((Node) element);
+        }
+    }
+
+    private boolean isIndexed(final AbstractCanvasHandlerEvent<?> event) {
+        return indexed && Objects.equals(event.getCanvasHandler(), graphUtils.getCanvasHandler());
+    }
+
+    SearchableElementIndex<String, DMNSearchableElement> getIndex() {
+        final Diagram diagram = graphUtils.getCurrentGraphDiagram();
+        if (!indexed || diagram != indexedDiagram) {
+            index.clear();
+            graphUtils.getNodeStream().forEach(this::indexNode);
+            indexedDiagram = diagram;
+            indexed = true;
+        } else if (stale) {
+            updateIndex();
+        }
+        stale = false;
+        return index;
+    }
+
+    private void updateIndex() {
+        final Set<String> uuids = new HashSet<>();
+        graphUtils.getNodeStream().forEach(node -> {
+            final String uuid = node.getUUID();
+            final DMNSearchableElement element = index.get(uuid);
+            final String text = getText(node).orElse(null);
+            if (!Objects.equals(text, element != null ? element.getText() : null)) {
+                indexNode(node);
+            }
+            uuids.add(uuid);
+        });
+        index.getKeys()
+                .stream()
+                .filter(uuid -> !uuids.contains(uuid))
+                .forEach(index::remove);
+    }
+
+    private void indexNode(final Node node) {
+        final DMNSearchableElement element = makeElement(node);
+        if (element != null) {
+            index.put(node.getUUID(), element, element.getText());
+        } else {
+            index.remove(node.getUUID());
+        }
     }
 
     private DMNSearchableElement makeElement(final Node node) {
@@ -16,25 +16,37 @@
 
 package org.kie.workbench.common.dmn.client.editors.search;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.dmn.client.editors.expressions.types.context.InformationItemCell.HasNameAndDataTypeCell;
+import org.kie.workbench.common.widgets.client.search.common.SearchableElementIndex;
 import org.uberfire.ext.wires.core.grids.client.model.GridCell;
 import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.GridWidget;
 
+/**
+ * {@link DMNGridSubIndex} indexes the cells of the grids in the expression editor.
+ * ---
+ * The cells of each grid are indexed once. When the asset changes, only the cells whose text has changed are
+ * indexed again, unless the rows or columns of the grid have changed.
+ */
 @ApplicationScoped
 public class DMNGridSubIndex implements DMNSubIndex {
 
     private final DMNGridHelper dmnGridHelper;
 
+    private final Map<GridWidget, GridIndex> indexes = new HashMap<>();
+
     @Inject
     public DMNGridSubIndex(final DMNGridHelper dmnGridHelper) {
         this.dmnGridHelper = dmnGridHelper;
@@ -42,36 +54,41 @@ public class DMNGridSubIndex implements DMNSubIndex {
 
     @Override
     public List<DMNSearchableElement> getSearchableElements() {
-        return dmnGridHelper
-                .getGridWidgets()
+        return getIndexes()
                 .stream()
-                .flatMap(gridWidget -> getSearchableElements(gridWidget).stream())
+                .flatMap(index -> index.getElements().stream())
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<DMNSearchableElement> search(final String term) {
+        return getIndexes()
+                .stream()
+                .flatMap(index -> index.search(term).stream())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void invalidate() {
+        indexes.values().forEach(GridIndex::invalidate);
+    }
+
     @Override
     public void onSearchClosed() {
         dmnGridHelper.focusGridPanel();
         dmnGridHelper.clearCellHighlights();
     }
 
-    private List<DMNSearchableElement> getSearchableElements(final GridWidget gridWidget) {
+    private List<SearchableElementIndex<Integer, DMNSearchableElement>> getIndexes() {
 
-        final List<DMNSearchableElement> elements = new ArrayList<>();
-        final GridData model = gridWidget.getModel();
-        final int rowCount = model.getRowCount();
-        final int columnCount = model.getColumnCount();
+        final Set<GridWidget> gridWidgets = dmnGridHelper.getGridWidgets();
 
-        for (int row = 0; row < rowCount; row++) {
-            for (int column = 0; column < columnCount; column++) {
-                final Optional<? extends GridCell<?>> cell = getCell(model, row, column);
-                if (cell.isPresent()) {
-                    elements.add(makeElement(gridWidget, cell.get(), row, column));
-                }
-            }
-        }
+        indexes.keySet().retainAll(gridWidgets);
 
-        return elements;
+        return gridWidgets
+                .stream()
+                .map(gridWidget -> indexes.computeIfAbsent(gridWidget, GridIndex::new).get())
+                .collect(Collectors.toList());
     }
 
     private Optional<? extends GridCell<?>> getCell(final GridData model,
@@ -123,4 +140,80 @@ public class DMNGridSubIndex implements DMNSubIndex {
         dmnGridHelper.clearSelections();
         dmnGridHelper.clearCellHighlights();
     }
+
+    private class GridIndex {
+
+        private final GridWidget gridWidget;
+
+        private final SearchableElementIndex<Integer, DMNSearchableElement> index = new SearchableElementIndex<>();
+
+        private int rowCount = -1;
+
+        private int columnCount = -1;
+
+        private boolean stale = true;
+
+        private GridIndex(final GridWidget gridWidget) {
+            this.gridWidget = gridWidget;
+        }
+
+        private void invalidate() {
+            stale = true;
+        }
+
+        private SearchableElementIndex<Integer, DMNSearchableElement> get() {
+            if (stale) {
+                final GridData model = gridWidget.getModel();
+                if (model.getRowCount() != rowCount || model.getColumnCount() != columnCount || !update(model)) {
+                    rebuild(model);
+                }
+                stale = false;
+            }
+            return index;
+        }
+
+        /**
+         * Indexes again the cells whose text has changed.
+         * @return false when a cell has been added or removed, so the order of the cells must be rebuilt.
+         */
+        private boolean update(final GridData model) {
+            for (int row = 0; row < rowCount; row++) {
+                for (int column = 0; column < columnCount; column++) {
+                    final int key = row * columnCount + column;
+                    final Optional<? extends GridCell<?>> cell = getCell(model, row, column);
+                    if (cell.isPresent() != index.contains(key)) {
+                        return false;
+                    }
+                    if (cell.isPresent() && !Objects.equals(getValue(cell.get()), index.get(key).getText())) {
+                        put(key, cell.get(), row, column);
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void rebuild(final GridData model) {
+
+            index.clear();
+            rowCount = model.getRowCount();
+            columnCount = model.getColumnCount();
+
+            for (int row = 0; row < rowCount; row++) {
+                for (int column = 0; column < columnCount; column++) {
+                    final Optional<? extends GridCell<?>> cell = getCell(model, row, column);
+                    if (cell.isPresent()) {
+                        put(row * columnCount + column, cell.get(), row, column);
+                    }
+                }
+            }
+        }
+
+        private void put(final int key,
+                         final GridCell<?> cell,
+                         final int row,
+                         final int column) {
+            final DMNSearchableElement element = makeElement(gridWidget, cell, row, column);
+            index.put(key, element, element.getText());
+        }
+    }
 }
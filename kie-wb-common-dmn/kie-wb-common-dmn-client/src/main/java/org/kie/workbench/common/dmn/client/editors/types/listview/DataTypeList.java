@@ -19,6 +19,7 @@ package org.kie.workbench.common.dmn.client.editors.types.listview;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -64,6 +65,8 @@ public class DataTypeList {
 
     static final String NAME_SEPARATOR = "-";
 
+    static final int TOP_LEVEL_ITEMS_BATCH_SIZE = 50;
+
     private final View view;
 
     private final ManagedInstance<DataTypeListItem> listItems;
@@ -90,6 +93,10 @@ public class DataTypeList {
 
     private List<DataTypeListItem> items = new ArrayList<>();
 
+    private final Map<String, DataTypeListItem> itemsWithPendingSubItems = new LinkedHashMap<>();
+
+    private final List<DataType> pendingTopLevelDataTypes = new ArrayList<>();
+
     private DataTypeListItem currentEditingItem;
 
     @Inject
@@ -159,16 +166,103 @@ public class DataTypeList {
         view.showReadOnlyMessage(hasReadOnlyDataTypes());
     }
 
+    /**
+     * Creates the items of the first {@link #TOP_LEVEL_ITEMS_BATCH_SIZE} top level data types, which fill the
+     * viewport. The items of the other top level data types are created in batches as the list is scrolled to its end
+     * (see {@link #materializeNextTopLevelItems()}). Top level items start collapsed, so the items of their nested data
+     * types are created when they are needed for the first time (see {@link #materializeSubItems(DataTypeListItem)}).
+     * Items are never recycled: once created, an item keeps its view until the list is set up again.
+     */
     List<DataTypeListItem> makeDataTypeListItems(final List<DataType> dataTypes) {
         final List<DataTypeListItem> listItems = new ArrayList<>();
-        dataTypes.forEach(dt -> listItems.addAll(makeTreeListItems(dt, 1)));
+        itemsWithPendingSubItems.clear();
+        pendingTopLevelDataTypes.clear();
+        for (final DataType dataType : dataTypes) {
+            if (listItems.size() < TOP_LEVEL_ITEMS_BATCH_SIZE) {
+                listItems.add(makeTopLevelListItem(dataType));
+            } else {
+                pendingTopLevelDataTypes.add(dataType);
+            }
+        }
         return listItems;
     }
 
+    private DataTypeListItem makeTopLevelListItem(final DataType dataType) {
+        final DataTypeListItem listItem = makeListItem();
+        listItem.setupDataType(dataType, 1);
+        if (!dataType.getSubDataTypes().isEmpty()) {
+            itemsWithPendingSubItems.put(dataType.getUUID(), listItem);
+        }
+        return listItem;
+    }
+
+    /**
+     * Creates the collapsed items of the next {@link #TOP_LEVEL_ITEMS_BATCH_SIZE} top level data types that have not
+     * been created yet, below the existing items.
+     */
+    void materializeNextTopLevelItems() {
+        materializeTopLevelItems(TOP_LEVEL_ITEMS_BATCH_SIZE);
+    }
+
+    private void materializeTopLevelItems(final int count) {
+
+        if (pendingTopLevelDataTypes.isEmpty()) {
+            return;
+        }
+
+        final List<DataType> dataTypes = pendingTopLevelDataTypes.subList(0, Math.min(count, pendingTopLevelDataTypes.size()));
+        final List<DataTypeListItem> listItems = dataTypes.stream().map(this::makeTopLevelListItem).collect(Collectors.toList());
+        dataTypes.clear();
+
+        getItems().addAll(listItems);
+        listItems.forEach(DataTypeListItem::collapse);
+        getDNDListComponent().refreshItemsPosition();
+    }
+
+    /**
+     * Creates the items of the nested data types of a top level item, when they have not been created yet.
+     * @param listItem The top level item.
+     */
+    void materializeSubItems(final DataTypeListItem listItem) {
+
+        if (itemsWithPendingSubItems.remove(listItem.getDataType().getUUID()) == null) {
+            return;
+        }
+
+        final DataType dataType = listItem.getDataType();
+        final List<DataTypeListItem> listItems = new ArrayList<>();
+
+        for (final DataType subDataType : dataType.getSubDataTypes()) {
+            listItems.addAll(makeTreeListItems(subDataType, listItem.getLevel() + 1));
+        }
+
+        final List<HTMLElement> children = listItems.stream().map(DataTypeListItem::getDragAndDropElement).collect(Collectors.toList());
+        dndListComponent.setInitialPositionY(listItem.getDragAndDropElement(), children);
+
+        addNewSubItems(dataType, listItems);
+        getItems().addAll(listItems);
+    }
+
+    /**
+     * Creates the items of all top level data types that have not been created yet.
+     */
+    void materializeAllTopLevelItems() {
+        materializeTopLevelItems(pendingTopLevelDataTypes.size());
+    }
+
+    /**
+     * Creates the items of all data types, top level and nested, that have not been created yet.
+     */
+    public void materializeAllItems() {
+        materializeAllTopLevelItems();
+        new ArrayList<>(itemsWithPendingSubItems.values()).forEach(this::materializeSubItems);
+    }
+
     void refreshSubItemsFromListItem(final DataTypeListItem listItem,
                                      final List<DataType> subDataTypes) {
 
         final DataType dataType = listItem.getDataType();
+        itemsWithPendingSubItems.remove(dataType.getUUID());
         final int level = listItem.getLevel();
         final List<DataTypeListItem> listItems = new ArrayList<>();
 
@@ -227,6 +321,8 @@ public class DataTypeList {
     }
 
     void removeItem(final String uuid) {
+        itemsWithPendingSubItems.remove(uuid);
+        pendingTopLevelDataTypes.removeIf(dataType -> Objects.equals(uuid, dataType.getUUID()));
         executeInCommandManager(() -> {
             getItems().removeIf(listItem -> Objects.equals(uuid, listItem.getDataType().getUUID()));
             return CanvasCommandResultBuilder.SUCCESS;
@@ -263,9 +359,12 @@ public class DataTypeList {
     }
 
     private boolean hasReadOnlyDataTypes() {
-        return getItems()
+        final boolean hasReadOnlyItems = getItems()
                 .stream()
                 .anyMatch(DataTypeListItem::isReadOnly);
+        return hasReadOnlyItems || pendingTopLevelDataTypes
+                .stream()
+                .anyMatch(DataType::isReadOnly);
     }
 
     public List<DataTypeListItem> getItems() {
@@ -291,6 +390,7 @@ public class DataTypeList {
         executeInCommandManager(() -> {
 
             resetSearchBar();
+            materializeAllTopLevelItems();
 
             final DataTypeListItem listItem = makeListItem(dataType);
 
@@ -357,6 +457,7 @@ public class DataTypeList {
 
     void expandAll() {
         if (!getSearchBar().isEnabled()) {
+            materializeAllItems();
             getItems().forEach(DataTypeListItem::expand);
         }
     }
@@ -392,6 +493,31 @@ public class DataTypeList {
     }
 
     public Optional<DataTypeListItem> findItemByDataTypeHash(final String dataTypeHash) {
+        final Optional<DataTypeListItem> listItem = findMaterializedItemByDataTypeHash(dataTypeHash);
+        if (listItem.isPresent() || dataTypeHash == null) {
+            return listItem;
+        }
+
+        if (!pendingTopLevelDataTypes.isEmpty()) {
+            materializeAllTopLevelItems();
+            return findItemByDataTypeHash(dataTypeHash);
+        }
+
+        final Optional<DataTypeListItem> topLevelItem = itemsWithPendingSubItems
+                .values()
+                .stream()
+                .filter(item -> dataTypeHash.startsWith(calculateHash(item.getDataType()) + "."))
+                .findFirst();
+
+        if (!topLevelItem.isPresent()) {
+            return listItem;
+        }
+
+        materializeSubItems(topLevelItem.get());
+        return findMaterializedItemByDataTypeHash(dataTypeHash);
+    }
+
+    private Optional<DataTypeListItem> findMaterializedItemByDataTypeHash(final String dataTypeHash) {
         return getItems()
                 .stream()
                 .filter(item -> Objects.equals(calculateHash(item.getDataType()), dataTypeHash))
@@ -563,10 +689,12 @@ public class DataTypeList {
     }
 
     public List<String> getExistingDataTypesNames() {
-        return getItems().stream()
+        final List<String> names = getItems().stream()
                 .filter(item -> item.getDataType().isTopLevel())
                 .map(item -> item.getDataType().getName())
                 .collect(Collectors.toList());
+        pendingTopLevelDataTypes.forEach(dataType -> names.add(dataType.getName()));
+        return names;
     }
 
     public void highlightLevel(final DataType dataType) {
@@ -237,6 +237,7 @@ public class DataTypeListItem {
     }
 
     public void expand() {
+        dataTypeList.materializeSubItems(this);
         view.expand();
         dataTypeList.highlightLevel(getDragAndDropElement());
     }
@@ -178,6 +178,17 @@ public class DataTypeListView implements DataTypeList.View {
 
     private void setupListElement() {
         listItems.appendChild(getDndListComponent().getElement());
+        listItems.onscroll = (e) -> {
+            onListItemsScroll();
+            return true;
+        };
+    }
+
+    void onListItemsScroll() {
+        final double remainingHeight = listItems.scrollHeight - listItems.scrollTop - listItems.clientHeight;
+        if (remainingHeight < listItems.clientHeight) {
+            presenter.materializeNextTopLevelItems();
+        }
     }
 
     private DNDListComponent getDndListComponent() {
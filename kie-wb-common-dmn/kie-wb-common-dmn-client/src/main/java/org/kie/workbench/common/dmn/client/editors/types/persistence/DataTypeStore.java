@@ -18,9 +18,10 @@ package org.kie.workbench.common.dmn.client.editors.types.persistence;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -31,24 +32,45 @@ import org.kie.workbench.common.dmn.client.editors.types.common.DataType;
 /**
  * Stores all Data Types loaded in the {@link DataTypesPage}.
  * <p>
- * All entries are indexed by their own UUID.
+ * All entries are indexed by their own UUID. The UUIDs of top level Data Types, and of the Data Types of each parent,
+ * are indexed too, as they are when the Data Type is indexed.
  */
 @ApplicationScoped
 public class DataTypeStore {
 
     private Map<String, DataType> dataTypes = new HashMap<>();
 
+    private Map<String, String> parentUUIDs = new HashMap<>();
+
+    private Map<String, Set<String>> subDataTypesUUIDs = new HashMap<>();
+
+    private Set<String> topLevelDataTypesUUIDs = new LinkedHashSet<>();
+
     public DataType get(final String uuid) {
         return dataTypes.get(uuid);
     }
 
     public void index(final String uuid,
                       final DataType dataType) {
+
+        removeFromParent(uuid);
+
+        final String parentUUID = dataType.getParentUUID();
+
         dataTypes.put(uuid, dataType);
+        parentUUIDs.put(uuid, parentUUID);
+        subDataTypesUUIDs.computeIfAbsent(parentUUID, p -> new LinkedHashSet<>()).add(uuid);
+
+        if (dataType.isTopLevel()) {
+            topLevelDataTypesUUIDs.add(uuid);
+        }
     }
 
     public void clear() {
         dataTypes.clear();
+        parentUUIDs.clear();
+        subDataTypesUUIDs.clear();
+        topLevelDataTypesUUIDs.clear();
     }
 
     public int size() {
@@ -56,9 +78,9 @@ public class DataTypeStore {
     }
 
     public List<DataType> getTopLevelDataTypes() {
-        return all()
+        return topLevelDataTypesUUIDs
                 .stream()
-                .filter(DataType::isTopLevel)
+                .map(dataTypes::get)
                 .collect(Collectors.toList());
     }
 
@@ -67,15 +89,32 @@ public class DataTypeStore {
     }
 
     public void unIndex(final String uuid) {
+        removeFromParent(uuid);
         dataTypes.remove(uuid);
         subDataTypesUUID(uuid).forEach(this::unIndex);
+        subDataTypesUUIDs.remove(uuid);
     }
 
     private List<String> subDataTypesUUID(final String uuid) {
-        return all()
-                .stream()
-                .filter(dataType -> Objects.equals(dataType.getParentUUID(), uuid))
-                .map(DataType::getUUID)
-                .collect(Collectors.toList());
+        return new ArrayList<>(subDataTypesUUIDs.getOrDefault(uuid, new LinkedHashSet<>()));
+    }
+
+    private void removeFromParent(final String uuid) {
+
+        topLevelDataTypesUUIDs.remove(uuid);
+
+        if (!parentUUIDs.containsKey(uuid)) {
+            return;
+        }
+
+        final String parentUUID = parentUUIDs.remove(uuid);
+        final Set<String> siblingsUUIDs = subDataTypesUUIDs.get(parentUUID);
+
+        if (siblingsUUIDs != null) {
+            siblingsUUIDs.remove(uuid);
+            if (siblingsUUIDs.isEmpty()) {
+                subDataTypesUUIDs.remove(parentUUID);
+            }
+        }
     }
 }
@@ -85,6 +85,10 @@ public class DataTypeSearchBar {
 
         final List<DataType> results = searchEngine.search(keyword);
 
+        if (!isEmpty(keyword)) {
+            dataTypeList.materializeAllItems();
+        }
+
         storeDataTypeListPositions();
         showEmptyView(results.isEmpty());
         setCurrentSearch(keyword);
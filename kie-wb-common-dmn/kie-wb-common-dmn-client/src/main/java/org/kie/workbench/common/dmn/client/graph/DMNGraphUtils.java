@@ -91,8 +91,12 @@ public class DMNGraphUtils {
         return Optional.ofNullable(session.getCanvasHandler());
     }
 
+    public Diagram getCurrentGraphDiagram() {
+        return dmnDiagramsSession.getCurrentGraphDiagram();
+    }
+
     public Stream<Node> getNodeStream() {
-        return getNodeStream(dmnDiagramsSession.getCurrentGraphDiagram());
+        return getNodeStream(getCurrentGraphDiagram());
     }
 
     public CanvasHandler getCanvasHandler() {
@@ -27,6 +27,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -48,6 +49,7 @@ import org.kie.workbench.common.dmn.api.definition.model.InputData;
 import org.kie.workbench.common.dmn.api.definition.model.KnowledgeSource;
 import org.kie.workbench.common.dmn.api.definition.model.TextAnnotation;
 import org.kie.workbench.common.dmn.client.docks.navigator.drds.DMNDiagramsSession;
+import org.kie.workbench.common.dmn.client.events.EditExpressionEvent;
 import org.kie.workbench.common.dmn.client.marshaller.common.DMNGraphUtils;
 import org.kie.workbench.common.dmn.client.marshaller.common.WrapperUtils;
 import org.kie.workbench.common.dmn.client.marshaller.converters.AssociationConverter;
@@ -76,6 +78,9 @@ import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmndi12.JS
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentWidths;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentsWidthsExtension;
 import org.kie.workbench.common.stunner.core.api.FactoryManager;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandExecutedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandUndoneEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Graph;
@@ -86,6 +91,7 @@ import org.kie.workbench.common.stunner.core.graph.content.view.DiscreteConnecti
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.util.HashUtil;
 
 import static org.kie.workbench.common.dmn.client.marshaller.common.IdUtils.getEdgeId;
 import static org.kie.workbench.common.dmn.client.marshaller.common.IdUtils.getRawId;
@@ -128,6 +134,9 @@ public class DMNMarshaller {
     private TextAnnotationConverter textAnnotationConverter;
     private DecisionServiceConverter decisionServiceConverter;
 
+    private final MarshalledNodeCache nodeCache = new MarshalledNodeCache();
+    private Optional<String> editedNodeUUID = Optional.empty();
+
     @Inject
     private DMNDiagramsSession dmnDiagramsSession;
 
@@ -147,6 +156,7 @@ public class DMNMarshaller {
 
     public JSITDefinitions marshall() {
         final Map<String, JSITDRGElement> nodes = new HashMap<>();
+        final Map<String, String> nodeUUIDs = new HashMap<>();
         final Map<String, JSITTextAnnotation> textAnnotations = new HashMap<>();
         final Node<View<DMNDiagram>, ?> dmnDiagramRoot = (Node<View<DMNDiagram>, ?>) DMNGraphUtils.findDMNDiagramRoot(dmnDiagramsSession.getDRGDiagram().getGraph());
         final Definitions definitionsStunnerPojo = ((DMNDiagram) getElementDefinition(dmnDiagramRoot)).getDefinitions();
@@ -207,15 +217,21 @@ public class DMNMarshaller {
                 if (viewDefinition instanceof DRGElement) {
                     final DRGElement drgElement = (DRGElement) viewDefinition;
                     if (!drgElement.isAllowOnlyVisualChange()) {
-                        if (nodes.containsKey(drgElement.getId().getValue())) {
-                            final JSITDRGElement currentValue = nodes.get(drgElement.getId().getValue());
-                            mergeNodeRequirements(stunnerToDMN(withIncludedModels(node, definitionsStunnerPojo),
-                                                               componentWidthsConsumer),
+                        final String drgElementId = drgElement.getId().getValue();
+                        final JSITDRGElement dmnElement = getDMNElement(withIncludedModels(node, definitionsStunnerPojo),
+                                                                        definitionsStunnerPojo,
+                                                                        componentWidthsConsumer);
+                        if (nodes.containsKey(drgElementId)) {
+                            final JSITDRGElement currentValue = nodes.get(drgElementId);
+                            mergeNodeRequirements(dmnElement,
                                                   currentValue);
+                            // The merged requirements are not those of the node the element was converted from
+                            nodeCache.remove(nodeUUIDs.get(drgElementId));
                         } else {
-                            nodes.put(drgElement.getId().getValue(),
-                                      stunnerToDMN(withIncludedModels(node, definitionsStunnerPojo),
-                                                   componentWidthsConsumer));
+                            nodes.put(drgElementId,
+                                      dmnElement);
+                            nodeUUIDs.put(drgElementId,
+                                          node.getUUID());
                         }
                     }
                     final String namespaceURI = definitionsStunnerPojo.getDefaultNamespace();
@@ -282,6 +298,8 @@ public class DMNMarshaller {
         }
         ;
 
+        nodeCache.evictUnvisited();
+
         return definitions;
     }
 
@@ -543,6 +561,74 @@ public class DMNMarshaller {
         return edge.getUUID();
     }
 
+    /**
+     * The commands of the expression grids only change the domain objects of the node whose expression is edited,
+     * so its element is discarded whenever a command is executed or undone.
+     */
+    void onEditExpression(final @Observes EditExpressionEvent event) {
+        editedNodeUUID = Optional.ofNullable(event.getNodeUUID());
+    }
+
+    void onCanvasCommandExecuted(final @Observes CanvasCommandExecutedEvent event) {
+        editedNodeUUID.ifPresent(nodeCache::remove);
+    }
+
+    void onCanvasCommandUndone(final @Observes CanvasCommandUndoneEvent event) {
+        editedNodeUUID.ifPresent(nodeCache::remove);
+    }
+
+    /**
+     * The commands of the diagram report the elements they change.
+     */
+    void onCanvasElementUpdated(final @Observes CanvasElementUpdatedEvent event) {
+        nodeCache.remove(event.getElement().getUUID());
+    }
+
+    /**
+     * Converts a node to its DMN element, reusing the element converted by a previous marshalling when no command
+     * has changed the node and the node's version has not changed since. Decision Services are always converted, as their DMN element depends on the content
+     * of the nodes they encapsulate, in any of the diagrams.
+     */
+    JSITDRGElement getDMNElement(final Node<?, ?> node,
+                                 final Definitions definitionsStunnerPojo,
+                                 final Consumer<JSITComponentWidths> componentWidthsConsumer) {
+        if (getElementDefinition(node) instanceof DecisionService) {
+            return stunnerToDMN(node,
+                                componentWidthsConsumer);
+        }
+        return nodeCache.get(node.getUUID(),
+                             getNodeVersion(node, definitionsStunnerPojo),
+                             componentWidthsConsumer,
+                             consumer -> stunnerToDMN(node, consumer));
+    }
+
+    /**
+     * Returns the version of the content a node's DMN element is converted from; that is the node's definition,
+     * the identity of the elements it requires and the imports their references are resolved with. It detects the
+     * changes made without commands, e.g. to the imports or to the type references renamed by the data types.
+     */
+    int getNodeVersion(final Node<?, ?> node,
+                       final Definitions definitionsStunnerPojo) {
+        int version = HashUtil.combineHashCodes(Objects.hashCode(getElementDefinition(node)),
+                                                definitionsStunnerPojo.getImport().hashCode());
+        for (final Edge<?, ?> e : node.getInEdges()) {
+            final Object edgeContent = e.getContent();
+            final Object edgeType = edgeContent instanceof View ? ((View) edgeContent).getDefinition() : edgeContent;
+            final Object source = getElementDefinition(e.getSourceNode());
+            version = HashUtil.combineHashCodes(version,
+                                                Objects.hashCode(e.getUUID()),
+                                                Objects.isNull(edgeType) ? 0 : edgeType.getClass().getName().hashCode(),
+                                                Objects.isNull(source) ? 0 : source.getClass().getName().hashCode(),
+                                                source instanceof DRGElement ? getIdentityHashCode((DRGElement) source) : 0);
+        }
+        return version;
+    }
+
+    private static int getIdentityHashCode(final DRGElement drgElement) {
+        return HashUtil.combineHashCodes(Objects.hashCode(drgElement.getId()),
+                                         Objects.hashCode(drgElement.getName()));
+    }
+
     @SuppressWarnings("unchecked")
     public JSITDRGElement stunnerToDMN(final Node<?, ?> node,
                                        final Consumer<JSITComponentWidths> componentWidthsConsumer) {
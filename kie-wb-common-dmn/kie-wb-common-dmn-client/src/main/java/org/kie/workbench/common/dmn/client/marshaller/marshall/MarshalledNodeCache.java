@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.dmn.client.marshaller.marshall;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDRGElement;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentWidths;
+
+/**
+ * Keeps the {@link JSITDRGElement} converted from each Stunner node, together with the {@link JSITComponentWidths}
+ * reported whilst converting it, so a node is only converted again when its version changes.
+ */
+class MarshalledNodeCache {
+
+    private final Map<String, CachedNode> cachedNodes = new HashMap<>();
+    private final Set<String> visitedNodeUUIDs = new HashSet<>();
+
+    /**
+     * Returns the element cached for the node if it has the same version, replaying its component widths
+     * to the consumer; otherwise the node is converted and cached.
+     * @param nodeUUID The UUID of the Stunner node.
+     * @param version The version of the node's content.
+     * @param componentWidthsConsumer Receives the component widths of the element.
+     * @param converter Converts the node, reporting its component widths to the given consumer.
+     * @return
+     */
+    JSITDRGElement get(final String nodeUUID,
+                       final int version,
+                       final Consumer<JSITComponentWidths> componentWidthsConsumer,
+                       final Function<Consumer<JSITComponentWidths>, JSITDRGElement> converter) {
+        visitedNodeUUIDs.add(nodeUUID);
+
+        final CachedNode cachedNode = cachedNodes.get(nodeUUID);
+        if (cachedNode != null && cachedNode.version == version) {
+            cachedNode.componentWidths.forEach(componentWidthsConsumer);
+            return cachedNode.element;
+        }
+
+        final List<JSITComponentWidths> componentWidths = new ArrayList<>();
+        final JSITDRGElement element = converter.apply(cw -> {
+            componentWidths.add(cw);
+            componentWidthsConsumer.accept(cw);
+        });
+        cachedNodes.put(nodeUUID, new CachedNode(version, element, componentWidths));
+        return element;
+    }
+
+    /**
+     * Removes the element cached for the node, e.g. when it has been modified after being converted.
+     * @param nodeUUID The UUID of the Stunner node.
+     */
+    void remove(final String nodeUUID) {
+        cachedNodes.remove(nodeUUID);
+    }
+
+    /**
+     * Removes the elements of the nodes that have not been requested since the last call, i.e. those of nodes
+     * that no longer exist.
+     */
+    void evictUnvisited() {
+        cachedNodes.keySet().retainAll(visitedNodeUUIDs);
+        visitedNodeUUIDs.clear();
+    }
+
+    int size() {
+        return cachedNodes.size();
+    }
+
+    private static class CachedNode {
+
+        private final int version;
+        private final JSITDRGElement element;
+        private final List<JSITComponentWidths> componentWidths;
+
+        private CachedNode(final int version,
+                           final JSITDRGElement element,
+                           final List<JSITComponentWidths> componentWidths) {
+            this.version = version;
+            this.element = element;
+            this.componentWidths = componentWidths;
+        }
+    }
+}
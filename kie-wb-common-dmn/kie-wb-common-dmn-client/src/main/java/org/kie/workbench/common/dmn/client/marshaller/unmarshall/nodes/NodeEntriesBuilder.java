@@ -19,9 +19,11 @@ package org.kie.workbench.common.dmn.client.marshaller.unmarshall.nodes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -64,22 +66,25 @@ class NodeEntriesBuilder {
 
     List<NodeEntry> buildEntries() {
 
+        final List<JSITDMNElement> dmnElements = getDMNElements();
+        final Set<JSITDRGElement> included = new HashSet<>(includedDRGElements);
+
         final boolean modelHasDMNDI = shapesByDiagramId.size() > 0;
         if (modelHasDMNDI) {
+            final Map<String, JSITDMNElement> dmnElementsById = makeDMNElementIndex(dmnElements);
             return shapesByDiagramId
                     .entrySet()
                     .stream()
                     .map(entry -> {
                         final String diagramId = entry.getValue();
                         final JSIDMNShape shape = Js.uncheckedCast(entry.getKey());
-                        return makeEntry(diagramId, shape);
+                        return makeEntry(diagramId, shape, dmnElements, dmnElementsById, included);
                     })
                     .filter(Optional::isPresent)
                     .map(Optional::get)
                     .collect(Collectors.toList());
         }
 
-        final List<JSITDMNElement> dmnElements = getDMNElements();
         final boolean modelDoesNotHaveDMNDI = dmnDiagrams.size() == 1 && dmnElements.size() > 0;
 
         if (modelDoesNotHaveDMNDI) {
@@ -88,7 +93,7 @@ class NodeEntriesBuilder {
                     .map(dmnElement -> {
                         final JSIDMNDiagram diagram = Js.uncheckedCast(dmnDiagrams.get(0));
                         final String diagramId = diagram.getId();
-                        return makeEntry(diagramId, makeStandardShape(), dmnElement);
+                        return makeEntry(diagramId, makeStandardShape(), dmnElement, included);
                     })
                     .collect(Collectors.toList());
         }
@@ -127,18 +132,22 @@ class NodeEntriesBuilder {
     }
 
     private Optional<NodeEntry> makeEntry(final String diagramId,
-                                          final JSIDMNShape shape) {
-        return getDMNElement(shape)
-                .map(dmnElement -> makeEntry(diagramId, shape, dmnElement));
+                                          final JSIDMNShape shape,
+                                          final List<JSITDMNElement> dmnElements,
+                                          final Map<String, JSITDMNElement> dmnElementsById,
+                                          final Set<JSITDRGElement> included) {
+        return getDMNElement(shape, dmnElements, dmnElementsById)
+                .map(dmnElement -> makeEntry(diagramId, shape, dmnElement, included));
     }
 
     private NodeEntry makeEntry(final String diagramId,
                                 final JSIDMNShape shape,
-                                final JSITDMNElement dmnElement) {
+                                final JSITDMNElement dmnElement,
+                                final Set<JSITDRGElement> included) {
         final NodeEntry nodeEntry = new NodeEntry(diagramId,
                                                   copy(shape),
                                                   dmnElement,
-                                                  isIncluded(dmnElement),
+                                                  isIncluded(dmnElement, included),
                                                   componentWidthsConsumer);
         final Node node = nodeFactory.make(nodeEntry);
         nodeEntry.setNode(node);
@@ -151,13 +160,40 @@ class NodeEntriesBuilder {
         return copy;
     }
 
-    private boolean isIncluded(final JSITDMNElement dmnElement) {
+    private boolean isIncluded(final JSITDMNElement dmnElement,
+                               final Set<JSITDRGElement> included) {
         final JSITDRGElement drgElement = Js.uncheckedCast(dmnElement);
-        return includedDRGElements.contains(drgElement);
+        return included.contains(drgElement);
+    }
+
+    /**
+     * Indexes the elements by their id, so shapes usually find their element without scanning all the elements.
+     * The first element with an id is kept, as it was when scanning.
+     */
+    private Map<String, JSITDMNElement> makeDMNElementIndex(final List<JSITDMNElement> dmnElements) {
+
+        final Map<String, JSITDMNElement> map = new HashMap<>();
+
+        dmnElements.forEach(dmnElement -> {
+            final String dmnElementId = dmnElement.getId();
+            if (dmnElementId != null) {
+                map.putIfAbsent(dmnElementId, dmnElement);
+            }
+        });
+
+        return map;
     }
 
-    private Optional<JSITDMNElement> getDMNElement(final JSIDMNShape shape) {
-        return getDMNElements()
+    private Optional<JSITDMNElement> getDMNElement(final JSIDMNShape shape,
+                                                   final List<JSITDMNElement> dmnElements,
+                                                   final Map<String, JSITDMNElement> dmnElementsById) {
+        final JSITDMNElement indexedDMNElement = dmnElementsById.get(shape.getDmnElementRef().getLocalPart());
+        if (indexedDMNElement != null) {
+            return Optional.of(indexedDMNElement);
+        }
+
+        // References may be prefixed, e.g. with the name of the import of an included element
+        return dmnElements
                 .stream()
                 .filter(dmnElement -> {
                     final QName dmnElementRef = shape.getDmnElementRef();
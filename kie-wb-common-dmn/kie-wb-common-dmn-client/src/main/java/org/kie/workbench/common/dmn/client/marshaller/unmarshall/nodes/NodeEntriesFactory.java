@@ -20,9 +20,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
@@ -89,15 +87,14 @@ public class NodeEntriesFactory {
             return 0;
         });
 
+        final List<JSITAssociation> associations = getAssociations(definitions);
+        final Map<String, List<NodeEntry>> nodesByDiagramId = getNodesByDiagramId(nodeEntries);
+
         forEach(dmnDiagrams, dmnDiagram -> {
 
             final String diagramId = dmnDiagram.getId();
             final List<JSIDMNEdge> edges = getEdges(dmnDiagram);
-            final List<JSITAssociation> associations = getAssociations(definitions);
-            final List<NodeEntry> nodes = nodeEntries
-                    .stream()
-                    .filter(n -> Objects.equals(n.getDiagramId(), diagramId))
-                    .collect(Collectors.toList());
+            final List<NodeEntry> nodes = nodesByDiagramId.getOrDefault(diagramId, new ArrayList<>());
 
             nodeConnector.connect(dmnDiagram, edges, associations, nodes, isDMNDIPresent);
         });
@@ -109,6 +106,17 @@ public class NodeEntriesFactory {
         return new NodeEntriesBuilder(nodeFactory);
     }
 
+    private Map<String, List<NodeEntry>> getNodesByDiagramId(final List<NodeEntry> nodeEntries) {
+
+        final Map<String, List<NodeEntry>> nodesByDiagramId = new HashMap<>();
+
+        nodeEntries.forEach(nodeEntry -> {
+            nodesByDiagramId.computeIfAbsent(nodeEntry.getDiagramId(), diagramId -> new ArrayList<>()).add(nodeEntry);
+        });
+
+        return nodesByDiagramId;
+    }
+
     private List<JSIDMNEdge> getEdges(final JSIDMNDiagram dmnDiagram) {
 
         final List<JSIDMNEdge> edges = new ArrayList<>();
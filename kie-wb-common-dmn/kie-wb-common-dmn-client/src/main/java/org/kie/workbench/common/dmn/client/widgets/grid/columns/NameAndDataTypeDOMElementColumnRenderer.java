@@ -61,6 +61,13 @@ public class NameAndDataTypeDOMElementColumnRenderer<W extends TextBoxBase, E ex
         if (cell == null || cell.getValue() == null) {
             return null;
         }
+        if (isVirtualized()) {
+            return internalRenderPooledCell(context,
+                                            RendererUtils.EXPRESSION_TEXT,
+                                            cell.getValue().getValue(),
+                                            RendererUtils.EXPRESSION_TEXT_PADDING,
+                                            RendererUtils.EXPRESSION_TEXT_PADDING);
+        }
 
         return RendererUtils.getExpressionCellText(context, cell);
     }
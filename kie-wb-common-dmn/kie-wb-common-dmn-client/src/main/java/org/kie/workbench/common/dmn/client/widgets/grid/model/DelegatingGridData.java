@@ -284,4 +284,19 @@ public class DelegatingGridData implements GridData {
     public int getVisibleHeight() {
         return delegate.getVisibleHeight();
     }
+
+    @Override
+    public double getRowOffset(final int rowIndex) {
+        return delegate.getRowOffset(rowIndex);
+    }
+
+    @Override
+    public int getRowIndexAt(final double offset) {
+        return delegate.getRowIndexAt(offset);
+    }
+
+    @Override
+    public void refreshRowOffsets(final List<Double> rowHeights) {
+        delegate.refreshRowOffsets(rowHeights);
+    }
 }
@@ -36,4 +36,9 @@ public class LiteralExpressionGridRow extends BaseGridRow {
         }
         return height;
     }
+
+    @Override
+    public boolean hasDynamicHeight() {
+        return true;
+    }
 }
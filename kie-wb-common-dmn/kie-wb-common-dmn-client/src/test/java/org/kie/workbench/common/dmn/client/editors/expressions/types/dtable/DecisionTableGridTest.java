@@ -118,6 +118,7 @@ import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridData;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyCellEditContext;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.GridWidget;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.impl.BaseGridColumnRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.layer.impl.GridLayerRedrawManager;
 import org.uberfire.mocks.EventSourceMock;
 import org.uberfire.mvp.Command;
@@ -440,6 +441,14 @@ public class DecisionTableGridTest {
                      uiModel.getCell(0, 3).getValue().getValue());
     }
 
+    @Test
+    public void testInitialSetupColumnsAreVirtualized() {
+        setupGrid(makeHasNameForDecision(), 0);
+
+        final GridData uiModel = grid.getModel();
+        uiModel.getColumns().forEach(column -> assertTrue(((BaseGridColumnRenderer) column.getColumnRenderer()).isVirtualized()));
+    }
+
     @Test
     public void testInitialColumnWidthsFromDefinition() {
         setupGrid(makeHasNameForDecision(), 0);
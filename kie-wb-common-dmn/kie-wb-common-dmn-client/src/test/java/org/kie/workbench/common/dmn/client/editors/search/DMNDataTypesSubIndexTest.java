@@ -34,6 +34,7 @@ import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -100,6 +101,98 @@ public class DMNDataTypesSubIndexTest {
         verify(index).highlight(listItem3);
     }
 
+    @Test
+    public void testSearch() {
+
+        final DataTypeListItem listItem1 = mock(DataTypeListItem.class);
+        final DataTypeListItem listItem2 = mock(DataTypeListItem.class);
+        final DataType dataType1 = mock(DataType.class);
+        final DataType dataType2 = mock(DataType.class);
+
+        when(listItem1.getDataType()).thenReturn(dataType1);
+        when(listItem2.getDataType()).thenReturn(dataType2);
+        when(dataType1.getName()).thenReturn("tPerson");
+        when(dataType2.getName()).thenReturn("tCompany");
+        when(dataTypeList.getItems()).thenReturn(asList(listItem1, listItem2));
+
+        assertEquals(1, index.search("person").size());
+        assertEquals("tPerson", index.search("person").get(0).getText());
+
+        // The index is kept until it's invalidated.
+        when(dataType1.getName()).thenReturn("tCustomer");
+        assertEquals(1, index.search("person").size());
+
+        index.invalidate();
+        assertEquals(0, index.search("person").size());
+        assertEquals(2, index.search("tC").size());
+    }
+
+    @Test
+    public void testSearchWhenItemsHaveBeenAdded() {
+
+        final DataTypeListItem listItem1 = mock(DataTypeListItem.class);
+        final DataTypeListItem listItem2 = mock(DataTypeListItem.class);
+        final DataType dataType1 = mock(DataType.class);
+        final DataType dataType2 = mock(DataType.class);
+
+        when(listItem1.getDataType()).thenReturn(dataType1);
+        when(listItem2.getDataType()).thenReturn(dataType2);
+        when(dataType1.getName()).thenReturn("tPerson");
+        when(dataType2.getName()).thenReturn("tPersonAddress");
+        when(dataTypeList.getItems()).thenReturn(asList(listItem1));
+
+        assertEquals(1, index.search("person").size());
+
+        when(dataTypeList.getItems()).thenReturn(asList(listItem1, listItem2));
+
+        assertEquals(2, index.search("person").size());
+    }
+
+    @Test
+    public void testSearchIndexesRenamedItemsOnlyWhenInvalidated() {
+
+        final DataTypeListItem listItem1 = mock(DataTypeListItem.class);
+        final DataTypeListItem listItem2 = mock(DataTypeListItem.class);
+        final DataType dataType1 = mock(DataType.class);
+        final DataType dataType2 = mock(DataType.class);
+
+        when(listItem1.getDataType()).thenReturn(dataType1);
+        when(listItem2.getDataType()).thenReturn(dataType2);
+        when(dataType1.getName()).thenReturn("tPerson");
+        when(dataType2.getName()).thenReturn("tCompany");
+        when(dataTypeList.getItems()).thenReturn(asList(listItem1, listItem2));
+
+        assertEquals(1, index.search("person").size());
+
+        when(dataType1.getName()).thenReturn("tCustomer");
+        index.invalidate();
+
+        assertEquals(2, index.search("tC").size());
+        verify(dataType1, times(3)).getName();
+        verify(dataType2, times(2)).getName();
+    }
+
+    @Test
+    public void testSearchWhenItemsHaveBeenMoved() {
+
+        final DataTypeListItem listItem1 = mock(DataTypeListItem.class);
+        final DataTypeListItem listItem2 = mock(DataTypeListItem.class);
+        final DataType dataType1 = mock(DataType.class);
+        final DataType dataType2 = mock(DataType.class);
+
+        when(listItem1.getDataType()).thenReturn(dataType1);
+        when(listItem2.getDataType()).thenReturn(dataType2);
+        when(dataType1.getName()).thenReturn("tPerson");
+        when(dataType2.getName()).thenReturn("tPersonAddress");
+        when(dataTypeList.getItems()).thenReturn(asList(listItem1, listItem2));
+
+        assertEquals("tPerson", index.search("person").get(0).getText());
+
+        when(dataTypeList.getItems()).thenReturn(asList(listItem2, listItem1));
+
+        assertEquals("tPersonAddress", index.search("person").get(0).getText());
+    }
+
     @Test
     public void testOnNoResultsFound() {
         index.onNoResultsFound();
@@ -23,6 +23,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.dmn.client.editors.expressions.ExpressionEditor;
+import org.kie.workbench.common.dmn.client.editors.types.DataTypeChangedEvent;
 import org.kie.workbench.common.dmn.client.session.DMNSession;
 import org.kie.workbench.common.stunner.core.client.api.SessionManager;
 import org.mockito.Mock;
@@ -31,6 +32,7 @@ import org.uberfire.mvp.Command;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -83,6 +85,7 @@ public class DMNEditorSearchIndexTest {
 
         verify(searchIndex).registerSubIndex(graphSubIndex);
         verify(searchIndex).registerSubIndex(gridSubIndex);
+        verify(searchIndex).registerSubIndex(dataTypesSubIndex);
         verify(searchIndex).setNoResultsFoundCallback(noResultsFoundCallback);
         verify(searchIndex).setSearchClosedCallback(searchClosedCallback);
     }
@@ -193,4 +196,39 @@ public class DMNEditorSearchIndexTest {
 
         assertEquals(expectedElements, actualElements);
     }
+
+    @Test
+    public void testFindSearchResultsWhenDataTypesTabIsActive() {
+
+        when(dataTypesSubIndex.search("term")).thenReturn(expectedElements);
+        searchIndex.setIsDataTypesTabActiveSupplier(() -> true);
+
+        assertEquals(expectedElements, searchIndex.findSearchResults("term"));
+    }
+
+    @Test
+    public void testFindSearchResultsWhenExpressionEditorIsActive() {
+
+        when(expressionEditor.isActive()).thenReturn(true);
+        when(gridSubIndex.search("term")).thenReturn(expectedElements);
+
+        assertEquals(expectedElements, searchIndex.findSearchResults("term"));
+    }
+
+    @Test
+    public void testFindSearchResultsWhenExpressionEditorIsNotActive() {
+
+        when(expressionEditor.isActive()).thenReturn(false);
+        when(graphSubIndex.search("term")).thenReturn(expectedElements);
+
+        assertEquals(expectedElements, searchIndex.findSearchResults("term"));
+    }
+
+    @Test
+    public void testOnDataTypeChanged() {
+
+        searchIndex.onDataTypeChanged(new DataTypeChangedEvent());
+
+        assertTrue(searchIndex.isDirty());
+    }
 }
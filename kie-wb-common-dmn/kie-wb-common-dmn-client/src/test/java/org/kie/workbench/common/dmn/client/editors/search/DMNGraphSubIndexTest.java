@@ -31,15 +31,22 @@ import org.kie.workbench.common.dmn.api.property.dmn.Name;
 import org.kie.workbench.common.dmn.api.property.dmn.Text;
 import org.kie.workbench.common.dmn.client.graph.DMNGraphUtils;
 import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasClearSelectionEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasFocusedShapeEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasSelectionEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.DomainObjectSelectionEvent;
+import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.mockito.Mock;
 import org.uberfire.mocks.EventSourceMock;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -115,6 +122,15 @@ public class DMNGraphSubIndexTest {
     @Mock
     private CanvasHandler canvasHandler;
 
+    @Mock
+    private CanvasHandler otherCanvasHandler;
+
+    @Mock
+    private Diagram diagram;
+
+    @Mock
+    private Diagram otherDiagram;
+
     private String drgElement1String = "DRG Element 1";
 
     private String drgElement2String = "DRG Element 2";
@@ -169,7 +185,8 @@ public class DMNGraphSubIndexTest {
         when(textAnnotation1.getText()).thenReturn(new Text(textAnnotation1String));
         when(textAnnotation2.getText()).thenReturn(new Text(textAnnotation2String));
 
-        when(graphUtils.getNodeStream()).thenReturn(Stream.of(node1, node2, node3, node4, node5, node6));
+        when(graphUtils.getNodeStream()).thenAnswer(invocation -> Stream.of(node1, node2, node3, node4, node5, node6));
+        when(graphUtils.getCurrentGraphDiagram()).thenReturn(diagram);
 
         when(graphUtils.getCanvasHandler()).thenReturn(canvasHandler);
     }
@@ -203,6 +220,99 @@ public class DMNGraphSubIndexTest {
         verify(canvasFocusedSelectionEvent, times(5)).fire(any(CanvasFocusedShapeEvent.class));
     }
 
+    @Test
+    public void testSearch() {
+        assertEquals(asList("DRG Element 2"), getTexts(index.search("element 2")));
+        assertEquals(asList("Text Annotation 1", "Text Annotation 2"), getTexts(index.search("annotation")));
+        assertEquals(emptyList(), getTexts(index.search("Something")));
+    }
+
+    @Test
+    public void testSearchLoadsIndexOncePerDiagram() {
+
+        index.search("element");
+        index.search("annotation");
+
+        verify(graphUtils, times(1)).getNodeStream();
+
+        when(graphUtils.getCurrentGraphDiagram()).thenReturn(otherDiagram);
+        index.search("element");
+
+        verify(graphUtils, times(2)).getNodeStream();
+    }
+
+    @Test
+    public void testOnCanvasElementUpdated() {
+
+        index.search("element");
+        when(drgElement1.getName()).thenReturn(new Name("Renamed"));
+
+        index.onCanvasElementUpdated(new CanvasElementUpdatedEvent(canvasHandler, node1));
+
+        assertEquals(asList("Renamed"), getTexts(index.search("renamed")));
+        assertEquals(asList("DRG Element 2", "DRG Element 3"), getTexts(index.search("DRG")));
+    }
+
+    @Test
+    public void testOnCanvasElementUpdatedWhenCanvasHandlerIsNotCurrent() {
+
+        index.search("element");
+        when(drgElement1.getName()).thenReturn(new Name("Renamed"));
+
+        index.onCanvasElementUpdated(new CanvasElementUpdatedEvent(otherCanvasHandler, node1));
+
+        assertEquals(emptyList(), getTexts(index.search("renamed")));
+    }
+
+    @Test
+    public void testOnCanvasElementAdded() {
+
+        index.search("element");
+        when(node6.getContent()).thenReturn(definition1);
+        when(drgElement1.getName()).thenReturn(new Name("Added"));
+
+        index.onCanvasElementAdded(new CanvasElementAddedEvent(canvasHandler, node6));
+
+        assertEquals(asList("Added"), getTexts(index.search("added")));
+    }
+
+    @Test
+    public void testOnCanvasElementRemoved() {
+
+        index.search("element");
+
+        index.onCanvasElementRemoved(new CanvasElementRemovedEvent(canvasHandler, node2));
+
+        assertEquals(asList("DRG Element 1", "DRG Element 3"), getTexts(index.search("DRG")));
+        verify(graphUtils, times(1)).getNodeStream();
+    }
+
+    @Test
+    public void testOnCanvasElementsClear() {
+
+        index.search("element");
+
+        index.onCanvasElementsClear(new CanvasElementsClearEvent(canvasHandler));
+        index.search("element");
+
+        verify(graphUtils, times(2)).getNodeStream();
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        index.search("element");
+        when(drgElement1.getName()).thenReturn(new Name("Renamed"));
+        when(graphUtils.getNodeStream()).thenAnswer(invocation -> Stream.of(node1, node3, node4, node5, node6));
+
+        index.invalidate();
+
+        assertEquals(asList("Renamed"), getTexts(index.search("renamed")));
+        assertEquals(asList("DRG Element 3"), getTexts(index.search("DRG")));
+        verify(graphUtils, times(2)).getNodeStream();
+        verify(drgElement3, times(2)).getName();
+    }
+
     @Test
     public void testOnNoResultsFound() {
 
@@ -211,4 +321,12 @@ public class DMNGraphSubIndexTest {
         verify(canvasClearSelectionEventEvent).fire(any(CanvasClearSelectionEvent.class));
         verify(domainObjectSelectionEvent).fire(any(DomainObjectSelectionEvent.class));
     }
+
+    private List<String> getTexts(final List<DMNSearchableElement> elements) {
+        return elements
+                .stream()
+                .map(DMNSearchableElement::getText)
+                .sorted()
+                .collect(Collectors.toList());
+    }
 }
@@ -38,6 +38,7 @@ import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -226,6 +227,70 @@ public class DMNGridSubIndexTest {
         verify(dmnGridHelper).highlightCell(1, 0, gridWidget3);
     }
 
+    @Test
+    public void testSearch() {
+
+        final List<DMNSearchableElement> elements = index.search("value 2");
+
+        assertEquals(1, elements.size());
+        assertEquals(cellStringValue2, elements.get(0).getText());
+
+        elements.get(0).onFound().execute();
+
+        verify(dmnGridHelper).highlightCell(0, 1, gridWidget1);
+    }
+
+    @Test
+    public void testSearchReusesIndexUntilInvalidated() {
+
+        assertEquals(7, index.search("cell").size());
+        assertEquals(1, index.search("cell value 5").size());
+
+        verify(gridData3, times(1)).getCell(0, 0);
+
+        doReturn(cell8).when(gridData3).getCell(1, 1);
+        index.invalidate();
+
+        assertEquals(1, index.search("cell value 8").size());
+        assertEquals(8, index.search("cell").size());
+    }
+
+    @Test
+    public void testSearchIndexesChangedCellsOnlyWhenInvalidated() {
+
+        assertEquals(1, index.search("value 1").size());
+
+        when(cellValue1.getValue()).thenReturn("Renamed");
+        index.invalidate();
+
+        assertEquals(0, index.search("value 1").size());
+        assertEquals(1, index.search("renamed").size());
+        verify(cellValue1, times(3)).getValue();
+        verify(cellValue2, times(2)).getValue();
+    }
+
+    @Test
+    public void testSearchRebuildsGridWhenColumnsChange() {
+
+        assertEquals(1, index.search("value 2").size());
+
+        when(gridData1.getColumnCount()).thenReturn(1);
+        index.invalidate();
+
+        assertEquals(0, index.search("value 2").size());
+        assertEquals(1, index.search("value 1").size());
+    }
+
+    @Test
+    public void testSearchDiscardsRemovedGrids() {
+
+        assertEquals(7, index.search("cell").size());
+
+        when(dmnGridHelper.getGridWidgets()).thenReturn(asSet(gridWidget1));
+
+        assertEquals(2, index.search("cell").size());
+    }
+
     @Test
     public void testGetValue() {
 
@@ -305,6 +305,7 @@ public class DataTypeListItemTest {
 
         listItem.expand();
 
+        verify(dataTypeList).materializeSubItems(listItem);
         verify(view).expand();
         verify(dataTypeList).highlightLevel(dragAndDropElement);
     }
@@ -301,6 +301,7 @@ public class DataTypeListTest {
 
         dataTypeList.expandAll();
 
+        verify(dataTypeList).materializeAllItems();
         verify(listItem1).expand();
         verify(listItem2).expand();
         verify(listItem3).expand();
@@ -349,11 +350,12 @@ public class DataTypeListTest {
         final DataType dataType2 = makeDataType("item", "iITem");
         final List<DataType> dataTypes = asList(dataType1, dataType2);
 
-        dataTypeList.makeDataTypeListItems(dataTypes);
+        final List<DataTypeListItem> listItems = dataTypeList.makeDataTypeListItems(dataTypes);
 
-        verify(dataTypeList).makeTreeListItems(eq(dataType1), eq(1));
-        verify(dataTypeList).makeTreeListItems(eq(dataType2), eq(1));
-        verify(dataTypeList, times(2)).makeTreeListItems(any(), anyInt());
+        verify(treeGridItem).setupDataType(dataType1, 1);
+        verify(treeGridItem).setupDataType(dataType2, 1);
+        verify(dataTypeList, never()).makeTreeListItems(any(), anyInt());
+        assertEquals(asList(treeGridItem, treeGridItem), listItems);
     }
 
     @Test
@@ -365,13 +367,185 @@ public class DataTypeListTest {
         final DataType dataType = makeDataType("item", "iITem", subDataType1, subDataType2);
         final List<DataType> dataTypes = singletonList(dataType);
 
-        dataTypeList.makeDataTypeListItems(dataTypes);
+        final List<DataTypeListItem> listItems = dataTypeList.makeDataTypeListItems(dataTypes);
+
+        verify(treeGridItem).setupDataType(dataType, 1);
+        verify(dataTypeList, never()).makeTreeListItems(any(), anyInt());
+        assertEquals(singletonList(treeGridItem), listItems);
+    }
+
+    @Test
+    public void testMakeDataTypeListItemsWithManyTopLevelDataTypes() {
+
+        final List<DataType> subDataTypes = asList(makeDataType("subItem1", "subItemType1"),
+                                                   makeDataType("subItem2", "subItemType2"));
+        final List<DataType> dataTypes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final DataType dataType = makeDataType("uuid" + i, "item" + i, TOP_LEVEL_PARENT_UUID);
+            when(dataType.getSubDataTypes()).thenReturn(subDataTypes);
+            dataTypes.add(dataType);
+        }
+
+        final List<DataTypeListItem> listItems = dataTypeList.makeDataTypeListItems(dataTypes);
+
+        assertEquals(DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE, listItems.size());
+        verify(this.listItems, times(DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE)).get();
+        verify(dataTypeList, never()).makeTreeListItems(any(), anyInt());
+    }
+
+    @Test
+    public void testMaterializeNextTopLevelItems() {
+
+        final int size = DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE * 2 + 20;
+        final List<DataType> dataTypes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final DataType dataType = makeDataType("uuid" + i, "item" + i, TOP_LEVEL_PARENT_UUID);
+            when(dataType.getSubDataTypes()).thenReturn(emptyList());
+            dataTypes.add(dataType);
+        }
+
+        dataTypeList.setListItems(dataTypeList.makeDataTypeListItems(dataTypes));
+        dataTypeList.materializeNextTopLevelItems();
+
+        assertEquals(DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE * 2, dataTypeList.getItems().size());
+        verify(treeGridItem, times(DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE)).collapse();
+        verify(dndListComponent).refreshItemsPosition();
+
+        dataTypeList.materializeNextTopLevelItems();
+        dataTypeList.materializeNextTopLevelItems();
+
+        assertEquals(size, dataTypeList.getItems().size());
+        verify(listItems, times(size)).get();
+        verify(treeGridItem, times(size - DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE)).collapse();
+        verify(dndListComponent, times(2)).refreshItemsPosition();
+    }
+
+    @Test
+    public void testMaterializeAllItemsWithPendingTopLevelItems() {
+
+        final DataType subDataType = makeDataType("subItem", "subItemType");
+        final int size = DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE + 1;
+        final List<DataType> dataTypes = new ArrayList<>();
+        final List<DataTypeListItem> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final DataType dataType = makeDataType("uuid" + i, "item" + i, TOP_LEVEL_PARENT_UUID);
+            final DataTypeListItem listItem = listItem(dataType);
+            when(dataType.getSubDataTypes()).thenReturn(singletonList(subDataType));
+            when(listItem.getLevel()).thenReturn(1);
+            dataTypes.add(dataType);
+            items.add(listItem);
+        }
+        when(listItems.get()).thenReturn(items.get(0), items.subList(1, size).toArray(new DataTypeListItem[0]));
+        doReturn(emptyList()).when(dataTypeList).makeTreeListItems(any(), anyInt());
+
+        dataTypeList.setListItems(dataTypeList.makeDataTypeListItems(dataTypes));
+        dataTypeList.materializeAllItems();
+
+        assertEquals(size, dataTypeList.getItems().size());
+        verify(dataTypeList, times(size)).makeTreeListItems(subDataType, 2);
+    }
+
+    @Test
+    public void testGetExistingDataTypesNamesWithPendingTopLevelItems() {
+
+        final List<DataType> dataTypes = new ArrayList<>();
+        for (int i = 0; i <= DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE; i++) {
+            final DataType dataType = makeDataType("uuid" + i, "item" + i, TOP_LEVEL_PARENT_UUID);
+            when(dataType.getSubDataTypes()).thenReturn(emptyList());
+            when(dataType.isTopLevel()).thenReturn(true);
+            dataTypes.add(dataType);
+        }
+        when(listItems.get()).thenAnswer(invocation -> mock(DataTypeListItem.class));
+
+        final List<DataTypeListItem> items = dataTypeList.makeDataTypeListItems(dataTypes);
+        for (int i = 0; i < items.size(); i++) {
+            when(items.get(i).getDataType()).thenReturn(dataTypes.get(i));
+        }
+        dataTypeList.setListItems(items);
+
+        final List<String> names = dataTypeList.getExistingDataTypesNames();
+
+        assertEquals(DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE + 1, names.size());
+        assertTrue(names.contains("item" + DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE));
+    }
+
+    @Test
+    public void testMaterializeSubItems() {
+
+        final DataType subDataType3 = makeDataType("subItem3", "subItemType3");
+        final DataType subDataType1 = makeDataType("subItem1", "subItemType1");
+        final DataType subDataType2 = makeDataType("subItem2", "subItemType2", subDataType3);
+        final DataType dataType = makeDataType("item", "iITem", subDataType1, subDataType2);
+        final HTMLElement element = mock(HTMLElement.class);
+        final HTMLElement subElement = mock(HTMLElement.class);
+        final DataTypeListItem listItem = listItem(dataType);
+
+        when(listItem.getLevel()).thenReturn(1);
+        when(listItem.getDragAndDropElement()).thenReturn(element);
+        when(treeGridItem.getDragAndDropElement()).thenReturn(subElement);
+        when(listItems.get()).thenReturn(listItem, treeGridItem);
+
+        dataTypeList.setListItems(dataTypeList.makeDataTypeListItems(singletonList(dataType)));
+        dataTypeList.materializeSubItems(listItem);
+        dataTypeList.materializeSubItems(listItem);
 
-        verify(dataTypeList).makeTreeListItems(eq(dataType), eq(1));
         verify(dataTypeList).makeTreeListItems(eq(subDataType1), eq(2));
         verify(dataTypeList).makeTreeListItems(eq(subDataType2), eq(2));
         verify(dataTypeList).makeTreeListItems(eq(subDataType3), eq(3));
-        verify(dataTypeList, times(4)).makeTreeListItems(any(), anyInt());
+        verify(dataTypeList, times(3)).makeTreeListItems(any(), anyInt());
+        verify(dndListComponent).setInitialPositionY(eq(element), htmlElementsCaptor.capture());
+        verify(view).addSubItems(eq(dataType), listItemsCaptor.capture());
+
+        final List<DataTypeListItem> expectedItems = asList(treeGridItem, treeGridItem, treeGridItem);
+
+        assertEquals(asList(subElement, subElement, subElement), htmlElementsCaptor.getValue());
+        assertEquals(expectedItems, listItemsCaptor.getValue());
+        assertEquals(4, dataTypeList.getItems().size());
+    }
+
+    @Test
+    public void testMaterializeSubItemsWhenSubItemsHaveBeenRefreshed() {
+
+        final DataType dataType = makeDataType("item", "iITem", makeDataType("subItem", "subItemType"));
+        final DataTypeListItem listItem = listItem(dataType);
+
+        when(listItems.get()).thenReturn(listItem);
+        doReturn(new ArrayList<>()).when(dataTypeList).getItems();
+
+        dataTypeList.makeDataTypeListItems(singletonList(dataType));
+        dataTypeList.refreshSubItemsFromListItem(listItem, emptyList());
+        dataTypeList.materializeSubItems(listItem);
+
+        verify(view).addSubItems(dataType, emptyList());
+        verify(view, times(1)).addSubItems(any(), anyList());
+    }
+
+    @Test
+    public void testMaterializeAllItems() {
+
+        final DataType dataType1 = makeDataType("001", "item1", TOP_LEVEL_PARENT_UUID);
+        final DataType dataType2 = makeDataType("002", "item2", TOP_LEVEL_PARENT_UUID);
+        final DataType dataType3 = makeDataType("003", "item3", TOP_LEVEL_PARENT_UUID);
+        final DataType subDataType1 = makeDataType("004", "subItem1", "001");
+        final DataType subDataType3 = makeDataType("005", "subItem3", "003");
+        final DataTypeListItem listItem1 = listItem(dataType1);
+        final DataTypeListItem listItem2 = listItem(dataType2);
+        final DataTypeListItem listItem3 = listItem(dataType3);
+
+        when(dataType1.getSubDataTypes()).thenReturn(singletonList(subDataType1));
+        when(dataType3.getSubDataTypes()).thenReturn(singletonList(subDataType3));
+        when(listItems.get()).thenReturn(listItem1, listItem2, listItem3);
+        doReturn(new ArrayList<>()).when(dataTypeList).getItems();
+        doReturn(emptyList()).when(dataTypeList).makeTreeListItems(any(), anyInt());
+
+        dataTypeList.makeDataTypeListItems(asList(dataType1, dataType2, dataType3));
+        dataTypeList.materializeAllItems();
+
+        verify(dataTypeList).materializeSubItems(listItem1);
+        verify(dataTypeList, never()).materializeSubItems(listItem2);
+        verify(dataTypeList).materializeSubItems(listItem3);
+        verify(view).addSubItems(eq(dataType1), anyList());
+        verify(view).addSubItems(eq(dataType3), anyList());
     }
 
     @Test
@@ -794,6 +968,52 @@ public class DataTypeListTest {
         assertEquals(item.get(), tCityName);
     }
 
+    @Test
+    public void testFindItemByDataTypeHashWhenListItemIsNotMaterialized() {
+
+        final DataType tCityName = makeDataType("003", "name", "001");
+        final DataType tCity = makeDataType("001", "tCity", TOP_LEVEL_PARENT_UUID);
+        final DataTypeListItem tCityItem = listItem(tCity);
+        final DataTypeListItem tCityNameItem = listItem(tCityName);
+        final List<DataTypeListItem> items = new ArrayList<>();
+
+        when(tCity.getSubDataTypes()).thenReturn(singletonList(tCityName));
+        when(tCityName.getSubDataTypes()).thenReturn(emptyList());
+        when(listItems.get()).thenReturn(tCityItem, tCityNameItem);
+        doReturn(items).when(dataTypeList).getItems();
+
+        items.addAll(dataTypeList.makeDataTypeListItems(singletonList(tCity)));
+
+        final Optional<DataTypeListItem> item = dataTypeList.findItemByDataTypeHash("tCity.name");
+
+        assertTrue(item.isPresent());
+        assertEquals(tCityNameItem, item.get());
+        verify(dataTypeList).materializeSubItems(tCityItem);
+    }
+
+    @Test
+    public void testFindItemByDataTypeHashWhenTopLevelItemIsPending() {
+
+        final List<DataType> dataTypes = new ArrayList<>();
+        final List<DataTypeListItem> items = new ArrayList<>();
+        for (int i = 0; i <= DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE; i++) {
+            final DataType dataType = makeDataType("uuid" + i, "item" + i, TOP_LEVEL_PARENT_UUID);
+            when(dataType.getSubDataTypes()).thenReturn(emptyList());
+            dataTypes.add(dataType);
+            items.add(listItem(dataType));
+        }
+        final DataTypeListItem lastItem = items.get(DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE);
+        when(listItems.get()).thenReturn(items.get(0), items.subList(1, items.size()).toArray(new DataTypeListItem[0]));
+
+        dataTypeList.setListItems(dataTypeList.makeDataTypeListItems(dataTypes));
+
+        final Optional<DataTypeListItem> item = dataTypeList.findItemByDataTypeHash("item" + DataTypeList.TOP_LEVEL_ITEMS_BATCH_SIZE);
+
+        assertTrue(item.isPresent());
+        assertEquals(lastItem, item.get());
+        verify(dataTypeList).materializeAllTopLevelItems();
+    }
+
     @Test
     public void testFindItemByDataTypeHashWhenListItemIsNotFound() {
 
@@ -171,6 +171,30 @@ public class DataTypeListViewTest {
         verify(view).registerBroadcastForImportJavaClasses();
     }
 
+    @Test
+    public void testOnListItemsScrollWhenTheEndIsClose() {
+
+        listItems.scrollHeight = 2000;
+        listItems.clientHeight = 500;
+        listItems.scrollTop = 1100;
+
+        view.onListItemsScroll();
+
+        verify(presenter).materializeNextTopLevelItems();
+    }
+
+    @Test
+    public void testOnListItemsScrollWhenTheEndIsFar() {
+
+        listItems.scrollHeight = 2000;
+        listItems.clientHeight = 500;
+        listItems.scrollTop = 900;
+
+        view.onListItemsScroll();
+
+        verify(presenter, never()).materializeNextTopLevelItems();
+    }
+
     @Test
     public void testSetupAddButtonReadOnlyStatusWhenIsReadOnly() {
 
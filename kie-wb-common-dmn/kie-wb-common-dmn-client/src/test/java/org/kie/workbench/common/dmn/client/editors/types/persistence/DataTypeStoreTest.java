@@ -25,6 +25,7 @@ import org.kie.workbench.common.dmn.client.editors.types.common.DataType;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -142,6 +143,55 @@ public class DataTypeStoreTest {
         assertNotNull(store.get("567"));
     }
 
+    @Test
+    public void testGetTopLevelDataTypesWhenTopLevelDataTypeIsUnIndexed() {
+
+        final DataType secondDataType = mock(DataType.class);
+        final DataType thirdDataType = mock(DataType.class);
+
+        when(secondDataType.isTopLevel()).thenReturn(true);
+        when(thirdDataType.isTopLevel()).thenReturn(true);
+
+        store.index("789", secondDataType);
+        store.index("012", thirdDataType);
+        store.unIndex("789");
+
+        assertEquals(singletonList(thirdDataType), store.getTopLevelDataTypes());
+    }
+
+    @Test
+    public void testIndexWhenDataTypeIsMovedToAnotherParent() {
+
+        final DataType dataType0 = mock(DataType.class);
+        final DataType dataType1 = mock(DataType.class);
+        final DataType dataType2 = mock(DataType.class);
+
+        when(dataType0.getParentUUID()).thenReturn(TOP_LEVEL_PARENT_UUID);
+        when(dataType0.isTopLevel()).thenReturn(true);
+        when(dataType1.getParentUUID()).thenReturn(TOP_LEVEL_PARENT_UUID);
+        when(dataType1.isTopLevel()).thenReturn(true);
+        when(dataType2.getParentUUID()).thenReturn(TOP_LEVEL_PARENT_UUID);
+        when(dataType2.isTopLevel()).thenReturn(true);
+
+        store.index("0", dataType0);
+        store.index("1", dataType1);
+        store.index("2", dataType2);
+
+        // "2" is moved into "0"
+        when(dataType2.getParentUUID()).thenReturn("0");
+        when(dataType2.isTopLevel()).thenReturn(false);
+        store.index("2", dataType2);
+
+        assertEquals(asList(dataType0, dataType1), store.getTopLevelDataTypes());
+
+        store.unIndex("1");
+        assertNotNull(store.get("2"));
+
+        store.unIndex("0");
+        assertNull(store.get("2"));
+        assertEquals(1, store.size());
+    }
+
     @Test
     public void testAll() {
 
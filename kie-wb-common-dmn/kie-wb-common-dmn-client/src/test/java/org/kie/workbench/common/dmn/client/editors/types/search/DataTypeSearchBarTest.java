@@ -120,6 +120,7 @@ public class DataTypeSearchBarTest {
 
         searchBar.search(keyword);
 
+        verify(dataTypeList).materializeAllItems();
         verify(searchBar).storeDataTypeListPositions();
         verify(dataTypeList).showListItems();
         verify(searchBar).setCurrentSearch(keyword);
@@ -151,6 +152,7 @@ public class DataTypeSearchBarTest {
 
         searchBar.search(keyword);
 
+        verify(dataTypeList, never()).materializeAllItems();
         verify(searchBar).storeDataTypeListPositions();
         verify(dataTypeList).showNoDataTypesFound();
         verify(searchBar, times(2)).setCurrentSearch(keyword);
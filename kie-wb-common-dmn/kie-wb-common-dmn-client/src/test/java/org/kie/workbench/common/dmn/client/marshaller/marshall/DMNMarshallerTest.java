@@ -19,14 +19,20 @@ package org.kie.workbench.common.dmn.client.marshaller.marshall;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.dmn.api.definition.model.DMNDiagram;
 import org.kie.workbench.common.dmn.api.definition.model.DRGElement;
+import org.kie.workbench.common.dmn.api.definition.model.Decision;
+import org.kie.workbench.common.dmn.api.definition.model.DecisionService;
 import org.kie.workbench.common.dmn.api.definition.model.Definitions;
 import org.kie.workbench.common.dmn.api.definition.model.Import;
+import org.kie.workbench.common.dmn.api.definition.model.InputData;
+import org.kie.workbench.common.dmn.api.property.dmn.QName;
+import org.kie.workbench.common.dmn.client.events.EditExpressionEvent;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dc.JSIPoint;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITAuthorityRequirement;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITBusinessKnowledgeModel;
@@ -38,19 +44,30 @@ import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSIT
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITKnowledgeSource;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmndi12.JSIDMNDiagram;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmndi12.JSIDMNEdge;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentWidths;
+import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandExecutedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandUndoneEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
+import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionImpl;
 import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
 import org.kie.workbench.common.stunner.core.graph.content.view.DiscreteConnection;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
 import org.mockito.invocation.InvocationOnMock;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -60,6 +77,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -366,6 +384,169 @@ public class DMNMarshallerTest {
         verify(dmnMarshaller).addNodeToDefinitions(node, definitions);
     }
 
+    @Test
+    public void testGetDMNElementWhenNodeIsUnchanged() {
+
+        final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller());
+        final Definitions definitionsStunnerPojo = new Definitions();
+        final Node<Definition, Edge> node = makeNode("node", new Decision());
+        final JSITDRGElement dmnElement = mock(JSITDRGElement.class);
+        final Consumer<JSITComponentWidths> componentWidthsConsumer = mock(Consumer.class);
+
+        doReturn(dmnElement).when(dmnMarshaller).stunnerToDMN(eq(node), any());
+
+        assertSame(dmnElement, dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer));
+        assertSame(dmnElement, dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer));
+
+        verify(dmnMarshaller).stunnerToDMN(eq(node), any());
+    }
+
+    @Test
+    public void testGetDMNElementWhenNodeIsChanged() {
+
+        final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller());
+        final Definitions definitionsStunnerPojo = new Definitions();
+        final Decision decision = new Decision();
+        final Node<Definition, Edge> node = makeNode("node", decision);
+        final Consumer<JSITComponentWidths> componentWidthsConsumer = mock(Consumer.class);
+
+        doAnswer(i -> mock(JSITDRGElement.class)).when(dmnMarshaller).stunnerToDMN(eq(node), any());
+
+        final JSITDRGElement dmnElement = dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer);
+        decision.getName().setValue("decision");
+
+        assertNotSame(dmnElement, dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer));
+
+        verify(dmnMarshaller, times(2)).stunnerToDMN(eq(node), any());
+    }
+
+    @Test
+    public void testGetDMNElementAfterUnrelatedCommand() {
+
+        final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller());
+        final Definitions definitionsStunnerPojo = new Definitions();
+        final Node<Definition, Edge> node = makeNode("node", new Decision());
+        final Node<Definition, Edge> editedNode = makeNode("editedNode", new Decision());
+        final Consumer<JSITComponentWidths> componentWidthsConsumer = mock(Consumer.class);
+        final EditExpressionEvent editExpressionEvent = mock(EditExpressionEvent.class);
+
+        doAnswer(i -> mock(JSITDRGElement.class)).when(dmnMarshaller).stunnerToDMN(any(), any());
+        when(editExpressionEvent.getNodeUUID()).thenReturn("editedNode");
+
+        final JSITDRGElement dmnElement = dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer);
+        final JSITDRGElement editedDMNElement = dmnMarshaller.getDMNElement(editedNode, definitionsStunnerPojo, componentWidthsConsumer);
+
+        dmnMarshaller.onCanvasCommandExecuted(mock(CanvasCommandExecutedEvent.class));
+        assertSame(dmnElement, dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer));
+        assertSame(editedDMNElement, dmnMarshaller.getDMNElement(editedNode, definitionsStunnerPojo, componentWidthsConsumer));
+
+        dmnMarshaller.onEditExpression(editExpressionEvent);
+        dmnMarshaller.onCanvasCommandExecuted(mock(CanvasCommandExecutedEvent.class));
+        assertSame(dmnElement, dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer));
+        final JSITDRGElement executedDMNElement = dmnMarshaller.getDMNElement(editedNode, definitionsStunnerPojo, componentWidthsConsumer);
+        assertNotSame(editedDMNElement, executedDMNElement);
+
+        dmnMarshaller.onCanvasCommandUndone(mock(CanvasCommandUndoneEvent.class));
+        assertSame(dmnElement, dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer));
+        assertNotSame(executedDMNElement, dmnMarshaller.getDMNElement(editedNode, definitionsStunnerPojo, componentWidthsConsumer));
+
+        verify(dmnMarshaller).stunnerToDMN(eq(node), any());
+        verify(dmnMarshaller, times(3)).stunnerToDMN(eq(editedNode), any());
+    }
+
+    @Test
+    public void testGetDMNElementAfterCanvasElementUpdated() {
+
+        final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller());
+        final Definitions definitionsStunnerPojo = new Definitions();
+        final Node<Definition, Edge> node = makeNode("node", new Decision());
+        final Node<Definition, Edge> updatedNode = makeNode("updatedNode", new Decision());
+        final Consumer<JSITComponentWidths> componentWidthsConsumer = mock(Consumer.class);
+
+        doAnswer(i -> mock(JSITDRGElement.class)).when(dmnMarshaller).stunnerToDMN(any(), any());
+
+        final JSITDRGElement dmnElement = dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer);
+        final JSITDRGElement updatedDMNElement = dmnMarshaller.getDMNElement(updatedNode, definitionsStunnerPojo, componentWidthsConsumer);
+
+        dmnMarshaller.onCanvasElementUpdated(new CanvasElementUpdatedEvent(mock(CanvasHandler.class), updatedNode));
+
+        assertSame(dmnElement, dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer));
+        assertNotSame(updatedDMNElement, dmnMarshaller.getDMNElement(updatedNode, definitionsStunnerPojo, componentWidthsConsumer));
+
+        verify(dmnMarshaller).stunnerToDMN(eq(node), any());
+        verify(dmnMarshaller, times(2)).stunnerToDMN(eq(updatedNode), any());
+    }
+
+    @Test
+    public void testGetDMNElementWhenTypeRefIsRenamed() {
+
+        final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller());
+        final Definitions definitionsStunnerPojo = new Definitions();
+        final Decision decision = new Decision();
+        final Node<Definition, Edge> node = makeNode("node", decision);
+        final Consumer<JSITComponentWidths> componentWidthsConsumer = mock(Consumer.class);
+
+        doAnswer(i -> mock(JSITDRGElement.class)).when(dmnMarshaller).stunnerToDMN(eq(node), any());
+
+        final JSITDRGElement dmnElement = dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer);
+        decision.getVariable().setTypeRef(new QName(QName.NULL_NS_URI, "tPerson"));
+
+        assertNotSame(dmnElement, dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer));
+
+        verify(dmnMarshaller, times(2)).stunnerToDMN(eq(node), any());
+    }
+
+    @Test
+    public void testGetDMNElementWhenNodeIsDecisionService() {
+
+        final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller());
+        final Definitions definitionsStunnerPojo = new Definitions();
+        final Node<Definition, Edge> node = makeNode("node", new DecisionService());
+        final Consumer<JSITComponentWidths> componentWidthsConsumer = mock(Consumer.class);
+
+        doAnswer(i -> mock(JSITDRGElement.class)).when(dmnMarshaller).stunnerToDMN(eq(node), any());
+
+        dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer);
+        dmnMarshaller.getDMNElement(node, definitionsStunnerPojo, componentWidthsConsumer);
+
+        verify(dmnMarshaller, times(2)).stunnerToDMN(eq(node), any());
+    }
+
+    @Test
+    public void testGetNodeVersion() {
+
+        final DMNMarshaller dmnMarshaller = new DMNMarshaller();
+        final Definitions definitionsStunnerPojo = new Definitions();
+        final Decision decision = new Decision();
+        final InputData inputData = new InputData();
+        final Node<Definition, Edge> node = makeNode("node", decision);
+        final Node<Definition, Edge> sourceNode = makeNode("sourceNode", inputData);
+        final Edge edge = new EdgeImpl<>("edge");
+
+        final int version = dmnMarshaller.getNodeVersion(node, definitionsStunnerPojo);
+        assertEquals(version, dmnMarshaller.getNodeVersion(node, definitionsStunnerPojo));
+
+        edge.setSourceNode(sourceNode);
+        edge.setTargetNode(node);
+        node.getInEdges().add(edge);
+        final int versionWithRequirement = dmnMarshaller.getNodeVersion(node, definitionsStunnerPojo);
+        assertNotEquals(version, versionWithRequirement);
+
+        // The element converted from the node only references the required element by its identity
+        inputData.getDescription().setValue("description");
+        assertEquals(versionWithRequirement, dmnMarshaller.getNodeVersion(node, definitionsStunnerPojo));
+
+        inputData.getName().setValue("inputData");
+        assertNotEquals(versionWithRequirement, dmnMarshaller.getNodeVersion(node, definitionsStunnerPojo));
+    }
+
+    private Node<Definition, Edge> makeNode(final String uuid,
+                                            final DRGElement drgElement) {
+        final Node<Definition, Edge> node = new NodeImpl<>(uuid);
+        node.setContent(new DefinitionImpl<>(drgElement));
+        return node;
+    }
+
     private JSITDecision makeDecision(final String id) {
         final JSITDecision decision = mock(JSITDecision.class);
         doReturn(id).when(decision).getId();
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.dmn.client.marshaller.marshall;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDRGElement;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.kie.JSITComponentWidths;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class MarshalledNodeCacheTest {
+
+    private static final String NODE_UUID = "node";
+
+    private static final String OTHER_NODE_UUID = "otherNode";
+
+    private MarshalledNodeCache cache;
+
+    private List<JSITComponentWidths> componentWidths;
+
+    private int conversions;
+
+    @Before
+    public void setup() {
+        cache = new MarshalledNodeCache();
+        componentWidths = new ArrayList<>();
+        conversions = 0;
+    }
+
+    @Test
+    public void testGetWithSameVersion() {
+        final JSITComponentWidths cw = mock(JSITComponentWidths.class);
+        final JSITDRGElement element = cache.get(NODE_UUID, 1, componentWidths::add, converter(cw));
+        cache.evictUnvisited();
+
+        assertSame(element, cache.get(NODE_UUID, 1, componentWidths::add, converter(cw)));
+        assertEquals(1, conversions);
+        assertEquals(asList(cw, cw), componentWidths);
+    }
+
+    @Test
+    public void testGetWithDifferentVersion() {
+        final JSITDRGElement element = cache.get(NODE_UUID, 1, componentWidths::add, converter());
+
+        final JSITDRGElement converted = cache.get(NODE_UUID, 2, componentWidths::add, converter());
+        assertNotSame(element, converted);
+        assertEquals(2, conversions);
+
+        assertSame(converted, cache.get(NODE_UUID, 2, componentWidths::add, converter()));
+        assertEquals(2, conversions);
+    }
+
+    @Test
+    public void testRemove() {
+        final JSITDRGElement element = cache.get(NODE_UUID, 1, componentWidths::add, converter());
+
+        cache.remove(NODE_UUID);
+
+        assertNotSame(element, cache.get(NODE_UUID, 1, componentWidths::add, converter()));
+        assertEquals(2, conversions);
+    }
+
+    @Test
+    public void testEvictUnvisited() {
+        cache.get(NODE_UUID, 1, componentWidths::add, converter());
+        cache.get(OTHER_NODE_UUID, 1, componentWidths::add, converter());
+        cache.evictUnvisited();
+        assertEquals(2, cache.size());
+
+        final JSITDRGElement element = cache.get(NODE_UUID, 1, componentWidths::add, converter());
+        cache.evictUnvisited();
+        assertEquals(1, cache.size());
+        assertSame(element, cache.get(NODE_UUID, 1, componentWidths::add, converter()));
+        assertEquals(2, conversions);
+    }
+
+    private Function<Consumer<JSITComponentWidths>, JSITDRGElement> converter(final JSITComponentWidths... componentWidths) {
+        return consumer -> {
+            conversions++;
+            for (final JSITComponentWidths cw : componentWidths) {
+                consumer.accept(cw);
+            }
+            return mock(JSITDRGElement.class);
+        };
+    }
+}
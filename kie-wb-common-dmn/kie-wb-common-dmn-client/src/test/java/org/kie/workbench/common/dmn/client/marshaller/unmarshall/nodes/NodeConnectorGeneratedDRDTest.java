@@ -0,0 +1,185 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.dmn.client.marshaller.unmarshall.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.xml.namespace.QName;
+
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.dmn.api.definition.model.DRGElement;
+import org.kie.workbench.common.dmn.api.definition.model.InformationRequirement;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dc.JSIPoint;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDMNElement;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITDMNElementReference;
+import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmndi12.JSIDMNEdge;
+import org.kie.workbench.common.stunner.core.api.FactoryManager;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterUtils.getDefinitionId;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Connects the requirements of generated DRDs of increasing size, each requirement with its own edge.
+ */
+@RunWith(LienzoMockitoTestRunner.class)
+public class NodeConnectorGeneratedDRDTest {
+
+    private static final int[] DRD_SIZES = {100, 400};
+    private static final long SEED = 42L;
+    private static final String DIAGRAM_ID = "diagramId";
+    private static final String CONNECTOR_TYPE_ID = getDefinitionId(InformationRequirement.class);
+
+    @Mock
+    private FactoryManager factoryManager;
+
+    private NodeConnector nodeConnector;
+
+    @Before
+    public void setup() {
+        final Edge wbEdge = mock(Edge.class);
+        final Element element = mock(Element.class);
+        when(wbEdge.getContent()).thenReturn(mock(ViewConnector.class));
+        when(element.asEdge()).thenReturn(wbEdge);
+        when(factoryManager.newElement(anyString(), anyString())).thenReturn(element);
+
+        nodeConnector = new NodeConnector(factoryManager);
+    }
+
+    @Test
+    public void testConnectGeneratedDRD() {
+        final GeneratedDRD drd = new GeneratedDRD(200, new Random(SEED));
+
+        drd.connect(nodeConnector);
+
+        assertEquals(drd.requirements.size(),
+                     drd.nodes.stream().mapToInt(node -> node.getInEdges().size()).sum());
+        assertEquals(drd.requirements.size(),
+                     drd.nodes.stream().mapToInt(node -> node.getOutEdges().size()).sum());
+    }
+
+    @Test
+    public void testEdgesAreReadOnceWhenIndexedAndOnceWhenConnected() {
+        for (final int size : DRD_SIZES) {
+            final GeneratedDRD drd = new GeneratedDRD(size, new Random(SEED));
+
+            drd.connect(nodeConnector);
+
+            // Finding the edge of a requirement must not scan the other edges, however many the DRD has
+            for (final JSIDMNEdge edge : drd.edges) {
+                verify(edge, atMost(2)).getDmnElementRef();
+            }
+        }
+    }
+
+    /**
+     * A DRD of decisions, each of them requiring up to three previous decisions, as deep decision chains do.
+     */
+    private static class GeneratedDRD {
+
+        private final List<Node> nodes = new ArrayList<>();
+        private final Map<String, List<NodeEntry>> entriesById = new HashMap<>();
+        private final List<JSIDMNEdge> edges = new ArrayList<>();
+        private final List<Requirement> requirements = new ArrayList<>();
+
+        private GeneratedDRD(final int size,
+                             final Random random) {
+            for (int i = 0; i < size; i++) {
+                final String id = "decision" + i;
+                final DRGElement drgElement = mock(DRGElement.class);
+                final View view = mock(View.class);
+                final NodeEntry nodeEntry = mock(NodeEntry.class);
+                final Node node = new NodeImpl<>(id);
+                when(drgElement.getContentDefinitionId()).thenReturn(id);
+                when(view.getDefinition()).thenReturn(drgElement);
+                node.setContent(view);
+                when(nodeEntry.getNode()).thenReturn(node);
+                nodes.add(node);
+                entriesById.put(id, Collections.singletonList(nodeEntry));
+
+                for (int r = 0; i > 0 && r < Math.min(i, 3); r++) {
+                    addRequirement(node, "decision" + (i - 1 - random.nextInt(Math.min(i, 20))));
+                }
+            }
+            // Edges are serialised in a different order than the requirements
+            Collections.shuffle(edges, random);
+        }
+
+        private void addRequirement(final Node node,
+                                    final String requiredId) {
+            final String id = "requirement" + requirements.size();
+            final JSITDMNElement requirement = mock(JSITDMNElement.class);
+            final JSITDMNElementReference reference = mock(JSITDMNElementReference.class);
+            final JSIDMNEdge edge = mock(JSIDMNEdge.class);
+            when(requirement.getId()).thenReturn(id);
+            when(reference.getHref()).thenReturn("#" + requiredId);
+            when(edge.getDmnElementRef()).thenReturn(new QName("", id));
+            when(edge.getWaypoint()).thenReturn(Arrays.asList(mock(JSIPoint.class), mock(JSIPoint.class)));
+            requirements.add(new Requirement(node, requirement, reference));
+            edges.add(edge);
+        }
+
+        private void connect(final NodeConnector nodeConnector) {
+            final Map<String, JSIDMNEdge> edgesByDMNElementRef = nodeConnector.makeEdgeIndex(edges);
+            for (final Requirement requirement : requirements) {
+                nodeConnector.connectEdgeToNodes(CONNECTOR_TYPE_ID,
+                                                 requirement.requirement,
+                                                 requirement.reference,
+                                                 entriesById,
+                                                 DIAGRAM_ID,
+                                                 edgesByDMNElementRef,
+                                                 true,
+                                                 requirement.node);
+            }
+        }
+    }
+
+    private static class Requirement {
+
+        private final Node node;
+        private final JSITDMNElement requirement;
+        private final JSITDMNElementReference reference;
+
+        private Requirement(final Node node,
+                            final JSITDMNElement requirement,
+                            final JSITDMNElementReference reference) {
+            this.node = node;
+            this.requirement = requirement;
+            this.reference = reference;
+        }
+    }
+}
@@ -94,7 +94,7 @@ public class NodeConnectorTest {
 
     private Map<String, List<NodeEntry>> entriesById = new HashMap<>();
 
-    private List<JSIDMNEdge> edges = new ArrayList<>();
+    private Map<String, JSIDMNEdge> edgesByDMNElementRef = new HashMap<>();
 
     private String diagramId = "diagramId";
 
@@ -129,7 +129,7 @@ public class NodeConnectorTest {
         entriesById.put("123", singletonList(nodeEntry));
         isDMNDIPresent = false;
 
-        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edges, isDMNDIPresent, currentNode);
+        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edgesByDMNElementRef, isDMNDIPresent, currentNode);
 
         verify(nodeConnector).connectWbEdge(eq(connectorTypeId), eq(diagramId), eq(currentNode), eq(requiredNode), eq(newEdge), eq("456"));
     }
@@ -155,10 +155,10 @@ public class NodeConnectorTest {
         doNothing().when(nodeConnector).connectWbEdge(any(), any(), any(), any(), any(), any());
 
         entriesById.put(contentDefinitionId, list);
-        edges.add(existingEdge);
+        edgesByDMNElementRef.put(id, existingEdge);
         isDMNDIPresent = true;
 
-        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edges, isDMNDIPresent, currentNode);
+        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edgesByDMNElementRef, isDMNDIPresent, currentNode);
 
         verify(nodeConnector).connectWbEdge(eq(connectorTypeId), eq(diagramId), eq(currentNode), eq(requiredNode), eq(existingEdge), eq("789"));
         verify(nodeConnector).isEdgeConnectedWithNode(eq(existingEdge), eq(currentNode), eq(list));
@@ -185,10 +185,10 @@ public class NodeConnectorTest {
         doNothing().when(nodeConnector).connectWbEdge(any(), any(), any(), any(), any(), any());
 
         entriesById.put(contentDefinitionId, list);
-        edges.add(existingEdge);
+        edgesByDMNElementRef.put(id, existingEdge);
         isDMNDIPresent = true;
 
-        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edges, isDMNDIPresent, currentNode);
+        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edgesByDMNElementRef, isDMNDIPresent, currentNode);
 
         verify(nodeConnector, never()).connectWbEdge(eq(connectorTypeId), eq(diagramId), eq(currentNode), eq(requiredNode), eq(existingEdge), eq("789"));
         verify(nodeConnector).isEdgeConnectedWithNode(eq(existingEdge), eq(currentNode), eq(list));
@@ -204,7 +204,7 @@ public class NodeConnectorTest {
         entriesById.put("123", singletonList(nodeEntry));
         isDMNDIPresent = true;
 
-        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edges, isDMNDIPresent, currentNode);
+        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edgesByDMNElementRef, isDMNDIPresent, currentNode);
 
         verify(nodeConnector, never()).connectWbEdge(any(), any(), any(), any(), any(), any());
     }
@@ -215,7 +215,7 @@ public class NodeConnectorTest {
         when(jsiDMNElementReference.getHref()).thenReturn("#123");
         entriesById.put("123", new ArrayList<>());
 
-        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edges, isDMNDIPresent, currentNode);
+        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edgesByDMNElementRef, isDMNDIPresent, currentNode);
 
         verify(nodeConnector, never()).connectWbEdge(any(), any(), any(), any(), any(), any());
     }
@@ -225,11 +225,30 @@ public class NodeConnectorTest {
 
         when(jsiDMNElementReference.getHref()).thenReturn("#456");
 
-        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edges, isDMNDIPresent, currentNode);
+        nodeConnector.connectEdgeToNodes(connectorTypeId, jsiDMNElement, jsiDMNElementReference, entriesById, diagramId, edgesByDMNElementRef, isDMNDIPresent, currentNode);
 
         verify(nodeConnector, never()).connectWbEdge(any(), any(), any(), any(), any(), any());
     }
 
+    @Test
+    public void testMakeEdgeIndex() {
+
+        final JSIDMNEdge edge1 = mock(JSIDMNEdge.class);
+        final JSIDMNEdge edge2 = mock(JSIDMNEdge.class);
+        final JSIDMNEdge edge3 = mock(JSIDMNEdge.class);
+        final JSIDMNEdge edge4 = mock(JSIDMNEdge.class);
+
+        when(edge1.getDmnElementRef()).thenReturn(new QName("", "123"));
+        when(edge2.getDmnElementRef()).thenReturn(new QName("", "456"));
+        when(edge3.getDmnElementRef()).thenReturn(new QName("", "123"));
+
+        final Map<String, JSIDMNEdge> index = nodeConnector.makeEdgeIndex(Arrays.asList(edge1, edge2, edge3, edge4));
+
+        assertEquals(2, index.size());
+        assertEquals(edge1, index.get("123"));
+        assertEquals(edge2, index.get("456"));
+    }
+
     @Test
     public void testConnectWbEdge() {
 
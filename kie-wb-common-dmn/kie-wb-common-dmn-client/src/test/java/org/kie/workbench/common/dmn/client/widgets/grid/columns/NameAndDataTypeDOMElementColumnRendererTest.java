@@ -16,9 +16,13 @@
 
 package org.kie.workbench.common.dmn.client.widgets.grid.columns;
 
+import com.ait.lienzo.client.core.shape.Group;
+import com.ait.lienzo.shared.core.types.TextAlign;
 import com.ait.lienzo.test.LienzoMockitoTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.workbench.common.dmn.client.editors.expressions.util.RendererUtils;
+import org.kie.workbench.common.dmn.client.widgets.grid.BaseExpressionGridTheme;
 import org.kie.workbench.common.dmn.client.widgets.grid.columns.factory.TextAreaSingletonDOMElementFactory;
 import org.mockito.Mock;
 import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCell;
@@ -26,6 +30,7 @@ import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCellValue;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(LienzoMockitoTestRunner.class)
@@ -50,4 +55,25 @@ public class NameAndDataTypeDOMElementColumnRendererTest extends BaseNameAndData
         verify(text1).setX(5);
         verify(text1).setY(5);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRenderCellWhenVirtualized() {
+        this.cell = new BaseGridCell<>(new BaseGridCellValue<>(TITLE));
+        renderer.setVirtualized(true);
+
+        final Group group = renderer.renderCell(cell, bodyContext);
+        assertThat(group).isNotNull();
+
+        renderer.getCellPrimitivePool().setVisibleRows(0, 0);
+        assertThat(renderer.renderCell(cell, bodyContext)).isSameAs(group);
+
+        verify(gridRendererTheme).getBodyText();
+        verify(text1).setFontFamily(BaseExpressionGridTheme.FONT_FAMILY_EXPRESSION);
+        verify(text1).setTextAlign(TextAlign.LEFT);
+        verify(text1, times(2)).setText(eq(TITLE));
+        //Positioned when the Text is created and again each time it is rendered
+        verify(text1, times(3)).setX(RendererUtils.EXPRESSION_TEXT_PADDING);
+        verify(text1, times(3)).setY(RendererUtils.EXPRESSION_TEXT_PADDING);
+    }
 }
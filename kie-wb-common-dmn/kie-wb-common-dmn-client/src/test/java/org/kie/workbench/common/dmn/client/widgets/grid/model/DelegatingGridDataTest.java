@@ -386,4 +386,26 @@ public class DelegatingGridDataTest {
 
         verify(delegate, times(1)).getVisibleHeight();
     }
+
+    @Test
+    public void testGetRowOffset() {
+        uiModel.getRowOffset(1);
+
+        verify(delegate).getRowOffset(eq(1));
+    }
+
+    @Test
+    public void testGetRowIndexAt() {
+        uiModel.getRowIndexAt(10.0);
+
+        verify(delegate).getRowIndexAt(eq(10.0));
+    }
+
+    @Test
+    public void testRefreshRowOffsets() {
+        final List<Double> rowHeights = Collections.singletonList(10.0);
+        uiModel.refreshRowOffsets(rowHeights);
+
+        verify(delegate).refreshRowOffsets(eq(rowHeights));
+    }
 }
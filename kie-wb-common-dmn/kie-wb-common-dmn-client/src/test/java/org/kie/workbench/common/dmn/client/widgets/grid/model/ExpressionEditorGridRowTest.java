@@ -47,6 +47,11 @@ public class ExpressionEditorGridRowTest {
         assertThat(row.getHeight()).isEqualTo(DEFAULT_HEIGHT);
     }
 
+    @Test
+    public void testHasDynamicHeight() {
+        assertThat(new ExpressionEditorGridRow().hasDynamicHeight()).isTrue();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testRowLowerThanDefault() {
@@ -52,6 +52,11 @@ public class LiteralExpressionGridRowTest {
         assertThat(row.getHeight()).isEqualTo(DEFAULT_HEIGHT);
     }
 
+    @Test
+    public void testHasDynamicHeight() {
+        assertThat(new LiteralExpressionGridRow().hasDynamicHeight()).isTrue();
+    }
+
     @Test
     public void testGetHeightWithHasDynamicHeightCell() {
         final GridRow row = spy(new LiteralExpressionGridRow());
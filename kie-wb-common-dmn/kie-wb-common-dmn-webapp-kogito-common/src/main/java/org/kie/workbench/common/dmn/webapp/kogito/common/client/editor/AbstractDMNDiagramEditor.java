@@ -191,6 +191,7 @@ public abstract class AbstractDMNDiagramEditor extends MultiPageEditorContainerP
 
     private void setupEditorSearchIndex() {
         editorSearchIndex.setCurrentAssetHashcodeSupplier(stunnerEditor::getCurrentContentHash);
+        editorSearchIndex.setModificationCountSupplier(stunnerEditor::getCurrentModificationCount);
         editorSearchIndex.setIsDataTypesTabActiveSupplier(getIsDataTypesTabActiveSupplier());
     }
 
@@ -41,4 +41,10 @@ public interface FormBuildingService {
      * Engine for it. It uses the {@link FormElementFilter} params to filter form fields if needed.
      */
     FormDefinition generateFormForClassName(String className, FormElementFilter... filters);
+
+    /**
+     * Discards the forms generated so far, so they are generated again the next time they are requested. It must be
+     * called when the translations or the {@link FormDefinitionSettings} used to generate forms change.
+     */
+    void clearCache();
 }
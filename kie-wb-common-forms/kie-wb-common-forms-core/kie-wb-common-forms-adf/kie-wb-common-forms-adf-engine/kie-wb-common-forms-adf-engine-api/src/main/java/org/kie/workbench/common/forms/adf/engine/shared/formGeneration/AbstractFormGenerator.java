@@ -103,6 +103,12 @@ public abstract class AbstractFormGenerator implements FormGenerator {
         return null;
     }
 
+    @Override
+    public boolean isModelDependent(String className) {
+        String prefix = className + ".";
+        return fieldModifierReferences.keySet().stream().anyMatch(fieldName -> fieldName.startsWith(prefix));
+    }
+
     protected FormDefinition generateFormDefinition(FormDefinitionSettings settings,
                                                     Object model,
                                                     FormElementFilter... filters) {
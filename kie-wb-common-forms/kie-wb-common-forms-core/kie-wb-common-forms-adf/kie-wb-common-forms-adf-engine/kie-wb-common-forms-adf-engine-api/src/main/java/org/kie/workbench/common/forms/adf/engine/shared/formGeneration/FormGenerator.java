@@ -42,4 +42,19 @@ public interface FormGenerator {
      * Engine for it. It uses the {@link FormElementFilter} params to filter form fields if needed.
      */
     FormDefinition generateFormForClassName(String className, FormElementFilter... filters);
+
+    /**
+     * Determines if the {@link FormDefinition} generated for a model of the given className depends on the values of
+     * the model, other than through the {@link FormElementFilter} params.
+     */
+    default boolean isModelDependent(String className) {
+        return true;
+    }
+
+    /**
+     * Returns the locale used to translate the generated {@link FormDefinition}s, or null if they aren't translated.
+     */
+    default String getCurrentLocale() {
+        return null;
+    }
 }
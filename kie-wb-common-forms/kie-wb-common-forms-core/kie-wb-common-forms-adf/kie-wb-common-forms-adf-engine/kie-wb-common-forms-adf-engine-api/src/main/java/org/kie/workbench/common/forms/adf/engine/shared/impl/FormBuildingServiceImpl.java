@@ -16,19 +16,38 @@
 
 package org.kie.workbench.common.forms.adf.engine.shared.impl;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.forms.adf.engine.shared.FormBuildingService;
 import org.kie.workbench.common.forms.adf.engine.shared.FormElementFilter;
 import org.kie.workbench.common.forms.adf.engine.shared.formGeneration.FormGenerator;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.relations.IsCRUDDefinition;
 import org.kie.workbench.common.forms.model.FormDefinition;
 
+/**
+ * Generated forms only depend on the model type and on which form elements pass the {@link FormElementFilter}s, so
+ * they are cached and each request gets a copy of the cached form. Copies have their own fields list but share the
+ * field definitions and layout template with the cached form, so those must not be modified. Forms are not cached
+ * when the field status modifiers change their fields for the model values, or when they contain
+ * {@link IsCRUDDefinition} fields, whose columns are completed after generation. The cached forms are discarded when
+ * the locale of the {@link FormGenerator} changes, as their labels are translated to it.
+ */
 @ApplicationScoped
 public class FormBuildingServiceImpl implements FormBuildingService {
 
     protected FormGenerator formGenerator;
 
+    private final Map<String, FormDefinition> forms = new HashMap<>();
+
+    private String formsLocale;
+
     @Inject
     public FormBuildingServiceImpl(FormGenerator formGenerator) {
         this.formGenerator = formGenerator;
@@ -40,7 +59,13 @@ public class FormBuildingServiceImpl implements FormBuildingService {
             throw new IllegalArgumentException("Cannot generate form: Model cannot be null");
         }
 
-        return formGenerator.generateFormForModel(model, filters);
+        String className = model.getClass().getName();
+
+        if (formGenerator.isModelDependent(className)) {
+            return formGenerator.generateFormForModel(model, filters);
+        }
+
+        return getForm(getKey(className, model, filters), () -> formGenerator.generateFormForModel(model, filters));
     }
 
     @Override
@@ -49,7 +74,7 @@ public class FormBuildingServiceImpl implements FormBuildingService {
             throw new IllegalArgumentException("Cannot generate form: Class cannot be null");
         }
 
-        return formGenerator.generateFormForClass(clazz, filters);
+        return getForm(getKey(clazz.getName(), null, filters), () -> formGenerator.generateFormForClass(clazz, filters));
     }
 
     @Override
@@ -58,6 +83,68 @@ public class FormBuildingServiceImpl implements FormBuildingService {
             throw new IllegalArgumentException("Cannot generate form: Class cannot be null");
         }
 
-        return formGenerator.generateFormForClassName(className, filters);
+        return getForm(getKey(className, null, filters), () -> formGenerator.generateFormForClassName(className, filters));
+    }
+
+    @Override
+    public void clearCache() {
+        forms.clear();
+    }
+
+    protected FormDefinition getForm(String key, Supplier<FormDefinition> generator) {
+        String locale = formGenerator.getCurrentLocale();
+
+        if (!Objects.equals(formsLocale, locale)) {
+            clearCache();
+            formsLocale = locale;
+        }
+
+        FormDefinition form = forms.get(key);
+
+        if (form == null) {
+            form = generator.get();
+
+            if (form == null || !isCacheable(form)) {
+                return form;
+            }
+
+            forms.put(key, form);
+        }
+
+        return copyOf(form);
+    }
+
+    /**
+     * Builds the cache key of a form from the model type and the outcome of the filters, which are tested against
+     * the model as the {@link FormGenerator} does. A filter replaces any previous filter for the same element.
+     */
+    @SuppressWarnings("unchecked")
+    static String getKey(String className, Object model, FormElementFilter... filters) {
+        StringBuilder key = new StringBuilder(className);
+
+        if (filters != null) {
+            Map<String, Boolean> outcomes = new TreeMap<>();
+            for (FormElementFilter filter : filters) {
+                outcomes.put(filter.getElementName(), filter.getPredicate().test(model));
+            }
+            outcomes.forEach((elementName, outcome) -> key.append('|').append(elementName).append('=').append(outcome));
+        }
+
+        return key.toString();
+    }
+
+    private static boolean isCacheable(FormDefinition form) {
+        return form.getFields().stream().noneMatch(field -> field instanceof IsCRUDDefinition);
+    }
+
+    private static FormDefinition copyOf(FormDefinition form) {
+        FormDefinition copy = new FormDefinition(form.getModel());
+
+        copy.setId(form.getId());
+        copy.setName(form.getName());
+        copy.getFields().addAll(form.getFields());
+        copy.setLayoutTemplate(form.getLayoutTemplate());
+
+        return copy;
     }
 }
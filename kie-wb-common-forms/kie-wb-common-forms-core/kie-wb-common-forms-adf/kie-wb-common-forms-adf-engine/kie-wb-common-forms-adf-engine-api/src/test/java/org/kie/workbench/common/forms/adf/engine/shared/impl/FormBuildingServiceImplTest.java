@@ -16,15 +16,32 @@
 
 package org.kie.workbench.common.forms.adf.engine.shared.impl;
 
+import java.util.function.Predicate;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.forms.adf.engine.shared.FormBuildingService;
+import org.kie.workbench.common.forms.adf.engine.shared.FormElementFilter;
+import org.kie.workbench.common.forms.adf.engine.shared.formGeneration.model.Address;
 import org.kie.workbench.common.forms.adf.engine.shared.formGeneration.model.Person;
 import org.kie.workbench.common.forms.adf.engine.shared.test.AbstractFormGenerationTest;
 import org.kie.workbench.common.forms.model.FormDefinition;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
 @RunWith(MockitoJUnitRunner.class)
 public class FormBuildingServiceImplTest extends AbstractFormGenerationTest {
 
@@ -35,6 +52,8 @@ public class FormBuildingServiceImplTest extends AbstractFormGenerationTest {
     public void init() {
         super.init();
 
+        generator = spy(generator);
+
         formBuildingService = new FormBuildingServiceImpl(generator);
     }
 
@@ -61,4 +80,117 @@ public class FormBuildingServiceImplTest extends AbstractFormGenerationTest {
         testGeneratedForm(form,
                           Person.class.getName());
     }
+
+    @Test
+    public void testGenerateFormForClassIsCached() {
+        FormDefinition form = formBuildingService.generateFormForClass(Address.class);
+        FormDefinition cached = formBuildingService.generateFormForClass(Address.class);
+
+        testGeneratedForm(cached,
+                          Address.class.getName());
+
+        verify(generator).generateFormForClass(any());
+
+        assertNotSame(form, cached);
+        assertNotSame(form.getFields(), cached.getFields());
+        assertEquals(form.getFields(), cached.getFields());
+        assertSame(form.getLayoutTemplate(), cached.getLayoutTemplate());
+    }
+
+    @Test
+    public void testGenerateFormForClassNameIsCached() {
+        formBuildingService.generateFormForClass(Address.class);
+        FormDefinition form = formBuildingService.generateFormForClassName(Address.class.getName());
+
+        testGeneratedForm(form,
+                          Address.class.getName());
+
+        verify(generator).generateFormForClass(any());
+        verify(generator).generateFormForClassName(anyString());
+    }
+
+    @Test
+    public void testGenerateFormForModelIsCached() {
+        Address address = new Address("Main Street",
+                                      1,
+                                      "Winterfell");
+
+        assertFalse(generator.isModelDependent(Address.class.getName()));
+
+        formBuildingService.generateFormForModel(address);
+        FormDefinition form = formBuildingService.generateFormForModel(address);
+
+        testGeneratedForm(form,
+                          Address.class.getName());
+
+        verify(generator).generateFormForModel(any());
+    }
+
+    @Test
+    public void testGenerateFormForModelWithStatusModifiersIsNotCached() {
+        assertTrue(generator.isModelDependent(Person.class.getName()));
+
+        formBuildingService.generateFormForModel(model);
+        formBuildingService.generateFormForModel(model);
+
+        verify(generator, times(2)).generateFormForModel(any());
+    }
+
+    @Test
+    public void testGenerateFormWithCRUDFieldsIsNotCached() {
+        formBuildingService.generateFormForClass(Person.class);
+        formBuildingService.generateFormForClass(Person.class);
+
+        verify(generator, times(2)).generateFormForClass(any());
+    }
+
+    @Test
+    public void testGenerateFormWithFilters() {
+        FormDefinition filtered = formBuildingService.generateFormForClass(Address.class, hideStreet());
+        FormDefinition form = formBuildingService.generateFormForClass(Address.class);
+
+        assertNull(filtered.getFieldByName("street"));
+        assertEquals(form.getFields().size() - 1, filtered.getFields().size());
+
+        assertNull(formBuildingService.generateFormForClass(Address.class, hideStreet()).getFieldByName("street"));
+        formBuildingService.generateFormForClass(Address.class, new FormElementFilter("street", o -> true));
+
+        verify(generator, times(3)).generateFormForClass(any(), any());
+    }
+
+    @Test
+    public void testModifyGeneratedForm() {
+        FormDefinition form = formBuildingService.generateFormForClass(Address.class);
+        form.getFields().clear();
+
+        testGeneratedForm(formBuildingService.generateFormForClass(Address.class),
+                          Address.class.getName());
+    }
+
+    @Test
+    public void testClearCache() {
+        formBuildingService.generateFormForClass(Address.class);
+        formBuildingService.clearCache();
+        formBuildingService.generateFormForClass(Address.class);
+
+        verify(generator, times(2)).generateFormForClass(any());
+    }
+
+    @Test
+    public void testLocaleChangeClearsCache() {
+        doReturn("en").when(generator).getCurrentLocale();
+        formBuildingService.generateFormForClass(Address.class);
+        formBuildingService.generateFormForClass(Address.class);
+
+        doReturn("es").when(generator).getCurrentLocale();
+        formBuildingService.generateFormForClass(Address.class);
+        formBuildingService.generateFormForClass(Address.class);
+
+        verify(generator, times(2)).generateFormForClass(any());
+    }
+
+    private static FormElementFilter hideStreet() {
+        Predicate<Object> predicate = o -> false;
+        return new FormElementFilter("street", predicate);
+    }
 }
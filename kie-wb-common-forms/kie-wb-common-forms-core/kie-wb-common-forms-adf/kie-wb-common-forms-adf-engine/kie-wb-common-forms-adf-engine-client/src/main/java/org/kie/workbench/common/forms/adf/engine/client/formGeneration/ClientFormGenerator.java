@@ -68,6 +68,11 @@ public class ClientFormGenerator extends AbstractFormGenerator {
                 });
     }
 
+    @Override
+    public String getCurrentLocale() {
+        return TranslationService.currentLocale();
+    }
+
     @Override
     protected I18nHelper getI18nHelper(I18nSettings settings) {
         return new ClientI18nHelper(settings,
@@ -148,6 +148,17 @@ public class StunnerEditor {
         return getCanvasHandler().getDiagram().hashCode();
     }
 
+    /**
+     * Returns the modification count of the session's command registry, which increases on every executed or
+     * undone command. Unlike the content hash, it's computed in constant time.
+     */
+    public long getCurrentModificationCount() {
+        if (isClosed() || !(getSession() instanceof EditorSession)) {
+            return 0;
+        }
+        return ((EditorSession) getSession()).getCommandRegistry().getModificationCount();
+    }
+
     public void handleError(final ClientRuntimeError error) {
         final Throwable e = error.getThrowable();
         if (e instanceof DiagramParsingException) {
@@ -19,6 +19,7 @@ package org.kie.workbench.common.stunner.client.widgets.editor;
 import java.util.function.Consumer;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.appformer.client.stateControl.registry.Registry;
 import org.jboss.errai.ioc.client.api.ManagedInstance;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,10 +28,12 @@ import org.kie.workbench.common.stunner.client.widgets.presenters.session.Sessio
 import org.kie.workbench.common.stunner.client.widgets.presenters.session.impl.SessionEditorPresenter;
 import org.kie.workbench.common.stunner.client.widgets.presenters.session.impl.SessionViewerPresenter;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.command.CanvasViolation;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationService;
 import org.kie.workbench.common.stunner.core.client.service.ClientRuntimeError;
 import org.kie.workbench.common.stunner.core.client.session.impl.EditorSession;
 import org.kie.workbench.common.stunner.core.client.session.impl.ViewerSession;
+import org.kie.workbench.common.stunner.core.command.Command;
 import org.kie.workbench.common.stunner.core.diagram.DiagramImpl;
 import org.kie.workbench.common.stunner.core.diagram.DiagramParsingException;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
@@ -139,6 +142,18 @@ public class StunnerEditorTest {
         assertTrue(tested.isReadOnly());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetCurrentModificationCount() {
+        assertEquals(0, tested.getCurrentModificationCount());
+        final Registry<Command<AbstractCanvasHandler, CanvasViolation>> registry = mock(Registry.class);
+        when(registry.getModificationCount()).thenReturn(5L);
+        when(editorSession.getCommandRegistry()).thenReturn(registry);
+        tested.setReadOnly(false);
+        openSuccess();
+        assertEquals(5, tested.getCurrentModificationCount());
+    }
+
     @Test
     public void testClose() {
         openSuccess();
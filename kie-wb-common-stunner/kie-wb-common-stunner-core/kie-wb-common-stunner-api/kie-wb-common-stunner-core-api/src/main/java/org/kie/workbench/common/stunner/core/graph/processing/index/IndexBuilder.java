@@ -29,6 +29,9 @@ public interface IndexBuilder<G extends Graph<?, N>, N extends Node, E extends E
 
     /**
      * Updates a given index. Can be an expensive call.
+     * Not needed to keep a {@link MutableIndex} in sync with its graph: the graph commands
+     * (e.g. RegisterNodeCommand, DeregisterNodeCommand, AddConnectorCommand) already add and
+     * remove the changed elements incrementally.
      * @param index
      */
     void update(final I index,
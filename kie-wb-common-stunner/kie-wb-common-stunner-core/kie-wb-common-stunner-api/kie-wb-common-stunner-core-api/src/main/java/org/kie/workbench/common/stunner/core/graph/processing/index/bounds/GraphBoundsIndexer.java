@@ -17,6 +17,7 @@
 package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
 
 import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
@@ -24,4 +25,14 @@ import org.kie.workbench.common.stunner.core.graph.content.view.View;
 public interface GraphBoundsIndexer extends NodeBoundsIndexer<Graph<View, Node<View, Edge>>> {
 
     GraphBoundsIndexer setRootUUID(final String uuid);
+
+    /**
+     * Updates the index for the given element and its children, once its position or size changed.
+     */
+    GraphBoundsIndexer update(final Element<?> element);
+
+    /**
+     * Removes the given element from the index.
+     */
+    GraphBoundsIndexer remove(final Element<?> element);
 }
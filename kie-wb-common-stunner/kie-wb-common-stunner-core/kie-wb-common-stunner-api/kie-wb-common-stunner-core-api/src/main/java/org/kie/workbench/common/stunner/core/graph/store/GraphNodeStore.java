@@ -20,4 +20,22 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 
 public interface GraphNodeStore<T extends Node> extends GraphStore<T> {
 
+    /**
+     * Returns the number of stored nodes which labels contain the given one.
+     */
+    default int countLabel(final String label) {
+        int count = 0;
+        for (final T node : this) {
+            if (null != node.getLabels() && node.getLabels().contains(label)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Notifies that the labels of a stored node have been modified.
+     */
+    default void refreshLabels(final T node) {
+    }
 }
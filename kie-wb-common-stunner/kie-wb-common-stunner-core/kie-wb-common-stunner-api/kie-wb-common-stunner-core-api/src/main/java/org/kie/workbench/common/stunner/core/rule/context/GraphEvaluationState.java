@@ -42,6 +42,19 @@ public interface GraphEvaluationState {
     interface CardinalityState {
 
         Iterable<Node> nodes();
+
+        /**
+         * Returns the number of nodes with the given role (label).
+         */
+        default int count(final String role) {
+            int count = 0;
+            for (final Node node : nodes()) {
+                if (null != node.getLabels() && node.getLabels().contains(role)) {
+                    count++;
+                }
+            }
+            return count;
+        }
     }
 
     interface ConnectorCardinalityState {
@@ -31,6 +31,11 @@ import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler
 import org.kie.workbench.common.stunner.core.client.canvas.controls.AbstractCanvasHandlerControl;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.builder.ElementBuilderControl;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.builder.request.ElementBuildRequest;
+import org.kie.workbench.common.stunner.core.client.canvas.event.AbstractCanvasHandlerEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommand;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandFactory;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandManager;
@@ -46,6 +51,7 @@ import org.kie.workbench.common.stunner.core.command.impl.CompositeCommand;
 import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.view.MagnetConnection;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
@@ -77,6 +83,8 @@ public abstract class AbstractElementBuilderControl extends AbstractCanvasHandle
     private final RuleManager ruleManager;
     private final GraphBoundsIndexer graphBoundsIndexer;
     private RequiresCommandManager.CommandManagerProvider<AbstractCanvasHandler> commandManagerProvider;
+    private Graph indexedGraph;
+    private String indexedRootUUID;
 
     public AbstractElementBuilderControl(final ClientDefinitionManager clientDefinitionManager,
                                          final ClientFactoryService clientFactoryServices,
@@ -216,9 +224,41 @@ public abstract class AbstractElementBuilderControl extends AbstractCanvasHandle
     @Override
     protected void doDestroy() {
         graphBoundsIndexer.destroy();
+        indexedGraph = null;
+        indexedRootUUID = null;
         commandManagerProvider = null;
     }
 
+    protected void onCanvasElementAdded(final CanvasElementAddedEvent event) {
+        if (isIndexed(event)) {
+            graphBoundsIndexer.update(event.getElement());
+        }
+    }
+
+    protected void onCanvasElementUpdated(final CanvasElementUpdatedEvent event) {
+        if (isIndexed(event)) {
+            graphBoundsIndexer.update(event.getElement());
+        }
+    }
+
+    protected void onCanvasElementRemoved(final CanvasElementRemovedEvent event) {
+        if (isIndexed(event)) {
+            graphBoundsIndexer.remove(event.getElement());
+        }
+    }
+
+    protected void onCanvasElementsClear(final CanvasElementsClearEvent event) {
+        if (isIndexed(event)) {
+            indexedGraph = null;
+        }
+    }
+
+    private boolean isIndexed(final AbstractCanvasHandlerEvent<?> event) {
+        return null != indexedGraph
+                && null != canvasHandler
+                && canvasHandler.equals(event.getCanvasHandler());
+    }
+
     public void getCommands(final Object definition,
                             final Node<View<?>, Edge> parent,
                             final double x,
@@ -327,7 +367,14 @@ public abstract class AbstractElementBuilderControl extends AbstractCanvasHandle
                                          final double _y) {
         if (_x > -1 && _y > -1) {
             final String rootUUID = canvasHandler.getDiagram().getMetadata().getCanvasRootUUID();
-            graphBoundsIndexer.setRootUUID(rootUUID).build(canvasHandler.getDiagram().getGraph());
+            final Graph graph = canvasHandler.getDiagram().getGraph();
+            // The index is kept up to date by the canvas element events, so just build it once per graph.
+            if (graph != indexedGraph || !Objects.equals(rootUUID,
+                                                         indexedRootUUID)) {
+                graphBoundsIndexer.setRootUUID(rootUUID).build(graph);
+                indexedGraph = graph;
+                indexedRootUUID = rootUUID;
+            }
             final Node<View<?>, Edge> r = graphBoundsIndexer.getAt(_x,
                                                                    _y);
             return r;
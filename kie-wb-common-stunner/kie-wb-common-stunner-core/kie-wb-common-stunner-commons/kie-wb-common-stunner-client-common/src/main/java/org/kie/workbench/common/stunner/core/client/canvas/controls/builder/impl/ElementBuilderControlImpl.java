@@ -17,11 +17,16 @@
 package org.kie.workbench.common.stunner.core.client.canvas.controls.builder.impl;
 
 import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Default;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.client.api.ClientDefinitionManager;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandFactory;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationMessages;
 import org.kie.workbench.common.stunner.core.client.service.ClientFactoryService;
@@ -50,4 +55,20 @@ public class ElementBuilderControlImpl extends AbstractElementBuilderControl {
               translationMessages,
               graphBoundsIndexer);
     }
+
+    void onCanvasElementAddedEvent(final @Observes CanvasElementAddedEvent event) {
+        onCanvasElementAdded(event);
+    }
+
+    void onCanvasElementUpdatedEvent(final @Observes CanvasElementUpdatedEvent event) {
+        onCanvasElementUpdated(event);
+    }
+
+    void onCanvasElementRemovedEvent(final @Observes CanvasElementRemovedEvent event) {
+        onCanvasElementRemoved(event);
+    }
+
+    void onCanvasElementsClearEvent(final @Observes CanvasElementsClearEvent event) {
+        onCanvasElementsClear(event);
+    }
 }
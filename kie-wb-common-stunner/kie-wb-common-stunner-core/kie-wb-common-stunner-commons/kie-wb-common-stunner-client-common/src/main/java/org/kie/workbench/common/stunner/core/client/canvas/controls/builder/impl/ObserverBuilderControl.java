@@ -33,6 +33,10 @@ import org.kie.workbench.common.stunner.core.client.canvas.controls.builder.requ
 import org.kie.workbench.common.stunner.core.client.canvas.controls.builder.request.ElementBuildRequestImpl;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.event.BuildCanvasShapeEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.inlineeditor.InlineTextEditEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasSelectionEvent;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandFactory;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationMessages;
@@ -114,6 +118,22 @@ public class ObserverBuilderControl extends AbstractElementBuilderControl
         }
     }
 
+    void onCanvasElementAddedEvent(final @Observes CanvasElementAddedEvent event) {
+        onCanvasElementAdded(event);
+    }
+
+    void onCanvasElementUpdatedEvent(final @Observes CanvasElementUpdatedEvent event) {
+        onCanvasElementUpdated(event);
+    }
+
+    void onCanvasElementRemovedEvent(final @Observes CanvasElementRemovedEvent event) {
+        onCanvasElementRemoved(event);
+    }
+
+    void onCanvasElementsClearEvent(final @Observes CanvasElementsClearEvent event) {
+        onCanvasElementsClear(event);
+    }
+
     /**
      * Gets canvas transformed location.
      * @param clientX The clientX coordinate value.
@@ -33,6 +33,9 @@ import org.kie.workbench.common.stunner.core.client.canvas.command.AddNodeComman
 import org.kie.workbench.common.stunner.core.client.canvas.command.UpdateDockNodeCommand;
 import org.kie.workbench.common.stunner.core.client.canvas.command.UpdateElementPositionCommand;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.builder.impl.AbstractElementBuilderControl.ParentAssignment;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandFactory;
 import org.kie.workbench.common.stunner.core.client.command.CanvasViolation;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationMessages;
@@ -43,6 +46,7 @@ import org.kie.workbench.common.stunner.core.definition.adapter.DefinitionAdapte
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
@@ -62,11 +66,14 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -127,6 +134,9 @@ public class ElementBuilderControlImplTest {
     @Mock
     private Metadata metadata;
 
+    @Mock
+    private Graph graph;
+
     @Captor
     private ArgumentCaptor<List<Command<AbstractCanvasHandler, CanvasViolation>>> commandsCapture;
 
@@ -262,4 +272,28 @@ public class ElementBuilderControlImplTest {
         verify(canvasCommandFactory).updatePosition(eq(node), positionCaptor.capture());
         assertEquals(positionCaptor.getValue(), new Point2D(X, Y));
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getParentBuildsIndexOncePerGraph() {
+        when(diagram.getGraph()).thenReturn(graph);
+        when(metadata.getCanvasRootUUID()).thenReturn("root");
+        when(graphBoundsIndexer.setRootUUID("root")).thenReturn(graphBoundsIndexer);
+        when(graphBoundsIndexer.getAt(X, Y)).thenReturn(parent);
+
+        assertSame(parent, elementBuilderControl.getParent(X, Y));
+        assertSame(parent, elementBuilderControl.getParent(X, Y));
+        verify(graphBoundsIndexer, times(1)).build(graph);
+
+        elementBuilderControl.onCanvasElementUpdated(new CanvasElementUpdatedEvent(canvasHandler, node));
+        verify(graphBoundsIndexer).update(node);
+        elementBuilderControl.onCanvasElementRemoved(new CanvasElementRemovedEvent(canvasHandler, node));
+        verify(graphBoundsIndexer).remove(node);
+        elementBuilderControl.onCanvasElementUpdated(new CanvasElementUpdatedEvent(mock(AbstractCanvasHandler.class), parent));
+        verify(graphBoundsIndexer, never()).update(parent);
+
+        elementBuilderControl.onCanvasElementsClear(new CanvasElementsClearEvent(canvasHandler));
+        elementBuilderControl.getParent(X, Y);
+        verify(graphBoundsIndexer, times(2)).build(graph);
+    }
+}
@@ -25,10 +25,12 @@ import org.kie.workbench.common.stunner.core.definition.adapter.MorphAdapter;
 import org.kie.workbench.common.stunner.core.definition.morph.MorphDefinition;
 import org.kie.workbench.common.stunner.core.factory.impl.AbstractElementFactory;
 import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
 /**
@@ -100,6 +102,10 @@ public final class MorphNodeCommand extends AbstractGraphCommand {
         for (String label : labels) {
             candidate.getLabels().add(label);
         }
+        final Graph<?, Node> graph = getGraph(context);
+        if (graph instanceof GraphImpl) {
+            ((GraphImpl) graph).refreshLabels(candidate);
+        }
         return results;
     }
 
@@ -67,6 +67,20 @@ public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
         nodeStore.clear();
     }
 
+    /**
+     * Returns the number of nodes in this graph which labels contain the given one.
+     */
+    public int countLabel(final String label) {
+        return nodeStore.countLabel(label);
+    }
+
+    /**
+     * Must be called once the labels of a node that belongs to this graph have been modified.
+     */
+    public void refreshLabels(final Node node) {
+        nodeStore.refreshLabels(node);
+    }
+
     @Override
     public Node<C, Edge> asNode() {
         return null;
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A bounding volume hierarchy over axis aligned rectangles.
+ * <p>
+ * It is bulk loaded by recursively splitting the items along the longest axis of their bounds,
+ * and it can be updated incrementally: changed items are removed from their leaf and inserted again
+ * into the leaf that needs the least enlargement, refitting the bounds of the affected branches.
+ * Leafs that grow too much are split in place.
+ */
+class BoundingVolumeHierarchy<T> {
+
+    static final int LEAF_SIZE = 8;
+
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    private BNode<T> root = new BNode<>(null);
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean contains(final T item) {
+        return entries.containsKey(item);
+    }
+
+    void clear() {
+        entries.clear();
+        root = new BNode<>(null);
+    }
+
+    /**
+     * Replaces the contents of the hierarchy by the given items.
+     * @param items The items to index.
+     * @param boundsProvider Provides the bounds for each item, as [ulX, ulY, lrX, lrY].
+     */
+    void load(final List<T> items,
+              final BoundsProvider<T> boundsProvider) {
+        clear();
+        final List<Entry<T>> loaded = new ArrayList<>(items.size());
+        for (final T item : items) {
+            final double[] b = boundsProvider.getBounds(item);
+            final Entry<T> entry = new Entry<>(item,
+                                               b[0],
+                                               b[1],
+                                               b[2],
+                                               b[3]);
+            entries.put(item,
+                        entry);
+            loaded.add(entry);
+        }
+        root = build(null,
+                     loaded);
+    }
+
+    /**
+     * Adds the item or, if already present, updates its bounds.
+     */
+    void put(final T item,
+             final double ulX,
+             final double ulY,
+             final double lrX,
+             final double lrY) {
+        Entry<T> entry = entries.get(item);
+        if (null != entry) {
+            if (entry.ulX == ulX && entry.ulY == ulY && entry.lrX == lrX && entry.lrY == lrY) {
+                return;
+            }
+            detach(entry);
+            entry.set(ulX,
+                      ulY,
+                      lrX,
+                      lrY);
+        } else {
+            entry = new Entry<>(item,
+                                ulX,
+                                ulY,
+                                lrX,
+                                lrY);
+            entries.put(item,
+                        entry);
+        }
+        attach(entry);
+    }
+
+    boolean remove(final T item) {
+        final Entry<T> entry = entries.remove(item);
+        if (null == entry) {
+            return false;
+        }
+        detach(entry);
+        return true;
+    }
+
+    /**
+     * Visits every item which bounds contain the given point, borders included.
+     */
+    void findAt(final double x,
+                final double y,
+                final Consumer<T> consumer) {
+        find(root,
+             x,
+             y,
+             x,
+             y,
+             consumer);
+    }
+
+    /**
+     * Visits every item which bounds intersect the given area, borders included.
+     */
+    void findIn(final double ulX,
+                final double ulY,
+                final double lrX,
+                final double lrY,
+                final Consumer<T> consumer) {
+        find(root,
+             ulX,
+             ulY,
+             lrX,
+             lrY,
+             consumer);
+    }
+
+    int getDepth() {
+        return depth(root);
+    }
+
+    private static <T> int depth(final BNode<T> node) {
+        if (node.isLeaf()) {
+            return 1;
+        }
+        return 1 + Math.max(depth(node.left),
+                            depth(node.right));
+    }
+
+    private static <T> void find(final BNode<T> node,
+                                 final double ulX,
+                                 final double ulY,
+                                 final double lrX,
+                                 final double lrY,
+                                 final Consumer<T> consumer) {
+        if (!node.intersects(ulX,
+                             ulY,
+                             lrX,
+                             lrY)) {
+            return;
+        }
+        if (node.isLeaf()) {
+            for (final Entry<T> entry : node.entries) {
+                if (entry.intersects(ulX,
+                                     ulY,
+                                     lrX,
+                                     lrY)) {
+                    consumer.accept(entry.item);
+                }
+            }
+        } else {
+            find(node.left,
+                 ulX,
+                 ulY,
+                 lrX,
+                 lrY,
+                 consumer);
+            find(node.right,
+                 ulX,
+                 ulY,
+                 lrX,
+                 lrY,
+                 consumer);
+        }
+    }
+
+    private BNode<T> build(final BNode<T> parent,
+                           final List<Entry<T>> list) {
+        final BNode<T> node = new BNode<>(parent);
+        if (list.size() <= LEAF_SIZE) {
+            node.entries = new ArrayList<>(list);
+            for (final Entry<T> entry : list) {
+                entry.leaf = node;
+            }
+            node.refit();
+            return node;
+        }
+        final Box box = new Box();
+        for (final Entry<T> entry : list) {
+            box.expand(entry);
+        }
+        final boolean horizontal = (box.lrX - box.ulX) >= (box.lrY - box.ulY);
+        final Comparator<Entry<T>> comparator = horizontal ?
+                Comparator.comparingDouble(e -> e.ulX + e.lrX) :
+                Comparator.comparingDouble(e -> e.ulY + e.lrY);
+        list.sort(comparator);
+        final int half = list.size() / 2;
+        node.left = build(node,
+                          new ArrayList<>(list.subList(0,
+                                                       half)));
+        node.right = build(node,
+                           new ArrayList<>(list.subList(half,
+                                                        list.size())));
+        node.refit();
+        return node;
+    }
+
+    private void attach(final Entry<T> entry) {
+        BNode<T> node = root;
+        while (!node.isLeaf()) {
+            final double leftGrowth = node.left.growth(entry);
+            final double rightGrowth = node.right.growth(entry);
+            if (leftGrowth < rightGrowth) {
+                node = node.left;
+            } else if (rightGrowth < leftGrowth) {
+                node = node.right;
+            } else {
+                node = node.left.area() <= node.right.area() ? node.left : node.right;
+            }
+        }
+        node.entries.add(entry);
+        entry.leaf = node;
+        if (node.entries.size() > LEAF_SIZE * 2) {
+            final BNode<T> parent = node.parent;
+            final BNode<T> split = build(parent,
+                                         node.entries);
+            replace(node,
+                    split);
+            refitFrom(parent);
+        } else {
+            refitFrom(node);
+        }
+    }
+
+    private void detach(final Entry<T> entry) {
+        final BNode<T> leaf = entry.leaf;
+        leaf.entries.remove(entry);
+        entry.leaf = null;
+        final BNode<T> parent = leaf.parent;
+        if (leaf.entries.isEmpty() && null != parent) {
+            // Collapse the empty leaf, its sibling takes the parent place.
+            final BNode<T> sibling = parent.left == leaf ? parent.right : parent.left;
+            final BNode<T> grandParent = parent.parent;
+            sibling.parent = grandParent;
+            replace(parent,
+                    sibling);
+            refitFrom(grandParent);
+        } else {
+            refitFrom(leaf);
+        }
+    }
+
+    private void replace(final BNode<T> node,
+                         final BNode<T> by) {
+        final BNode<T> parent = node.parent;
+        if (null == parent) {
+            root = by;
+        } else if (parent.left == node) {
+            parent.left = by;
+        } else {
+            parent.right = by;
+        }
+    }
+
+    private static <T> void refitFrom(BNode<T> node) {
+        while (null != node) {
+            node.refit();
+            node = node.parent;
+        }
+    }
+
+    interface BoundsProvider<T> {
+
+        double[] getBounds(T item);
+    }
+
+    private static class Box {
+
+        double ulX = Double.POSITIVE_INFINITY;
+        double ulY = Double.POSITIVE_INFINITY;
+        double lrX = Double.NEGATIVE_INFINITY;
+        double lrY = Double.NEGATIVE_INFINITY;
+
+        void set(final double ulX,
+                 final double ulY,
+                 final double lrX,
+                 final double lrY) {
+            this.ulX = ulX;
+            this.ulY = ulY;
+            this.lrX = lrX;
+            this.lrY = lrY;
+        }
+
+        void reset() {
+            set(Double.POSITIVE_INFINITY,
+                Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY,
+                Double.NEGATIVE_INFINITY);
+        }
+
+        boolean isEmpty() {
+            return ulX > lrX || ulY > lrY;
+        }
+
+        void expand(final Box other) {
+            ulX = Math.min(ulX,
+                           other.ulX);
+            ulY = Math.min(ulY,
+                           other.ulY);
+            lrX = Math.max(lrX,
+                           other.lrX);
+            lrY = Math.max(lrY,
+                           other.lrY);
+        }
+
+        double area() {
+            return isEmpty() ? 0 : (lrX - ulX) * (lrY - ulY);
+        }
+
+        double growth(final Box other) {
+            if (isEmpty()) {
+                return other.area();
+            }
+            final double w = Math.max(lrX,
+                                      other.lrX) - Math.min(ulX,
+                                                            other.ulX);
+            final double h = Math.max(lrY,
+                                      other.lrY) - Math.min(ulY,
+                                                            other.ulY);
+            return (w * h) - area();
+        }
+
+        boolean intersects(final double ulX,
+                           final double ulY,
+                           final double lrX,
+                           final double lrY) {
+            return this.ulX <= lrX && this.lrX >= ulX && this.ulY <= lrY && this.lrY >= ulY;
+        }
+    }
+
+    private static final class Entry<T> extends Box {
+
+        private final T item;
+        private BNode<T> leaf;
+
+        private Entry(final T item,
+                      final double ulX,
+                      final double ulY,
+                      final double lrX,
+                      final double lrY) {
+            this.item = item;
+            set(ulX,
+                ulY,
+                lrX,
+                lrY);
+        }
+    }
+
+    private static final class BNode<T> extends Box {
+
+        private BNode<T> parent;
+        private BNode<T> left;
+        private BNode<T> right;
+        private List<Entry<T>> entries;
+
+        private BNode(final BNode<T> parent) {
+            this.parent = parent;
+            this.entries = new ArrayList<>();
+        }
+
+        private boolean isLeaf() {
+            return null == left;
+        }
+
+        private void refit() {
+            reset();
+            if (isLeaf()) {
+                for (final Entry<T> entry : entries) {
+                    expand(entry);
+                }
+            } else {
+                expand(left);
+                expand(right);
+            }
+        }
+    }
+}
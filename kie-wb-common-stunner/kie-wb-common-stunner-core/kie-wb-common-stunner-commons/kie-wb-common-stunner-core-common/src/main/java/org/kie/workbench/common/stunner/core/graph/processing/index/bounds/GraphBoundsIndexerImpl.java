@@ -16,7 +16,11 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import javax.enterprise.context.Dependent;
@@ -35,12 +39,25 @@ import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.A
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessor;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 
+/**
+ * Indexes the absolute bounds of the graph nodes into a bounding volume hierarchy, so point and area lookups
+ * do not need to traverse the whole graph.
+ * <p>
+ * The index is built once by {@link #build(Graph)}, using a single children traversal, and it can be updated
+ * incrementally by {@link #update(Element)} and {@link #remove(Element)}. The traversal order of each node is kept,
+ * so lookups resolve overlapping nodes in the same way than a traversal does: the last node visited wins, which
+ * means children win over their parents.
+ */
 @Dependent
 public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
 
     ChildrenTraverseProcessor childrenTraverseProcessor;
     private Graph<View, Node<View, Edge>> graph;
     private String rootUUID = null;
+    private final BoundingVolumeHierarchy<String> index = new BoundingVolumeHierarchy<>();
+    private final Map<String, IndexedNode> indexedNodes = new HashMap<>();
+    private boolean stale = true;
+    private boolean scanned = false;
 
     @Inject
     public GraphBoundsIndexerImpl(final ChildrenTraverseProcessor childrenTraverseProcessor) {
@@ -50,6 +67,40 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     @Override
     public GraphBoundsIndexerImpl build(final Graph<View, Node<View, Edge>> graph) {
         this.graph = graph;
+        this.stale = true;
+        this.scanned = false;
+        return this;
+    }
+
+    @Override
+    public GraphBoundsIndexer update(final Element<?> element) {
+        if (null == graph || stale || null == element || null == element.asNode()) {
+            return this;
+        }
+        final Node<?, ? extends Edge> node = element.asNode();
+        final IndexedNode indexed = indexedNodes.get(node.getUUID());
+        if (null == indexed || !Objects.equals(indexed.parentUUID,
+                                               getParentUUID(node))) {
+            // New nodes or parent changes modify the traversal order, so just rebuild the index on next lookup.
+            stale = true;
+            return this;
+        }
+        final Element<?> parent = GraphUtils.getParent(node);
+        final Point2D parentPosition = null != parent && null != parent.asNode() ?
+                GraphUtils.getComputedPosition(parent.asNode()) :
+                new Point2D(0,
+                            0);
+        updateIndex(node,
+                    parentPosition.getX(),
+                    parentPosition.getY());
+        return this;
+    }
+
+    @Override
+    public GraphBoundsIndexer remove(final Element<?> element) {
+        if (null != element && null != indexedNodes.remove(element.getUUID())) {
+            index.remove(element.getUUID());
+        }
         return this;
     }
 
@@ -143,24 +194,120 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
     @SuppressWarnings("unchecked")
     public Node<View<?>, Edge> findElementAt(final double x,
                                              final double y) {
-        final Node[] result = new Node[1];
-        childrenTraverseProcessor.traverse(graph,
+        if (null == graph) {
+            return null;
+        }
+        if (stale && !scanned) {
+            // Callers that only look up once per build don't pay for building the index.
+            scanned = true;
+            return scanElementAt(x,
+                                 y);
+        }
+        if (stale) {
+            buildIndex();
+        }
+        final IndexedNode[] result = new IndexedNode[1];
+        index.findAt(x,
+                     y,
+                     uuid -> {
+                         final IndexedNode candidate = indexedNodes.get(uuid);
+                         if (null == result[0] || candidate.order > result[0].order) {
+                             result[0] = candidate;
+                         }
+                     });
+        return null != result[0] ? (Node) result[0].node : getRootNode();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<View<?>, Edge> scanElementAt(final double x,
+                                              final double y) {
+        final Node[] result = new Node[]{getRootNode()};
+        childrenTraverseProcessor
+                .setRootUUID(null)
+                .traverse(graph,
+                          new GraphBoundIndexerTraverseCallback(new NodeBoundsTraverseCallback() {
+
+                              @Override
+                              public void onNodeTraverse(final Node<View, Edge> node,
+                                                         final double parentX,
+                                                         final double parentY) {
+                                  final double[] bounds = getNodeAbsoluteCoordinates(node,
+                                                                                     parentX,
+                                                                                     parentY);
+                                  if (x >= bounds[0] && x <= bounds[2] &&
+                                          y >= bounds[1] && y <= bounds[3]) {
+                                      result[0] = node;
+                                  }
+                              }
+                          }));
+        return result[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<View<?>, Edge> getRootNode() {
+        // The root node is always considered to be at any location.
+        return null != rootUUID ? (Node) graph.getNode(rootUUID) : null;
+    }
+
+    private void buildIndex() {
+        indexedNodes.clear();
+        index.clear();
+        stale = false;
+        final List<String> uuids = new ArrayList<>();
+        childrenTraverseProcessor
+                .setRootUUID(null)
+                .traverse(graph,
                                            new GraphBoundIndexerTraverseCallback(new NodeBoundsTraverseCallback() {
 
                                                @Override
                                                public void onNodeTraverse(final Node<View, Edge> node,
                                                                           final double parentX,
                                                                           final double parentY) {
-                                                   if (isNodeAt(node,
-                                                                parentX,
-                                                                parentY,
-                                                                x,
-                                                                y)) {
-                                                       result[0] = node;
-                                                   }
+                                                   final String uuid = node.getUUID();
+                                                   indexedNodes.put(uuid,
+                                                                    new IndexedNode(node,
+                                                                                    uuids.size(),
+                                                                                    getParentUUID(node),
+                                                                                    getNodeAbsoluteCoordinates(node,
+                                                                                                               parentX,
+                                                                                                               parentY)));
+                                                   uuids.add(uuid);
                                                }
                                            }));
-        return result[0];
+        index.load(uuids,
+                   uuid -> indexedNodes.get(uuid).bounds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateIndex(final Node<?, ? extends Edge> node,
+                             final double parentX,
+                             final double parentY) {
+        final IndexedNode indexed = indexedNodes.get(node.getUUID());
+        if (null == indexed || !(node.getContent() instanceof View)) {
+            stale = true;
+            return;
+        }
+        indexed.bounds = getNodeAbsoluteCoordinates(node,
+                                                    parentX,
+                                                    parentY);
+        index.put(node.getUUID(),
+                  indexed.bounds[0],
+                  indexed.bounds[1],
+                  indexed.bounds[2],
+                  indexed.bounds[3]);
+        final Point2D position = GraphUtils.getPosition((View) node.getContent());
+        for (final Edge edge : node.getOutEdges()) {
+            if (edge.getContent() instanceof Child && null != edge.getTargetNode()) {
+                updateIndex(edge.getTargetNode(),
+                            parentX + position.getX(),
+                            parentY + position.getY());
+            }
+        }
+    }
+
+    private static String getParentUUID(final Node<?, ? extends Edge> node) {
+        final Element<?> parent = GraphUtils.getParent(node);
+        return null != parent ? parent.getUUID() : null;
     }
 
     private Point2D getNodeCoordinates(final Node node) {
@@ -188,31 +335,11 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
         return new double[]{ulX, ulY, lrX, lrY};
     }
 
-    private boolean isNodeAt(final Node node,
-                             final double parentX,
-                             final double parentY,
-                             final double mouseX,
-                             final double mouseY) {
-        if (null != rootUUID && node.getUUID().equals(rootUUID)) {
-            return true;
-        }
-        final double[] absoluteCoords = getNodeAbsoluteCoordinates(node,
-                                                                   parentX,
-                                                                   parentY);
-        final double ulX = absoluteCoords[0];
-        final double ulY = absoluteCoords[1];
-        final double lrX = absoluteCoords[2];
-        final double lrY = absoluteCoords[3];
-        if (mouseX >= ulX && mouseX <= lrX &&
-                mouseY >= ulY && mouseY <= lrY) {
-            return true;
-        }
-        return false;
-    }
-
     @Override
     public GraphBoundsIndexer setRootUUID(final String uuid) {
         this.rootUUID = uuid;
+        this.stale = true;
+        this.scanned = false;
         return this;
     }
 
@@ -221,6 +348,28 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
         this.graph = null;
         this.rootUUID = null;
         this.childrenTraverseProcessor = null;
+        this.index.clear();
+        this.indexedNodes.clear();
+        this.stale = true;
+        this.scanned = false;
+    }
+
+    private static class IndexedNode {
+
+        private final Node<?, ? extends Edge> node;
+        private final int order;
+        private final String parentUUID;
+        private double[] bounds;
+
+        private IndexedNode(final Node<?, ? extends Edge> node,
+                            final int order,
+                            final String parentUUID,
+                            final double[] bounds) {
+            this.node = node;
+            this.order = order;
+            this.parentUUID = parentUUID;
+            this.bounds = bounds;
+        }
     }
 
     private abstract class NodeBoundsTraverseCallback {
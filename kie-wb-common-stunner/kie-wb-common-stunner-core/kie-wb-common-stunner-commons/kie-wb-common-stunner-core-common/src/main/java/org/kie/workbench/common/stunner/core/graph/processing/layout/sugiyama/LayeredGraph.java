@@ -37,6 +37,8 @@ public class LayeredGraph implements ReorderedGraph {
     private final List<GraphLayer> layers;
     private final HashMap<String, Integer> verticesWidth;
     private final HashMap<String, Integer> verticesHeight;
+    private final HashSet<String> addedVertices;
+    private final HashMap<String, HashSet<String>> addedEdges;
     int DEFAULT_VERTEX_WIDTH = 100;
     int DEFAULT_VERTEX_HEIGHT = 50;
 
@@ -49,6 +51,8 @@ public class LayeredGraph implements ReorderedGraph {
         this.layers = new ArrayList<>();
         this.verticesWidth = new HashMap<>();
         this.verticesHeight = new HashMap<>();
+        this.addedVertices = new HashSet<>();
+        this.addedEdges = new HashMap<>();
     }
 
     /**
@@ -67,16 +71,20 @@ public class LayeredGraph implements ReorderedGraph {
         addEdge(new OrientedEdgeImpl(from, to));
     }
 
+    /**
+     * Adds an edge, and its vertices, if it has not been added before.
+     * @param edge The edge.
+     */
     public void addEdge(final OrientedEdgeImpl edge) {
-        if (!this.edges.contains(edge)) {
+        if (this.addedEdges.computeIfAbsent(edge.getFromVertexId(), v -> new HashSet<>()).add(edge.getToVertexId())) {
             this.edges.add(edge);
         }
 
-        if (!this.vertices.contains(edge.getFromVertexId())) {
+        if (this.addedVertices.add(edge.getFromVertexId())) {
             this.vertices.add(edge.getFromVertexId());
         }
 
-        if (!this.vertices.contains(edge.getToVertexId())) {
+        if (this.addedVertices.add(edge.getToVertexId())) {
             this.vertices.add(edge.getToVertexId());
         }
     }
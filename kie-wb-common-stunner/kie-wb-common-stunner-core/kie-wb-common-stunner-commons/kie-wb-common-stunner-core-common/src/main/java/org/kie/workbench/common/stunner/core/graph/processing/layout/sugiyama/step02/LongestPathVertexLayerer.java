@@ -16,8 +16,8 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step02;
 
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
@@ -28,6 +28,7 @@ import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayerImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.LayeredGraph;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
 
 /**
  * Assign each vertex in a graph to a layer, using the longest path algorithm.
@@ -37,10 +38,14 @@ public final class LongestPathVertexLayerer implements VertexLayerer {
 
     private Vertex[] vertices;
     private final HashMap<String, Integer> vertexHeight;
+    private final HashMap<String, Vertex> verticesById;
+    private final HashMap<String, HashSet<String>> verticesFrom;
     private LayeredGraph graph;
 
     public LongestPathVertexLayerer() {
         this.vertexHeight = new HashMap<>();
+        this.verticesById = new HashMap<>();
+        this.verticesFrom = new HashMap<>();
     }
 
     /**
@@ -56,11 +61,19 @@ public final class LongestPathVertexLayerer implements VertexLayerer {
             final String v = this.graph.getVertices().get(i);
             this.vertices[i] = new Vertex(v);
             this.vertexHeight.put(v, -1);
+            this.verticesById.putIfAbsent(v, this.vertices[i]);
+        }
+
+        for (final OrientedEdge edge : this.graph.getEdges()) {
+            this.verticesFrom.computeIfAbsent(edge.getFromVertexId(), v -> new HashSet<>()).add(edge.getToVertexId());
         }
 
         for (final Vertex vertex : this.vertices) {
             visit(vertex);
         }
+
+        this.verticesById.clear();
+        this.verticesFrom.clear();
     }
 
     private int visit(final Vertex vertex) {
@@ -71,15 +84,13 @@ public final class LongestPathVertexLayerer implements VertexLayerer {
 
         int maxHeight = 1;
 
-        final String[] verticesFromHere = graph.getVerticesFrom(vertex.getId());
+        final HashSet<String> verticesFromHere = this.verticesFrom.getOrDefault(vertex.getId(), new HashSet<>());
         for (final String nextVertex : verticesFromHere) {
             if (!Objects.equals(nextVertex, vertex.getId())) {
-                final Vertex next = Arrays.stream(this.vertices)
-                        .filter(f -> Objects.equals(f.getId(), nextVertex))
-                        .findFirst()
-                        .orElseThrow(() -> new NoSuchElementException(
-                                "Can not found the vertex pointed in other side of the OrientedEdge."
-                        ));
+                final Vertex next = this.verticesById.get(nextVertex);
+                if (next == null) {
+                    throw new NoSuchElementException("Can not found the vertex pointed in other side of the OrientedEdge.");
+                }
 
                 final int targetHeight = visit(next);
                 maxHeight = Math.max(maxHeight, targetHeight + 1);
@@ -17,9 +17,12 @@
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Objects;
+import java.util.Set;
 
 import javax.enterprise.inject.Default;
 import javax.inject.Inject;
@@ -31,10 +34,12 @@ import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.Gr
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.LayeredGraph;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * Order vertices inside layers trying to reduce crossing between edges.
+ * <p>
+ * The ordering is improved iteratively until the edges crossing converges, that is, when an iteration does not
+ * reduce it any more or there are no crossings left, or until the time budget, if any, is exhausted. The best
+ * order found so far is kept.
  */
 @Default
 public final class DefaultVertexOrdering implements VertexOrdering {
@@ -49,6 +54,8 @@ public final class DefaultVertexOrdering implements VertexOrdering {
      */
     private static final int MAX_ITERATIONS = 24;
 
+    private long timeBudget = 0;
+
     /**
      * Default constructor.
      * @param vertexPositioning The strategy to find the position of the vertices inside a layer.
@@ -64,16 +71,32 @@ public final class DefaultVertexOrdering implements VertexOrdering {
         this.verticesTransposer = verticesTransposer;
     }
 
+    /**
+     * Sets the wall-clock time spent iterating to reduce the edges crossing. When the budget is exhausted the
+     * transposing pass in progress completes, and the best order found so far is kept.
+     * @param timeBudget The time budget, in milliseconds. Zero or negative, the default, for no time limit.
+     */
+    public void setTimeBudget(final long timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    public long getTimeBudget() {
+        return timeBudget;
+    }
+
     /**
      * Reorder the vertices to reduce edges crossing.
      * @param graph The graph.
      */
     @Override
     public void orderVertices(final ReorderedGraph graph) {
+        final long start = System.currentTimeMillis();
+        final long deadline = timeBudget > 0 ? start + timeBudget : 0;
         final LayeredGraph layered = (LayeredGraph) graph;
         final List<OrientedEdge> edges = graph.getEdges();
         final List<GraphLayer> virtualized = createVirtual(edges, layered);
         List<GraphLayer> best = clone(virtualized);
+        int bestCrossing = this.crossingCount.crossing(best, edges);
 
         final Object[][] nestedBestRanks = new Object[virtualized.size()][];
         // Starts with the current order
@@ -85,14 +108,20 @@ public final class DefaultVertexOrdering implements VertexOrdering {
             }
         }
 
-        for (int i = 0; i < MAX_ITERATIONS; i++) {
+        for (int i = 0; i < MAX_ITERATIONS && bestCrossing > 0; i++) {
             this.vertexPositioning.positionVertices(virtualized, edges, i);
-            this.verticesTransposer.transpose(virtualized, edges, i);
-            if (this.crossingCount.crossing(best, edges) > this.crossingCount.crossing(virtualized, edges)) {
+            this.verticesTransposer.transpose(virtualized, edges, i, deadline);
+            final int crossing = this.crossingCount.crossing(virtualized, edges);
+            if (bestCrossing > crossing) {
                 best = clone(virtualized);
+                bestCrossing = crossing;
             } else {
                 break;
             }
+
+            if (deadline > 0 && System.currentTimeMillis() >= deadline) {
+                break;
+            }
         }
 
         layered.getLayers().clear();
@@ -117,55 +146,111 @@ public final class DefaultVertexOrdering implements VertexOrdering {
                                            final LayeredGraph graph) {
         int virtualIndex = 0;
         final List<GraphLayer> virtualized = clone(graph.getLayers());
+        final Map<String, Integer> layerNumbers = new HashMap<>();
+        for (final GraphLayer layer : virtualized) {
+            for (final Vertex vertex : layer.getVertices()) {
+                layerNumbers.putIfAbsent(vertex.getId(), layer.getLevel());
+            }
+        }
+
+        // Edges are indexed by vertex, and the edges list is updated at the end, keeping its order.
+        final List<OrientedEdge> allEdges = new ArrayList<>(edges);
+        final Set<Integer> removedEdges = new HashSet<>();
+        final Map<String, List<Integer>> outgoingEdges = new HashMap<>();
+        final Map<String, List<Integer>> incomingEdges = new HashMap<>();
+        for (int i = 0; i < allEdges.size(); i++) {
+            indexEdge(i, allEdges.get(i), outgoingEdges, incomingEdges);
+        }
 
         for (int i = 0; i < virtualized.size() - 1; i++) {
             final GraphLayer currentLayer = virtualized.get(i);
             final GraphLayer nextLayer = virtualized.get(i + 1);
             for (final Vertex vertex : currentLayer.getVertices()) {
+                final int layerNumber = getLayerNumber(vertex.getId(), layerNumbers);
 
-                final List<OrientedEdge> outgoing = edges.stream()
-                        .filter(e -> Objects.equals(e.getFromVertexId(), vertex.getId()))
-                        .filter(e -> Math.abs(getLayerNumber(e.getToVertexId(), virtualized) - getLayerNumber(vertex.getId(), virtualized)) > 1)
-                        .collect(toList());
+                final List<Integer> outgoing = new ArrayList<>();
+                for (final Integer e : outgoingEdges.getOrDefault(vertex.getId(), new ArrayList<>())) {
+                    if (Math.abs(getLayerNumber(allEdges.get(e).getToVertexId(), layerNumbers) - layerNumber) > 1) {
+                        outgoing.add(e);
+                    }
+                }
 
-                final List<OrientedEdge> incoming = edges.stream()
-                        .filter(e -> Objects.equals(e.getToVertexId(), vertex.getId()))
-                        .filter(e -> Math.abs(getLayerNumber(e.getFromVertexId(), virtualized) - getLayerNumber(vertex.getId(), virtualized)) > 1)
-                        .collect(toList());
+                final List<Integer> incoming = new ArrayList<>();
+                for (final Integer e : incomingEdges.getOrDefault(vertex.getId(), new ArrayList<>())) {
+                    if (Math.abs(getLayerNumber(allEdges.get(e).getFromVertexId(), layerNumbers) - layerNumber) > 1) {
+                        incoming.add(e);
+                    }
+                }
 
-                for (final OrientedEdge edge : outgoing) {
+                for (final Integer e : outgoing) {
+                    final OrientedEdge edge = allEdges.get(e);
                     final Vertex virtualVertex = new Vertex("V" + virtualIndex++, true);
                     nextLayer.getVertices().add(virtualVertex);
-                    edges.remove(edge);
+                    layerNumbers.putIfAbsent(virtualVertex.getId(), nextLayer.getLevel());
+                    removeEdge(e, edge, removedEdges, outgoingEdges, incomingEdges);
                     final OrientedEdge v1 = new OrientedEdgeImpl(edge.getFromVertexId(), virtualVertex.getId());
                     final OrientedEdge v2 = new OrientedEdgeImpl(virtualVertex.getId(), edge.getToVertexId());
-                    edges.add(v1);
-                    edges.add(v2);
+                    addEdge(v1, allEdges, outgoingEdges, incomingEdges);
+                    addEdge(v2, allEdges, outgoingEdges, incomingEdges);
                 }
 
-                for (final OrientedEdge edge : incoming) {
+                for (final Integer e : incoming) {
+                    final OrientedEdge edge = allEdges.get(e);
                     final Vertex virtualVertex = new Vertex("V" + virtualIndex++, true);
                     nextLayer.getVertices().add(virtualVertex);
-                    edges.remove(edge);
+                    layerNumbers.putIfAbsent(virtualVertex.getId(), nextLayer.getLevel());
+                    removeEdge(e, edge, removedEdges, outgoingEdges, incomingEdges);
                     final OrientedEdge v1 = new OrientedEdgeImpl(virtualVertex.getId(), edge.getToVertexId());
                     final OrientedEdge v2 = new OrientedEdgeImpl(edge.getFromVertexId(), virtualVertex.getId());
-                    edges.add(v1);
-                    edges.add(v2);
+                    addEdge(v1, allEdges, outgoingEdges, incomingEdges);
+                    addEdge(v2, allEdges, outgoingEdges, incomingEdges);
                 }
             }
         }
 
+        edges.clear();
+        for (int i = 0; i < allEdges.size(); i++) {
+            if (!removedEdges.contains(i)) {
+                edges.add(allEdges.get(i));
+            }
+        }
+
         return virtualized;
     }
 
+    private static void indexEdge(final int index,
+                                  final OrientedEdge edge,
+                                  final Map<String, List<Integer>> outgoingEdges,
+                                  final Map<String, List<Integer>> incomingEdges) {
+        outgoingEdges.computeIfAbsent(edge.getFromVertexId(), v -> new ArrayList<>()).add(index);
+        incomingEdges.computeIfAbsent(edge.getToVertexId(), v -> new ArrayList<>()).add(index);
+    }
+
+    private static void addEdge(final OrientedEdge edge,
+                                final List<OrientedEdge> allEdges,
+                                final Map<String, List<Integer>> outgoingEdges,
+                                final Map<String, List<Integer>> incomingEdges) {
+        allEdges.add(edge);
+        indexEdge(allEdges.size() - 1, edge, outgoingEdges, incomingEdges);
+    }
+
+    private static void removeEdge(final Integer index,
+                                   final OrientedEdge edge,
+                                   final Set<Integer> removedEdges,
+                                   final Map<String, List<Integer>> outgoingEdges,
+                                   final Map<String, List<Integer>> incomingEdges) {
+        removedEdges.add(index);
+        outgoingEdges.get(edge.getFromVertexId()).remove(index);
+        incomingEdges.get(edge.getToVertexId()).remove(index);
+    }
+
     private int getLayerNumber(final String vertex,
-                               final List<GraphLayer> layers) {
-        final GraphLayer layer = layers
-                .stream()
-                .filter(l -> l.getVertices().stream().anyMatch(v -> Objects.equals(v.getId(), vertex)))
-                .findFirst()
-                .orElseThrow(() -> new NoSuchElementException("Can not found the layer of the vertex."));
-
-        return layer.getLevel();
+                               final Map<String, Integer> layerNumbers) {
+        final Integer layerNumber = layerNumbers.get(vertex);
+        if (layerNumber == null) {
+            throw new NoSuchElementException("Can not found the layer of the vertex.");
+        }
+
+        return layerNumber;
     }
-}
\ No newline at end of file
+}
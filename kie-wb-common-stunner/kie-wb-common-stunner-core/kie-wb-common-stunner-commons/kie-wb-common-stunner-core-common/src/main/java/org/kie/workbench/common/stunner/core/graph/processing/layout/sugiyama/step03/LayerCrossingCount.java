@@ -16,9 +16,8 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
@@ -43,8 +42,14 @@ public class LayerCrossingCount {
     public int crossing(final List<OrientedEdge> edges,
                         final GraphLayer north,
                         final GraphLayer south) {
+        return crossing(new LinkedVerticesIndex(edges), north, south);
+    }
+
+    int crossing(final LinkedVerticesIndex linkedVertices,
+                 final GraphLayer north,
+                 final GraphLayer south) {
 
-        final Object[] entries = flat(edges, north, south);
+        final int[] entries = flat(linkedVertices, north, south);
 
         int firstIndex = 1;
         while (firstIndex < south.getVertices().size()) {
@@ -56,11 +61,8 @@ public class LayerCrossingCount {
 
         int crossings = 0;
 
-        for (final Object entry : entries) {
-            int index = ((Integer) entry) + firstIndex;
-            if (index < 0) {
-                continue;
-            }
+        for (final int entry : entries) {
+            int index = entry + firstIndex;
             tree[index] += DEFAULT_VERTEX_WEIGHT;
             int weightSum = 0;
             while (index > 0) {
@@ -84,33 +86,57 @@ public class LayerCrossingCount {
      */
     int crossing(final List<GraphLayer> layers,
                  final List<OrientedEdge> edges) {
+        final LinkedVerticesIndex linkedVertices = new LinkedVerticesIndex(edges);
         int crossingCount = 0;
         for (int i = 1; i < layers.size(); i++) {
-            crossingCount += crossing(edges, layers.get(i - 1), layers.get(i));
+            crossingCount += crossing(linkedVertices, layers.get(i - 1), layers.get(i));
         }
         return crossingCount;
     }
 
-    private Object[] flat(final List<OrientedEdge> edges,
-                          final GraphLayer north,
-                          final GraphLayer south) {
-
-        final ArrayList<String> southPos = new ArrayList<>(south.getVertices().size());
-        for (int i = 0; i < south.getVertices().size(); i++) {
-            southPos.add(south.getVertices().get(i).getId());
+    /**
+     * Counts the edges crossing between the edges of two neighbouring vertices, when the first vertex is
+     * placed before the second one.
+     * @param first The positions of the vertices linked to the first vertex in the other layer, sorted.
+     * @param second The positions of the vertices linked to the second vertex in the other layer, sorted.
+     * @return The total of edges crossing.
+     */
+    int crossing(final int[] first,
+                 final int[] second) {
+        int crossings = 0;
+        int j = 0;
+        for (final int position : first) {
+            while (j < second.length && second[j] < position) {
+                j++;
+            }
+            crossings += j;
         }
+        return crossings;
+    }
 
-        return north.getVertices().stream().flatMap(v -> {
-            List<OrientedEdge> connectedEdges = edges.stream()
-                    .filter(e -> (e.getToVertexId().equals(v.getId()) || e.getFromVertexId().equals(v.getId())))
-                    .collect(Collectors.toList());
+    /**
+     * Flattens the edges between two layers, as the positions in the south layer of the vertices linked to
+     * each vertex of the north layer. Edges linked to vertices of other layers are ignored.
+     */
+    private int[] flat(final LinkedVerticesIndex linkedVertices,
+                       final GraphLayer north,
+                       final GraphLayer south) {
 
-            return connectedEdges.stream().map(e -> {
-                if (southPos.contains(e.getToVertexId())) {
-                    return southPos.indexOf(e.getToVertexId());
-                }
-                return southPos.indexOf(e.getFromVertexId());
-            }).sorted();
-        }).toArray();
+        final Map<String, Integer> southPos = LinkedVerticesIndex.getPositions(south);
+
+        final int[][] linkedPositions = new int[north.getVertices().size()][];
+        int size = 0;
+        for (int i = 0; i < linkedPositions.length; i++) {
+            linkedPositions[i] = linkedVertices.getLinkedPositions(north.getVertices().get(i).getId(), southPos);
+            size += linkedPositions[i].length;
+        }
+
+        final int[] entries = new int[size];
+        int offset = 0;
+        for (final int[] positions : linkedPositions) {
+            System.arraycopy(positions, 0, entries, offset, positions.length);
+            offset += positions.length;
+        }
+        return entries;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
+
+/**
+ * Indexes the vertices linked to each vertex by the edges of a graph, so the edges of a vertex
+ * can be visited without scanning all the edges of the graph.
+ * The index is not updated when the edges change.
+ */
+final class LinkedVerticesIndex {
+
+    private final Map<String, List<String>> linkedVertices;
+
+    LinkedVerticesIndex(final List<OrientedEdge> edges) {
+        this.linkedVertices = new HashMap<>();
+        for (final OrientedEdge edge : edges) {
+            final String from = edge.getFromVertexId();
+            final String to = edge.getToVertexId();
+            link(from, to);
+            if (!Objects.equals(from, to)) {
+                link(to, from);
+            }
+        }
+    }
+
+    private void link(final String vertex,
+                      final String linkedVertex) {
+        linkedVertices.computeIfAbsent(vertex, v -> new ArrayList<>()).add(linkedVertex);
+    }
+
+    /**
+     * Gets the vertices linked to a vertex, once per edge.
+     * @param vertex The vertex.
+     * @return The linked vertices.
+     */
+    List<String> getLinkedVertices(final String vertex) {
+        return linkedVertices.getOrDefault(vertex, Collections.emptyList());
+    }
+
+    /**
+     * Gets the positions of the vertices linked to a vertex inside a layer, once per edge.
+     * @param vertex The vertex.
+     * @param positions The position of each vertex of the layer.
+     * @return The positions, sorted.
+     * @see #getPositions(GraphLayer)
+     */
+    int[] getLinkedPositions(final String vertex,
+                             final Map<String, Integer> positions) {
+        final List<String> linked = getLinkedVertices(vertex);
+        final int[] linkedPositions = new int[linked.size()];
+        int size = 0;
+        for (final String linkedVertex : linked) {
+            final Integer position = positions.get(linkedVertex);
+            if (position != null) {
+                linkedPositions[size++] = position;
+            }
+        }
+        final int[] result = Arrays.copyOf(linkedPositions, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    static Map<String, Integer> getPositions(final GraphLayer layer) {
+        final List<Vertex> vertices = layer.getVertices();
+        final Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            positions.putIfAbsent(vertices.get(i).getId(), i);
+        }
+        return positions;
+    }
+}
@@ -16,10 +16,9 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.Map;
 
 import javax.enterprise.inject.Default;
 
@@ -45,12 +44,14 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
                                  final List<OrientedEdge> edges,
                                  final int currentIteration) {
 
+        final LinkedVerticesIndex linkedVertices = new LinkedVerticesIndex(edges);
         if ((currentIteration % 2 == 0)) {
             for (int j = layers.size() - 1; j >= 1; j--) {
                 final GraphLayer currentLayer = layers.get(j);
+                final Map<String, Integer> positions = LinkedVerticesIndex.getPositions(layers.get(j - 1));
                 for (final Vertex vertex : currentLayer.getVertices()) {
                     //positionVertices value of vertices in rank r-1 connected to v
-                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), layers.get(j - 1), edges);
+                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), positions, linkedVertices);
                     vertex.setMedian(median);
                 }
 
@@ -60,9 +61,10 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
         } else {
             for (int j = 0; j < layers.size() - 1; j++) {
                 final GraphLayer currentLayer = layers.get(j);
+                final Map<String, Integer> positions = LinkedVerticesIndex.getPositions(layers.get(j + 1));
 
                 for (final Vertex vertex : layers.get(j).getVertices()) {
-                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), layers.get(j + 1), edges);
+                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), positions, linkedVertices);
                     vertex.setMedian(median);
                 }
 
@@ -81,41 +83,44 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
     public double calculateMedianOfVerticesConnectedTo(final String vertex,
                                                        final GraphLayer layer,
                                                        final List<OrientedEdge> edges) {
-        final List<Integer> connectedVerticesIndex = new ArrayList<>();
-        final List<Vertex> vertices = layer.getVertices();
-        for (int i = 0; i < vertices.size(); i++) {
-            final Vertex vertexInLayer = vertices.get(i);
-
-            final boolean hasConnection = edges.stream()
-                    .anyMatch(e -> e.isLinkedWithVertexId(vertexInLayer.getId()) && e.isLinkedWithVertexId(vertex));
+        return calculateMedianOfVerticesConnectedTo(vertex,
+                                                    LinkedVerticesIndex.getPositions(layer),
+                                                    new LinkedVerticesIndex(edges));
+    }
 
-            if (hasConnection) {
-                connectedVerticesIndex.add(i);
-            }
-        }
+    private double calculateMedianOfVerticesConnectedTo(final String vertex,
+                                                        final Map<String, Integer> positions,
+                                                        final LinkedVerticesIndex linkedVertices) {
+        final int[] connectedVerticesIndex = distinct(linkedVertices.getLinkedPositions(vertex, positions));
 
-        final int size = connectedVerticesIndex.size();
+        final int size = connectedVerticesIndex.length;
 
         if (size == 0) {
-            final Optional<Vertex> first = layer.getVertices()
-                    .stream()
-                    .filter(v -> Objects.equals(v.getId(), vertex))
-                    .findFirst();
-            return first.map(vertex1 -> layer.getVertices().indexOf(vertex1)).orElse(-1);
+            return positions.getOrDefault(vertex, -1);
         }
 
         if (size == 1) {
-            return connectedVerticesIndex.get(0);
+            return connectedVerticesIndex[0];
         }
 
         final double median;
 
         if (size % 2 == 0) {
-            median = ((double) connectedVerticesIndex.get(size / 2) + (double) connectedVerticesIndex.get(size / 2 - 1)) / 2;
+            median = ((double) connectedVerticesIndex[size / 2] + (double) connectedVerticesIndex[size / 2 - 1]) / 2;
         } else {
-            median = (double) connectedVerticesIndex.get(size / 2);
+            median = (double) connectedVerticesIndex[size / 2];
         }
 
         return median;
     }
-}
\ No newline at end of file
+
+    private static int[] distinct(final int[] sorted) {
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, size);
+    }
+}
@@ -18,6 +18,7 @@ package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.s
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
@@ -45,7 +46,25 @@ public class VerticesTransposer {
     void transpose(final List<GraphLayer> layers,
                    final List<OrientedEdge> edges,
                    final int currentIteration) {
+        transpose(layers,
+                  edges,
+                  currentIteration,
+                  0);
+    }
+
+    /**
+     * Transpose neighbouring vertices inside layers trying to reduce crossing, until no more vertices
+     * are swapped or the deadline is reached.
+     * @param layers The layers with vertices.
+     * @param edges The edges connecting vertices.
+     * @param deadline The time, in milliseconds, after which no more passes start. Zero means no deadline.
+     */
+    void transpose(final List<GraphLayer> layers,
+                   final List<OrientedEdge> edges,
+                   final int currentIteration,
+                   final long deadline) {
 
+        final LinkedVerticesIndex linkedVertices = new LinkedVerticesIndex(edges);
         boolean improved = true;
         final boolean bottomUp = (currentIteration % 2) == 0;
 
@@ -58,7 +77,7 @@ public class VerticesTransposer {
                     final GraphLayer previous;
                     current = layers.get(index - 1);
                     previous = layers.get(index);
-                    improved = doTranspose(current, previous, edges);
+                    improved = doTranspose(current, previous, linkedVertices);
                 }
             } else {
                 for (int index = 1; index < layers.size(); index++) {
@@ -66,31 +85,47 @@ public class VerticesTransposer {
                     final GraphLayer previous;
                     current = layers.get(index);
                     previous = layers.get(index - 1);
-                    improved = doTranspose(current, previous, edges);
+                    improved = doTranspose(current, previous, linkedVertices);
                 }
             }
+
+            if (deadline > 0 && System.currentTimeMillis() >= deadline) {
+                break;
+            }
         }
     }
 
+    /**
+     * Swaps neighbouring vertices of the current layer when it reduces the crossing with the previous layer.
+     * Only the edges of the two swapped vertices are compared, since the crossing between other edges does not
+     * change. The previous layer does not change, so the linked positions of each vertex are calculated once.
+     */
     private boolean doTranspose(final GraphLayer current,
                                 final GraphLayer previous,
-                                final List<OrientedEdge> edges) {
+                                final LinkedVerticesIndex linkedVertices) {
 
         final List<Vertex> vertices = current.getVertices();
+        final Map<String, Integer> previousPositions = LinkedVerticesIndex.getPositions(previous);
+        final int[][] linkedPositions = new int[vertices.size()][];
+        for (int i = 0; i < vertices.size(); i++) {
+            linkedPositions[i] = linkedVertices.getLinkedPositions(vertices.get(i).getId(), previousPositions);
+        }
+
         boolean improved = false;
         for (int i = 1; i < vertices.size(); i++) {
 
-            final int currentCrossing = this.crossingCount.crossing(edges, previous, current);
+            final int[] first = linkedPositions[i - 1];
+            final int[] second = linkedPositions[i];
 
-            Collections.swap(vertices, i, i - 1);
-
-            final int newCrossing = this.crossingCount.crossing(edges, previous, current);
-            if (newCrossing >= currentCrossing) {
-                Collections.swap(vertices, i - 1, i);
-            } else {
+            final int currentCrossing = this.crossingCount.crossing(first, second);
+            final int newCrossing = this.crossingCount.crossing(second, first);
+            if (newCrossing < currentCrossing) {
+                Collections.swap(vertices, i, i - 1);
+                linkedPositions[i - 1] = second;
+                linkedPositions[i] = first;
                 improved = true;
             }
         }
         return improved;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.workbench.common.stunner.core.graph.processing.layout.ReorderedGraph;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
+
+/**
+ * Calculates the horizontal position of the vertices using the Brandes-Köpf method
+ * (Brandes and Köpf 2001, "Fast and Simple Horizontal Coordinate Assignment").
+ * <p>
+ * Each vertex is aligned with a median neighbour of the previous layer, building vertical blocks, which are
+ * compacted as much as possible to one side. It is done in four directions (top-left, top-right, bottom-left and
+ * bottom-right) and the final position of each vertex is the average of its two median positions. The segments
+ * between virtual vertices are aligned first, so long edges are kept straight.
+ * <p>
+ * It runs in linear time on the number of vertices and edges, including the virtual ones.
+ */
+final class BrandesKoepfPositioning {
+
+    private final int vertexSpace;
+    private final int virtualVertexSpace;
+    private final int[][] layers;
+    private final Vertex[] vertices;
+    private final double[] widths;
+    private final int[][] upperNeighbours;
+    private final int[][] lowerNeighbours;
+    private final Set<Long> conflicts;
+
+    /**
+     * Constructor.
+     * @param layers The layers, with virtual vertices, each one already ordered.
+     * @param edges The edges between vertices of neighbouring layers.
+     * @param graph The graph, used to get the size of the vertices.
+     * @param vertexSpace The minimum space between two vertices.
+     * @param virtualVertexSpace The minimum space between two vertices, if any of them is virtual.
+     */
+    BrandesKoepfPositioning(final List<GraphLayer> layers,
+                            final List<OrientedEdge> edges,
+                            final ReorderedGraph graph,
+                            final int vertexSpace,
+                            final int virtualVertexSpace) {
+        this.vertexSpace = vertexSpace;
+        this.virtualVertexSpace = virtualVertexSpace;
+        this.layers = new int[layers.size()][];
+
+        final Map<String, Integer> indexes = new HashMap<>();
+        final List<Vertex> allVertices = new ArrayList<>();
+        final List<Integer> layerIndexes = new ArrayList<>();
+        for (int i = 0; i < layers.size(); i++) {
+            final List<Vertex> layerVertices = layers.get(i).getVertices();
+            this.layers[i] = new int[layerVertices.size()];
+            for (int j = 0; j < layerVertices.size(); j++) {
+                final Vertex vertex = layerVertices.get(j);
+                this.layers[i][j] = allVertices.size();
+                indexes.put(vertex.getId(), allVertices.size());
+                allVertices.add(vertex);
+                layerIndexes.add(i);
+            }
+        }
+
+        this.vertices = allVertices.toArray(new Vertex[0]);
+        this.widths = new double[vertices.length];
+        for (int v = 0; v < vertices.length; v++) {
+            widths[v] = vertices[v].isVirtual() ? 0 : graph.getVertexWidth(vertices[v].getId());
+        }
+
+        final List<List<Integer>> upper = new ArrayList<>();
+        final List<List<Integer>> lower = new ArrayList<>();
+        for (int v = 0; v < vertices.length; v++) {
+            upper.add(new ArrayList<>());
+            lower.add(new ArrayList<>());
+        }
+        for (final OrientedEdge edge : edges) {
+            final Integer from = indexes.get(edge.getFromVertexId());
+            final Integer to = indexes.get(edge.getToVertexId());
+            if (from == null || to == null) {
+                continue;
+            }
+            final int fromLayer = layerIndexes.get(from);
+            final int toLayer = layerIndexes.get(to);
+            if (fromLayer + 1 == toLayer) {
+                lower.get(from).add(to);
+                upper.get(to).add(from);
+            } else if (toLayer + 1 == fromLayer) {
+                lower.get(to).add(from);
+                upper.get(from).add(to);
+            }
+        }
+
+        // The neighbours are sorted by position, which is the same as sorting them by index.
+        this.upperNeighbours = new int[vertices.length][];
+        this.lowerNeighbours = new int[vertices.length][];
+        for (int v = 0; v < vertices.length; v++) {
+            upperNeighbours[v] = toSortedDistinctArray(upper.get(v));
+            lowerNeighbours[v] = toSortedDistinctArray(lower.get(v));
+        }
+
+        this.conflicts = new HashSet<>();
+        markTypeOneConflicts();
+    }
+
+    /**
+     * Calculates the horizontal center of each vertex.
+     * @return The horizontal center of each vertex, by layer and position inside the layer.
+     */
+    double[][] calculateCenters() {
+        final double[][] alignments = new double[4][];
+        int smallest = 0;
+        double smallestWidth = Double.MAX_VALUE;
+        for (int i = 0; i < alignments.length; i++) {
+            alignments[i] = align(i >= 2, i % 2 == 1);
+            final double width = getMax(alignments[i], true) - getMin(alignments[i], true);
+            if (width < smallestWidth) {
+                smallestWidth = width;
+                smallest = i;
+            }
+        }
+
+        // Align the four layouts to the narrowest one: the left ones to its left side, the right ones to its right side.
+        final double minX = getMin(alignments[smallest], false);
+        final double maxX = getMax(alignments[smallest], false);
+        for (int i = 0; i < alignments.length; i++) {
+            final double delta = i % 2 == 1 ?
+                    maxX - getMax(alignments[i], false) :
+                    minX - getMin(alignments[i], false);
+            for (int v = 0; v < vertices.length; v++) {
+                alignments[i][v] += delta;
+            }
+        }
+
+        final double[][] centers = new double[layers.length][];
+        final double[] candidates = new double[alignments.length];
+        for (int i = 0; i < layers.length; i++) {
+            centers[i] = new double[layers[i].length];
+            for (int j = 0; j < layers[i].length; j++) {
+                final int v = layers[i][j];
+                for (int k = 0; k < alignments.length; k++) {
+                    candidates[k] = alignments[k][v];
+                }
+                Arrays.sort(candidates);
+                centers[i][j] = (candidates[1] + candidates[2]) / 2;
+            }
+        }
+        return centers;
+    }
+
+    /**
+     * Marks the type 1 conflicts: the segments between two real vertices, or a real and a virtual one,
+     * which cross a segment between two virtual vertices. The segments between virtual vertices are
+     * preferred when aligning the vertices.
+     */
+    private void markTypeOneConflicts() {
+        for (int i = 1; i < layers.length; i++) {
+            final int[] previous = layers[i - 1];
+            final int[] layer = layers[i];
+            int k0 = 0;
+            int scanPosition = 0;
+            for (int l1 = 0; l1 < layer.length; l1++) {
+                final int innerNeighbour = getInnerSegmentNeighbour(layer[l1]);
+                if (innerNeighbour < 0 && l1 != layer.length - 1) {
+                    continue;
+                }
+                final int k1 = innerNeighbour < 0 ? previous.length : getPosition(previous, innerNeighbour);
+                for (; scanPosition <= l1; scanPosition++) {
+                    final int v = layer[scanPosition];
+                    for (final int u : upperNeighbours[v]) {
+                        final int k = getPosition(previous, u);
+                        if ((k < k0 || k > k1) && !(vertices[u].isVirtual() && vertices[v].isVirtual())) {
+                            conflicts.add(getSegmentKey(u, v));
+                        }
+                    }
+                }
+                k0 = k1;
+            }
+        }
+    }
+
+    private int getInnerSegmentNeighbour(final int v) {
+        if (vertices[v].isVirtual()) {
+            for (final int u : upperNeighbours[v]) {
+                if (vertices[u].isVirtual()) {
+                    return u;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int getPosition(final int[] layer,
+                            final int v) {
+        // Vertices are indexed by layer and position.
+        return v - layer[0];
+    }
+
+    private long getSegmentKey(final int upper,
+                               final int lower) {
+        return (long) upper * vertices.length + lower;
+    }
+
+    /**
+     * Aligns the vertices in one of the four directions and compacts them horizontally.
+     * @param bottomUp If the vertices are aligned with their neighbours in the layer below, instead of above.
+     * @param rightToLeft If the layers are visited from right to left, instead of left to right.
+     * @return The horizontal center of each vertex, by index.
+     */
+    private double[] align(final boolean bottomUp,
+                           final boolean rightToLeft) {
+        final int[][] order = new int[layers.length][];
+        final int[] positions = new int[vertices.length];
+        for (int i = 0; i < layers.length; i++) {
+            final int[] layer = layers[bottomUp ? layers.length - 1 - i : i];
+            order[i] = new int[layer.length];
+            for (int j = 0; j < layer.length; j++) {
+                order[i][j] = layer[rightToLeft ? layer.length - 1 - j : j];
+                positions[order[i][j]] = j;
+            }
+        }
+
+        final int[] roots = new int[vertices.length];
+        final int[] aligns = new int[vertices.length];
+        for (int v = 0; v < vertices.length; v++) {
+            roots[v] = v;
+            aligns[v] = v;
+        }
+
+        for (int i = 1; i < order.length; i++) {
+            int previousPosition = -1;
+            for (final int v : order[i]) {
+                final int[] neighbours = bottomUp ? lowerNeighbours[v] : upperNeighbours[v];
+                final int size = neighbours.length;
+                if (size == 0) {
+                    continue;
+                }
+                for (int m = (size - 1) / 2; m <= size / 2; m++) {
+                    final int u = neighbours[rightToLeft ? size - 1 - m : m];
+                    final long segment = bottomUp ? getSegmentKey(v, u) : getSegmentKey(u, v);
+                    if (aligns[v] == v && previousPosition < positions[u] && !conflicts.contains(segment)) {
+                        aligns[u] = v;
+                        roots[v] = roots[u];
+                        aligns[v] = roots[v];
+                        previousPosition = positions[u];
+                    }
+                }
+            }
+        }
+
+        final double[] centers = compact(order, roots);
+        if (rightToLeft) {
+            for (int v = 0; v < centers.length; v++) {
+                centers[v] = -centers[v];
+            }
+        }
+        return centers;
+    }
+
+    /**
+     * Places the blocks as close as possible from left to right, keeping the space between vertices.
+     * A graph of the blocks is created, where each block is linked to the blocks placed before it in any layer,
+     * which is visited in topological order to place each block as near as possible to its predecessors, and
+     * then in reverse topological order to move each block towards its successors.
+     */
+    private double[] compact(final int[][] order,
+                             final int[] roots) {
+        final List<List<Integer>> successors = new ArrayList<>();
+        final List<List<Double>> separations = new ArrayList<>();
+        final int[] predecessorsCount = new int[vertices.length];
+        for (int v = 0; v < vertices.length; v++) {
+            successors.add(new ArrayList<>());
+            separations.add(new ArrayList<>());
+        }
+        for (final int[] layer : order) {
+            for (int j = 1; j < layer.length; j++) {
+                final int left = layer[j - 1];
+                final int right = layer[j];
+                successors.get(roots[left]).add(roots[right]);
+                separations.get(roots[left]).add(getSeparation(left, right));
+                predecessorsCount[roots[right]]++;
+            }
+        }
+
+        final int[] sorted = new int[vertices.length];
+        int size = 0;
+        for (int v = 0; v < vertices.length; v++) {
+            if (roots[v] == v && predecessorsCount[v] == 0) {
+                sorted[size++] = v;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            final List<Integer> blockSuccessors = successors.get(sorted[i]);
+            for (final Integer successor : blockSuccessors) {
+                if (--predecessorsCount[successor] == 0) {
+                    sorted[size++] = successor;
+                }
+            }
+        }
+
+        final double[] x = new double[vertices.length];
+        for (int i = 0; i < size; i++) {
+            final int block = sorted[i];
+            final List<Integer> blockSuccessors = successors.get(block);
+            for (int j = 0; j < blockSuccessors.size(); j++) {
+                final int successor = blockSuccessors.get(j);
+                x[successor] = Math.max(x[successor], x[block] + separations.get(block).get(j));
+            }
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            final int block = sorted[i];
+            final List<Integer> blockSuccessors = successors.get(block);
+            double min = Double.MAX_VALUE;
+            for (int j = 0; j < blockSuccessors.size(); j++) {
+                min = Math.min(min, x[blockSuccessors.get(j)] - separations.get(block).get(j));
+            }
+            if (min != Double.MAX_VALUE) {
+                x[block] = Math.max(x[block], min);
+            }
+        }
+
+        final double[] centers = new double[vertices.length];
+        for (int v = 0; v < vertices.length; v++) {
+            centers[v] = x[roots[v]];
+        }
+        return centers;
+    }
+
+    private double getSeparation(final int left,
+                                 final int right) {
+        final int space = vertices[left].isVirtual() || vertices[right].isVirtual() ? virtualVertexSpace : vertexSpace;
+        return (widths[left] + widths[right]) / 2 + space;
+    }
+
+    private double getMin(final double[] centers,
+                          final boolean includeWidth) {
+        double min = Double.MAX_VALUE;
+        for (int v = 0; v < centers.length; v++) {
+            min = Math.min(min, centers[v] - (includeWidth ? widths[v] / 2 : 0));
+        }
+        return min;
+    }
+
+    private double getMax(final double[] centers,
+                          final boolean includeWidth) {
+        double max = -Double.MAX_VALUE;
+        for (int v = 0; v < centers.length; v++) {
+            max = Math.max(max, centers[v] + (includeWidth ? widths[v] / 2 : 0));
+        }
+        return max;
+    }
+
+    private static int[] toSortedDistinctArray(final List<Integer> values) {
+        final int[] sorted = new int[values.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = values.get(i);
+        }
+        Arrays.sort(sorted);
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, size);
+    }
+}
@@ -16,8 +16,11 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -37,6 +40,11 @@ import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.Or
  * 1. Vertices are horizontal distributed inside its layer, using the same space between each one
  * 2. All layers are vertical centered
  * 3. The space between layers is the same
+ * <p>
+ * Large graphs can be positioned using the Brandes-Köpf method instead, which scales linearly with the size of the
+ * graph, and aligns the vertices with their neighbours so long edges are drawn straight. It is opt-in, through
+ * {@link #setLargeGraphVertices(int)}.
+ * @see BrandesKoepfPositioning
  */
 @Default
 public class DefaultVertexPositioning implements VertexPositioning {
@@ -45,6 +53,23 @@ public class DefaultVertexPositioning implements VertexPositioning {
     private static final int DEFAULT_LAYER_SPACE = 125;
     static final int DEFAULT_LAYER_HORIZONTAL_PADDING = 50;
     static final int DEFAULT_LAYER_VERTICAL_PADDING = 50;
+    static final int DEFAULT_VIRTUAL_VERTEX_SPACE = 25;
+
+    private int largeGraphVertices = 0;
+
+    /**
+     * Positions the graphs with at least the given number of vertices, including the virtual ones, using the
+     * Brandes-Köpf method rather than centering the vertices of each layer.
+     * @param largeGraphVertices The number of vertices of a large graph. Zero or negative, the default, to
+     * position every graph the simplest way.
+     */
+    public void setLargeGraphVertices(final int largeGraphVertices) {
+        this.largeGraphVertices = largeGraphVertices;
+    }
+
+    public int getLargeGraphVertices() {
+        return largeGraphVertices;
+    }
 
     /*
      * Pre:
@@ -58,6 +83,10 @@ public class DefaultVertexPositioning implements VertexPositioning {
         deReverseEdges(graph);
 
         final Set<Vertex> vertices = getVertices(layered);
+        if (largeGraphVertices > 0 && vertices.size() >= largeGraphVertices) {
+            arrangeLargeGraph(layered, arrangement);
+            return;
+        }
 
         removeVirtualVertices(graph.getEdges(), vertices);
         removeVirtualVerticesFromLayers(layered.getLayers(), vertices);
@@ -104,6 +133,110 @@ public class DefaultVertexPositioning implements VertexPositioning {
         }
     }
 
+    void arrangeLargeGraph(final LayeredGraph graph,
+                           final LayerArrangement arrangement) {
+        final List<GraphLayer> layers = graph.getLayers();
+        final double[][] centers = new BrandesKoepfPositioning(layers,
+                                                               graph.getEdges(),
+                                                               graph,
+                                                               DEFAULT_VERTEX_SPACE,
+                                                               DEFAULT_VIRTUAL_VERTEX_SPACE).calculateCenters();
+
+        double minX = Double.MAX_VALUE;
+        for (int i = 0; i < layers.size(); i++) {
+            final List<Vertex> vertices = layers.get(i).getVertices();
+            for (int j = 0; j < vertices.size(); j++) {
+                if (!vertices.get(j).isVirtual()) {
+                    minX = Math.min(minX, centers[i][j] - graph.getVertexWidth(vertices.get(j).getId()) / 2d);
+                }
+            }
+        }
+
+        for (int i = 0; i < layers.size(); i++) {
+            final List<Vertex> vertices = layers.get(i).getVertices();
+            for (int j = 0; j < vertices.size(); j++) {
+                final Vertex v = vertices.get(j);
+                final double x = centers[i][j] - graph.getVertexWidth(v.getId()) / 2d - minX;
+                v.setX((int) Math.round(x) + DEFAULT_LAYER_HORIZONTAL_PADDING);
+            }
+        }
+
+        final Set<String> virtualVertices = new HashSet<>();
+        for (final GraphLayer layer : layers) {
+            for (final Vertex v : layer.getVertices()) {
+                if (v.isVirtual()) {
+                    virtualVertices.add(v.getId());
+                }
+            }
+            layer.getVertices().removeIf(Vertex::isVirtual);
+        }
+        joinVirtualEdges(graph.getEdges(), virtualVertices);
+
+        int y = DEFAULT_LAYER_VERTICAL_PADDING;
+        switch (arrangement) {
+            case TopDown:
+                for (int i = 0; i < layers.size(); i++) {
+                    y = distributeVerticesVertically(layers.get(i), y, graph);
+                }
+                break;
+
+            case BottomUp:
+                for (int i = layers.size() - 1; i >= 0; i--) {
+                    y = distributeVerticesVertically(layers.get(i), y, graph);
+                }
+                break;
+        }
+    }
+
+    int distributeVerticesVertically(final GraphLayer layer,
+                                     final int y,
+                                     final ReorderedGraph graph) {
+        int highestY = 0;
+        for (final Vertex v : layer.getVertices()) {
+            v.setY(y);
+            highestY = Math.max(highestY, graph.getVertexHeight(v.getId()));
+        }
+        return y + highestY + DEFAULT_LAYER_SPACE;
+    }
+
+    /**
+     * Replaces the edges split by virtual vertices with a single edge.
+     * @param edges The edges.
+     * @param virtualVertices The ids of the virtual vertices.
+     */
+    void joinVirtualEdges(final List<OrientedEdge> edges,
+                          final Set<String> virtualVertices) {
+        final Map<String, OrientedEdge> virtualOutgoing = new HashMap<>();
+        for (final OrientedEdge edge : edges) {
+            if (virtualVertices.contains(edge.getFromVertexId())) {
+                virtualOutgoing.putIfAbsent(edge.getFromVertexId(), edge);
+            }
+        }
+
+        final List<OrientedEdge> joined = new ArrayList<>(edges.size());
+        for (final OrientedEdge edge : edges) {
+            if (virtualVertices.contains(edge.getFromVertexId())) {
+                continue;
+            }
+            if (!virtualVertices.contains(edge.getToVertexId())) {
+                joined.add(edge);
+                continue;
+            }
+
+            String to = edge.getToVertexId();
+            int hops = 0;
+            while (virtualVertices.contains(to) && virtualOutgoing.containsKey(to) && hops++ < virtualVertices.size()) {
+                to = virtualOutgoing.get(to).getToVertexId();
+            }
+            if (!virtualVertices.contains(to)) {
+                joined.add(new OrientedEdgeImpl(edge.getFromVertexId(), to));
+            }
+        }
+
+        edges.clear();
+        edges.addAll(joined);
+    }
+
     HashMap<Integer, Integer> createHashForLayersWidth() {
         return new HashMap<>();
     }
@@ -16,9 +16,12 @@
 
 package org.kie.workbench.common.stunner.core.graph.store;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 import org.jboss.errai.common.client.api.annotations.Portable;
 import org.kie.workbench.common.stunner.core.graph.Node;
@@ -28,15 +31,66 @@ public class GraphNodeStoreImpl implements GraphNodeStore<Node> {
 
     protected Map<String, Node> nodes = new HashMap<String, Node>();
 
+    // The label counts are built on first use and then kept up to date. The labels counted
+    // for each node are kept as well, as node labels can be modified once the node is stored.
+    private transient Map<String, Integer> labelsCount;
+    private transient Map<String, Set<String>> countedLabels;
+
     @Override
     public Node add(final Node node) {
-        return nodes.put(node.getUUID(),
-                         node);
+        final Node previous = nodes.put(node.getUUID(),
+                                        node);
+        if (null != labelsCount) {
+            uncountLabels(node.getUUID());
+            countLabels(node);
+        }
+        return previous;
     }
 
     @Override
     public Node remove(final String uuid) {
-        return nodes.remove(uuid);
+        final Node removed = nodes.remove(uuid);
+        if (null != labelsCount && null != removed) {
+            uncountLabels(uuid);
+        }
+        return removed;
+    }
+
+    @Override
+    public int countLabel(final String label) {
+        if (null == labelsCount) {
+            labelsCount = new HashMap<>();
+            countedLabels = new HashMap<>();
+            nodes.values().forEach(this::countLabels);
+        }
+        final Integer count = labelsCount.get(label);
+        return null != count ? count : 0;
+    }
+
+    @Override
+    public void refreshLabels(final Node node) {
+        if (null != labelsCount && nodes.get(node.getUUID()) == node) {
+            uncountLabels(node.getUUID());
+            countLabels(node);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void countLabels(final Node node) {
+        final Set<String> labels = null != node.getLabels() ? new HashSet<>(node.getLabels()) : Collections.emptySet();
+        countedLabels.put(node.getUUID(),
+                          labels);
+        labels.forEach(label -> labelsCount.merge(label,
+                                                  1,
+                                                  Integer::sum));
+    }
+
+    private void uncountLabels(final String uuid) {
+        final Set<String> labels = countedLabels.remove(uuid);
+        if (null != labels) {
+            labels.forEach(label -> labelsCount.computeIfPresent(label,
+                                                                 (key, count) -> count > 1 ? count - 1 : null));
+        }
     }
 
     @Override
@@ -52,6 +106,8 @@ public class GraphNodeStoreImpl implements GraphNodeStore<Node> {
     @Override
     public void clear() {
         nodes.clear();
+        labelsCount = null;
+        countedLabels = null;
     }
 
     @Override
@@ -111,6 +111,25 @@ public class GraphUtils {
                 });
     }
 
+    /**
+     * Returns the number of nodes in the graph with the given label (role).
+     * Graph implementations that keep track of the label counts answer it without iterating the nodes.
+     */
+    @SuppressWarnings("unchecked")
+    public static int countLabel(final Graph<?, ? extends Node> graph,
+                                 final String label) {
+        if (graph instanceof GraphImpl) {
+            return ((GraphImpl) graph).countLabel(label);
+        }
+        int count = 0;
+        for (final Node node : (Iterable<Node>) graph.nodes()) {
+            if (getLabels(node).contains(label)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     public enum CardinalityCountState {
         EMPTY,
         SINGLE_NODE,
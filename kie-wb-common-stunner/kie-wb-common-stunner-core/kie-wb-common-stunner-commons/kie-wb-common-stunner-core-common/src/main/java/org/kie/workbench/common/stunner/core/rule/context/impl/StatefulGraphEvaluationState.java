@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.kie.workbench.common.stunner.core.graph.Edge;
@@ -127,17 +128,38 @@ public class StatefulGraphEvaluationState extends AbstractGraphEvaluationState {
         @SuppressWarnings("unchecked")
         public Iterable<Node> nodes() {
             final Iterable<Node> nodes = (Iterable<Node>) getGraph().nodes();
-            return StreamSupport.stream(nodes.spliterator(), false)
-                    .filter(e -> !getDeletedElements().contains(e))
-                    .collect(Collectors.collectingAndThen(Collectors.toList(),
-                                                          this::appendAddedNodes));
+            return () -> Stream.concat(StreamSupport.stream(nodes.spliterator(), false)
+                                               .filter(e -> !deleted.contains(e)),
+                                       added.stream()
+                                               .filter(e -> Objects.nonNull(e.asNode()))
+                                               .map(e -> (Node) e))
+                    .iterator();
+        }
+
+        /**
+         * Counts the graph nodes with the given role using the graph label counts,
+         * and then applies the added and deleted elements as deltas.
+         */
+        @Override
+        public int count(final String role) {
+            int count = GraphUtils.countLabel(getGraph(),
+                                              role);
+            for (final Element<? extends View<?>> element : deleted) {
+                if (hasRole(element, role) && null != getGraph().getNode(element.getUUID())) {
+                    count--;
+                }
+            }
+            for (final Element<? extends View<?>> element : added) {
+                if (hasRole(element, role)) {
+                    count++;
+                }
+            }
+            return count;
         }
 
-        private Collection<Node> appendAddedNodes(final Collection<Node> nodes) {
-            getAddedElements().stream()
-                    .filter(e -> Objects.nonNull(e.asNode()))
-                    .forEach(node -> nodes.add((Node) node));
-            return nodes;
+        private boolean hasRole(final Element<? extends View<?>> element,
+                                final String role) {
+            return null != element.asNode() && null != element.getLabels() && element.getLabels().contains(role);
         }
 
         Collection<Element<? extends View<?>>> getAddedElements() {
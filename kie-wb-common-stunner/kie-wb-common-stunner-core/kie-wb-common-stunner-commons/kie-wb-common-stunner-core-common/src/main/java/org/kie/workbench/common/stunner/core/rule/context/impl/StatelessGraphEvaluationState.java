@@ -76,6 +76,12 @@ public class StatelessGraphEvaluationState extends AbstractGraphEvaluationState
         public Iterable<Node> nodes() {
             return (Iterable<Node>) getGraph().nodes();
         }
+
+        @Override
+        public int count(final String role) {
+            return GraphUtils.countLabel(getGraph(),
+                                         role);
+        }
     }
 
     public static class StatelessConnectorCardinalityState implements ConnectorCardinalityState {
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BoundingVolumeHierarchyTest {
+
+    private static final int COUNT = 1000;
+
+    private BoundingVolumeHierarchy<Integer> tested;
+    private double[][] bounds;
+
+    @Before
+    public void setup() {
+        tested = new BoundingVolumeHierarchy<>();
+        bounds = new double[COUNT][];
+        final Random random = new Random(3);
+        final List<Integer> items = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            bounds[i] = randomBounds(random);
+            items.add(i);
+        }
+        tested.load(items,
+                    i -> bounds[i]);
+    }
+
+    @Test
+    public void testLoad() {
+        assertEquals(COUNT,
+                     tested.size());
+        assertTrue(tested.getDepth() > 1);
+        assertFindIn(0,
+                     0,
+                     5000,
+                     5000);
+        assertFindIn(200,
+                     300,
+                     700,
+                     500);
+        assertFindIn(-10,
+                     -10,
+                     -1,
+                     -1);
+    }
+
+    @Test
+    public void testFindAt() {
+        assertFindAt(bounds[10][0],
+                     bounds[10][1]);
+        assertFindAt(bounds[20][2],
+                     bounds[20][3]);
+        assertFindAt(1500,
+                     1500);
+    }
+
+    @Test
+    public void testPut() {
+        final Random random = new Random(5);
+        for (int i = 0; i < COUNT; i += 3) {
+            bounds[i] = randomBounds(random);
+            tested.put(i,
+                       bounds[i][0],
+                       bounds[i][1],
+                       bounds[i][2],
+                       bounds[i][3]);
+        }
+        assertEquals(COUNT,
+                     tested.size());
+        assertFindIn(0,
+                     0,
+                     5000,
+                     5000);
+        assertFindIn(1000,
+                     1000,
+                     1400,
+                     1300);
+        assertFindAt(bounds[3][0],
+                     bounds[3][1]);
+    }
+
+    @Test
+    public void testPutNewItems() {
+        tested.clear();
+        final Random random = new Random(9);
+        for (int i = 0; i < COUNT; i++) {
+            bounds[i] = randomBounds(random);
+            tested.put(i,
+                       bounds[i][0],
+                       bounds[i][1],
+                       bounds[i][2],
+                       bounds[i][3]);
+        }
+        assertEquals(COUNT,
+                     tested.size());
+        assertTrue(tested.getDepth() > 1);
+        assertFindIn(0,
+                     0,
+                     5000,
+                     5000);
+        assertFindIn(2000,
+                     500,
+                     2600,
+                     900);
+    }
+
+    @Test
+    public void testRemove() {
+        for (int i = 0; i < COUNT; i += 2) {
+            assertTrue(tested.remove(i));
+            bounds[i] = null;
+        }
+        assertFalse(tested.remove(0));
+        assertFalse(tested.contains(0));
+        assertTrue(tested.contains(1));
+        assertEquals(COUNT / 2,
+                     tested.size());
+        assertFindIn(0,
+                     0,
+                     5000,
+                     5000);
+        assertFindIn(500,
+                     500,
+                     900,
+                     800);
+    }
+
+    @Test
+    public void testRemoveAll() {
+        for (int i = 0; i < COUNT; i++) {
+            assertTrue(tested.remove(i));
+            bounds[i] = null;
+        }
+        assertEquals(0,
+                     tested.size());
+        assertEquals(1,
+                     tested.getDepth());
+        assertFindIn(0,
+                     0,
+                     5000,
+                     5000);
+    }
+
+    private void assertFindAt(final double x,
+                              final double y) {
+        assertFindIn(x,
+                     y,
+                     x,
+                     y);
+        final Set<Integer> result = new HashSet<>();
+        tested.findAt(x,
+                      y,
+                      result::add);
+        assertEquals(expected(x,
+                              y,
+                              x,
+                              y),
+                     result);
+    }
+
+    private void assertFindIn(final double ulX,
+                              final double ulY,
+                              final double lrX,
+                              final double lrY) {
+        final List<Integer> result = new ArrayList<>();
+        tested.findIn(ulX,
+                      ulY,
+                      lrX,
+                      lrY,
+                      result::add);
+        final Set<Integer> expected = expected(ulX,
+                                               ulY,
+                                               lrX,
+                                               lrY);
+        assertEquals(expected.size(),
+                     result.size());
+        assertEquals(expected,
+                     new HashSet<>(result));
+    }
+
+    private Set<Integer> expected(final double ulX,
+                                  final double ulY,
+                                  final double lrX,
+                                  final double lrY) {
+        final Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < COUNT; i++) {
+            final double[] b = bounds[i];
+            if (null != b && b[0] <= lrX && b[2] >= ulX && b[1] <= lrY && b[3] >= ulY) {
+                expected.add(i);
+            }
+        }
+        return expected;
+    }
+
+    private static double[] randomBounds(final Random random) {
+        final double x = random.nextDouble() * 3000;
+        final double y = random.nextDouble() * 3000;
+        return new double[]{x, y, x + 1 + random.nextDouble() * 150, y + 1 + random.nextDouble() * 150};
+    }
+}
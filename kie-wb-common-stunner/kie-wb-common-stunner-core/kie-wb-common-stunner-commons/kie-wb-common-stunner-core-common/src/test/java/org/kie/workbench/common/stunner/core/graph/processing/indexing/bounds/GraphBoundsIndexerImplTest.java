@@ -23,6 +23,7 @@ import org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder;
 import org.kie.workbench.common.stunner.core.TestingGraphMockHandler;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.processing.index.bounds.GraphBoundsIndexerImpl;
@@ -35,6 +36,13 @@ import org.mockito.junit.MockitoJUnitRunner;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class GraphBoundsIndexerImplTest {
@@ -42,6 +50,7 @@ public class GraphBoundsIndexerImplTest {
     private TestingGraphMockHandler graphTestHandlerParent;
     private TestingGraphInstanceBuilder.TestGraph2 graphInstanceParent;
 
+    private ChildrenTraverseProcessor childrenTraverseProcessor;
     private GraphBoundsIndexerImpl graphBoundsIndexerImpl;
 
     @Before
@@ -49,7 +58,13 @@ public class GraphBoundsIndexerImplTest {
         this.graphTestHandlerParent = new TestingGraphMockHandler();
         graphInstanceParent = TestingGraphInstanceBuilder.newGraph2(graphTestHandlerParent);
 
-        ChildrenTraverseProcessor childrenTraverseProcessor = new ChildrenTraverseProcessorImpl(new TreeWalkTraverseProcessorImpl());
+        final ChildrenTraverseProcessor processor = new ChildrenTraverseProcessorImpl(new TreeWalkTraverseProcessorImpl());
+        childrenTraverseProcessor = mock(ChildrenTraverseProcessor.class,
+                                         delegatesTo(processor));
+        doAnswer(invocation -> {
+            processor.setRootUUID(invocation.getArgument(0));
+            return childrenTraverseProcessor;
+        }).when(childrenTraverseProcessor).setRootUUID(any());
         graphBoundsIndexerImpl = new GraphBoundsIndexerImpl(childrenTraverseProcessor);
         graphBoundsIndexerImpl.build(graphInstanceParent.graph);
     }
@@ -127,4 +142,117 @@ public class GraphBoundsIndexerImplTest {
                      size[1],
                      0.001);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetAtResolvesDeepestChild() {
+        assertSame(graphInstanceParent.endNode,
+                   graphBoundsIndexerImpl.getAt(50,
+                                                50));
+        assertNull(graphBoundsIndexerImpl.getAt(150,
+                                                150));
+    }
+
+    @Test
+    public void testSingleLookupScansTheGraph() {
+        assertSame(graphInstanceParent.endNode,
+                   graphBoundsIndexerImpl.getAt(50,
+                                                50));
+        verify(childrenTraverseProcessor,
+               times(1)).traverse(any(),
+                                  any());
+        assertSame(graphInstanceParent.endNode,
+                   graphBoundsIndexerImpl.getAt(50,
+                                                50));
+        assertNull(graphBoundsIndexerImpl.getAt(150,
+                                                150));
+        // The index is only built once, on the second lookup.
+        verify(childrenTraverseProcessor,
+               times(2)).traverse(any(),
+                                  any());
+        graphBoundsIndexerImpl.build(graphInstanceParent.graph);
+        graphBoundsIndexerImpl.getAt(50,
+                                     50);
+        verify(childrenTraverseProcessor,
+               times(3)).traverse(any(),
+                                  any());
+    }
+
+    @Test
+    public void testRootUUID() {
+        graphBoundsIndexerImpl.setRootUUID(graphInstanceParent.parentNode.getUUID());
+        graphBoundsIndexerImpl.getTrimmedBounds();
+        // The root is passed explicitly on each traversal, so the lookups do not depend on previous calls.
+        assertSame(graphInstanceParent.parentNode,
+                   graphBoundsIndexerImpl.getAt(150,
+                                                150));
+        assertSame(graphInstanceParent.endNode,
+                   graphBoundsIndexerImpl.getAt(50,
+                                                50));
+        assertSame(graphInstanceParent.parentNode,
+                   graphBoundsIndexerImpl.getAt(150,
+                                                150));
+        verify(childrenTraverseProcessor,
+               times(2)).setRootUUID(null);
+    }
+
+    @Test
+    public void testUpdate() {
+        buildIndex();
+        setBounds(graphInstanceParent.endNode,
+                  200,
+                  200,
+                  300,
+                  300);
+        graphBoundsIndexerImpl.update(graphInstanceParent.endNode);
+        assertSame(graphInstanceParent.endNode,
+                   graphBoundsIndexerImpl.getAt(250,
+                                                250));
+        assertSame(graphInstanceParent.intermNode,
+                   graphBoundsIndexerImpl.getAt(50,
+                                                50));
+    }
+
+    @Test
+    public void testUpdateParent() {
+        buildIndex();
+        setBounds(graphInstanceParent.parentNode,
+                  500,
+                  500,
+                  600,
+                  600);
+        graphBoundsIndexerImpl.update(graphInstanceParent.parentNode);
+        assertNull(graphBoundsIndexerImpl.getAt(50,
+                                                50));
+        assertSame(graphInstanceParent.endNode,
+                   graphBoundsIndexerImpl.getAt(550,
+                                                550));
+    }
+
+    @Test
+    public void testRemove() {
+        buildIndex();
+        graphBoundsIndexerImpl.remove(graphInstanceParent.endNode);
+        graphBoundsIndexerImpl.remove(graphInstanceParent.intermNode);
+        assertSame(graphInstanceParent.startNode,
+                   graphBoundsIndexerImpl.getAt(50,
+                                                50));
+    }
+
+    private void buildIndex() {
+        graphBoundsIndexerImpl.getAt(-1,
+                                     -1);
+        graphBoundsIndexerImpl.getAt(-1,
+                                     -1);
+    }
+
+    private static void setBounds(final Node node,
+                                  final double ulX,
+                                  final double ulY,
+                                  final double lrX,
+                                  final double lrY) {
+        ((View) node.getContent()).setBounds(Bounds.create(ulX,
+                                                           ulY,
+                                                           lrX,
+                                                           lrY));
+    }
+}
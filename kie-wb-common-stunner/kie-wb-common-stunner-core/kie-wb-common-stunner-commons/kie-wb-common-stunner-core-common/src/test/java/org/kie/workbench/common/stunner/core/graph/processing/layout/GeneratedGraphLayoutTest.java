@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.layout;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.LayeredGraph;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step01.ReverseEdgesCycleBreaker;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step02.LongestPathVertexLayerer;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03.DefaultVertexOrdering;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03.LayerCrossingCount;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03.MedianVertexLayerPositioning;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03.VerticesTransposer;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04.DefaultVertexPositioning;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04.LayerArrangement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the Sugiyama layout of generated graphs, similar to large imported process diagrams.
+ */
+public class GeneratedGraphLayoutTest {
+
+    private static final int SIZE = 1000;
+    private static final int LARGE_SIZE = 2000;
+    private static final long SEED = 42L;
+
+    @Test
+    public void testLayoutGeneratedGraph() {
+        final LayeredGraph graph = generateGraph(SIZE, new Random(SEED));
+        layout(graph, new DefaultVertexPositioning());
+        assertLayout(graph, SIZE);
+    }
+
+    @Test
+    public void testLayoutGeneratedGraphIsDeterministic() {
+        final LayeredGraph graph = generateGraph(SIZE, new Random(SEED));
+        final LayeredGraph other = generateGraph(SIZE, new Random(SEED));
+        layout(graph, new DefaultVertexPositioning());
+        layout(other, new DefaultVertexPositioning());
+
+        // Without a time budget the result does not depend on the speed of the machine.
+        assertEquals(graph.getLayers().size(), other.getLayers().size());
+        for (int i = 0; i < graph.getLayers().size(); i++) {
+            final List<Vertex> vertices = graph.getLayers().get(i).getVertices();
+            final List<Vertex> otherVertices = other.getLayers().get(i).getVertices();
+            assertEquals(vertices.size(), otherVertices.size());
+            for (int j = 0; j < vertices.size(); j++) {
+                assertEquals(vertices.get(j).getId(), otherVertices.get(j).getId());
+                assertEquals(vertices.get(j).getX(), otherVertices.get(j).getX());
+                assertEquals(vertices.get(j).getY(), otherVertices.get(j).getY());
+            }
+        }
+    }
+
+    @Test
+    public void testLayoutLargeGeneratedGraph() {
+        final LayeredGraph graph = generateGraph(LARGE_SIZE, new Random(SEED));
+        final DefaultVertexPositioning positioning = new DefaultVertexPositioning();
+        positioning.setLargeGraphVertices(SIZE);
+        layout(graph, positioning);
+        assertLayout(graph, LARGE_SIZE);
+    }
+
+    private static void layout(final LayeredGraph graph,
+                               final DefaultVertexPositioning positioning) {
+        new ReverseEdgesCycleBreaker().breakCycle(graph);
+        new LongestPathVertexLayerer().createLayers(graph);
+        final LayerCrossingCount crossingCount = new LayerCrossingCount();
+        new DefaultVertexOrdering(new MedianVertexLayerPositioning(),
+                                  crossingCount,
+                                  new VerticesTransposer(crossingCount)).orderVertices(graph);
+        positioning.calculateVerticesPositions(graph, LayerArrangement.TopDown);
+    }
+
+    /**
+     * Generates a connected graph, similar to a process diagram: most vertices follow a recent vertex, some of
+     * them join two flows, and a few ones loop back to a previous vertex. Every flow continues to a near vertex
+     * until the last one, which is the only end of the process.
+     */
+    private static LayeredGraph generateGraph(final int size,
+                                              final Random random) {
+        final LayeredGraph graph = new LayeredGraph();
+        final boolean[] continued = new boolean[size];
+        for (int i = 1; i < size; i++) {
+            final String vertex = "N" + i;
+            addEdge(graph, continued, i - 1 - random.nextInt(Math.min(i, 20)), i);
+            if (i > 1 && random.nextInt(5) == 0) {
+                addEdge(graph, continued, i - 1 - random.nextInt(Math.min(i, 50)), i);
+            }
+            if (i > 10 && random.nextInt(50) == 0) {
+                graph.addEdge(vertex, "N" + (i - 1 - random.nextInt(10)));
+            }
+        }
+        for (int i = 0; i < size - 1; i++) {
+            if (!continued[i]) {
+                addEdge(graph, continued, i, Math.min(size - 1, i + 1 + random.nextInt(5)));
+            }
+        }
+        return graph;
+    }
+
+    private static void addEdge(final LayeredGraph graph,
+                                final boolean[] continued,
+                                final int from,
+                                final int to) {
+        graph.addEdge("N" + from, "N" + to);
+        continued[from] = true;
+    }
+
+    private static void assertLayout(final LayeredGraph graph,
+                                     final int size) {
+        final Set<String> positioned = new HashSet<>();
+        for (final GraphLayer layer : graph.getLayers()) {
+            final List<Vertex> vertices = layer.getVertices();
+            for (int i = 0; i < vertices.size(); i++) {
+                final Vertex vertex = vertices.get(i);
+                assertTrue(positioned.add(vertex.getId()));
+                if (i > 0) {
+                    final Vertex previous = vertices.get(i - 1);
+                    assertEquals(previous.getY(), vertex.getY());
+                    assertTrue(previous.getX() + graph.getVertexWidth(previous.getId()) <= vertex.getX());
+                }
+            }
+        }
+        assertEquals(size, positioned.size());
+    }
+}
@@ -31,6 +31,16 @@ import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.Or
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
 public class VertexOrderingTest {
@@ -415,4 +425,129 @@ public class VertexOrderingTest {
 
         assertEquals(0, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCrossingIgnoresEdgesToOtherLayers() {
+
+        final GraphLayerImpl top = new GraphLayerImpl(0);
+        top.addNewVertex("A");
+        top.addNewVertex("B");
+
+        final GraphLayerImpl bottom = new GraphLayerImpl(1);
+        bottom.addNewVertex("C");
+        bottom.addNewVertex("D");
+
+        final List<OrientedEdge> edges = new ArrayList<>();
+        edges.add(new OrientedEdgeImpl("A", "C"));
+        edges.add(new OrientedEdgeImpl("B", "D"));
+        edges.add(new OrientedEdgeImpl("B", "E"));
+        edges.add(new OrientedEdgeImpl("F", "A"));
+
+        final LayerCrossingCount cc = new LayerCrossingCount();
+        final int result = cc.crossing(edges, top, bottom);
+
+        assertEquals(0, result);
+    }
+
+    @Test
+    public void testCrossingOfLinkedPositions() {
+        final LayerCrossingCount cc = new LayerCrossingCount();
+
+        assertEquals(3, cc.crossing(new int[]{1, 3}, new int[]{0, 2}));
+        assertEquals(1, cc.crossing(new int[]{0, 2}, new int[]{1, 3}));
+        assertEquals(0, cc.crossing(new int[]{0, 1}, new int[]{1, 2}));
+        assertEquals(0, cc.crossing(new int[0], new int[]{0}));
+    }
+
+    @Test
+    public void testTransposeCompletesPassAfterDeadline() {
+        final GraphLayerImpl top = new GraphLayerImpl(0);
+        top.addNewVertex("A");
+        top.addNewVertex("B");
+
+        final GraphLayerImpl bottom = new GraphLayerImpl(1);
+        bottom.addNewVertex("C");
+        bottom.addNewVertex("D");
+
+        final List<OrientedEdge> edges = new ArrayList<>();
+        edges.add(new OrientedEdgeImpl("A", "D"));
+        edges.add(new OrientedEdgeImpl("B", "C"));
+
+        final List<GraphLayer> layers = new ArrayList<>();
+        layers.add(top);
+        layers.add(bottom);
+
+        final VerticesTransposer transposer = new VerticesTransposer(new LayerCrossingCount());
+        transposer.transpose(layers, edges, 1, 1);
+
+        Assertions.assertThat(bottom.getVertices())
+                .extracting(Vertex::getId)
+                .containsExactly("D", "C");
+    }
+
+    @Test
+    public void testOrderWithoutCrossingDoesNotIterate() {
+        final LayeredGraph graph = new LayeredGraph();
+        graph.addEdge("A", "C");
+        graph.addEdge("B", "D");
+
+        final GraphLayerImpl layer01 = new GraphLayerImpl(1);
+        layer01.addNewVertex("A");
+        layer01.addNewVertex("B");
+        graph.getLayers().add(layer01);
+
+        final GraphLayerImpl layer02 = new GraphLayerImpl(2);
+        layer02.addNewVertex("C");
+        layer02.addNewVertex("D");
+        graph.getLayers().add(layer02);
+
+        final VertexLayerPositioning positioning = mock(VertexLayerPositioning.class);
+        final VerticesTransposer transposer = mock(VerticesTransposer.class);
+        final DefaultVertexOrdering ordering = new DefaultVertexOrdering(positioning,
+                                                                         new LayerCrossingCount(),
+                                                                         transposer);
+        ordering.orderVertices(graph);
+
+        verify(positioning, never()).positionVertices(anyList(), anyList(), anyInt());
+        verify(transposer, never()).transpose(anyList(), anyList(), anyInt(), anyLong());
+        Assertions.assertThat(graph.getLayers().get(1).getVertices())
+                .extracting(Vertex::getId)
+                .containsExactly("C", "D");
+    }
+
+    @Test
+    public void testOrderStopsWhenTimeBudgetIsExhausted() {
+        final LayeredGraph graph = new LayeredGraph();
+        graph.addEdge("A", "D");
+        graph.addEdge("B", "C");
+
+        final GraphLayerImpl layer01 = new GraphLayerImpl(1);
+        layer01.addNewVertex("A");
+        layer01.addNewVertex("B");
+        graph.getLayers().add(layer01);
+
+        final GraphLayerImpl layer02 = new GraphLayerImpl(2);
+        layer02.addNewVertex("C");
+        layer02.addNewVertex("D");
+        graph.getLayers().add(layer02);
+
+        final VertexLayerPositioning positioning = mock(VertexLayerPositioning.class);
+        final LayerCrossingCount crossingCount = spy(new LayerCrossingCount());
+        final VerticesTransposer transposer = mock(VerticesTransposer.class);
+        // Every iteration improves the crossing, so only the time budget stops them.
+        doReturn(3, 2, 1).when(crossingCount).crossing(anyList(), anyList());
+        final DefaultVertexOrdering ordering = new DefaultVertexOrdering(positioning,
+                                                                         crossingCount,
+                                                                         transposer);
+        assertEquals(0, ordering.getTimeBudget());
+        ordering.setTimeBudget(1);
+        doAnswer(invocation -> {
+            Thread.sleep(2);
+            return null;
+        }).when(positioning).positionVertices(anyList(), anyList(), anyInt());
+
+        ordering.orderVertices(graph);
+
+        verify(positioning, times(1)).positionVertices(anyList(), anyList(), anyInt());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.OrientedEdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayerImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.LayeredGraph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04.DefaultVertexPositioning.DEFAULT_VERTEX_SPACE;
+import static org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04.DefaultVertexPositioning.DEFAULT_VIRTUAL_VERTEX_SPACE;
+import static org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04.VertexPositioning.DEFAULT_VERTEX_WIDTH;
+
+public class BrandesKoepfPositioningTest {
+
+    @Test
+    public void testLongEdgeIsStraight() {
+        /*
+         * A   B
+         * |   |
+         * V1  C
+         * |   |
+         * D   E
+         */
+        final LayeredGraph graph = new LayeredGraph();
+        graph.getEdges().add(new OrientedEdgeImpl("A", "V1"));
+        graph.getEdges().add(new OrientedEdgeImpl("V1", "D"));
+        graph.getEdges().add(new OrientedEdgeImpl("B", "C"));
+        graph.getEdges().add(new OrientedEdgeImpl("C", "E"));
+
+        final GraphLayerImpl layer0 = new GraphLayerImpl(0);
+        layer0.addNewVertex("A");
+        layer0.addNewVertex("B");
+        final GraphLayerImpl layer1 = new GraphLayerImpl(1);
+        layer1.addVertex(new Vertex("V1", true));
+        layer1.addNewVertex("C");
+        final GraphLayerImpl layer2 = new GraphLayerImpl(2);
+        layer2.addNewVertex("D");
+        layer2.addNewVertex("E");
+        graph.getLayers().add(layer0);
+        graph.getLayers().add(layer1);
+        graph.getLayers().add(layer2);
+
+        final double[][] centers = calculateCenters(graph);
+
+        assertEquals(centers[0][0], centers[1][0], 0.0001);
+        assertEquals(centers[1][0], centers[2][0], 0.0001);
+        assertEquals(centers[0][1], centers[1][1], 0.0001);
+        assertEquals(centers[1][1], centers[2][1], 0.0001);
+        assertSeparated(centers[0][0], centers[0][1], DEFAULT_VERTEX_WIDTH + DEFAULT_VERTEX_SPACE);
+        assertSeparated(centers[2][0], centers[2][1], DEFAULT_VERTEX_WIDTH + DEFAULT_VERTEX_SPACE);
+    }
+
+    @Test
+    public void testOrderIsPreserved() {
+        /*
+         * A   B   C
+         *   \ | /
+         *     D
+         *   / | \
+         * E   F   G
+         */
+        final LayeredGraph graph = new LayeredGraph();
+        graph.getEdges().add(new OrientedEdgeImpl("A", "D"));
+        graph.getEdges().add(new OrientedEdgeImpl("B", "D"));
+        graph.getEdges().add(new OrientedEdgeImpl("C", "D"));
+        graph.getEdges().add(new OrientedEdgeImpl("D", "E"));
+        graph.getEdges().add(new OrientedEdgeImpl("D", "F"));
+        graph.getEdges().add(new OrientedEdgeImpl("D", "G"));
+
+        final GraphLayerImpl layer0 = new GraphLayerImpl(0);
+        layer0.addNewVertex("A");
+        layer0.addNewVertex("B");
+        layer0.addNewVertex("C");
+        final GraphLayerImpl layer1 = new GraphLayerImpl(1);
+        layer1.addNewVertex("D");
+        final GraphLayerImpl layer2 = new GraphLayerImpl(2);
+        layer2.addNewVertex("E");
+        layer2.addNewVertex("F");
+        layer2.addNewVertex("G");
+        graph.getLayers().add(layer0);
+        graph.getLayers().add(layer1);
+        graph.getLayers().add(layer2);
+
+        final double[][] centers = calculateCenters(graph);
+
+        for (final double[] layer : new double[][]{centers[0], centers[2]}) {
+            assertSeparated(layer[0], layer[1], DEFAULT_VERTEX_WIDTH + DEFAULT_VERTEX_SPACE);
+            assertSeparated(layer[1], layer[2], DEFAULT_VERTEX_WIDTH + DEFAULT_VERTEX_SPACE);
+        }
+        assertEquals(centers[0][1], centers[1][0], 0.0001);
+        assertEquals(centers[1][0], centers[2][1], 0.0001);
+    }
+
+    private static double[][] calculateCenters(final LayeredGraph graph) {
+        return new BrandesKoepfPositioning(graph.getLayers(),
+                                           graph.getEdges(),
+                                           graph,
+                                           DEFAULT_VERTEX_SPACE,
+                                           DEFAULT_VIRTUAL_VERTEX_SPACE).calculateCenters();
+    }
+
+    private static void assertSeparated(final double left,
+                                        final double right,
+                                        final double separation) {
+        assertTrue(right - left >= separation - 0.0001);
+    }
+}
@@ -19,6 +19,7 @@ package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.s
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -29,6 +30,7 @@ import org.kie.workbench.common.stunner.core.graph.processing.layout.OrientedEdg
 import org.kie.workbench.common.stunner.core.graph.processing.layout.ReorderedGraph;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayerImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.LayeredGraph;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
 import org.mockito.InOrder;
@@ -41,11 +43,14 @@ import static org.kie.workbench.common.stunner.core.graph.processing.layout.sugi
 import static org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04.DefaultVertexPositioning.DEFAULT_LAYER_VERTICAL_PADDING;
 import static org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04.DefaultVertexPositioning.DEFAULT_VERTEX_SPACE;
 import static org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step04.VertexPositioning.DEFAULT_VERTEX_WIDTH;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -220,6 +225,43 @@ public class DefaultVertexPositioningTest {
         assertFalse(e3.isReversed());
     }
 
+    @Test
+    public void testLargeGraphPositionedOnlyWhenEnabled() {
+
+        final LayeredGraph graph = new LayeredGraph();
+        graph.addEdge("A", "B");
+        final GraphLayerImpl layer0 = new GraphLayerImpl(0);
+        layer0.addNewVertex("A");
+        final GraphLayerImpl layer1 = new GraphLayerImpl(1);
+        layer1.addNewVertex("B");
+        graph.getLayers().add(layer0);
+        graph.getLayers().add(layer1);
+
+        assertEquals(0, tested.getLargeGraphVertices());
+        tested.calculateVerticesPositions(graph, LayerArrangement.TopDown);
+        verify(tested, never()).arrangeLargeGraph(any(), any());
+
+        tested.setLargeGraphVertices(2);
+        tested.calculateVerticesPositions(graph, LayerArrangement.TopDown);
+        verify(tested).arrangeLargeGraph(graph, LayerArrangement.TopDown);
+    }
+
+    @Test
+    public void testJoinVirtualEdges() {
+
+        final List<OrientedEdge> edges = new ArrayList<>();
+        edges.add(new OrientedEdgeImpl("A", "V1"));
+        edges.add(new OrientedEdgeImpl("V1", "V2"));
+        edges.add(new OrientedEdgeImpl("B", "C"));
+        edges.add(new OrientedEdgeImpl("V2", "D"));
+
+        tested.joinVirtualEdges(edges, new HashSet<>(Arrays.asList("V1", "V2")));
+
+        assertEquals(2, edges.size());
+        assertEquals(new OrientedEdgeImpl("A", "D"), edges.get(0));
+        assertEquals(new OrientedEdgeImpl("B", "C"), edges.get(1));
+    }
+
     @Test
     public void testGetLayersStartX() {
 
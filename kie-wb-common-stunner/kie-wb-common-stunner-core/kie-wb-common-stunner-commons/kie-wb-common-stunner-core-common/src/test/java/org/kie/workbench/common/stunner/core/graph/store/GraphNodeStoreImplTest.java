@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.store;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+
+import static org.junit.Assert.assertEquals;
+
+public class GraphNodeStoreImplTest {
+
+    private GraphNodeStoreImpl tested;
+
+    @Before
+    public void setup() {
+        tested = new GraphNodeStoreImpl();
+        tested.add(newNode("node1", "role1", "role2"));
+        tested.add(newNode("node2", "role1"));
+    }
+
+    @Test
+    public void testCountLabel() {
+        assertEquals(2, tested.countLabel("role1"));
+        assertEquals(1, tested.countLabel("role2"));
+        assertEquals(0, tested.countLabel("role3"));
+    }
+
+    @Test
+    public void testCountLabelAfterAdd() {
+        assertEquals(2, tested.countLabel("role1"));
+        tested.add(newNode("node3", "role1", "role3"));
+        assertEquals(3, tested.countLabel("role1"));
+        assertEquals(1, tested.countLabel("role3"));
+        // Replacing a stored node.
+        tested.add(newNode("node3", "role2"));
+        assertEquals(2, tested.countLabel("role1"));
+        assertEquals(2, tested.countLabel("role2"));
+        assertEquals(0, tested.countLabel("role3"));
+    }
+
+    @Test
+    public void testCountLabelAfterRemove() {
+        assertEquals(2, tested.countLabel("role1"));
+        tested.remove("node1");
+        tested.remove("unknown");
+        assertEquals(1, tested.countLabel("role1"));
+        assertEquals(0, tested.countLabel("role2"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRefreshLabels() {
+        assertEquals(1, tested.countLabel("role2"));
+        final Node node = tested.get("node1");
+        node.getLabels().clear();
+        node.getLabels().add("role3");
+        tested.refreshLabels(node);
+        assertEquals(1, tested.countLabel("role1"));
+        assertEquals(0, tested.countLabel("role2"));
+        assertEquals(1, tested.countLabel("role3"));
+        tested.remove("node1");
+        assertEquals(0, tested.countLabel("role3"));
+    }
+
+    @Test
+    public void testClear() {
+        assertEquals(2, tested.countLabel("role1"));
+        tested.clear();
+        assertEquals(0, tested.countLabel("role1"));
+        tested.add(newNode("node1", "role1"));
+        assertEquals(1, tested.countLabel("role1"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Node newNode(final String uuid,
+                                final String... labels) {
+        final Node node = new NodeImpl<>(uuid);
+        for (String label : labels) {
+            node.getLabels().add(label);
+        }
+        return node;
+    }
+}
@@ -76,6 +76,29 @@ public class StatefulGraphEvaluationStateTests {
         assertTrue(nodes.contains(someNewNode));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCardinalityStateCount() {
+        StatefulGraphEvaluationState.StatefulCardinalityState cardinalityState = tested.getCardinalityState();
+        NodeImpl someNewNode = new NodeImpl<>("someNewNodeUUID");
+        someNewNode.getLabels().add("someNewRole");
+        someNewNode.getLabels().addAll(graphInstance.startNode.getLabels());
+        cardinalityState.add(someNewNode);
+        cardinalityState.delete(graphInstance.nodeA);
+        Set<String> roles = StreamSupport.stream(cardinalityState.nodes().spliterator(), false)
+                .flatMap(node -> ((Set<String>) node.getLabels()).stream())
+                .collect(Collectors.toSet());
+        roles.addAll(graphInstance.nodeA.getLabels());
+        assertTrue(roles.contains("someNewRole"));
+        for (String role : roles) {
+            long expected = StreamSupport.stream(cardinalityState.nodes().spliterator(), false)
+                    .filter(node -> node.getLabels().contains(role))
+                    .count();
+            assertEquals(role, expected, cardinalityState.count(role));
+        }
+        assertEquals(0, cardinalityState.count("someNonExistingRole"));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testConnectorCardinalityState() {
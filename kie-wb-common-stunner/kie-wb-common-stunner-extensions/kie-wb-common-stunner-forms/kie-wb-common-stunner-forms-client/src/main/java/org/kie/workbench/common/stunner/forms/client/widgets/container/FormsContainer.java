@@ -16,7 +16,10 @@
 
 package org.kie.workbench.common.stunner.forms.client.widgets.container;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -43,12 +46,18 @@ public class FormsContainer implements IsElement {
 
     private static Logger LOGGER = Logger.getLogger(FormsContainer.class.getName());
 
+    static final int DEFAULT_MAX_DISPLAYERS = 10;
+
     private final FormsContainerView view;
     protected final ManagedInstance<FormDisplayer> displayersInstance;
+    // Displayers by the element they display, least recently used first.
     protected final Map<FormDisplayerKey, FormDisplayer> formDisplayers;
+    // The type of the definition each displayer renders, so displayers can be reused for elements of the same type.
+    private final Map<FormDisplayer, String> displayerTypes;
     private final Event<FormFieldChanged> formFieldChangedEvent;
 
     private FormDisplayer currentDisplayer;
+    private int maxDisplayers = DEFAULT_MAX_DISPLAYERS;
 
     @Inject
     public FormsContainer(final FormsContainerView view,
@@ -57,7 +66,8 @@ public class FormsContainer implements IsElement {
         this.view = view;
         this.displayersInstance = displayersInstance;
         this.formFieldChangedEvent = formFieldChangedEvent;
-        this.formDisplayers = new HashMap<>();
+        this.formDisplayers = new LinkedHashMap<>(16, 0.75f, true);
+        this.displayerTypes = new HashMap<>();
     }
 
     public void render(final String graphUuid,
@@ -66,7 +76,7 @@ public class FormsContainer implements IsElement {
                        final Path diagramPath,
                        final FieldChangeHandler changeHandler,
                        final RenderMode renderMode) {
-        FormDisplayer displayer = getDisplayer(graphUuid, domainObjectUUID);
+        FormDisplayer displayer = getDisplayer(graphUuid, domainObjectUUID, domainObject.getClass().getName());
 
         displayer.render(domainObjectUUID, domainObject, diagramPath, changeHandler, renderMode);
 
@@ -77,6 +87,8 @@ public class FormsContainer implements IsElement {
         displayer.show();
         currentDisplayer = displayer;
 
+        evictDisplayers();
+
         currentDisplayer.getRenderer().addFieldChangeHandler((name, value) -> {
             formFieldChangedEvent.fire(new FormFieldChanged(name, value, domainObjectUUID));
         });
@@ -84,6 +96,18 @@ public class FormsContainer implements IsElement {
 
     protected FormDisplayer getDisplayer(final String graphUuid,
                                          final String elementUuid) {
+        return getDisplayer(graphUuid, elementUuid, null);
+    }
+
+    /**
+     * Returns the displayer for an element. Elements without a displayer reuse the least recently used displayer
+     * of the same definition type in the graph, if any, so its form can be bound to the element rather than
+     * rendering a new one.
+     * @param definitionType The type of the element's definition, or null if the displayer is not to be reused.
+     */
+    protected FormDisplayer getDisplayer(final String graphUuid,
+                                         final String elementUuid,
+                                         final String definitionType) {
         FormDisplayerKey key = new FormDisplayerKey(graphUuid, elementUuid);
         FormDisplayer displayer = formDisplayers.get(key);
 
@@ -93,6 +117,24 @@ public class FormsContainer implements IsElement {
             return displayer;
         }
 
+        if (definitionType != null) {
+            final FormDisplayerKey pooledKey = formDisplayers.entrySet()
+                    .stream()
+                    .filter(entry -> entry.getKey().getGraphUuid().equals(graphUuid))
+                    .filter(entry -> definitionType.equals(displayerTypes.get(entry.getValue())))
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse(null);
+            if (pooledKey != null) {
+                LOGGER.fine("Reusing form displayer of " + pooledKey + " for : " + key);
+
+                displayer = formDisplayers.remove(pooledKey);
+                formDisplayers.put(key, displayer);
+
+                return displayer;
+            }
+        }
+
         LOGGER.fine("Creating new form displayer for : " + key);
 
         displayer = displayersInstance.get();
@@ -100,10 +142,34 @@ public class FormsContainer implements IsElement {
         view.addDisplayer(displayer);
 
         formDisplayers.put(new FormDisplayerKey(graphUuid, elementUuid), displayer);
+        if (definitionType != null) {
+            displayerTypes.put(displayer, definitionType);
+        }
 
         return displayer;
     }
 
+    /**
+     * Destroys the least recently used displayers, other than the current one, when there are more than
+     * {@link #DEFAULT_MAX_DISPLAYERS}.
+     */
+    private void evictDisplayers() {
+        final Iterator<Map.Entry<FormDisplayerKey, FormDisplayer>> eldest = formDisplayers.entrySet().iterator();
+        final List<FormDisplayerKey> evicted = new ArrayList<>();
+        for (int count = formDisplayers.size(); count > maxDisplayers && eldest.hasNext(); ) {
+            final Map.Entry<FormDisplayerKey, FormDisplayer> entry = eldest.next();
+            if (!entry.getValue().equals(currentDisplayer)) {
+                evicted.add(entry.getKey());
+                count--;
+            }
+        }
+        evicted.forEach(this::clearDisplayer);
+    }
+
+    void setMaxDisplayers(final int maxDisplayers) {
+        this.maxDisplayers = maxDisplayers;
+    }
+
     public void clearDiagramDisplayers(final String graphUuid) {
         LOGGER.fine("Clearing properties forms for graph: " + graphUuid);
         List<FormDisplayerKey> keys = formDisplayers.keySet()
@@ -131,6 +197,7 @@ public class FormsContainer implements IsElement {
 
     private void clearDisplayer(final FormDisplayerKey key) {
         FormDisplayer displayer = formDisplayers.remove(key);
+        displayerTypes.remove(displayer);
         LOGGER.fine("Clearing form displayer for element: " + key.getElementUid());
         view.removeDisplayer(displayer);
         displayer.hide();
@@ -151,6 +218,7 @@ public class FormsContainer implements IsElement {
         currentDisplayer = null;
         displayersInstance.destroyAll();
         formDisplayers.clear();
+        displayerTypes.clear();
         currentDisplayer = null;
     }
 }
@@ -19,6 +19,8 @@ package org.kie.workbench.common.stunner.forms.client.widgets.container.displaye
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,6 +41,8 @@ import org.kie.workbench.common.forms.dynamic.service.shared.FormRenderingContex
 import org.kie.workbench.common.forms.dynamic.service.shared.RenderMode;
 import org.kie.workbench.common.forms.dynamic.service.shared.adf.DynamicFormModelGenerator;
 import org.kie.workbench.common.forms.dynamic.service.shared.impl.StaticModelFormRenderingContext;
+import org.kie.workbench.common.forms.model.FieldDefinition;
+import org.kie.workbench.common.forms.model.FormDefinition;
 import org.kie.workbench.common.forms.processing.engine.handling.FieldChangeHandler;
 import org.kie.workbench.common.forms.processing.engine.handling.FormField;
 import org.kie.workbench.common.stunner.forms.client.formFilters.FormFiltersProviderFactory;
@@ -55,6 +59,10 @@ public class FormDisplayer implements FormDisplayerView.Presenter,
     private final DynamicFormRenderer renderer;
     private final DynamicFormModelGenerator modelGenerator;
 
+    private String renderedFormSignature;
+    private Path renderedPath;
+    private RenderMode renderedMode;
+
     @Inject
     public FormDisplayer(final FormDisplayerView view,
                          final DynamicFormRenderer renderer,
@@ -88,8 +96,25 @@ public class FormDisplayer implements FormDisplayerView.Presenter,
                           final FieldChangeHandler changeHandler,
                           final RenderMode renderMode) {
 
+        final boolean isInitialized = renderer.isInitialized();
+
+        Collection<FormElementFilter> filters = FormFiltersProviderFactory.getFilterForDefinition(domainObjectUUID, domainObject);
+
+        final BindableProxy<?> proxy = (BindableProxy<?>) BindableProxyFactory.getBindableProxy(domainObject);
+        final StaticModelFormRenderingContext generatedCtx = modelGenerator.getContextForModel(proxy.deepUnwrap(), filters.stream().toArray(FormElementFilter[]::new));
+        final String formSignature = getFormSignature(generatedCtx);
+
+        if (isInitialized && null != formSignature && formSignature.equals(renderedFormSignature)
+                && Objects.equals(diagramPath, renderedPath) && renderMode == renderedMode) {
+            // The element has the same form as the one rendered, so its model is bound to the current form
+            LOGGER.fine("Binding the current form to element");
+            renderer.bind(generatedCtx.getModel());
+            renderer.addFieldChangeHandler(changeHandler);
+            return;
+        }
+
         final List<String> previousExpandedCollapses = new ArrayList<>();
-        if (renderer.isInitialized()) {
+        if (isInitialized) {
             // Collecting expanded collapses from current form to synchronize the new form collapses
             renderer.getCurrentForm().getFields()
                     .stream()
@@ -104,20 +129,53 @@ public class FormDisplayer implements FormDisplayerView.Presenter,
 
         LOGGER.fine("Rendering a new form for element");
 
-        Collection<FormElementFilter> filters = FormFiltersProviderFactory.getFilterForDefinition(domainObjectUUID, domainObject);
-
-        final BindableProxy<?> proxy = (BindableProxy<?>) BindableProxyFactory.getBindableProxy(domainObject);
-        final StaticModelFormRenderingContext generatedCtx = modelGenerator.getContextForModel(proxy.deepUnwrap(), filters.stream().toArray(FormElementFilter[]::new));
         final FormRenderingContext<?> pathAwareCtx = new PathAwareFormContext<>(generatedCtx, diagramPath);
         pathAwareCtx.setRenderMode(renderMode);
 
         renderer.render(pathAwareCtx);
+        renderedFormSignature = formSignature;
+        renderedPath = diagramPath;
+        renderedMode = renderMode;
 
         syncCollapses(previousExpandedCollapses);
 
         renderer.addFieldChangeHandler(changeHandler);
     }
 
+    /**
+     * Builds a signature of the forms in the context; i.e. their fields and the field settings that may depend on the
+     * model. Models whose contexts have the same signature can be bound to the same rendered form.
+     * @return The signature, or null if the context has no forms.
+     */
+    static String getFormSignature(final FormRenderingContext<?> context) {
+        if (null == context || null == context.getRootForm()) {
+            return null;
+        }
+
+        final StringBuilder signature = new StringBuilder();
+        appendFormSignature(signature, context.getRootForm());
+        if (null != context.getAvailableForms()) {
+            for (FormDefinition form : new TreeMap<>(context.getAvailableForms()).values()) {
+                appendFormSignature(signature, form);
+            }
+        }
+        return signature.toString();
+    }
+
+    private static void appendFormSignature(final StringBuilder signature,
+                                            final FormDefinition form) {
+        signature.append(form.getId()).append('{');
+        for (FieldDefinition field : form.getFields()) {
+            signature.append(field.getClass().getName()).append(':')
+                    .append(field.getName()).append(':')
+                    .append(field.getBinding()).append(':')
+                    .append(field.getLabel()).append(':')
+                    .append(field.getRequired()).append(':')
+                    .append(field.getReadOnly()).append(';');
+        }
+        signature.append('}');
+    }
+
     private void syncCollapses(final List<String> expandedCollapses) {
 
         final Stream<FormField> formFields = renderer.getCurrentForm().getFields().stream()
@@ -159,6 +217,7 @@ public class FormDisplayer implements FormDisplayerView.Presenter,
 
     public void dispose() {
         renderer.unBind();
+        renderedFormSignature = null;
     }
 
     @Override
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.forms.client.widgets.container;
+
+import javax.enterprise.event.Event;
+
+import org.jboss.errai.ioc.client.api.ManagedInstance;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.forms.dynamic.client.DynamicFormRenderer;
+import org.kie.workbench.common.forms.dynamic.service.shared.RenderMode;
+import org.kie.workbench.common.forms.processing.engine.handling.FieldChangeHandler;
+import org.kie.workbench.common.stunner.forms.client.event.FormFieldChanged;
+import org.kie.workbench.common.stunner.forms.client.widgets.container.displayer.FormDisplayer;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class FormsContainerTest {
+
+    private static final String GRAPH_UUID = "graph";
+    private static final String OTHER_GRAPH_UUID = "otherGraph";
+
+    @Mock
+    private FormsContainerView view;
+
+    @Mock
+    private ManagedInstance<FormDisplayer> displayersInstance;
+
+    @Mock
+    private Event<FormFieldChanged> formFieldChangedEvent;
+
+    @Mock
+    private Path path;
+
+    @Mock
+    private FieldChangeHandler changeHandler;
+
+    private FormsContainer formsContainer;
+
+    @Before
+    public void setup() {
+        when(displayersInstance.get()).thenAnswer(i -> {
+            final FormDisplayer displayer = mock(FormDisplayer.class);
+            when(displayer.getRenderer()).thenReturn(mock(DynamicFormRenderer.class));
+            return displayer;
+        });
+
+        formsContainer = new FormsContainer(view, displayersInstance, formFieldChangedEvent);
+    }
+
+    @Test
+    public void testRenderElementsOfSameTypeReusesDisplayer() {
+        final FormDisplayer displayer = render(GRAPH_UUID, "element1", new FirstDefinition());
+
+        assertSame(displayer, render(GRAPH_UUID, "element2", new FirstDefinition()));
+        assertSame(displayer, render(GRAPH_UUID, "element1", new FirstDefinition()));
+
+        verify(displayersInstance).get();
+        verify(view).addDisplayer(displayer);
+        verify(displayer, times(3)).render(any(), any(), eq(path), eq(changeHandler), eq(RenderMode.EDIT_MODE));
+        assertThat(formsContainer.formDisplayers).containsOnlyKeys(new FormDisplayerKey(GRAPH_UUID, "element1"));
+    }
+
+    @Test
+    public void testRenderElementsOfDifferentTypes() {
+        final FormDisplayer displayer1 = render(GRAPH_UUID, "element1", new FirstDefinition());
+        final FormDisplayer displayer2 = render(GRAPH_UUID, "element2", new SecondDefinition());
+
+        assertNotSame(displayer1, displayer2);
+        verify(displayer1, times(2)).hide();
+        assertSame(displayer1, render(GRAPH_UUID, "element3", new FirstDefinition()));
+        verify(displayersInstance, times(2)).get();
+    }
+
+    @Test
+    public void testRenderElementsOfSameTypeInDifferentGraphs() {
+        final FormDisplayer displayer1 = render(GRAPH_UUID, "element1", new FirstDefinition());
+        final FormDisplayer displayer2 = render(OTHER_GRAPH_UUID, "element1", new FirstDefinition());
+
+        assertNotSame(displayer1, displayer2);
+
+        formsContainer.clearDiagramDisplayers(OTHER_GRAPH_UUID);
+
+        verify(displayersInstance).destroy(displayer2);
+        verify(displayersInstance, never()).destroy(displayer1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDisplayersAreDestroyed() {
+        formsContainer.setMaxDisplayers(2);
+
+        final FormDisplayer displayer1 = render(GRAPH_UUID, "element1", new FirstDefinition());
+        final FormDisplayer displayer2 = render(GRAPH_UUID, "element2", new SecondDefinition());
+        render(GRAPH_UUID, "element1", new FirstDefinition());
+        final FormDisplayer displayer3 = render(GRAPH_UUID, "element3", new ThirdDefinition());
+
+        verify(view).removeDisplayer(displayer2);
+        verify(displayersInstance).destroy(displayer2);
+        verify(displayersInstance, never()).destroy(displayer1);
+        assertThat(formsContainer.formDisplayers).containsOnlyKeys(new FormDisplayerKey(GRAPH_UUID, "element1"),
+                                                                   new FormDisplayerKey(GRAPH_UUID, "element3"));
+        assertThat(formsContainer.formDisplayers).containsValues(displayer1, displayer3);
+
+        // The displayer of the second type was destroyed, so a new one is needed
+        assertNotSame(displayer2, render(GRAPH_UUID, "element2", new SecondDefinition()));
+    }
+
+    @Test
+    public void testOnlyCurrentDisplayerIsKept() {
+        formsContainer.setMaxDisplayers(1);
+
+        final FormDisplayer displayer1 = render(GRAPH_UUID, "element1", new FirstDefinition());
+        final FormDisplayer displayer2 = render(GRAPH_UUID, "element2", new SecondDefinition());
+
+        verify(displayersInstance).destroy(displayer1);
+        verify(displayersInstance, never()).destroy(displayer2);
+    }
+
+    @Test
+    public void testClearFormDisplayerOfReusedDisplayer() {
+        final FormDisplayer displayer = render(GRAPH_UUID, "element1", new FirstDefinition());
+        render(GRAPH_UUID, "element2", new FirstDefinition());
+
+        formsContainer.clearFormDisplayer(GRAPH_UUID, "element1");
+        verify(displayersInstance, never()).destroy(displayer);
+
+        formsContainer.clearFormDisplayer(GRAPH_UUID, "element2");
+        verify(displayersInstance).destroy(displayer);
+        assertThat(formsContainer.formDisplayers).isEmpty();
+    }
+
+    private FormDisplayer render(final String graphUuid,
+                                 final String elementUuid,
+                                 final Object definition) {
+        formsContainer.render(graphUuid, elementUuid, definition, path, changeHandler, RenderMode.EDIT_MODE);
+        return formsContainer.formDisplayers.get(new FormDisplayerKey(graphUuid, elementUuid));
+    }
+
+    private static class FirstDefinition {
+
+    }
+
+    private static class SecondDefinition {
+
+    }
+
+    private static class ThirdDefinition {
+
+    }
+}
@@ -29,6 +29,8 @@ import org.kie.workbench.common.forms.dynamic.client.rendering.formGroups.impl.n
 import org.kie.workbench.common.forms.dynamic.service.shared.RenderMode;
 import org.kie.workbench.common.forms.dynamic.service.shared.adf.DynamicFormModelGenerator;
 import org.kie.workbench.common.forms.dynamic.service.shared.impl.StaticModelFormRenderingContext;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.textBox.definition.TextBoxFieldDefinition;
+import org.kie.workbench.common.forms.model.FormDefinition;
 import org.kie.workbench.common.forms.processing.engine.handling.FieldChangeHandler;
 import org.kie.workbench.common.forms.processing.engine.handling.Form;
 import org.kie.workbench.common.forms.processing.engine.handling.FormField;
@@ -40,6 +42,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.uberfire.backend.vfs.Path;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyVararg;
 import static org.mockito.Mockito.doAnswer;
@@ -245,6 +249,79 @@ public class FormDisplayerTest {
         verify(containerField2, times(1)).expand();
     }
 
+    @Test
+    public void testRenderElementWithSameFormBindsModel() {
+        RenderMode renderMode = RenderMode.EDIT_MODE;
+        when(renderingContext.getRootForm()).thenReturn(newForm(false));
+        when(renderingContext.getModel()).thenReturn(elementDefinition);
+
+        testRender(1, 1, 1, 0, 1, renderMode);
+
+        when(formRenderer.isInitialized()).thenReturn(true);
+        when(renderingContext.getRootForm()).thenReturn(newForm(false));
+
+        displayer.render(node.getUUID(), node.getContent().getDefinition(), path, fieldChangeHandler, renderMode);
+
+        verify(formRenderer, times(1)).render(any(PathAwareFormContext.class));
+        verify(formRenderer, never()).unBind();
+        verify(formRenderer).bind(elementDefinition);
+        verify(formRenderer, times(2)).addFieldChangeHandler(fieldChangeHandler);
+        verify(view, times(2)).show();
+    }
+
+    @Test
+    public void testRenderElementWithDifferentFormRendersForm() {
+        RenderMode renderMode = RenderMode.EDIT_MODE;
+        when(renderingContext.getRootForm()).thenReturn(newForm(false));
+
+        testRender(1, 1, 1, 0, 1, renderMode);
+
+        when(formRenderer.isInitialized()).thenReturn(true);
+        when(renderingContext.getRootForm()).thenReturn(newForm(true));
+
+        testRender(2, 2, 2, 1, 2, renderMode);
+        verify(formRenderer, never()).bind(any());
+    }
+
+    @Test
+    public void testRenderElementInDifferentModeRendersForm() {
+        when(renderingContext.getRootForm()).thenReturn(newForm(false));
+
+        testRender(1, 1, 1, 0, 1, RenderMode.EDIT_MODE);
+
+        when(formRenderer.isInitialized()).thenReturn(true);
+
+        displayer.render(node.getUUID(), node.getContent().getDefinition(), path, fieldChangeHandler, RenderMode.READ_ONLY_MODE);
+
+        verify(formRenderer, times(2)).render(any(PathAwareFormContext.class));
+        verify(renderingContext).setRenderMode(RenderMode.READ_ONLY_MODE);
+        verify(formRenderer, never()).bind(any());
+    }
+
+    @Test
+    public void testGetFormSignature() {
+        assertNull(FormDisplayer.getFormSignature(renderingContext));
+
+        when(renderingContext.getRootForm()).thenReturn(newForm(false));
+        final String signature = FormDisplayer.getFormSignature(renderingContext);
+
+        assertEquals(signature, FormDisplayer.getFormSignature(renderingContext));
+
+        when(renderingContext.getRootForm()).thenReturn(newForm(true));
+        assertNotEquals(signature, FormDisplayer.getFormSignature(renderingContext));
+    }
+
+    private static FormDefinition newForm(final boolean readOnly) {
+        final FormDefinition form = new FormDefinition();
+        form.setId(FirstDefinition.class.getName());
+        final TextBoxFieldDefinition field = new TextBoxFieldDefinition();
+        field.setName(FIELD1);
+        field.setBinding(FIELD1);
+        field.setReadOnly(readOnly);
+        form.getFields().add(field);
+        return form;
+    }
+
     private void testRender(int renderingTimes, int initializedTimes, int newContextTimes, int boundTimes, int viewTimes, RenderMode renderMode) {
         displayer.render(node.getUUID(), node.getContent().getDefinition(), path, fieldChangeHandler, renderMode);
 
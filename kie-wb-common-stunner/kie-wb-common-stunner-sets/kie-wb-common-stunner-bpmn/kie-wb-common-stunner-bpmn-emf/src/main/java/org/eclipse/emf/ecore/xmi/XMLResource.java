@@ -36,6 +36,7 @@ import org.eclipse.emf.ecore.xmi.resource.xml.XMLDOMHandler;
 import org.eclipse.emf.ecore.xmi.resource.xml.XMLHelper;
 import org.eclipse.emf.ecore.xmi.resource.xml.XMLLoad;
 import org.eclipse.emf.ecore.xmi.resource.xml.XMLSave;
+import org.eclipse.emf.ecore.xmi.resource.xml.XMLStreamLoad;
 import org.eclipse.emf.ecore.xml.type.AnyType;
 
 /**
@@ -234,6 +235,10 @@ public class XMLResource extends ResourceImpl {
         return new XMLLoad(createXMLHelper());
     }
 
+    protected XMLStreamLoad createXMLStreamLoad() {
+        return new XMLStreamLoad(createXMLHelper());
+    }
+
     protected XMLSave createXMLSave() {
         return new XMLSave(createXMLHelper());
     }
@@ -263,6 +268,22 @@ public class XMLResource extends ResourceImpl {
         }
     }
 
+    /**
+     * Saves the resource as text straight to the given output, without building a DOM.
+     */
+    public void save(Appendable output, Map<?, ?> options) throws IOException {
+        XMLSave xmlSave = createXMLSave();
+        if (defaultSaveOptions == null || defaultSaveOptions.isEmpty()) {
+            xmlSave.save(this, output, options == null ? Collections.EMPTY_MAP : options);
+        } else if (options == null) {
+            xmlSave.save(this, output, defaultSaveOptions);
+        } else {
+            Map<Object, Object> mergedOptions = new HashMap<Object, Object>(defaultSaveOptions);
+            mergedOptions.putAll(options);
+            xmlSave.save(this, output, mergedOptions);
+        }
+    }
+
     @Override
     public boolean useZip() {
         return useZip;
@@ -471,6 +492,18 @@ public class XMLResource extends ResourceImpl {
     }
 
     public final void load(Node node, Map<?, ?> options) throws IOException {
+        load(options, loadOptions -> doLoad(node, loadOptions));
+    }
+
+    /**
+     * Loads the resource straight from the XML contents, without building a DOM.
+     * @see XMLStreamLoad
+     */
+    public final void load(String contents, Map<?, ?> options) throws IOException {
+        load(options, loadOptions -> doLoad(contents, loadOptions));
+    }
+
+    private void load(Map<?, ?> options, Loader loader) throws IOException {
         if (!isLoaded) {
             Notification notification = setLoaded(true);
             isLoading = true;
@@ -485,14 +518,14 @@ public class XMLResource extends ResourceImpl {
 
             try {
                 if (defaultLoadOptions == null || defaultLoadOptions.isEmpty()) {
-                    doLoad(node, options);
+                    loader.load(options);
                 } else if (options == null) {
-                    doLoad(node, defaultLoadOptions);
+                    loader.load(defaultLoadOptions);
                 } else {
                     Map<Object, Object> mergedOptions = new HashMap<Object, Object>(defaultLoadOptions);
                     mergedOptions.putAll(options);
 
-                    doLoad(node, mergedOptions);
+                    loader.load(mergedOptions);
                 }
             } finally {
                 isLoading = false;
@@ -506,6 +539,11 @@ public class XMLResource extends ResourceImpl {
         }
     }
 
+    private interface Loader {
+
+        void load(Map<?, ?> options) throws IOException;
+    }
+
     public void doLoad(Node node, Map<?, ?> options) throws IOException {
         XMLLoad xmlLoad = createXMLLoad();
 
@@ -516,6 +554,16 @@ public class XMLResource extends ResourceImpl {
         xmlLoad.load(this, node, options);
     }
 
+    public void doLoad(String contents, Map<?, ?> options) throws IOException {
+        XMLStreamLoad xmlLoad = createXMLStreamLoad();
+
+        if (options == null) {
+            options = Collections.EMPTY_MAP;
+        }
+
+        xmlLoad.load(this, contents, options);
+    }
+
     @Override
     protected void doSave(OutputStream outputStream, Map<?, ?> options) throws IOException {
         //super.doSave(outputStream, options);
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.emf.ecore.xmi.resource.xml;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link XMLStreamLoad} when the contents are not well-formed XML.
+ */
+public class MalformedXMLException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int offset;
+
+    public MalformedXMLException(String message, int offset) {
+        super(message + " (offset " + offset + ")");
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the position in the contents where the error was found.
+     */
+    public int getOffset() {
+        return offset;
+    }
+}
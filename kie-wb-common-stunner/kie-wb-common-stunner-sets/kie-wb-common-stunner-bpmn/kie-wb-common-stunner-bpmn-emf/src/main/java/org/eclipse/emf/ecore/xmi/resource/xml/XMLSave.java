@@ -15,6 +15,7 @@
  */
 package org.eclipse.emf.ecore.xmi.resource.xml;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -93,7 +94,7 @@ public class XMLSave {
 
     protected static final int INDEX_LOOKUP = 0;
 
-    final StringBuffer buffer = new StringBuffer();
+    final StringBuilder buffer = new StringBuilder();
 
     protected XMLHelper helper;
     protected XMLString doc;
@@ -231,6 +232,29 @@ public class XMLSave {
         return gwtDocumentHandler.getDocument();
     }
 
+    /**
+     * Saves the resource as text, without building a DOM. Once the whole document
+     * is traversed, each of its segments is appended to the given output, so the
+     * text is never copied into an intermediate string.
+     */
+    public void save(XMLResource resource, Appendable output, Map<?, ?> options) throws IOException {
+        toDOM = false;
+        this.xmlResource = resource;
+
+        init(resource, options);
+        @SuppressWarnings("unchecked")
+        List<? extends EObject> contents = roots = (List<? extends EObject>) options.get(XMLResource.OPTION_ROOT_OBJECTS);
+        if (contents == null) {
+            contents = resource.getContents();
+        }
+        traverse(contents);
+
+        XMLString text = doc;
+        endSave(contents);
+        xmlResource = null;
+        text.write(output);
+    }
+
     protected void endSave(List<? extends EObject> contents) {
         if (extendedMetaData != null && contents.size() >= 1) {
             EObject root = contents.get(0);
@@ -591,7 +615,7 @@ public class XMLSave {
         EPackage noNamespacePackage = helper.getNoNamespacePackage();
         EPackage[] packages = helper.packages();
         buffer.setLength(0);
-        StringBuffer xsiSchemaLocation = buffer;
+        StringBuilder xsiSchemaLocation = buffer;
         String xsiNoNamespaceSchemaLocation = null;
         if (declareSchemaLocation) {
             Map<String, String> handledBySchemaLocationMap = Collections.emptyMap();
@@ -1390,7 +1414,7 @@ public class XMLSave {
             EDataType d = (EDataType) f.getEType();
             EPackage ePackage = d.getEPackage();
             EFactory fac = ePackage.getEFactoryInstance();
-            StringBuffer stringValues = new StringBuffer();
+            StringBuilder stringValues = new StringBuilder();
             for (int i = 0; i < size; ++i) {
                 Object value = values.get(i);
                 if (value != null) {
@@ -1528,7 +1552,7 @@ public class XMLSave {
         InternalEList<? extends EObject> values = (InternalEList<? extends EObject>) helper.getValue(o, f);
         if (!values.isEmpty()) {
             buffer.setLength(0);
-            StringBuffer ids = buffer;
+            StringBuilder ids = buffer;
             boolean failure = false;
             for (Iterator<? extends EObject> i = values.basicIterator(); ; ) {
                 EObject value = i.next();
@@ -1637,7 +1661,7 @@ public class XMLSave {
         @SuppressWarnings("unchecked")
         InternalEList<? extends EObject> values = (InternalEList<? extends EObject>) helper.getValue(o, f);
         buffer.setLength(0);
-        StringBuffer result = buffer;
+        StringBuilder result = buffer;
         int size = values.size();
         String href = null;
         boolean failure = false;
@@ -1724,7 +1748,7 @@ public class XMLSave {
         @SuppressWarnings("unchecked")
         InternalEList<? extends EObject> values = (InternalEList<? extends EObject>) helper.getValue(o, f);
         buffer.setLength(0);
-        StringBuffer result = buffer;
+        StringBuilder result = buffer;
         boolean failure = false;
         for (int i = 0, size = values.size(); i < size; i++) {
             String idref = helper.getIDREF(values.basicGet(i));
@@ -2445,6 +2469,8 @@ public class XMLSave {
 
     protected static class Escape {
 
+        protected static final int ASCII_LIMIT = 0x80;
+
         protected char[] value;
         protected int mappableLimit;
         protected boolean allowControlCharacters;
@@ -2526,8 +2552,25 @@ public class XMLSave {
         protected final char[] QUOTE = {'&', 'q', 'u', 'o', 't', ';'};
         protected final char[] LINE_FEED = System.getProperty("line.separator", "\n").toCharArray();
 
+        /**
+         * The replacements of the ASCII characters, indexed by character, for
+         * attribute and element values. A null entry means the character is
+         * written as it is.
+         */
+        protected final char[][] attributeReplacements = new char[ASCII_LIMIT][];
+        protected final char[][] textReplacements = new char[ASCII_LIMIT][];
+
         public Escape() {
             value = new char[100];
+            for (int ch = 0; ch < CONTROL_CHARACTERS.length; ch++) {
+                attributeReplacements[ch] = CONTROL_CHARACTERS[ch];
+                textReplacements[ch] = CONTROL_CHARACTERS[ch];
+            }
+            attributeReplacements['&'] = textReplacements['&'] = AMP;
+            attributeReplacements['<'] = textReplacements['<'] = LESS;
+            attributeReplacements['"'] = textReplacements['"'] = QUOTE;
+            textReplacements['\t'] = null;
+            textReplacements['\n'] = LINE_FEED;
         }
 
         public void setMappingLimit(int mappingLimit) {
@@ -2552,121 +2595,7 @@ public class XMLSave {
          *  \r to &#xD;
          */
         public String convert(String input) {
-            boolean changed = false;
-            int inputLength = input.length();
-            grow(inputLength);
-            int outputPos = 0;
-            int inputPos = 0;
-            char ch = 0;
-            while (inputLength-- > 0) {
-                ch = input.charAt(inputPos++); // value[outputPos];
-                switch (ch) {
-                    case 0x1:
-                    case 0x2:
-                    case 0x3:
-                    case 0x4:
-                    case 0x5:
-                    case 0x6:
-                    case 0x7:
-                    case 0x8:
-                    case 0xB:
-                    case 0xC:
-                    case 0xE:
-                    case 0xF:
-                    case 0x10:
-                    case 0x11:
-                    case 0x12:
-                    case 0x13:
-                    case 0x14:
-                    case 0x15:
-                    case 0x16:
-                    case 0x17:
-                    case 0x18:
-                    case 0x19:
-                    case 0x1A:
-                    case 0x1B:
-                    case 0x1C:
-                    case 0x1D:
-                    case 0x1E:
-                    case 0x1F: {
-                        if (allowControlCharacters) {
-                            outputPos = replaceChars(outputPos, CONTROL_CHARACTERS[ch], inputLength);
-                            changed = true;
-                        } else {
-                            throw new RuntimeException("An invalid XML character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
-                        }
-                        break;
-                    }
-                    case '&': {
-                        outputPos = replaceChars(outputPos, AMP, inputLength);
-                        changed = true;
-                        break;
-                    }
-                    case '<': {
-                        outputPos = replaceChars(outputPos, LESS, inputLength);
-                        changed = true;
-                        break;
-                    }
-                    case '"': {
-                        outputPos = replaceChars(outputPos, QUOTE, inputLength);
-                        changed = true;
-                        break;
-                    }
-                    case '\n': {
-                        outputPos = replaceChars(outputPos, LF, inputLength);
-                        changed = true;
-                        break;
-                    }
-                    case '\r': {
-                        outputPos = replaceChars(outputPos, CR, inputLength);
-                        changed = true;
-                        break;
-                    }
-                    case '\t': {
-                        outputPos = replaceChars(outputPos, TAB, inputLength);
-                        changed = true;
-                        break;
-                    }
-                    default: {
-                        if (!XMLChar.isValid(ch)) {
-                            if (XMLChar.isHighSurrogate(ch)) {
-                                char high = ch;
-                                if (inputLength-- > 0) {
-                                    ch = input.charAt(inputPos++);
-                                    if (XMLChar.isLowSurrogate(ch)) {
-                                        if (mappableLimit == MAX_UTF_MAPPABLE_CODEPOINT) {
-                                            // Every codepoint is supported!
-                                            value[outputPos++] = high;
-                                            value[outputPos++] = ch;
-                                        } else {
-                                            // Produce the supplemental character as an entity
-                                            outputPos = replaceChars(outputPos, ("&#x" + Integer.toHexString(XMLChar.supplemental(high, ch)) + ";").toCharArray(), inputLength);
-                                            changed = true;
-                                        }
-                                        break;
-                                    }
-                                    throw new RuntimeException("An invalid low surrogate character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
-                                } else {
-                                    throw new RuntimeException("An unpaired high surrogate character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
-                                }
-                            } else {
-                                throw new RuntimeException("An invalid XML character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
-                            }
-                        } else {
-                            // Normal (BMP) unicode code point. See if we know for a fact that the encoding supports it:
-                            if (ch <= mappableLimit) {
-                                value[outputPos++] = ch;
-                            } else {
-                                // We not sure the encoding supports this code point, so we write it as a character entity reference.
-                                outputPos = replaceChars(outputPos, ("&#x" + Integer.toHexString(ch) + ";").toCharArray(), inputLength);
-                                changed = true;
-                            }
-                        }
-                        break;
-                    }
-                }
-            }
-            return changed ? new String(value, 0, outputPos) : input;
+            return convert(input, attributeReplacements, false);
         }
 
         /*
@@ -2678,127 +2607,95 @@ public class XMLSave {
          *  \r should be escaped to &xD;
          */
         public String convertText(String input) {
-            boolean changed = false;
-            boolean cdataCloseBracket = false;
+            return convert(input, textReplacements, true);
+        }
+
+        protected String convert(String input, char[][] replacements, boolean text) {
             int inputLength = input.length();
-            grow(inputLength);
-            int outputPos = 0;
             int inputPos = 0;
-            char ch;
-            while (inputLength-- > 0) {
-                ch = input.charAt(inputPos++); // value[outputPos];
-                switch (ch) {
-                    case 0x1:
-                    case 0x2:
-                    case 0x3:
-                    case 0x4:
-                    case 0x5:
-                    case 0x6:
-                    case 0x7:
-                    case 0x8:
-                    case 0xB:
-                    case 0xC:
-                    case 0xE:
-                    case 0xF:
-                    case 0x10:
-                    case 0x11:
-                    case 0x12:
-                    case 0x13:
-                    case 0x14:
-                    case 0x15:
-                    case 0x16:
-                    case 0x17:
-                    case 0x18:
-                    case 0x19:
-                    case 0x1A:
-                    case 0x1B:
-                    case 0x1C:
-                    case 0x1D:
-                    case 0x1E:
-                    case 0x1F: {
-                        if (allowControlCharacters) {
-                            outputPos = replaceChars(outputPos, CONTROL_CHARACTERS[ch], inputLength);
+
+            // Most values have nothing to escape, so they are only scanned.
+            while (inputPos < inputLength) {
+                char ch = input.charAt(inputPos);
+                if (ch >= ASCII_LIMIT || replacements[ch] != null || (text && ch == '>')) {
+                    break;
+                }
+                inputPos++;
+            }
+            if (inputPos == inputLength) {
+                return input;
+            }
+
+            grow(inputLength);
+            input.getChars(0, inputPos, value, 0);
+            int outputPos = inputPos;
+            boolean changed = false;
+            boolean cdataCloseBracket = false;
+            while (inputPos < inputLength) {
+                char ch = input.charAt(inputPos++);
+                int remaining = inputLength - inputPos;
+                if (ch < ASCII_LIMIT) {
+                    char[] replacement = replacements[ch];
+                    if (replacement == null) {
+                        if (text && ch == '>' && inputPos >= 3 && input.charAt(inputPos - 2) == ']' && input.charAt(inputPos - 3) == ']') {
+                            outputPos = replaceChars(outputPos, GREATER, remaining);
+                            cdataCloseBracket = true;
                             changed = true;
                         } else {
+                            value[outputPos++] = ch;
+                        }
+                    } else {
+                        if (isRestrictedControlCharacter(ch) && (!allowControlCharacters || ch == 0)) {
                             throw new RuntimeException("An invalid XML character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
                         }
-                        break;
-                    }
-                    case '&': {
-                        outputPos = replaceChars(outputPos, AMP, inputLength);
-                        changed = true;
-                        break;
-                    }
-                    case '<': {
-                        outputPos = replaceChars(outputPos, LESS, inputLength);
+                        outputPos = replaceChars(outputPos, replacement, remaining);
                         changed = true;
-                        break;
-                    }
-                    case '"': {
-                        outputPos = replaceChars(outputPos, QUOTE, inputLength);
-                        changed = true;
-                        break;
-                    }
-                    case '\n': {
-                        outputPos = replaceChars(outputPos, LINE_FEED, inputLength);
-                        changed = true;
-                        break;
-                    }
-                    case '\r': {
-                        outputPos = replaceChars(outputPos, CR, inputLength);
-                        changed = true;
-                        break;
                     }
-                    case '>': {
-                        if (inputPos >= 3 && input.charAt(inputPos - 2) == ']' && input.charAt(inputPos - 3) == ']') {
-                            outputPos = replaceChars(outputPos, GREATER, inputLength);
-                            cdataCloseBracket = true;
-                            changed = true;
-                            break;
-                        }
-
-                        // continue with default processing
-                    }
-                    default: {
-                        if (!XMLChar.isValid(ch)) {
-                            if (XMLChar.isHighSurrogate(ch)) {
-                                char high = ch;
-                                if (inputLength-- > 0) {
-                                    ch = input.charAt(inputPos++);
-                                    if (XMLChar.isLowSurrogate(ch)) {
-                                        if (mappableLimit == MAX_UTF_MAPPABLE_CODEPOINT) {
-                                            // Every codepoint is supported!
-                                            value[outputPos++] = high;
-                                            value[outputPos++] = ch;
-                                        } else {
-                                            // Produce the supplemental character as an entity
-                                            outputPos = replaceChars(outputPos, ("&#x" + Integer.toHexString(XMLChar.supplemental(high, ch)) + ";").toCharArray(), inputLength);
-                                            changed = true;
-                                        }
-                                        break;
-                                    }
-                                    throw new RuntimeException("An invalid low surrogate character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
+                } else if (!XMLChar.isValid(ch)) {
+                    if (XMLChar.isHighSurrogate(ch)) {
+                        char high = ch;
+                        if (inputPos < inputLength) {
+                            ch = input.charAt(inputPos++);
+                            remaining--;
+                            if (XMLChar.isLowSurrogate(ch)) {
+                                if (mappableLimit == MAX_UTF_MAPPABLE_CODEPOINT) {
+                                    // Every codepoint is supported!
+                                    value[outputPos++] = high;
+                                    value[outputPos++] = ch;
                                 } else {
-                                    throw new RuntimeException("An unpaired high surrogate character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
+                                    // Produce the supplemental character as an entity
+                                    outputPos = replaceChars(outputPos, ("&#x" + Integer.toHexString(XMLChar.supplemental(high, ch)) + ";").toCharArray(), remaining);
+                                    changed = true;
                                 }
-                            } else {
-                                throw new RuntimeException("An invalid XML character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
+                                continue;
                             }
+                            throw new RuntimeException("An invalid low surrogate character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
                         } else {
-                            // Normal (BMP) unicode code point. See if we know for a fact that the encoding supports it:
-                            if (ch <= mappableLimit) {
-                                value[outputPos++] = ch;
-                            } else {
-                                // We not sure the encoding supports this code point, so we write it as a character entity reference.
-                                outputPos = replaceChars(outputPos, ("&#x" + Integer.toHexString(ch) + ";").toCharArray(), inputLength);
-                                changed = true;
-                            }
+                            throw new RuntimeException("An unpaired high surrogate character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
                         }
-                        break;
+                    } else {
+                        throw new RuntimeException("An invalid XML character (Unicode: 0x" + Integer.toHexString(ch) + ") was found in the element content:" + input);
                     }
+                } else if (ch <= mappableLimit) {
+                    // Normal (BMP) unicode code point, that the encoding supports.
+                    value[outputPos++] = ch;
+                } else {
+                    // We not sure the encoding supports this code point, so we write it as a character entity reference.
+                    outputPos = replaceChars(outputPos, ("&#x" + Integer.toHexString(ch) + ";").toCharArray(), remaining);
+                    changed = true;
                 }
             }
-            return changed ? !useCDATA || cdataCloseBracket ? new String(value, 0, outputPos) : "<![CDATA[" + input + "]]>" : input;
+            if (!changed) {
+                return input;
+            }
+            return !text || !useCDATA || cdataCloseBracket ? new String(value, 0, outputPos) : "<![CDATA[" + input + "]]>";
+        }
+
+        /**
+         * Returns whether the character is a control character that is only allowed, as a character reference, in XML 1.1.
+         */
+        protected static boolean isRestrictedControlCharacter(char ch) {
+            return ch < 0x20 && ch != '\t' && ch != '\n' && ch != '\r';
         }
 
         /*
@@ -0,0 +1,486 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.emf.ecore.xmi.resource.xml;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.util.ExtendedMetaData;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+
+/**
+ * This class loads a resource straight from the XML contents, without
+ * building a DOM first.
+ * <p>
+ * The contents are tokenized in a single pass, and each tag, text and
+ * processing instruction is sent to the {@link XMLHandler} as soon as it is
+ * read, with the same events {@link XMLLoad} sends while it walks a DOM. So
+ * the objects are created while parsing, and references to objects that are
+ * not created yet are resolved by the handler when the document ends.
+ * <p>
+ * Comments and the document type declaration are skipped, and only the
+ * predefined and the character entities are expanded. Contents that are not
+ * well-formed cause a {@link MalformedXMLException}.
+ */
+public class XMLStreamLoad extends XMLLoad {
+
+    protected static final String CDATA_START = "<![CDATA[";
+    protected static final String CDATA_END = "]]>";
+    protected static final String COMMENT_START = "<!--";
+    protected static final String COMMENT_END = "-->";
+    protected static final String DOCTYPE_START = "<!DOCTYPE";
+    protected static final String PI_START = "<?";
+    protected static final String PI_END = "?>";
+    protected static final String END_TAG_START = "</";
+    protected static final String XML_PI_TARGET = "xml";
+    protected static final String CDATA_TYPE = "CDATA";
+
+    protected String contents;
+    protected int position;
+    protected XMLHandler handler;
+    protected final AttributesImpl attributes = new AttributesImpl();
+
+    /**
+     * The qualified names of the open elements.
+     */
+    protected final List<String> openElements = new ArrayList<String>();
+
+    /**
+     * The namespace declarations in scope, and how many of them each open element declares.
+     */
+    protected final List<String> prefixes = new ArrayList<String>();
+    protected final List<String> namespaces = new ArrayList<String>();
+    protected final List<Integer> declarations = new ArrayList<Integer>();
+
+    public XMLStreamLoad(XMLHelper helper) {
+        super(helper);
+    }
+
+    public void load(XMLResource resource, String contents, Map<?, ?> options) throws IOException {
+        this.resource = resource;
+        this.options = options;
+        this.namespaceAware = Boolean.FALSE.equals(options.get(XMLResource.OPTION_USE_DEPRECATED_METHODS));
+        this.contents = contents;
+        this.position = 0;
+        this.handler = makeDefaultHandler();
+
+        try {
+            parse();
+        } catch (XMLParseException e) {
+            // ignore, as the DOM load does
+        } finally {
+            this.contents = null;
+            this.handler = null;
+            attributes.clear();
+            openElements.clear();
+            prefixes.clear();
+            namespaces.clear();
+            declarations.clear();
+        }
+
+        helper = null;
+
+        handleErrors();
+    }
+
+    protected void parse() throws IOException, XMLParseException {
+        final int length = contents.length();
+        boolean hasRoot = false;
+        if (length > 0 && contents.charAt(0) == '\uFEFF') {
+            position = 1;
+        }
+
+        handler.startDocument();
+        while (position < length) {
+            if (contents.charAt(position) != '<') {
+                int end = contents.indexOf('<', position);
+                if (end < 0) {
+                    end = length;
+                }
+                if (!openElements.isEmpty()) {
+                    characters(decode(position, end, true, false));
+                } else if (!isWhitespace(position, end)) {
+                    throw malformed("Text outside of the root element");
+                }
+                position = end;
+            } else if (contents.startsWith(COMMENT_START, position)) {
+                position = indexOf(COMMENT_END, position + COMMENT_START.length(), "Unterminated comment") + COMMENT_END.length();
+            } else if (contents.startsWith(CDATA_START, position)) {
+                if (openElements.isEmpty()) {
+                    throw malformed("CDATA section outside of the root element");
+                }
+                int end = indexOf(CDATA_END, position + CDATA_START.length(), "Unterminated CDATA section");
+                characters(decode(position + CDATA_START.length(), end, false, false));
+                position = end + CDATA_END.length();
+            } else if (contents.startsWith(DOCTYPE_START, position)) {
+                if (hasRoot) {
+                    throw malformed("Document type declaration inside the document");
+                }
+                skipDoctype();
+            } else if (contents.startsWith(PI_START, position)) {
+                processingInstruction();
+            } else if (contents.startsWith(END_TAG_START, position)) {
+                endTag();
+            } else {
+                if (hasRoot && openElements.isEmpty()) {
+                    throw malformed("Content after the root element");
+                }
+                hasRoot = true;
+                startTag();
+            }
+        }
+
+        if (!hasRoot) {
+            throw malformed("No root element");
+        }
+        if (!openElements.isEmpty()) {
+            throw malformed("Element '" + openElements.get(openElements.size() - 1) + "' is not closed");
+        }
+        handler.endDocument();
+    }
+
+    protected void startTag() throws IOException, XMLParseException {
+        position++;
+        String qName = readName();
+        int declared = 0;
+        boolean empty = false;
+        attributes.clear();
+
+        while (true) {
+            boolean separated = skipWhitespace();
+            char c = currentChar();
+            if (c == '>') {
+                position++;
+                break;
+            }
+            if (c == '/') {
+                position++;
+                expect('>');
+                empty = true;
+                break;
+            }
+            if (!separated) {
+                throw malformed("Whitespace expected before an attribute");
+            }
+
+            String name = readName();
+            skipWhitespace();
+            expect('=');
+            skipWhitespace();
+            char quote = currentChar();
+            if (quote != '"' && quote != '\'') {
+                throw malformed("Quoted value expected for attribute '" + name + "'");
+            }
+            int end = contents.indexOf(quote, position + 1);
+            if (end < 0) {
+                throw malformed("Unterminated value for attribute '" + name + "'");
+            }
+            String value = decode(position + 1, end, true, true);
+            position = end + 1;
+
+            if (attributes.getIndex(name) >= 0) {
+                throw malformed("Duplicate attribute '" + name + "'");
+            }
+            if (isNamespaceDeclaration(name)) {
+                String prefix = name.length() == ExtendedMetaData.XMLNS_PREFIX.length() ? "" : getLocalName(name);
+                prefixes.add(prefix);
+                namespaces.add(value);
+                declared++;
+                if (namespaceAware) {
+                    handler.startPrefixMapping(prefix, value);
+                } else {
+                    // As the DOM load does, declarations have neither a namespace nor a local name.
+                    attributes.addAttribute("", "", name, CDATA_TYPE, value);
+                }
+            } else {
+                attributes.addAttribute("", getLocalName(name), name, CDATA_TYPE, value);
+            }
+        }
+        declarations.add(declared);
+
+        // The namespaces are resolved once all the declarations of the element are in scope.
+        for (int i = 0, size = attributes.getLength(); i < size; i++) {
+            String name = attributes.getQName(i);
+            int index = name.indexOf(':');
+            if (index > 0 && !isNamespaceDeclaration(name)) {
+                attributes.setURI(i, getNamespace(name.substring(0, index)));
+            }
+        }
+
+        openElements.add(qName);
+        handler.startElement(getElementNamespace(qName), getLocalName(qName), qName, attributes);
+        if (empty) {
+            endElement(qName);
+        }
+    }
+
+    protected void endTag() throws IOException, XMLParseException {
+        position += END_TAG_START.length();
+        String qName = readName();
+        skipWhitespace();
+        expect('>');
+        if (openElements.isEmpty() || !openElements.get(openElements.size() - 1).equals(qName)) {
+            throw malformed("Unexpected end tag '" + qName + "'");
+        }
+        endElement(qName);
+    }
+
+    protected void endElement(String qName) throws XMLParseException {
+        handler.endElement(getElementNamespace(qName), getLocalName(qName), qName);
+        openElements.remove(openElements.size() - 1);
+        for (int i = declarations.remove(declarations.size() - 1); i > 0; i--) {
+            prefixes.remove(prefixes.size() - 1);
+            namespaces.remove(namespaces.size() - 1);
+        }
+    }
+
+    protected void processingInstruction() throws IOException {
+        int end = indexOf(PI_END, position + PI_START.length(), "Unterminated processing instruction");
+        position += PI_START.length();
+        String target = readName();
+        skipWhitespace();
+        String data = position < end ? contents.substring(position, end) : "";
+        position = end + PI_END.length();
+
+        // The XML declaration is not a processing instruction, and the DOM load
+        // does not report the ones outside of the root element either.
+        if (!openElements.isEmpty() && !XML_PI_TARGET.equalsIgnoreCase(target)) {
+            handler.processingInstruction(target, data);
+        }
+    }
+
+    protected void skipDoctype() throws IOException {
+        boolean internalSubset = false;
+        for (int i = position + DOCTYPE_START.length(), length = contents.length(); i < length; i++) {
+            char c = contents.charAt(i);
+            if (c == '"' || c == '\'') {
+                i = contents.indexOf(c, i + 1);
+                if (i < 0) {
+                    break;
+                }
+            } else if (c == '[') {
+                internalSubset = true;
+            } else if (c == ']') {
+                internalSubset = false;
+            } else if (c == '>' && !internalSubset) {
+                position = i + 1;
+                return;
+            }
+        }
+        throw malformed("Unterminated document type declaration");
+    }
+
+    protected void characters(String text) throws XMLParseException {
+        if (text.length() > 0) {
+            char[] chars = text.toCharArray();
+            handler.characters(chars, 0, chars.length);
+        }
+    }
+
+    /**
+     * Returns the text between the given positions, with the line ends normalized
+     * and, if required, the entities expanded. Attribute values also get their
+     * whitespace normalized.
+     */
+    protected String decode(int start, int end, boolean expandEntities, boolean attribute) throws IOException {
+        int i = start;
+        while (i < end && !needsDecoding(contents.charAt(i), expandEntities, attribute)) {
+            i++;
+        }
+        if (i == end) {
+            return contents.substring(start, end);
+        }
+
+        StringBuilder result = new StringBuilder(end - start);
+        result.append(contents, start, i);
+        for (; i < end; i++) {
+            char c = contents.charAt(i);
+            if (c == '&' && expandEntities) {
+                int semicolon = contents.indexOf(';', i + 1);
+                if (semicolon < 0 || semicolon >= end) {
+                    throw malformed("Unterminated entity reference", i);
+                }
+                appendEntity(result, contents.substring(i + 1, semicolon), i);
+                i = semicolon;
+            } else if (c == '\r') {
+                result.append(attribute ? ' ' : '\n');
+                if (i + 1 < end && contents.charAt(i + 1) == '\n') {
+                    i++;
+                }
+            } else if (attribute && (c == '\n' || c == '\t')) {
+                result.append(' ');
+            } else if (attribute && c == '<') {
+                throw malformed("'<' inside an attribute value", i);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    protected static boolean needsDecoding(char c, boolean expandEntities, boolean attribute) {
+        return c == '\r' ||
+                (c == '&' && expandEntities) ||
+                (attribute && (c == '\n' || c == '\t' || c == '<'));
+    }
+
+    protected void appendEntity(StringBuilder result, String entity, int offset) throws IOException {
+        if ("lt".equals(entity)) {
+            result.append('<');
+        } else if ("gt".equals(entity)) {
+            result.append('>');
+        } else if ("amp".equals(entity)) {
+            result.append('&');
+        } else if ("quot".equals(entity)) {
+            result.append('"');
+        } else if ("apos".equals(entity)) {
+            result.append('\'');
+        } else if (entity.length() > 1 && entity.charAt(0) == '#') {
+            int codePoint;
+            try {
+                codePoint = entity.charAt(1) == 'x' ?
+                        Integer.parseInt(entity.substring(2), 16) :
+                        Integer.parseInt(entity.substring(1), 10);
+            } catch (NumberFormatException e) {
+                throw malformed("Invalid character reference '&" + entity + ";'", offset);
+            }
+            if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+                throw malformed("Invalid character reference '&" + entity + ";'", offset);
+            }
+            result.append(Character.toChars(codePoint));
+        } else {
+            throw malformed("Undefined entity '&" + entity + ";'", offset);
+        }
+    }
+
+    protected String getElementNamespace(String qName) {
+        int index = qName.indexOf(':');
+        return getNamespace(index < 0 ? "" : qName.substring(0, index));
+    }
+
+    /**
+     * Returns the namespace bound to a prefix in the current scope, or an empty string if there is none.
+     */
+    protected String getNamespace(String prefix) {
+        if (ExtendedMetaData.XML_PREFIX.equals(prefix)) {
+            return ExtendedMetaData.XML_URI;
+        }
+        for (int i = prefixes.size() - 1; i >= 0; i--) {
+            if (prefixes.get(i).equals(prefix)) {
+                return namespaces.get(i);
+            }
+        }
+        return "";
+    }
+
+    protected static boolean isNamespaceDeclaration(String name) {
+        return name.startsWith(ExtendedMetaData.XMLNS_PREFIX) &&
+                (name.length() == ExtendedMetaData.XMLNS_PREFIX.length() || name.charAt(ExtendedMetaData.XMLNS_PREFIX.length()) == ':');
+    }
+
+    protected static String getLocalName(String qName) {
+        return qName.substring(qName.indexOf(':') + 1);
+    }
+
+    protected String readName() throws IOException {
+        int start = position;
+        int length = contents.length();
+        while (position < length && isNameChar(contents.charAt(position))) {
+            position++;
+        }
+        if (position == start) {
+            throw malformed("Name expected");
+        }
+        return contents.substring(start, position);
+    }
+
+    protected static boolean isNameChar(char c) {
+        switch (c) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+            case '<':
+            case '>':
+            case '/':
+            case '=':
+            case '?':
+            case '"':
+            case '\'':
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Skips the whitespace at the current position.
+     * @return whether there was any whitespace.
+     */
+    protected boolean skipWhitespace() {
+        int start = position;
+        int length = contents.length();
+        while (position < length && isWhitespace(contents.charAt(position))) {
+            position++;
+        }
+        return position > start;
+    }
+
+    protected boolean isWhitespace(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isWhitespace(contents.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    protected char currentChar() throws IOException {
+        if (position >= contents.length()) {
+            throw malformed("Unexpected end of contents");
+        }
+        return contents.charAt(position);
+    }
+
+    protected void expect(char c) throws IOException {
+        if (currentChar() != c) {
+            throw malformed("'" + c + "' expected");
+        }
+        position++;
+    }
+
+    protected int indexOf(String s, int from, String message) throws IOException {
+        int index = contents.indexOf(s, from);
+        if (index < 0) {
+            throw malformed(message);
+        }
+        return index;
+    }
+
+    protected MalformedXMLException malformed(String message) {
+        return malformed(message, position);
+    }
+
+    protected MalformedXMLException malformed(String message, int offset) {
+        return new MalformedXMLException(message, offset);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.emf.ecore.xmi.util;
+
+import java.util.function.Consumer;
+
+/**
+ * An appendable that collects the characters into a fixed size chunk, and
+ * sends the chunk to a consumer each time it is full.
+ * Call {@link #flush()} once done, to send the last chunk.
+ */
+public class ChunkedAppendable implements Appendable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final Consumer<String> consumer;
+    private final char[] chunk;
+    private int length;
+
+    public ChunkedAppendable(Consumer<String> consumer) {
+        this(consumer, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ChunkedAppendable(Consumer<String> consumer, int chunkSize) {
+        this.consumer = consumer;
+        this.chunk = new char[chunkSize];
+    }
+
+    @Override
+    public ChunkedAppendable append(CharSequence csq) {
+        String s = String.valueOf(csq);
+        return append(s, 0, s.length());
+    }
+
+    @Override
+    public ChunkedAppendable append(CharSequence csq, int start, int end) {
+        String s = String.valueOf(csq);
+        while (start < end) {
+            int count = Math.min(end - start, chunk.length - length);
+            s.getChars(start, start + count, chunk, length);
+            length += count;
+            start += count;
+            if (length == chunk.length) {
+                flush();
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public ChunkedAppendable append(char c) {
+        chunk[length++] = c;
+        if (length == chunk.length) {
+            flush();
+        }
+        return this;
+    }
+
+    /**
+     * Sends the characters collected so far, if any.
+     */
+    public void flush() {
+        if (length > 0) {
+            consumer.accept(new String(chunk, 0, length));
+            length = 0;
+        }
+    }
+}
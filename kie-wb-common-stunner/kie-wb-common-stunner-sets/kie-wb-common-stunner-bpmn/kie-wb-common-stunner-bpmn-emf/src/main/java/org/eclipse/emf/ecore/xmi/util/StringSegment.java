@@ -15,6 +15,7 @@
  */
 package org.eclipse.emf.ecore.xmi.util;
 
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.ListIterator;
 
@@ -177,6 +178,20 @@ public class StringSegment extends BasicEList<StringSegment.Element> {
         return position;
     }
 
+    /**
+     * Appends the contents to the given output, one string at a time.
+     */
+    public void write(Appendable output) throws IOException {
+        Element[] elements = (Element[]) data;
+        for (int i = 0; i < size; ++i) {
+            Element element = elements[i];
+            int segmentSize = element.size;
+            for (int j = 0; j < segmentSize; ++j) {
+                output.append(element.data[j]);
+            }
+        }
+    }
+
     protected static class Element {
 
         int size;
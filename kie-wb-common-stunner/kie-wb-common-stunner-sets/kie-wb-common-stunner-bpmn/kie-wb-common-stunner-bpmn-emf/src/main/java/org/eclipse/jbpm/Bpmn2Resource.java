@@ -38,6 +38,7 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl;
+import org.eclipse.emf.ecore.xmi.resource.xml.MalformedXMLException;
 import org.eclipse.emf.ecore.xmi.resource.xml.XMLSave;
 import org.eclipse.emf.ecore.xmi.util.ElementHandler;
 import org.jboss.drools.DroolsPackage;
@@ -79,6 +80,15 @@ public class Bpmn2Resource extends XMLResourceImpl {
         load(doc);
     }
 
+    /**
+     * Loads the contents without parsing them into a DOM first.
+     * @throws MalformedXMLException if the contents are not well-formed, so they can still be loaded using
+     * {@link #load(String)}, which reports the parser errors.
+     */
+    public void loadStreaming(String contents) throws IOException {
+        super.load(contents, createLoadOptions());
+    }
+
     public String toBPMN2() throws IOException {
         String raw = "";
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
@@ -88,6 +98,15 @@ public class Bpmn2Resource extends XMLResourceImpl {
         return raw;
     }
 
+    /**
+     * Writes the contents to the given output, without building a DOM or the whole document as a string.
+     */
+    public void toBPMN2(Appendable output) throws IOException {
+        Map<Object, Object> options = createSaveOptions();
+        options.put(XMLResource.OPTION_FORMATTED, false);
+        save(output, options);
+    }
+
     @Override
     protected XMLSave createXMLSave() {
         return new JBPMXMLSave(createXMLHelper()) {
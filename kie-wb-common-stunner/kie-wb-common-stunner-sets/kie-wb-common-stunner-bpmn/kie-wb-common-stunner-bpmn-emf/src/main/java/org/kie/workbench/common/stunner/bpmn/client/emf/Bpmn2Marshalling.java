@@ -23,6 +23,8 @@ import com.google.gwt.core.client.GWT;
 import org.eclipse.bpmn2.Definitions;
 import org.eclipse.bpmn2.DocumentRoot;
 import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.resource.xml.MalformedXMLException;
+import org.eclipse.emf.ecore.xmi.util.ChunkedAppendable;
 import org.eclipse.jbpm.Bpmn2Resource;
 import org.eclipse.jbpm.Bpmn2ResourceFactory;
 
@@ -35,7 +37,15 @@ public class Bpmn2Marshalling {
     public static DocumentRoot unmarshall(final String raw) {
         Bpmn2Resource bpmn2Resource = Bpmn2ResourceFactory.getInstance().create();
         try {
-            bpmn2Resource.load(raw);
+            bpmn2Resource.loadStreaming(raw);
+        } catch (MalformedXMLException e) {
+            logError("Falling back to the DOM parser", e);
+            bpmn2Resource = Bpmn2ResourceFactory.getInstance().create();
+            try {
+                bpmn2Resource.load(raw);
+            } catch (IOException ex) {
+                logError(ex);
+            }
         } catch (IOException e) {
             logError(e);
         }
@@ -58,6 +68,27 @@ public class Bpmn2Marshalling {
         return appendXmlDeclaration(raw);
     }
 
+    /**
+     * Writes the definitions to the given consumer in chunks, instead of returning the whole document as a
+     * single string. The chunks include the XML declaration.
+     * <p>
+     * The text is written without building a DOM, so its escaping and layout follow the EMF rules rather than
+     * those of the browser serializer used by {@link #marshall(Definitions)}, which stays the default.
+     * Both forms load to the same definitions.
+     */
+    public static void marshall(final Definitions definitions,
+                                final Consumer<String> chunks) {
+        Bpmn2Resource bpmn2Resource = Bpmn2ResourceFactory.getInstance().create();
+        bpmn2Resource.getContents().add(definitions);
+        ChunkedAppendable output = new ChunkedAppendable(chunks);
+        try {
+            bpmn2Resource.toBPMN2(output);
+        } catch (IOException e) {
+            logError(e);
+        }
+        output.flush();
+    }
+
     public static DocumentRoot getDocumentRoot(final XMLResource resource) {
         return (DocumentRoot) resource.getContents().get(0);
     }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.emf.ecore.xmi.resource.xml;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class XMLSaveEscapeTest {
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator", "\n");
+
+    private XMLSave.Escape tested;
+
+    @Before
+    public void setUp() {
+        tested = new XMLSave.Escape();
+        tested.setMappingLimit(0x10FFFF);
+    }
+
+    @Test
+    public void testConvertUnchanged() {
+        String value = "Some value > 0, with 'quotes' and \u00e9";
+        assertSame(value, tested.convert(value));
+        assertSame(value, tested.convertText(value));
+    }
+
+    @Test
+    public void testConvert() {
+        assertEquals("a &amp; b &lt; c &quot;d&quot; &#x9;&#xA;&#xD;", tested.convert("a & b < c \"d\" \t\n\r"));
+    }
+
+    @Test
+    public void testConvertText() {
+        assertEquals("a &amp; b &lt; c &quot;d&quot; \t" + LINE_SEPARATOR + "&#xD; ]]&gt; >", tested.convertText("a & b < c \"d\" \t\n\r ]]> >"));
+    }
+
+    @Test
+    public void testConvertTextUsingCDATA() {
+        tested.setUseCDATA(true);
+        assertEquals("<![CDATA[a < b]]>", tested.convertText("a < b"));
+        assertEquals("]]&gt;", tested.convertText("]]>"));
+    }
+
+    @Test
+    public void testConvertNotMappable() {
+        tested.setMappingLimit(0x7F);
+        assertEquals("caf&#xe9; &#x1f600;", tested.convert("caf\u00e9 \ud83d\ude00"));
+        tested.setMappingLimit(0x10FFFF);
+        assertEquals("caf\u00e9 \ud83d\ude00", tested.convert("caf\u00e9 \ud83d\ude00"));
+    }
+
+    @Test
+    public void testConvertControlCharacters() {
+        tested.setAllowControlCharacters(true);
+        assertEquals("a&#x1;b&#x1F;", tested.convert("a\u0001b\u001f"));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testConvertInvalidControlCharacter() {
+        tested.convert("a\u0001b");
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testConvertUnpairedSurrogate() {
+        tested.convertText("a\ud83d");
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.emf.ecore.xmi.resource.xml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class XMLStreamLoadTest {
+
+    private XMLResource resource;
+    private XMLHandler xmlHandler;
+    private List<String> events;
+    private XMLStreamLoad tested;
+
+    @Before
+    public void setUp() throws Exception {
+        resource = mock(XMLResource.class);
+        when(resource.getErrors()).thenReturn(new BasicEList<>());
+        xmlHandler = mock(XMLHandler.class);
+        events = new ArrayList<>();
+        doAnswer(invocation -> events.add("startDocument")).when(xmlHandler).startDocument();
+        doAnswer(invocation -> events.add("endDocument")).when(xmlHandler).endDocument();
+        doAnswer(invocation -> {
+            Attributes attributes = invocation.getArgument(3);
+            StringBuilder event = new StringBuilder("start " + invocation.getArgument(0) + " " + invocation.getArgument(1) + " " + invocation.getArgument(2));
+            for (int i = 0; i < attributes.getLength(); i++) {
+                event.append(" ").append(attributes.getQName(i)).append("[").append(attributes.getURI(i)).append("]=").append(attributes.getValue(i));
+            }
+            return events.add(event.toString());
+        }).when(xmlHandler).startElement(anyString(), anyString(), anyString(), any(Attributes.class));
+        doAnswer(invocation -> events.add("end " + invocation.getArgument(0) + " " + invocation.getArgument(1) + " " + invocation.getArgument(2)))
+                .when(xmlHandler).endElement(anyString(), anyString(), anyString());
+        doAnswer(invocation -> events.add("characters " + new String((char[]) invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))))
+                .when(xmlHandler).characters(any(char[].class), anyInt(), anyInt());
+        doAnswer(invocation -> events.add("pi " + invocation.getArgument(0) + " " + invocation.getArgument(1)))
+                .when(xmlHandler).processingInstruction(anyString(), anyString());
+        doAnswer(invocation -> events.add("prefix " + invocation.getArgument(0) + " " + invocation.getArgument(1)))
+                .when(xmlHandler).startPrefixMapping(anyString(), anyString());
+        tested = new XMLStreamLoad(mock(XMLHelper.class)) {
+            @Override
+            protected XMLHandler makeDefaultHandler() {
+                return xmlHandler;
+            }
+        };
+    }
+
+    @Test
+    public void testLoad() throws Exception {
+        load("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                     "<root id=\"r\">\n" +
+                     "  <child name='a'/>\n" +
+                     "  <child name=\"b\">text</child>\n" +
+                     "</root>\n");
+        assertEvents("startDocument",
+                     "start  root root id[]=r",
+                     "characters \n  ",
+                     "start  child child name[]=a",
+                     "end  child child",
+                     "characters \n  ",
+                     "start  child child name[]=b",
+                     "characters text",
+                     "end  child child",
+                     "characters \n",
+                     "end  root root",
+                     "endDocument");
+    }
+
+    @Test
+    public void testLoadNamespaces() throws Exception {
+        load("<a:root xmlns:a=\"urn:a\" xmlns=\"urn:default\" a:id=\"r\">" +
+                     "<child xmlns:a=\"urn:other\" a:name=\"c\"/>" +
+                     "<a:child/>" +
+                     "</a:root>");
+        assertEvents("startDocument",
+                     "start urn:a root a:root xmlns:a[]=urn:a xmlns[]=urn:default a:id[urn:a]=r",
+                     "start urn:default child child xmlns:a[]=urn:other a:name[urn:other]=c",
+                     "end urn:default child child",
+                     "start urn:a child a:child",
+                     "end urn:a child a:child",
+                     "end urn:a root a:root",
+                     "endDocument");
+    }
+
+    @Test
+    public void testLoadNamespaceAware() throws Exception {
+        Map<Object, Object> options = new HashMap<>();
+        options.put(XMLResource.OPTION_USE_DEPRECATED_METHODS, false);
+        tested.load(resource, "<a:root xmlns:a=\"urn:a\" id=\"r\"/>", options);
+        assertEvents("startDocument",
+                     "prefix a urn:a",
+                     "start urn:a root a:root id[]=r",
+                     "end urn:a root a:root",
+                     "endDocument");
+    }
+
+    @Test
+    public void testLoadEntities() throws Exception {
+        load("<root value=\"a &lt; b &amp;&amp; &quot;c&quot; &#65;&#x42;\">&apos;x&apos; &gt; y&#10;</root>");
+        assertEvents("startDocument",
+                     "start  root root value[]=a < b && \"c\" AB",
+                     "characters 'x' > y\n",
+                     "end  root root",
+                     "endDocument");
+    }
+
+    @Test
+    public void testLoadLineEnds() throws Exception {
+        load("<root value=\"a\r\nb\tc\nd\">e\r\nf\rg</root>");
+        assertEvents("startDocument",
+                     "start  root root value[]=a b c d",
+                     "characters e\nf\ng",
+                     "end  root root",
+                     "endDocument");
+    }
+
+    @Test
+    public void testLoadCDATA() throws Exception {
+        load("<root><![CDATA[<a> & &lt;]]></root>");
+        assertEvents("startDocument",
+                     "start  root root",
+                     "characters <a> & &lt;",
+                     "end  root root",
+                     "endDocument");
+    }
+
+    @Test
+    public void testLoadSkipsCommentsAndDoctype() throws Exception {
+        load("\uFEFF<!DOCTYPE root [<!ENTITY e \"]>\">]><!-- <a> --><root><!-- text --><?target some data?></root><!-- end -->");
+        assertEvents("startDocument",
+                     "start  root root",
+                     "pi target some data",
+                     "end  root root",
+                     "endDocument");
+    }
+
+    @Test
+    public void testLoadMalformed() throws Exception {
+        assertMalformed("");
+        assertMalformed("<root>");
+        assertMalformed("<root></other>");
+        assertMalformed("<root/><other/>");
+        assertMalformed("text<root/>");
+        assertMalformed("<root a=\"1\" a=\"2\"/>");
+        assertMalformed("<root a=1/>");
+        assertMalformed("<root a=\"1\"b=\"2\"/>");
+        assertMalformed("<root a=\"<\"/>");
+        assertMalformed("<root>&undefined;</root>");
+        assertMalformed("<root>&#xZZ;</root>");
+        assertMalformed("<root><!-- </root>");
+        assertMalformed("<root><![CDATA[</root>");
+    }
+
+    @Test
+    public void testMalformedOffset() throws Exception {
+        try {
+            load("<root></other>");
+            fail("MalformedXMLException expected");
+        } catch (MalformedXMLException e) {
+            assertEquals(14, e.getOffset());
+        }
+    }
+
+    private void load(String contents) throws Exception {
+        tested.load(resource, contents, Collections.emptyMap());
+    }
+
+    private void assertEvents(String... expected) {
+        assertEquals(Arrays.asList(expected), events);
+    }
+
+    private void assertMalformed(String contents) throws Exception {
+        try {
+            load(contents);
+            fail("MalformedXMLException expected for " + contents);
+        } catch (MalformedXMLException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.emf.ecore.xmi.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkedAppendableTest {
+
+    private List<String> chunks;
+    private ChunkedAppendable tested;
+
+    @Before
+    public void setUp() {
+        chunks = new ArrayList<>();
+        tested = new ChunkedAppendable(chunks::add, 4);
+    }
+
+    @Test
+    public void testAppend() {
+        tested.append("ab").append('c').append("defghij").append("xkx", 1, 2);
+        assertEquals(Arrays.asList("abcd", "efgh"), chunks);
+        tested.flush();
+        assertEquals(Arrays.asList("abcd", "efgh", "ijk"), chunks);
+    }
+
+    @Test
+    public void testFlushEmpty() {
+        tested.append("abcd");
+        tested.flush();
+        tested.flush();
+        assertEquals(Arrays.asList("abcd"), chunks);
+    }
+
+    @Test
+    public void testWriteStringSegment() throws Exception {
+        StringSegment segment = new StringSegment(2, 2);
+        segment.add("<root");
+        Object mark = segment.mark();
+        segment.add(">");
+        segment.add("text");
+        segment.add("</root>");
+        segment.resetToMark(mark);
+        segment.add(" a=\"1\"");
+        segment.add(" b=\"2\"");
+
+        StringBuilder output = new StringBuilder();
+        segment.write(output);
+        assertEquals("<root a=\"1\" b=\"2\">text</root>", output.toString());
+
+        tested = new ChunkedAppendable(chunks::add);
+        segment.write(tested);
+        assertTrue(chunks.isEmpty());
+        tested.flush();
+        assertEquals(Arrays.asList(output.toString()), chunks);
+    }
+}
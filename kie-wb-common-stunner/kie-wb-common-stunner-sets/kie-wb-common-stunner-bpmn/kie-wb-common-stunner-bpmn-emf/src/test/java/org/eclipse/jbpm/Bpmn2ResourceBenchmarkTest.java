@@ -0,0 +1,173 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.jbpm;
+
+import java.io.IOException;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.eclipse.bpmn2.DocumentRoot;
+import org.eclipse.bpmn2.FlowElement;
+import org.eclipse.bpmn2.Process;
+import org.eclipse.bpmn2.SequenceFlow;
+import org.eclipse.bpmn2.Task;
+import org.eclipse.bpmn2.di.BPMNShape;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.resource.xml.XMLParseException;
+import org.eclipse.emf.ecore.xmi.resource.xml.XMLStreamLoad;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that generated processes are loaded and saved without building a DOM, and that the contents are tokenized
+ * in a single pass.
+ */
+@RunWith(GwtMockitoTestRunner.class)
+public class Bpmn2ResourceBenchmarkTest {
+
+    private static final int LARGE_SIZE = 4000;
+
+    @Test
+    public void testLoadStreamingGeneratedProcess() throws Exception {
+        final Process process = getProcess(loadStreaming(generateProcess(100)));
+        assertEquals(100 + 99, process.getFlowElements().size());
+
+        // The sequence flows come before the tasks, so their references are resolved when the document ends.
+        for (final FlowElement element : process.getFlowElements()) {
+            if (element instanceof SequenceFlow) {
+                final SequenceFlow flow = (SequenceFlow) element;
+                assertTrue(flow.getSourceRef() instanceof Task);
+                assertTrue(flow.getTargetRef() instanceof Task);
+                assertSame(flow, flow.getSourceRef().getOutgoing().get(0));
+            }
+        }
+    }
+
+    @Test
+    public void testLoadStreamingGeneratedDiagram() throws Exception {
+        final DocumentRoot documentRoot = loadStreaming(generateProcess(10));
+        final BPMNShape shape = (BPMNShape) documentRoot.getDefinitions().getDiagrams().get(0).getPlane().getPlaneElement().get(0);
+        assertEquals("task0", shape.getBpmnElement().getId());
+    }
+
+    @Test
+    public void testSaveStreamingRoundTrip() throws Exception {
+        final DocumentRoot documentRoot = loadStreaming(generateProcess(100));
+        final Process saved = getProcess(documentRoot);
+        final Bpmn2Resource resource = Bpmn2ResourceFactory.getInstance().create();
+        resource.getContents().add(documentRoot.getDefinitions());
+        final StringBuilder raw = new StringBuilder();
+        resource.toBPMN2(raw);
+
+        assertTrue(raw.toString().startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"));
+        final Process loaded = getProcess(loadStreaming(raw.toString()));
+        assertEquals(saved.getFlowElements().size(), loaded.getFlowElements().size());
+        for (int i = 0; i < saved.getFlowElements().size(); i++) {
+            assertEquals(saved.getFlowElements().get(i).getId(), loaded.getFlowElements().get(i).getId());
+            assertEquals(saved.getFlowElements().get(i).getName(), loaded.getFlowElements().get(i).getName());
+        }
+    }
+
+    @Test
+    public void testLoadStreamingTokenizesEachElementOnce() throws Exception {
+        final CountingResource resource = new CountingResource();
+        resource.loadStreaming(generateProcess(LARGE_SIZE));
+
+        // The definitions, process, diagram and plane, plus each task with its flow, incoming, outgoing, shape and bounds
+        assertEquals(6 * LARGE_SIZE + 1, resource.startTags);
+        assertEquals(LARGE_SIZE + LARGE_SIZE - 1, getProcess((DocumentRoot) resource.getContents().get(0)).getFlowElements().size());
+    }
+
+    private static DocumentRoot loadStreaming(final String contents) throws Exception {
+        final Bpmn2Resource resource = Bpmn2ResourceFactory.getInstance().create();
+        resource.loadStreaming(contents);
+        return (DocumentRoot) resource.getContents().get(0);
+    }
+
+    private static Process getProcess(final DocumentRoot documentRoot) {
+        return (Process) documentRoot.getDefinitions().getRootElements().get(0);
+    }
+
+    /**
+     * Generates a process with a sequence of tasks, and its diagram.
+     */
+    private static String generateProcess(final int size) {
+        final StringBuilder process = new StringBuilder();
+        final StringBuilder plane = new StringBuilder();
+        for (int i = 1; i < size; i++) {
+            process.append("<bpmn2:sequenceFlow id=\"flow").append(i)
+                    .append("\" sourceRef=\"task").append(i - 1)
+                    .append("\" targetRef=\"task").append(i).append("\"/>");
+        }
+        for (int i = 0; i < size; i++) {
+            process.append("<bpmn2:task id=\"task").append(i).append("\" name=\"Task ").append(i).append("\">");
+            if (i > 0) {
+                process.append("<bpmn2:incoming>flow").append(i).append("</bpmn2:incoming>");
+            }
+            if (i < size - 1) {
+                process.append("<bpmn2:outgoing>flow").append(i + 1).append("</bpmn2:outgoing>");
+            }
+            process.append("</bpmn2:task>");
+            plane.append("<bpmndi:BPMNShape id=\"shape_task").append(i).append("\" bpmnElement=\"task").append(i).append("\">")
+                    .append("<dc:Bounds height=\"102\" width=\"154\" x=\"").append(200 * i).append("\" y=\"100\"/>")
+                    .append("</bpmndi:BPMNShape>");
+        }
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<bpmn2:definitions id=\"definitions\" targetNamespace=\"http://www.omg.org/bpmn20\"" +
+                " xmlns:bpmn2=\"http://www.omg.org/spec/BPMN/20100524/MODEL\"" +
+                " xmlns:bpmndi=\"http://www.omg.org/spec/BPMN/20100524/DI\"" +
+                " xmlns:dc=\"http://www.omg.org/spec/DD/20100524/DC\"" +
+                " xmlns:drools=\"http://www.jboss.org/drools\">" +
+                "<bpmn2:process id=\"benchmark\" drools:packageName=\"com.myspace.test\" name=\"benchmark\" isExecutable=\"true\">" +
+                process +
+                "</bpmn2:process>" +
+                "<bpmndi:BPMNDiagram id=\"diagram\">" +
+                "<bpmndi:BPMNPlane id=\"plane\" bpmnElement=\"benchmark\">" +
+                plane +
+                "</bpmndi:BPMNPlane>" +
+                "</bpmndi:BPMNDiagram>" +
+                "</bpmn2:definitions>";
+    }
+
+    /**
+     * Counts the start tags read by the streaming load.
+     */
+    private static class CountingResource extends Bpmn2Resource {
+
+        private int startTags;
+
+        private CountingResource() {
+            super(URI.createURI("file://dummyUri.xml"));
+            new ResourceSetImpl().getResources().add(this);
+        }
+
+        @Override
+        protected XMLStreamLoad createXMLStreamLoad() {
+            return new XMLStreamLoad(createXMLHelper()) {
+                @Override
+                protected void startTag() throws IOException, XMLParseException {
+                    startTags++;
+                    super.startTag();
+                }
+            };
+        }
+    }
+}
@@ -38,8 +38,11 @@ import org.junit.runner.RunWith;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -65,6 +68,14 @@ public class Bpmn2ResourceTest {
         verify(tested, times(1)).load(eq(doc));
     }
 
+    @Test
+    public void testLoadStreaming() throws Exception {
+        doNothing().when(tested).doLoad(eq("someContent"), anyMap());
+        tested.loadStreaming("someContent");
+        verify(tested, never()).createParser();
+        verify(tested, times(1)).doLoad(eq("someContent"), anyMap());
+    }
+
     @Test
     public void testInit() {
         testInitGwtRefectTypes();
@@ -16,12 +16,19 @@
 
 package org.kie.workbench.common.stunner.bpmn.client.emf;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import com.google.gwt.junit.client.GWTTestCase;
 import org.eclipse.bpmn2.DocumentRoot;
 import org.eclipse.bpmn2.FlowElement;
 import org.eclipse.bpmn2.Process;
 import org.eclipse.bpmn2.StartEvent;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.xmi.resource.xml.MalformedXMLException;
+import org.eclipse.emf.ecore.xmi.util.ChunkedAppendable;
+import org.eclipse.jbpm.Bpmn2ResourceFactory;
 import org.junit.Test;
 
 import static org.kie.workbench.common.stunner.bpmn.client.emf.Bpmn2Marshalling.marshall;
@@ -71,6 +78,25 @@ public class Bpmn2MarshallingTest extends GWTTestCase {
         assertEquals("_B801DDDE-29E9-41C2-BF36-0045EA55F573", startEventId);
     }
 
+    @Test
+    public void testUnmarshallFallsBackToDOMParser() throws Exception {
+        try {
+            Bpmn2ResourceFactory.getInstance().create().loadStreaming(SOME_PROCESS_WITH_ENTITY);
+            fail("MalformedXMLException expected");
+        } catch (MalformedXMLException e) {
+            // The streaming load does not expand the entities declared by the document type.
+        }
+        DocumentRoot doc = unmarshall(SOME_PROCESS_WITH_ENTITY);
+        assertNotNull(doc);
+        assertNotNull(doc.getDefinitions());
+        Process process = getProcess(doc);
+        assertEquals("test.process1", process.getId());
+        assertEquals("process1", process.getName());
+        FlowElement startEvent = process.getFlowElements().get(0);
+        assertTrue(startEvent instanceof StartEvent);
+        assertEquals("_B801DDDE-29E9-41C2-BF36-0045EA55F573", startEvent.getId());
+    }
+
     @Test
     public void testMarshallSomeProcess() {
         DocumentRoot doc = unmarshall(SOME_PROCESS);
@@ -79,6 +105,34 @@ public class Bpmn2MarshallingTest extends GWTTestCase {
         assertEquals(SOME_PROCESS, raw);
     }
 
+    @Test
+    public void testMarshallSomeProcessInChunks() {
+        DocumentRoot doc = unmarshall(SOME_PROCESS);
+        List<String> chunks = new ArrayList<>();
+        marshall(doc.getDefinitions(), chunks::add);
+        assertFalse(chunks.isEmpty());
+        for (String chunk : chunks) {
+            assertTrue(chunk.length() <= ChunkedAppendable.DEFAULT_CHUNK_SIZE);
+        }
+        // The chunks load to the same definitions, which the default save writes back as the original document.
+        assertEquals(SOME_PROCESS, marshall(unmarshall(String.join("", chunks))));
+    }
+
+    @Test
+    public void testMarshallEscapedValuesRoundTrip() {
+        DocumentRoot doc = unmarshall(SOME_PROCESS);
+        String name = "a & b < c > \"d\" 'e'\nf";
+        getProcess(doc).setName(name);
+        List<String> chunks = new ArrayList<>();
+        marshall(doc.getDefinitions(), chunks::add);
+        for (String raw : Arrays.asList(marshall(doc), String.join("", chunks))) {
+            Process process = getProcess(unmarshall(raw));
+            assertEquals("test.process1", process.getId());
+            assertEquals(name, process.getName());
+            assertEquals("_B801DDDE-29E9-41C2-BF36-0045EA55F573", process.getFlowElements().get(0).getId());
+        }
+    }
+
     public static Process getProcess(DocumentRoot docRoot) {
         return (Process) docRoot.getDefinitions().getRootElements().stream()
                 .filter(p -> p instanceof Process)
@@ -169,6 +223,9 @@ public class Bpmn2MarshallingTest extends GWTTestCase {
             "</bpmn2:relationship>" +
             "</bpmn2:definitions>";
 
+    private static final String SOME_PROCESS_WITH_ENTITY = SOME_PROCESS
+            .replace("<bpmn2:definitions", "<!DOCTYPE bpmn2:definitions [<!ENTITY processName \"process1\">]><bpmn2:definitions")
+            .replace(" name=\"process1\"", " name=\"&processName;\"");
 
     @Override
     public String getModuleName() {
@@ -21,7 +21,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 
 import bpsim.BPSimDataType;
@@ -37,6 +36,7 @@ import org.eclipse.bpmn2.di.BPMNDiagram;
 import org.eclipse.bpmn2.di.BPMNEdge;
 import org.eclipse.bpmn2.di.BPMNPlane;
 import org.eclipse.bpmn2.di.BPMNShape;
+import org.eclipse.dd.di.DiagramElement;
 import org.eclipse.emf.ecore.util.FeatureMap;
 import org.kie.workbench.common.stunner.bpmn.client.marshall.MarshallingRequest.Mode;
 import org.kie.workbench.common.stunner.bpmn.workitem.WorkItemDefinition;
@@ -69,6 +69,8 @@ public class DefinitionResolver {
     private final double resolutionFactor;
     private final boolean jbpm;
     private final Mode mode;
+    private Map<String, BPMNShape> shapes;
+    private Map<String, BPMNEdge> edges;
 
     public DefinitionResolver(
             Definitions definitions,
@@ -205,39 +207,57 @@ public class DefinitionResolver {
         return definitions.getDiagrams().get(0);
     }
 
+    /**
+     * Returns the shape of a given element ID, looking up the diagrams in order.
+     */
     public BPMNShape getShape(String elementId) {
-        return definitions.getDiagrams().stream()
-                .map(BPMNDiagram::getPlane)
-                .map(plane -> getShape(plane, elementId))
-                .filter(Objects::nonNull)
-                .findFirst().orElse(null);
+        if (shapes == null) {
+            indexPlaneElements();
+        }
+        return shapes.get(elementId);
+    }
+
+    /**
+     * Returns the edge of a given element ID, looking up the diagrams in order.
+     */
+    public BPMNEdge getEdge(String elementId) {
+        if (edges == null) {
+            indexPlaneElements();
+        }
+        return edges.get(elementId);
     }
 
-    private static BPMNShape getShape(BPMNPlane plane, String elementId) {
-        return plane.getPlaneElement().stream()
-                .filter(dia -> dia instanceof BPMNShape)
-                .map(shape -> (BPMNShape) shape)
-                .filter(shape -> shape.getBpmnElement().getId().equals(elementId))
-                .findFirst().orElse(null);
+    /**
+     * Shapes and edges are indexed by element ID on the first lookup, so that
+     * the converters resolve each node and edge in constant time.
+     * The index is not updated when the diagrams change after that; callers
+     * that add, remove or reassign diagram elements afterwards must invalidate it,
+     * so the diagrams are indexed again on the next lookup.
+     */
+    public void invalidate() {
+        shapes = null;
+        edges = null;
     }
 
-    public BPMNEdge getEdge(String elementId) {
-        return definitions.getDiagrams().stream()
-                .map(BPMNDiagram::getPlane)
-                .map(plane -> getEdge(plane, elementId))
-                .filter(Objects::nonNull)
-                .findFirst().orElse(null);
-    }
-
-    private static BPMNEdge getEdge(BPMNPlane plane, String elementId) {
-        return plane.getPlaneElement().stream()
-                .filter(dia -> dia instanceof BPMNEdge)
-                .map(edge -> (BPMNEdge) edge)
-                .filter(edge -> edge.getBpmnElement() != null)
-                .filter(edge -> edge.getBpmnElement().getId() != null)
-                .filter(edge -> edge.getBpmnElement().getId().equals(elementId))
-
-                .findFirst().orElse(null);
+    private void indexPlaneElements() {
+        shapes = new HashMap<>();
+        edges = new HashMap<>();
+        for (BPMNDiagram bpmnDiagram : definitions.getDiagrams()) {
+            BPMNPlane plane = bpmnDiagram.getPlane();
+            for (DiagramElement element : plane.getPlaneElement()) {
+                if (element instanceof BPMNShape) {
+                    BPMNShape shape = (BPMNShape) element;
+                    if (shape.getBpmnElement() != null && shape.getBpmnElement().getId() != null) {
+                        shapes.putIfAbsent(shape.getBpmnElement().getId(), shape);
+                    }
+                } else if (element instanceof BPMNEdge) {
+                    BPMNEdge edge = (BPMNEdge) element;
+                    if (edge.getBpmnElement() != null && edge.getBpmnElement().getId() != null) {
+                        edges.putIfAbsent(edge.getBpmnElement().getId(), edge);
+                    }
+                }
+            }
+        }
     }
 
     static double calculateResolutionFactor(final BPMNDiagram diagram) {
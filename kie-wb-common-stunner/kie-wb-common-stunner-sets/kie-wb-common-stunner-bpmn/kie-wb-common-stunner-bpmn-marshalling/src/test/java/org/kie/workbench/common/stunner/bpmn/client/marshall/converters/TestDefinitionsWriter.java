@@ -62,6 +62,7 @@ public class TestDefinitionsWriter {
         shape.setBounds(bounds);
         shape.setBpmnElement(node);
         bpmnPlane.getPlaneElement().add(shape);
+        definitionResolver.invalidate();
 
         return node;
     }
@@ -75,6 +76,7 @@ public class TestDefinitionsWriter {
         BPMNEdge edge = di.createBPMNEdge();
         edge.setBpmnElement(sequenceFlow);
         bpmnPlane.getPlaneElement().add(edge);
+        definitionResolver.invalidate();
         edge.getWaypoint().addAll(waypoints);
 
         return sequenceFlow;
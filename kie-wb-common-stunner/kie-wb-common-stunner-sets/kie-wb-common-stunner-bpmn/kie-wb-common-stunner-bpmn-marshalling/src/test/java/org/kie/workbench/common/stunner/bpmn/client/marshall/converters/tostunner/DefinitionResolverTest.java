@@ -44,7 +44,10 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -127,6 +130,102 @@ public class DefinitionResolverTest {
         assertEquals(edge, definitionResolver.getEdge(ID));
     }
 
+    @Test
+    public void testGetShapeAddedAfterLookup() {
+        assertNull(definitionResolver.getShape(ID));
+        BPMNShape shape = mock(BPMNShape.class);
+        BaseElement bpmnElement = mock(BaseElement.class);
+        when(shape.getBpmnElement()).thenReturn(bpmnElement);
+        when(bpmnElement.getId()).thenReturn(ID);
+        planeElements.add(shape);
+        assertNull(definitionResolver.getShape(ID));
+
+        definitionResolver.invalidate();
+        assertEquals(shape, definitionResolver.getShape(ID));
+    }
+
+    @Test
+    public void testPlanesIndexedOnceUntilInvalidated() {
+        BPMNShape shape = mock(BPMNShape.class);
+        BaseElement bpmnElement = mock(BaseElement.class);
+        when(shape.getBpmnElement()).thenReturn(bpmnElement);
+        when(bpmnElement.getId()).thenReturn(ID);
+        planeElements.add(shape);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(shape, definitionResolver.getShape(ID));
+            assertNull(definitionResolver.getShape("MISSING_ID"));
+            assertNull(definitionResolver.getEdge("MISSING_ID"));
+        }
+        verify(plane, times(1)).getPlaneElement();
+
+        definitionResolver.invalidate();
+        assertEquals(shape, definitionResolver.getShape(ID));
+        verify(plane, times(2)).getPlaneElement();
+    }
+
+    @Test
+    public void testGetShapeReplacedAfterLookup() {
+        BPMNShape shape = mock(BPMNShape.class);
+        BaseElement bpmnElement = mock(BaseElement.class);
+        when(shape.getBpmnElement()).thenReturn(bpmnElement);
+        when(bpmnElement.getId()).thenReturn(ID);
+        planeElements.add(shape);
+        assertEquals(shape, definitionResolver.getShape(ID));
+
+        BPMNShape newShape = mock(BPMNShape.class);
+        when(newShape.getBpmnElement()).thenReturn(bpmnElement);
+        planeElements.set(0, newShape);
+        definitionResolver.invalidate();
+        assertEquals(newShape, definitionResolver.getShape(ID));
+    }
+
+    @Test
+    public void testGetEdgeReassignedAfterLookup() {
+        BPMNEdge edge = mock(BPMNEdge.class);
+        BaseElement bpmnElement = mock(BaseElement.class);
+        when(edge.getBpmnElement()).thenReturn(bpmnElement);
+        when(bpmnElement.getId()).thenReturn(ID);
+        planeElements.add(edge);
+        assertEquals(edge, definitionResolver.getEdge(ID));
+
+        when(bpmnElement.getId()).thenReturn("OTHER_ID");
+        definitionResolver.invalidate();
+        assertNull(definitionResolver.getEdge(ID));
+        assertEquals(edge, definitionResolver.getEdge("OTHER_ID"));
+    }
+
+    @Test
+    public void testGetShapeFromFirstDiagram() {
+        BPMNShape shape = mock(BPMNShape.class);
+        BaseElement bpmnElement = mock(BaseElement.class);
+        when(shape.getBpmnElement()).thenReturn(bpmnElement);
+        when(bpmnElement.getId()).thenReturn(ID);
+        planeElements.add(shape);
+
+        BPMNDiagram otherDiagram = mock(BPMNDiagram.class);
+        BPMNPlane otherPlane = mock(BPMNPlane.class);
+        BPMNShape otherShape = mock(BPMNShape.class);
+        when(otherShape.getBpmnElement()).thenReturn(bpmnElement);
+        EList<DiagramElement> otherPlaneElements = ECollections.newBasicEList();
+        otherPlaneElements.add(otherShape);
+        when(otherDiagram.getPlane()).thenReturn(otherPlane);
+        when(otherPlane.getPlaneElement()).thenReturn(otherPlaneElements);
+        EList<BPMNDiagram> diagrams = ECollections.newBasicEList();
+        diagrams.add(diagram);
+        diagrams.add(otherDiagram);
+        when(definitions.getDiagrams()).thenReturn(diagrams);
+
+        assertEquals(shape, definitionResolver.getShape(ID));
+    }
+
+    @Test
+    public void testGetEdgeWithoutElement() {
+        BPMNEdge edge = mock(BPMNEdge.class);
+        planeElements.add(edge);
+        assertNull(definitionResolver.getEdge(ID));
+    }
+
     @Test
     public void testSimulation() {
         String elementRef = "some_element_ref";
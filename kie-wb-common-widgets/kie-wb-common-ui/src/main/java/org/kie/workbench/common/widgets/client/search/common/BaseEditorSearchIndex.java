@@ -37,6 +37,10 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
 
     private Integer currentAssetHash = null;
 
+    private Long currentModificationCount = null;
+
+    private boolean markedAsDirty = false;
+
     private Command searchPerformedCallback = () -> {/* Nothing */};
 
     private Command noResultsFoundCallback = () -> {/* Nothing */};
@@ -47,6 +51,8 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
 
     private Supplier<Integer> currentAssetHashcodeSupplier;
 
+    private Supplier<Long> modificationCountSupplier;
+
     @Override
     public void setSearchPerformedCallback(final Command searchPerformedCallback) {
         this.searchPerformedCallback = searchPerformedCallback;
@@ -119,9 +125,23 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
 
     @Override
     public boolean isDirty() {
+        if (markedAsDirty) {
+            return true;
+        }
+        if (getModificationCountSupplier().isPresent()) {
+            return currentModificationCount != null && !Objects.equals(currentModificationCount, getCurrentModificationCount());
+        }
         return currentAssetHash != null && !Objects.equals(currentAssetHash, getCurrentAssetHashcode());
     }
 
+    /**
+     * Marks the index as dirty, so the next search reloads its results from the sub-indexes. It's meant for
+     * changes that are not tracked by the modification count.
+     */
+    public void markAsDirty() {
+        markedAsDirty = true;
+    }
+
     @Override
     public void nextResult() {
         final Optional<T> result = findNextElement();
@@ -153,6 +173,24 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
         return Optional.ofNullable(currentAssetHashcodeSupplier);
     }
 
+    /**
+     * Sets a supplier of a counter that increases on every change of the asset, like the modification count of a
+     * command registry. When it's set, it's used by the <code>isDirty</code> logic instead of the asset hashcode,
+     * which usually needs to visit the whole asset.
+     * @param modificationCountSupplier the modification count supplier.
+     */
+    public void setModificationCountSupplier(final Supplier<Long> modificationCountSupplier) {
+        this.modificationCountSupplier = modificationCountSupplier;
+    }
+
+    private Optional<Supplier<Long>> getModificationCountSupplier() {
+        return Optional.ofNullable(modificationCountSupplier);
+    }
+
+    private Long getCurrentModificationCount() {
+        return modificationCountSupplier.get();
+    }
+
     List<T> getResults() {
         return results;
     }
@@ -201,24 +239,50 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
     }
 
     private void loadSearchResults(final String term) {
+        updateCurrentAssetState();
+        results = findSearchResults(term);
+    }
+
+    private void updateCurrentAssetState() {
 
-        final List<T> searchableElements = getSearchableElements();
+        boolean hasChanged = markedAsDirty;
+
+        if (getModificationCountSupplier().isPresent()) {
+            final Long modificationCount = getCurrentModificationCount();
+            hasChanged |= !Objects.equals(currentModificationCount, modificationCount);
+            currentModificationCount = modificationCount;
+        } else {
+            final Integer assetHash = getCurrentAssetHashcode();
+            hasChanged |= !Objects.equals(currentAssetHash, assetHash);
+            currentAssetHash = assetHash;
+        }
 
-        updateCurrentHashcode();
-        updateResultsState(term, searchableElements);
+        markedAsDirty = false;
+        if (hasChanged) {
+            invalidateSubIndexes();
+        }
+    }
+
+    /**
+     * Discards the elements cached by the sub-indexes, as the asset has changed since the last search.
+     */
+    protected void invalidateSubIndexes() {
+        getSubIndexes().forEach(HasSearchableElements::invalidate);
     }
 
-    private void updateResultsState(final String term, final List<T> searchableElements) {
-        results = searchableElements
+    /**
+     * Returns the searchable elements that satisfy the <code>term</code>. By default, every searchable element is
+     * loaded and filtered, but implementations may delegate to indexed sub-indexes.
+     * @param term the string used by the search mechanism.
+     * @return the list of results.
+     */
+    protected List<T> findSearchResults(final String term) {
+        return getSearchableElements()
                 .stream()
                 .filter(element -> element.matches(term))
                 .collect(Collectors.toList());
     }
 
-    private void updateCurrentHashcode() {
-        currentAssetHash = getCurrentAssetHashcode();
-    }
-
     private void triggerOnFoundCommand() {
         triggerClearCurrentResultsCallback();
         if (getCurrentResult().isPresent()) {
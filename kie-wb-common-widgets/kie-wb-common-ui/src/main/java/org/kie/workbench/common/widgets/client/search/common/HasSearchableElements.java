@@ -17,6 +17,7 @@
 package org.kie.workbench.common.widgets.client.search.common;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * {@link HasSearchableElements} is a repository of searchable elements.
@@ -30,4 +31,24 @@ public interface HasSearchableElements<T extends Searchable> {
      * @return a list of {@link Searchable} elements.
      */
     List<T> getSearchableElements();
+
+    /**
+     * Returns the searchable elements that satisfy the <code>term</code>, in the same order as
+     * {@link #getSearchableElements()}. Sub-indexes may override it to resolve the term through an index.
+     * @param term the string used by the search mechanism.
+     * @return a list of the matching {@link Searchable} elements.
+     */
+    default List<T> search(final String term) {
+        return getSearchableElements()
+                .stream()
+                .filter(element -> element.matches(term))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Discards any searchable element cached by the sub-index. It's triggered when the asset has changed.
+     */
+    default void invalidate() {
+
+    }
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.widgets.client.search.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@link SearchableElementIndex} is an inverted index of {@link Searchable} elements.
+ * ---
+ * Each element is indexed by the n-grams (up to {@link #GRAM_SIZE} characters) of its normalized text, so
+ * any term can be resolved by looking up the rarest n-gram of the term, instead of visiting every element. The
+ * candidates are then checked by {@link Searchable#matches(String)}, so elements are expected to match terms that
+ * are contained by their text, as prefix or substring.
+ * ---
+ * Elements are registered by key, which allows updating or removing them individually when the source changes.
+ * @param <K> represents the type of the keys.
+ * @param <T> represents the type of {@link Searchable} element.
+ */
+public class SearchableElementIndex<K, T extends Searchable> {
+
+    static final int GRAM_SIZE = 3;
+
+    private final Map<K, Entry<T>> entries = new LinkedHashMap<>();
+
+    private final Map<String, Set<Entry<T>>> postings = new HashMap<>();
+
+    private int sequence = 0;
+
+    /**
+     * Adds the element, or replaces the element previously registered for the same key.
+     * A replaced element keeps its position in the index.
+     * @param key the key of the element.
+     * @param element the {@link Searchable} element.
+     * @param text the text the element is searched by.
+     */
+    public void put(final K key,
+                    final T element,
+                    final String text) {
+        final Entry<T> previous = entries.get(key);
+        final int position;
+        if (previous != null) {
+            unregister(previous);
+            position = previous.position;
+        } else {
+            position = sequence++;
+        }
+        final Entry<T> entry = new Entry<>(element, position, grams(normalize(text)));
+        entries.put(key, entry);
+        register(entry);
+    }
+
+    /**
+     * Removes the element registered for the given key.
+     * @param key the key of the element.
+     * @return true if an element was registered for the key.
+     */
+    public boolean remove(final K key) {
+        final Entry<T> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unregister(entry);
+        return true;
+    }
+
+    public boolean contains(final K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Returns the element registered for the given key.
+     * @param key the key of the element.
+     * @return the {@link Searchable} element, or null if no element is registered for the key.
+     */
+    public T get(final K key) {
+        final Entry<T> entry = entries.get(key);
+        return entry != null ? entry.element : null;
+    }
+
+    /**
+     * Returns the keys of the elements, sorted by the order they were first added.
+     * @return a list of keys.
+     */
+    public List<K> getKeys() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    public void clear() {
+        entries.clear();
+        postings.clear();
+        sequence = 0;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns all the elements, sorted by the order they were first added.
+     * @return a list of {@link Searchable} elements.
+     */
+    public List<T> getElements() {
+        return entries
+                .values()
+                .stream()
+                .map(entry -> entry.element)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the elements that match the given term, sorted by the order they were first added.
+     * @param term the string used by the search mechanism.
+     * @return a list of matching {@link Searchable} elements.
+     */
+    public List<T> search(final String term) {
+        return getCandidates(normalize(term))
+                .stream()
+                .filter(entry -> entry.element.matches(term))
+                .sorted(Comparator.comparingInt(entry -> entry.position))
+                .map(entry -> entry.element)
+                .collect(Collectors.toList());
+    }
+
+    private Collection<Entry<T>> getCandidates(final String term) {
+
+        if (term.isEmpty()) {
+            return entries.values();
+        }
+
+        final int gramSize = Math.min(GRAM_SIZE, term.length());
+        Set<Entry<T>> candidates = null;
+
+        for (int i = 0; i + gramSize <= term.length(); i++) {
+            final Set<Entry<T>> posting = postings.get(term.substring(i, i + gramSize));
+            if (posting == null) {
+                return new ArrayList<>();
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+
+        return candidates;
+    }
+
+    private void register(final Entry<T> entry) {
+        for (final String gram : entry.grams) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(entry);
+        }
+    }
+
+    private void unregister(final Entry<T> entry) {
+        for (final String gram : entry.grams) {
+            final Set<Entry<T>> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(entry);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    static Set<String> grams(final String text) {
+        final Set<String> grams = new HashSet<>();
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            for (int size = 1; size <= GRAM_SIZE && i + size <= length; size++) {
+                grams.add(text.substring(i, i + size));
+            }
+        }
+        return grams;
+    }
+
+    static String normalize(final String text) {
+        return text == null ? "" : text.toUpperCase();
+    }
+
+    private static final class Entry<T> {
+
+        private final T element;
+
+        private final int position;
+
+        private final Set<String> grams;
+
+        private Entry(final T element,
+                      final int position,
+                      final Set<String> grams) {
+            this.element = element;
+            this.position = position;
+            this.grams = grams;
+        }
+    }
+}
@@ -127,6 +127,25 @@ public class BaseEditorSearchIndexTest {
         verify(noResultsFoundCallback, never()).execute();
     }
 
+    @Test
+    public void testSearchInvalidatesSubIndexesWhenAssetHasChanged() {
+
+        index.registerSubIndex(hasSearchableElements1);
+        index.registerSubIndex(hasSearchableElements2);
+
+        index.search("Element");
+        index.search("Element 2");
+
+        verify(hasSearchableElements1).invalidate();
+        verify(hasSearchableElements2).invalidate();
+
+        index.setCurrentAssetHashcodeSupplier(() -> currentAssetHashcodeSupplier.get() + 1);
+        index.search("Element 2");
+
+        verify(hasSearchableElements1, Mockito.times(2)).invalidate();
+        verify(hasSearchableElements2, Mockito.times(2)).invalidate();
+    }
+
     @Test
     public void testSearchWhenNextElementIsHighlighted() {
 
@@ -176,6 +195,60 @@ public class BaseEditorSearchIndexTest {
         assertTrue(index.isDirty());
     }
 
+    @Test
+    public void testIsDirtyWhenModificationCountIsSet() {
+
+        final long[] modificationCount = {1L};
+        index.setModificationCountSupplier(() -> modificationCount[0]);
+        index.setCurrentAssetHashcodeSupplier(() -> {
+            throw new IllegalStateException("The asset hashcode must not be computed.");
+        });
+
+        assertFalse(index.isDirty());
+
+        index.search("element");
+        assertFalse(index.isDirty());
+
+        modificationCount[0]++;
+        assertTrue(index.isDirty());
+
+        index.search("element");
+        assertFalse(index.isDirty());
+    }
+
+    @Test
+    public void testSearchInvalidatesSubIndexesWhenModificationCountHasChanged() {
+
+        final long[] modificationCount = {1L};
+        index.setModificationCountSupplier(() -> modificationCount[0]);
+        index.registerSubIndex(hasSearchableElements1);
+
+        index.search("Element");
+        index.search("Element 2");
+        verify(hasSearchableElements1).invalidate();
+
+        modificationCount[0]++;
+        index.search("Element 2");
+        verify(hasSearchableElements1, Mockito.times(2)).invalidate();
+    }
+
+    @Test
+    public void testMarkAsDirty() {
+
+        index.registerSubIndex(hasSearchableElements1);
+        index.search("Element");
+
+        index.markAsDirty();
+        assertTrue(index.isDirty());
+
+        index.search("Element");
+
+        // The search is performed again, so the first element is found twice.
+        verify(searchable1, Mockito.times(2)).onFound();
+        verify(hasSearchableElements1, Mockito.times(2)).invalidate();
+        assertFalse(index.isDirty());
+    }
+
     @Test
     public void testGetSubIndexes() {
 
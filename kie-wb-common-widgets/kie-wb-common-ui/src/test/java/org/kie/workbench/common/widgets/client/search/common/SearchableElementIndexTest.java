@@ -0,0 +1,192 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.widgets.client.search.common;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.mvp.Command;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SearchableElementIndexTest {
+
+    private SearchableElementIndex<String, FakeSearchable> index;
+
+    private FakeSearchable decision;
+
+    private FakeSearchable inputData;
+
+    private FakeSearchable knowledgeSource;
+
+    @Before
+    public void setup() {
+
+        decision = new FakeSearchable("Decision 1");
+        inputData = new FakeSearchable("Input data");
+        knowledgeSource = new FakeSearchable("Knowledge source");
+
+        index = new SearchableElementIndex<>();
+        put("1", decision);
+        put("2", inputData);
+        put("3", knowledgeSource);
+    }
+
+    @Test
+    public void testSearchByPrefix() {
+        assertEquals(asList(decision), index.search("Dec"));
+        assertEquals(asList(knowledgeSource), index.search("know"));
+        assertEquals(asList(inputData), index.search("Inp"));
+    }
+
+    @Test
+    public void testSearchBySubstring() {
+        assertEquals(asList(inputData), index.search("data"));
+        assertEquals(asList(decision, inputData), index.search("i"));
+        assertEquals(asList(decision, knowledgeSource), index.search("o"));
+        assertEquals(asList(decision), index.search("sion 1"));
+        assertEquals(asList(knowledgeSource), index.search("edge sou"));
+    }
+
+    @Test
+    public void testSearchWhenNothingMatches() {
+        assertEquals(emptyList(), index.search("xyz"));
+        assertEquals(emptyList(), index.search("Decision 2"));
+        assertEquals(emptyList(), index.search("data input"));
+    }
+
+    @Test
+    public void testSearchWithEmptyTerm() {
+        assertEquals(asList(decision, inputData, knowledgeSource), index.search(""));
+    }
+
+    @Test
+    public void testPutReplacesElement() {
+
+        final FakeSearchable renamed = new FakeSearchable("Renamed");
+
+        put("1", renamed);
+
+        assertEquals(3, index.size());
+        assertEquals(emptyList(), index.search("Decision"));
+        assertEquals(asList(renamed), index.search("name"));
+        assertEquals(asList(renamed, inputData, knowledgeSource), index.getElements());
+    }
+
+    @Test
+    public void testRemove() {
+
+        assertTrue(index.remove("2"));
+        assertFalse(index.remove("2"));
+
+        assertFalse(index.contains("2"));
+        assertEquals(2, index.size());
+        assertEquals(emptyList(), index.search("data"));
+        assertEquals(asList(decision), index.search("i"));
+        assertEquals(asList(decision, knowledgeSource), index.getElements());
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals(inputData, index.get("2"));
+        assertNull(index.get("4"));
+    }
+
+    @Test
+    public void testGetKeys() {
+
+        put("0", new FakeSearchable("Business knowledge model"));
+
+        assertEquals(asList("1", "2", "3", "0"), index.getKeys());
+    }
+
+    @Test
+    public void testClear() {
+
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertEquals(emptyList(), index.search("data"));
+        assertEquals(emptyList(), index.search(""));
+    }
+
+    @Test
+    public void testSearchKeepsElementsOrder() {
+
+        for (int i = 0; i < 100; i++) {
+            put("element" + i, new FakeSearchable("Element " + i));
+        }
+
+        final List<String> actual = index
+                .search("ment 1")
+                .stream()
+                .map(element -> element.text)
+                .collect(Collectors.toList());
+
+        assertEquals(11, actual.size());
+        assertEquals("Element 1", actual.get(0));
+        assertEquals("Element 10", actual.get(1));
+        assertEquals("Element 19", actual.get(10));
+    }
+
+    @Test
+    public void testSearchChecksMatches() {
+
+        final FakeSearchable caseSensitive = new FakeSearchable("Decision 2") {
+            @Override
+            public boolean matches(final String text) {
+                return this.text.contains(text);
+            }
+        };
+
+        put("4", caseSensitive);
+
+        assertEquals(asList(decision, caseSensitive), index.search("Decision"));
+        assertEquals(asList(decision), index.search("decision"));
+    }
+
+    private void put(final String key,
+                     final FakeSearchable element) {
+        index.put(key, element, element.text);
+    }
+
+    class FakeSearchable implements Searchable {
+
+        final String text;
+
+        FakeSearchable(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        public boolean matches(final String text) {
+            return this.text.toUpperCase().contains(text.toUpperCase());
+        }
+
+        @Override
+        public Command onFound() {
+            return () -> {/* Nothing. */};
+        }
+    }
+}
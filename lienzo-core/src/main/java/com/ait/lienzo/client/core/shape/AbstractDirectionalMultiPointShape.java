@@ -54,8 +54,12 @@ public abstract class AbstractDirectionalMultiPointShape<T extends AbstractDirec
 
     @Override
     public T setHeadDirection(final Direction direction) {
+        damage();
+
         this.headDirection = direction;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -66,8 +70,12 @@ public abstract class AbstractDirectionalMultiPointShape<T extends AbstractDirec
 
     @Override
     public T setTailDirection(final Direction direction) {
+        damage();
+
         this.tailDirection = direction;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
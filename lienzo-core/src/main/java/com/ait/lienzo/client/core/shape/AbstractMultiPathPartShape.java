@@ -141,7 +141,15 @@ public abstract class AbstractMultiPathPartShape<T extends AbstractMultiPathPart
     }
 
     public void resetBoundingBox() {
+        // The bounds the path was drawn at are only known while they are cached.
+        if (null != m_box) {
+            damage();
+        } else {
+            damageLayer();
+        }
         m_box = null;
+
+        onBoundsChanged();
     }
 
     @Override
@@ -65,8 +65,12 @@ public abstract class AbstractMultiPointShape<T extends AbstractMultiPointShape<
     }
 
     public final T setControlPoints(final Point2DArray points) {
+        damage();
+
         this.points = points;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -94,19 +98,27 @@ public abstract class AbstractMultiPointShape<T extends AbstractMultiPointShape<
      * @return this Line
      */
     public T setPoints(final Point2DArray points) {
+        damage();
+
         this.points = points;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
     @Override
     public T setPoint2DArray(final Point2DArray points) {
+        damage();
+
         if (points.size() > 3) {
             throw new IllegalArgumentException("Cannot have more than 3 points");
         }
 
         this.points = points;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
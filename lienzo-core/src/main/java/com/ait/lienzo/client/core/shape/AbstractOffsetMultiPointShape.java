@@ -45,8 +45,12 @@ public abstract class AbstractOffsetMultiPointShape<T extends AbstractOffsetMult
     }
 
     public T setTailOffset(final double offset) {
+        damage();
+
         this.tailOffset = offset;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -55,8 +59,12 @@ public abstract class AbstractOffsetMultiPointShape<T extends AbstractOffsetMult
     }
 
     public T setHeadOffset(final double offset) {
+        damage();
+
         this.headOffset = offset;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
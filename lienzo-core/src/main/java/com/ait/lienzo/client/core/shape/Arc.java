@@ -103,8 +103,12 @@ public class Arc extends Shape<Arc> {
      * @return this Circle
      */
     public Arc setRadius(final double radius) {
+        damage();
+
         this.radius = radius;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -133,8 +137,12 @@ public class Arc extends Shape<Arc> {
      * @return this Arc
      */
     public Arc setStartAngle(final double angle) {
+        damage();
+
         this.startAngle = angle;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -154,8 +162,12 @@ public class Arc extends Shape<Arc> {
      * @return this Arc
      */
     public Arc setEndAngle(final double angle) {
+        damage();
+
         this.endAngle = angle;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -175,8 +187,12 @@ public class Arc extends Shape<Arc> {
      * @return this Arc
      */
     public Arc setCounterClockwise(final boolean counterClockwise) {
+        damage();
+
         this.counterClockwise = counterClockwise;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -156,10 +156,14 @@ public class Arrow extends Shape<Arrow> {
      * @return this Arrow
      */
     public Arrow setStart(Point2D start) {
+        damage();
+
         getPoints().set(0, start);
 
         invalidatePolygon();
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -179,10 +183,14 @@ public class Arrow extends Shape<Arrow> {
      * @return this Arrow
      */
     public Arrow setEnd(Point2D end) {
+        damage();
+
         getPoints().set(1, end);
 
         invalidatePolygon();
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -203,10 +211,14 @@ public class Arrow extends Shape<Arrow> {
      * @return this Arrow
      */
     public Arrow setPoints(Point2DArray points) {
+        damage();
+
         this.points = points;
 
         invalidatePolygon();
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -226,10 +238,14 @@ public class Arrow extends Shape<Arrow> {
      * @return this Arrow
      */
     public Arrow setBaseWidth(double baseWidth) {
+        damage();
+
         this.baseWidth = baseWidth;
 
         invalidatePolygon();
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -249,10 +265,14 @@ public class Arrow extends Shape<Arrow> {
      * @return this Arrow
      */
     public Arrow setHeadWidth(double headWidth) {
+        damage();
+
         this.headWidth = headWidth;
 
         invalidatePolygon();
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -274,10 +294,14 @@ public class Arrow extends Shape<Arrow> {
      * @return this Arrow
      */
     public Arrow setArrowAngle(double arrowAngle) {
+        damage();
+
         this.arrowAngle = arrowAngle;
 
         invalidatePolygon();
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -299,10 +323,14 @@ public class Arrow extends Shape<Arrow> {
      * @return this Arrow
      */
     public Arrow setBaseAngle(double baseAngle) {
+        damage();
+
         this.baseAngle = baseAngle;
 
         invalidatePolygon();
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -324,10 +352,14 @@ public class Arrow extends Shape<Arrow> {
      * @return this Arrow
      */
     public Arrow setArrowType(ArrowType arrowType) {
+        damage();
+
         this.arrowType = arrowType;
 
         invalidatePolygon();
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -131,8 +131,12 @@ public class Bow extends Shape<Bow> {
      * @return this Bow
      */
     public Bow setInnerRadius(final double radius) {
+        damage();
+
         this.innerRadius = radius;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -152,8 +156,12 @@ public class Bow extends Shape<Bow> {
      * @return this Bow
      */
     public Bow setOuterRadius(final double radius) {
+        damage();
+
         this.outerRadius = radius;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -173,8 +181,12 @@ public class Bow extends Shape<Bow> {
      * @return this bow
      */
     public Bow setStartAngle(final double angle) {
+        damage();
+
         this.startAngle = angle;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -194,8 +206,12 @@ public class Bow extends Shape<Bow> {
      * @return this bow
      */
     public Bow setEndAngle(final double angle) {
+        damage();
+
         this.endAngle = angle;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -215,8 +231,12 @@ public class Bow extends Shape<Bow> {
      * @return this slice
      */
     public Bow setCounterClockwise(final boolean counterClockwise) {
+        damage();
+
         this.counterClockwise = counterClockwise;
 
+        onBoundsChanged();
+
         return this;
     }
 
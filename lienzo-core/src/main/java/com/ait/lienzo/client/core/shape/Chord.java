@@ -111,8 +111,12 @@ public class Chord extends Shape<Chord> {
      * @return this Circle
      */
     public Chord setRadius(final double radius) {
+        damage();
+
         this.radius = radius;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -141,8 +145,12 @@ public class Chord extends Shape<Chord> {
      * @return this chord
      */
     public Chord setStartAngle(final double angle) {
+        damage();
+
         this.startAngle = angle;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -162,8 +170,12 @@ public class Chord extends Shape<Chord> {
      * @return this chord
      */
     public Chord setEndAngle(final double angle) {
+        damage();
+
         this.endAngle = angle;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -183,8 +195,12 @@ public class Chord extends Shape<Chord> {
      * @return this chord
      */
     public Chord setCounterClockwise(final boolean counterClockwise) {
+        damage();
+
         this.counterClockwise = counterClockwise;
 
+        onBoundsChanged();
+
         return this;
     }
 
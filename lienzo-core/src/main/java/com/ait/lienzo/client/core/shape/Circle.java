@@ -85,8 +85,12 @@ public class Circle extends Shape<Circle> {
      * @return this Circle
      */
     public Circle setRadius(final double radius) {
+        damage();
+
         this.radius = radius;
 
+        onBoundsChanged();
+
         return this;
     }
 
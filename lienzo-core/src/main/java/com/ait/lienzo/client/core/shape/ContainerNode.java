@@ -26,6 +26,8 @@ import com.ait.lienzo.client.core.Context2D;
 import com.ait.lienzo.client.core.shape.storage.IStorageEngine;
 import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.BoundingPoints;
+import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.client.core.util.GeometryException;
 import com.ait.lienzo.shared.core.types.NodeType;
 import com.ait.lienzo.tools.client.collection.NFastArrayList;
 import jsinterop.annotations.JsIgnore;
@@ -125,6 +127,10 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
 
         getStorageEngine().add(child);
 
+        node.damage();
+
+        onBoundsChanged();
+
         return cast();
     }
 
@@ -139,10 +145,14 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
     public T remove(final M child) {
         final Node<?> node = child.asNode();
 
+        node.damage();
+
         node.setParent(null);
 
         getStorageEngine().remove(child);
 
+        onBoundsChanged();
+
         return cast();
     }
 
@@ -155,6 +165,8 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
      */
     @Override
     public T removeAll() {
+        damage();
+
         getStorageEngine().clear();
 
         return cast();
@@ -180,7 +192,7 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
         BoundingBox bbox = getStorageBounds();
 
         if (null == bbox) {
-            bbox = bounds;
+            bbox = toLocalBounds(bounds);
         }
         final NFastArrayList<M> list = getChildNodes(bbox);
 
@@ -204,6 +216,43 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
         }
     }
 
+    /**
+     * Maps the given bounds, expressed in the parent coordinate space, into this node coordinate space,
+     * so spatially indexed children can be culled against them.
+     */
+    private BoundingBox toLocalBounds(final BoundingBox bounds) {
+        if (null == bounds) {
+            return null;
+        }
+        final Transform xfrm = getPossibleNodeTransform();
+
+        if (null == xfrm) {
+            return bounds;
+        }
+        try {
+            return new BoundingPoints(bounds).transform(xfrm.getInverse()).getBoundingBox();
+        } catch (final GeometryException e) {
+            return null;
+        }
+    }
+
+    @Override
+    boolean isSpatiallyIndexed() {
+        return getStorageEngine().isSpatiallyIndexed();
+    }
+
+    /**
+     * Re-indexes a child whose bounds changed. Only called when the storage is spatially indexed,
+     * and propagated upwards to the nearest spatially indexed ancestor.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    void onChildBoundsChanged(final Node<?> child) {
+        getStorageEngine().refresh((M) child);
+
+        onBoundsChanged();
+    }
+
     @Override
     public BoundingBox getBoundingBox() {
         final BoundingBox bbox = new BoundingBox();
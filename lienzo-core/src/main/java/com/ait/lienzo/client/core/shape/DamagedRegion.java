@@ -0,0 +1,184 @@
+/*
+   Copyright (c) 2017 Ahome' Innovation Technologies. All rights reserved.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.ait.lienzo.client.core.types.BoundingBox;
+
+/**
+ * Accumulates the areas of a {@link Layer} that changed since it was last drawn, in the canvas
+ * coordinate space, that is, after the viewport transform is applied.
+ * <p>
+ * A damaged node contributes the bounds it had when it was first reported, that is, the area it
+ * was drawn at, and the bounds it has when the region is merged, that is, the area it will be
+ * drawn at. Reporting the same node several times before the region is merged has no further cost.
+ * <p>
+ * Overlapping areas are joined, and at most {@link #MAX_RECTANGLES} disjoint rectangles are kept,
+ * so two small changes far apart do not damage all the space between them.
+ */
+final class DamagedRegion {
+
+    static final int MAX_RECTANGLES = 8;
+
+    private final Set<Node<?>> m_nodes = new HashSet<>();
+
+    private final List<Node<?>> m_order = new ArrayList<>();
+
+    private final List<BoundingBox> m_rects = new ArrayList<>();
+
+    private boolean m_full = false;
+
+    /**
+     * Reports a node as damaged.
+     *
+     * @param node    the damaged node.
+     * @param measure computes the current bounds of the node, in canvas coordinates, or null if the
+     *                node is not drawn in the layer.
+     */
+    void add(final Node<?> node, final Function<Node<?>, BoundingBox> measure) {
+        if ((m_full) || (!m_nodes.add(node))) {
+            return;
+        }
+        m_order.add(node);
+
+        addMeasured(measure.apply(node));
+    }
+
+    /**
+     * Reports an area as damaged.
+     *
+     * @param bbox the damaged area, in canvas coordinates. A null area damages the whole layer.
+     */
+    void add(final BoundingBox bbox) {
+        if (m_full) {
+            return;
+        }
+        if (null == bbox) {
+            invalidate();
+
+            return;
+        }
+        BoundingBox rect = BoundingBox.fromBoundingBox(bbox);
+
+        boolean joined = true;
+
+        while (joined) {
+            joined = false;
+
+            for (int i = 0; i < m_rects.size(); i++) {
+                final BoundingBox other = m_rects.get(i);
+
+                if (other.intersects(rect)) {
+                    rect.addBoundingBox(other);
+
+                    m_rects.remove(i);
+
+                    joined = true;
+
+                    break;
+                }
+            }
+        }
+        if (m_rects.size() < MAX_RECTANGLES) {
+            m_rects.add(rect);
+
+            return;
+        }
+        // Too many rectangles, join the new one with the rectangle that grows the least.
+        int best = 0;
+
+        double growth = Double.MAX_VALUE;
+
+        for (int i = 0; i < m_rects.size(); i++) {
+            final BoundingBox other = m_rects.get(i);
+
+            final double value = area(BoundingBox.fromBoundingBox(other).addBoundingBox(rect)) - area(other);
+
+            if (value < growth) {
+                growth = value;
+
+                best = i;
+            }
+        }
+        rect = m_rects.remove(best).addBoundingBox(rect);
+
+        add(rect);
+    }
+
+    private void addMeasured(final BoundingBox bbox) {
+        if (null != bbox) {
+            add(bbox);
+        }
+    }
+
+    /**
+     * Damages the whole layer.
+     */
+    void invalidate() {
+        clear();
+
+        m_full = true;
+    }
+
+    boolean isFull() {
+        return m_full;
+    }
+
+    boolean isEmpty() {
+        return (!m_full) && (m_rects.isEmpty()) && (m_order.isEmpty());
+    }
+
+    /**
+     * Returns the disjoint rectangles that cover every damaged area, including the current bounds
+     * of the damaged nodes, and resets this region.
+     *
+     * @param measure computes the current bounds of a node, in canvas coordinates, or null if the
+     *                node is not drawn in the layer.
+     * @return the damaged rectangles, or null if the whole layer is damaged.
+     */
+    List<BoundingBox> merge(final Function<Node<?>, BoundingBox> measure) {
+        final int size = m_order.size();
+
+        for (int i = 0; (i < size) && (!m_full); i++) {
+            addMeasured(measure.apply(m_order.get(i)));
+        }
+        final List<BoundingBox> rects = m_full ? null : new ArrayList<>(m_rects);
+
+        clear();
+
+        return rects;
+    }
+
+    void clear() {
+        m_full = false;
+
+        m_nodes.clear();
+
+        m_order.clear();
+
+        m_rects.clear();
+    }
+
+    static double area(final BoundingBox bbox) {
+        return bbox.getWidth() * bbox.getHeight();
+    }
+}
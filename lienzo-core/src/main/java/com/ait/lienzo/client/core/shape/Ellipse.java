@@ -106,8 +106,12 @@ public class Ellipse extends Shape<Ellipse> {
      * @return this ellipse
      */
     public Ellipse setWidth(final double width) {
+        damage();
+
         this.width = width;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -127,8 +131,12 @@ public class Ellipse extends Shape<Ellipse> {
      * @return this ellipse
      */
     public Ellipse setHeight(final double height) {
+        damage();
+
         this.height = height;
 
+        onBoundsChanged();
+
         return this;
     }
 
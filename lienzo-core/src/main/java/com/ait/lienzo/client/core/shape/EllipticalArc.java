@@ -109,8 +109,12 @@ public class EllipticalArc extends Shape<EllipticalArc> {
      * @return this Circle
      */
     public EllipticalArc setRadiusX(final double radiusX) {
+        damage();
+
         this.radiusX = radiusX;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -130,8 +134,12 @@ public class EllipticalArc extends Shape<EllipticalArc> {
      * @return this Circle
      */
     public EllipticalArc setRadiusY(final double radiusY) {
+        damage();
+
         this.radiusY = radiusY;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -160,8 +168,12 @@ public class EllipticalArc extends Shape<EllipticalArc> {
      * @return this Arc
      */
     public EllipticalArc setStartAngle(final double angle) {
+        damage();
+
         this.startAngle = angle;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -181,8 +193,12 @@ public class EllipticalArc extends Shape<EllipticalArc> {
      * @return this Arc
      */
     public EllipticalArc setEndAngle(final double angle) {
+        damage();
+
         this.endAngle = angle;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -202,8 +218,12 @@ public class EllipticalArc extends Shape<EllipticalArc> {
      * @return this Arc
      */
     public EllipticalArc setCounterClockwise(final boolean counterClockwise) {
+        damage();
+
         this.counterClockwise = counterClockwise;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -145,8 +145,12 @@ public class IsoscelesTrapezoid extends Shape<IsoscelesTrapezoid> {
     }
 
     public IsoscelesTrapezoid setTopWidth(final double topWidth) {
+        damage();
+
         this.topWidth = topWidth;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -155,8 +159,12 @@ public class IsoscelesTrapezoid extends Shape<IsoscelesTrapezoid> {
     }
 
     public IsoscelesTrapezoid setBottomWidth(final double bottomWidth) {
+        damage();
+
         this.bottomWidth = bottomWidth;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -165,8 +173,12 @@ public class IsoscelesTrapezoid extends Shape<IsoscelesTrapezoid> {
     }
 
     public IsoscelesTrapezoid setHeight(final double height) {
+        damage();
+
         this.height = height;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -16,8 +16,10 @@
 
 package com.ait.lienzo.client.core.shape;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import com.ait.lienzo.client.core.Attribute;
@@ -28,11 +30,14 @@ import com.ait.lienzo.client.core.shape.storage.IStorageEngine;
 import com.ait.lienzo.client.core.shape.storage.PrimitiveFastArrayStorageEngine;
 import com.ait.lienzo.client.core.style.Style;
 import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.BoundingPoints;
 import com.ait.lienzo.client.core.types.ColorKeyRotor;
 import com.ait.lienzo.client.core.types.ImageDataPixelColor;
 import com.ait.lienzo.client.core.types.OnLayerAfterDraw;
 import com.ait.lienzo.client.core.types.OnLayerBeforeDraw;
+import com.ait.lienzo.client.core.types.Shadow;
 import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.client.core.util.GeometryException;
 import com.ait.lienzo.shared.core.types.DataURLType;
 import com.ait.lienzo.shared.core.types.LayerClearMode;
 import com.ait.lienzo.shared.core.types.NodeType;
@@ -53,6 +58,22 @@ import elemental2.dom.HTMLDivElement;
  */
 public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
+    /**
+     * The default fraction of the layer area that damaged regions may cover before the whole layer is drawn instead.
+     */
+    public static final double DEFAULT_DIRTY_REGION_THRESHOLD = 0.5;
+
+    /**
+     * Pixels added around the bounds of damaged nodes, to cover antialiasing and line joins.
+     */
+    private static final double DAMAGE_MARGIN = 2;
+
+    /**
+     * How many layers have dirty region redraw set and have not been removed from their scene, so nodes skip
+     * looking up their layer when none has.
+     */
+    private static int s_dirty_region_layers = 0;
+
     private int m_wide = 0;
 
     private int m_high = 0;
@@ -75,8 +96,28 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
     private boolean clearLayerBeforeDraw = true;
 
+    private boolean lazySelectionLayer = false;
+
+    private boolean m_select_dirty = false;
+
+    private long m_select_requests = 0L;
+
+    private long m_select_draws = 0L;
+
     private boolean transformable = true;
 
+    private boolean dirtyRegionRedraw = false;
+
+    private boolean m_dirty_region_counted = false;
+
+    private boolean m_detached = false;
+
+    private double dirtyRegionThreshold = DEFAULT_DIRTY_REGION_THRESHOLD;
+
+    private final DamagedRegion m_damage = new DamagedRegion();
+
+    private Transform m_damage_xfrm = null;
+
     private final ColorKeyRotor m_c_rotor = new ColorKeyRotor();
 
     private final NFastStringMap<Shape<?>> m_shape_color_map = new NFastStringMap<>();
@@ -166,6 +207,8 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
             final SelectionLayer selection = getSelectionLayer();
 
             if (null != selection) {
+                flushSelectionLayer(selection);
+
                 final ImageDataPixelColor rgba = selection.getContext().getImageDataPixelColor(x, y);// x,y is adjusted to canvas coordinates in event dispatch
 
                 if (null != rgba) {
@@ -230,6 +273,15 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
         return this;
     }
 
+    @Override
+    protected void setParent(final Node<?> parent) {
+        m_detached = (null == parent) && ((m_detached) || (null != getParent()));
+
+        super.setParent(parent);
+
+        countDirtyRegionLayer();
+    }
+
     @Override
     public boolean removeFromParent() {
         final Node<?> parent = getParent();
@@ -266,6 +318,8 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
         }
         super.removeAll();
 
+        invalidateDamage();
+
         return this;
     }
 
@@ -375,6 +429,8 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                 doShowSelectionLayer(false);
             }
             m_select = null;
+
+            m_select_dirty = false;
         }
         return this;
     }
@@ -494,6 +550,167 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
         return this;
     }
 
+    /**
+     * Returns whether the selection layer is only marked as dirty when this layer is drawn,
+     * and rendered on demand the first time a shape is looked up after a change.
+     *
+     * @return boolean
+     */
+    public boolean isLazySelectionLayer() {
+        return this.lazySelectionLayer;
+    }
+
+    /**
+     * Sets whether the selection layer is rendered on demand, by {@link #findShapeAtPoint(int, int)},
+     * instead of on every draw. The selection layer is always rendered eagerly while it is being shown.
+     * The default value is false.
+     *
+     * @param lazy
+     * @return Layer
+     */
+    public Layer setLazySelectionLayer(final boolean lazy) {
+        this.lazySelectionLayer = lazy;
+        return this;
+    }
+
+    /**
+     * Returns whether batched draws only redraw the regions damaged by the primitives of this layer.
+     *
+     * @return boolean
+     */
+    public boolean isDirtyRegionRedraw() {
+        return this.dirtyRegionRedraw;
+    }
+
+    /**
+     * Sets whether batched draws only redraw the regions damaged by the primitives of this layer.
+     * Primitives report their old and new bounds when their location, transform, geometry, alpha or style change,
+     * or when they are added to or removed from a container. Any other change must be reported through
+     * {@link #damage(IDrawable)} before it happens, or followed by a {@link #draw()}.
+     * The default value is false.
+     *
+     * @param dirty
+     * @return Layer
+     */
+    public Layer setDirtyRegionRedraw(final boolean dirty) {
+        this.dirtyRegionRedraw = dirty;
+
+        countDirtyRegionLayer();
+
+        m_damage.clear();
+
+        return this;
+    }
+
+    /**
+     * Returns the fraction of the layer area the damaged regions may cover before the whole layer is drawn instead.
+     *
+     * @return double
+     */
+    public double getDirtyRegionThreshold() {
+        return this.dirtyRegionThreshold;
+    }
+
+    /**
+     * Sets the fraction of the layer area the damaged regions may cover before the whole layer is drawn instead.
+     * The default value is {@link #DEFAULT_DIRTY_REGION_THRESHOLD}.
+     *
+     * @param threshold
+     * @return Layer
+     */
+    public Layer setDirtyRegionThreshold(final double threshold) {
+        this.dirtyRegionThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Reports a node of this layer as about to change. Both the area it covers now and the area it covers
+     * at the next batched draw are redrawn. Only used when {@link #isDirtyRegionRedraw()} is set.
+     *
+     * @param node
+     * @return Layer
+     */
+    public Layer damage(final IDrawable<?> node) {
+        if ((isDirtyRegionRedraw()) && (null != node)) {
+            m_damage.add(node.asNode(), this::getDamageBounds);
+        }
+        return this;
+    }
+
+    /**
+     * Reports an area of this layer, in layer coordinates, as changed. Only used when {@link #isDirtyRegionRedraw()} is set.
+     *
+     * @param bbox
+     * @return Layer
+     */
+    public Layer damage(final BoundingBox bbox) {
+        if ((isDirtyRegionRedraw()) && (null != bbox)) {
+            final Transform transform = getDamageTransform();
+
+            m_damage.add((null == transform) ? bbox : new BoundingPoints(bbox).transform(transform).getBoundingBox());
+        }
+        return this;
+    }
+
+    /**
+     * Damages the whole layer, so the next batched draw draws all of it.
+     */
+    void invalidateDamage() {
+        if (isDirtyRegionRedraw()) {
+            m_damage.invalidate();
+        }
+    }
+
+    static boolean hasDirtyRegionRedraw() {
+        return s_dirty_region_layers > 0;
+    }
+
+    static int getDirtyRegionLayerCount() {
+        return s_dirty_region_layers;
+    }
+
+    /**
+     * Counts this layer whilst it has dirty region redraw set, and stops counting it once it is removed from its
+     * scene, so layers that are discarded without unsetting it don't keep the other nodes looking up their layer.
+     */
+    private void countDirtyRegionLayer() {
+        final boolean counted = (isDirtyRegionRedraw()) && (!m_detached);
+
+        if (counted != m_dirty_region_counted) {
+            s_dirty_region_layers += counted ? 1 : -1;
+
+            m_dirty_region_counted = counted;
+        }
+    }
+
+    /**
+     * Returns how many times the selection layer should have been rendered since this layer was created,
+     * that is, how many draws happened with a selection layer.
+     *
+     * @return long
+     */
+    public long getSelectionLayerDrawRequests() {
+        return m_select_requests;
+    }
+
+    /**
+     * Returns how many times the selection layer has actually been rendered.
+     *
+     * @return long
+     */
+    public long getSelectionLayerDraws() {
+        return m_select_draws;
+    }
+
+    /**
+     * Returns how many selection layer renderings have been saved by the lazy mode.
+     *
+     * @return long
+     */
+    public long getSelectionLayerDrawsSaved() {
+        return m_select_requests - m_select_draws;
+    }
+
     /**
      * Return the {@link CanvasElement}.
      *
@@ -550,9 +767,82 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
     @Override
     public Layer draw() {
+        m_damage.clear();
+
+        m_damage_xfrm = copy(getDamageTransform());
+
         return draw(getContext());
     }
 
+    /**
+     * Draws the changes batched since the last draw. When {@link #isDirtyRegionRedraw()} is set and the changes
+     * were reported as damaged regions, only the primitives that intersect them are drawn, clipped to them.
+     * The whole layer is drawn when the damaged regions cover more than {@link #getDirtyRegionThreshold()}
+     * of the layer, when nothing was reported, or when the viewport transform changed since the last draw.
+     *
+     * @return Layer
+     */
+    public Layer drawDamaged() {
+        if ((!isDirtyRegionRedraw()) || (m_damage.isEmpty()) || (!isClearLayerBeforeDraw()) || (null != m_olbd) || (!isVisible()) || (!LienzoCore.IS_CANVAS_SUPPORTED) || (null == getContext())) {
+            return draw();
+        }
+        final Transform transform = getDamageTransform();
+
+        if (!Objects.equals(transform, m_damage_xfrm)) {
+            return draw();
+        }
+        final List<BoundingBox> rects = m_damage.merge(this::getDamageBounds);
+
+        if (null == rects) {
+            return draw();
+        }
+        final Viewport viewport = getViewport();
+
+        final List<BoundingBox> pixels = toPixelBounds(rects);
+
+        if (pixels.isEmpty()) {
+            return this;
+        }
+        double area = 0;
+
+        for (final BoundingBox pixel : pixels) {
+            area += DamagedRegion.area(pixel);
+        }
+        if (area > (getDirtyRegionThreshold() * getWidth() * getHeight())) {
+            return draw();
+        }
+        final BoundingBox bbox = toLayerBounds(pixels, transform);
+
+        if (null == bbox) {
+            return draw();
+        }
+        final IPathClipper vclp = (null != viewport) ? viewport.getPathClipper() : null;
+
+        final IPathClipper lclp = getPathClipper();
+
+        drawClipped(getContext(), pixels, transform, vclp, lclp, bbox);
+
+        if (null != m_olad) {
+            m_olad.onLayerAfterDraw(this);
+        }
+        final SelectionLayer selection = getSelectionLayer();
+
+        if (null != selection) {
+            m_select_requests++;
+
+            if ((isLazySelectionLayer()) && (!isShowSelectionLayer())) {
+                m_select_dirty = true;
+            } else if (m_select_dirty) {
+                drawSelectionLayer(selection, transform, vclp, lclp, getDrawBounds(viewport, transform));
+            } else {
+                m_select_draws++;
+
+                drawClipped(selection.getContext(), pixels, transform, vclp, lclp, bbox);
+            }
+        }
+        return this;
+    }
+
     public Layer draw(Context2D context) {
         if (LienzoCore.IS_CANVAS_SUPPORTED) {
             if (isClearLayerBeforeDraw()) {
@@ -577,7 +867,7 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                     if (null != transform) {
                         context.transform(transform);
                     }
-                    final BoundingBox bbox = getStorageBounds();
+                    final BoundingBox bbox = getDrawBounds(viewport, transform);
 
                     IPathClipper vclp = null;
 
@@ -603,24 +893,13 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                     final SelectionLayer selection = getSelectionLayer();
 
                     if (null != selection) {
-                        selection.clear();
+                        m_select_requests++;
 
-                        context = selection.getContext();
-
-                        context.save();
-
-                        if (null != transform) {
-                            context.transform(transform);
+                        if ((isLazySelectionLayer()) && (!isShowSelectionLayer())) {
+                            m_select_dirty = true;
+                        } else {
+                            drawSelectionLayer(selection, transform, vclp, lclp, bbox);
                         }
-                        if ((null != vclp) && (vclp.isActive())) {
-                            vclp.clip(context);
-                        }
-                        if ((null != lclp) && (lclp.isActive())) {
-                            lclp.clip(context);
-                        }
-                        drawWithTransforms(context, 1, bbox);
-
-                        context.restore();
                     }
                 }
             }
@@ -628,9 +907,219 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
         return this;
     }
 
+    private void drawSelectionLayer(final SelectionLayer selection, final Transform transform, final IPathClipper vclp, final IPathClipper lclp, final BoundingBox bbox) {
+        m_select_dirty = false;
+
+        m_select_draws++;
+
+        selection.clear();
+
+        final Context2D context = selection.getContext();
+
+        context.save();
+
+        if (null != transform) {
+            context.transform(transform);
+        }
+        if ((null != vclp) && (vclp.isActive())) {
+            vclp.clip(context);
+        }
+        if ((null != lclp) && (lclp.isActive())) {
+            lclp.clip(context);
+        }
+        drawWithTransforms(context, 1, bbox);
+
+        context.restore();
+    }
+
+    /**
+     * Clears the given pixel rectangles and draws the primitives that intersect them, clipped to them.
+     */
+    private void drawClipped(final Context2D context, final List<BoundingBox> pixels, final Transform transform, final IPathClipper vclp, final IPathClipper lclp, final BoundingBox bbox) {
+        context.save();
+
+        context.beginPath();
+
+        for (final BoundingBox pixel : pixels) {
+            context.clearRect(pixel.getX(), pixel.getY(), pixel.getWidth(), pixel.getHeight());
+
+            context.rect(pixel.getX(), pixel.getY(), pixel.getWidth(), pixel.getHeight());
+        }
+        context.clip();
+
+        if (null != transform) {
+            context.transform(transform);
+        }
+        if ((null != vclp) && (vclp.isActive())) {
+            vclp.clip(context);
+        }
+        if ((null != lclp) && (lclp.isActive())) {
+            lclp.clip(context);
+        }
+        drawWithTransforms(context, 1, bbox);
+
+        context.restore();
+    }
+
+    /**
+     * Expands damaged rectangles, in canvas coordinates, to whole pixels and crops them to the layer size.
+     * Rectangles out of the layer are dropped.
+     */
+    private List<BoundingBox> toPixelBounds(final List<BoundingBox> rects) {
+        final List<BoundingBox> pixels = new ArrayList<>(rects.size());
+
+        for (final BoundingBox bbox : rects) {
+            final double minx = Math.max(0, Math.floor(bbox.getMinX()));
+
+            final double miny = Math.max(0, Math.floor(bbox.getMinY()));
+
+            final double maxx = Math.min(getWidth(), Math.ceil(bbox.getMaxX()));
+
+            final double maxy = Math.min(getHeight(), Math.ceil(bbox.getMaxY()));
+
+            if ((minx < maxx) && (miny < maxy)) {
+                pixels.add(BoundingBox.fromDoubles(minx, miny, maxx, maxy));
+            }
+        }
+        return pixels;
+    }
+
+    /**
+     * Returns the bounds of the given pixel rectangles in layer coordinates, used to cull the children to draw.
+     */
+    private BoundingBox toLayerBounds(final List<BoundingBox> pixels, final Transform transform) {
+        final BoundingBox bbox = new BoundingBox();
+
+        for (final BoundingBox pixel : pixels) {
+            bbox.addBoundingBox(pixel);
+        }
+        if (null == transform) {
+            return bbox;
+        }
+        try {
+            return new BoundingPoints(bbox).transform(transform.getInverse()).getBoundingBox();
+        } catch (final GeometryException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the transform from this layer coordinates into canvas coordinates, or null if there is none.
+     */
+    private Transform getDamageTransform() {
+        final Viewport viewport = getViewport();
+
+        if ((isTransformable()) && (null != viewport)) {
+            return viewport.getTransform();
+        }
+        return null;
+    }
+
+    private static Transform copy(final Transform transform) {
+        return (null == transform) ? null : transform.copy();
+    }
+
+    /**
+     * Returns the bounds of a node in canvas coordinates, including its stroke and shadow, or null if
+     * the node is not drawn in this layer. The bounds are measured with the current viewport transform,
+     * so the bounds of a node reported before a change match the area it was drawn at.
+     */
+    private BoundingBox getDamageBounds(final Node<?> node) {
+        final List<Transform> transforms = new ArrayList<>();
+
+        Node<?> parent = node;
+
+        while (true) {
+            if (null == parent) {
+                return null;
+            }
+            final Transform xfrm = parent.getPossibleNodeTransform();
+
+            if (null != xfrm) {
+                transforms.add(xfrm.copy());
+            }
+            if (parent == this) {
+                break;
+            }
+            parent = parent.getParent();
+        }
+        final BoundingBox bbox = node.getBoundingBox();
+
+        if ((null == bbox) || (!bbox.isValid())) {
+            return null;
+        }
+        double margin = DAMAGE_MARGIN;
+
+        if (node instanceof Shape) {
+            final Shape<?> shape = (Shape<?>) node;
+
+            margin += shape.getStrokeWidth();
+
+            final Shadow shadow = shape.getShadow();
+
+            if (null != shadow) {
+                margin += shadow.getBlur() + Math.max(Math.abs(shadow.getOffset().getX()), Math.abs(shadow.getOffset().getY()));
+            }
+        }
+        BoundingPoints points = new BoundingPoints(BoundingBox.fromDoubles(bbox.getMinX() - margin, bbox.getMinY() - margin, bbox.getMaxX() + margin, bbox.getMaxY() + margin));
+
+        for (int i = 0; i < transforms.size(); i++) {
+            points = points.transform(transforms.get(i));
+        }
+        final Transform transform = getDamageTransform();
+
+        if (null != transform) {
+            points = points.transform(transform);
+        }
+        return points.getBoundingBox();
+    }
+
+    /**
+     * Renders the selection layer if the last draw only marked it as dirty. Transform, clippers and
+     * draw bounds are taken from the current state, as they are when drawing the layer itself.
+     */
+    private void flushSelectionLayer(final SelectionLayer selection) {
+        if (!m_select_dirty) {
+            return;
+        }
+        Transform transform = null;
+
+        final Viewport viewport = getViewport();
+
+        if ((isTransformable()) && (null != viewport)) {
+            transform = viewport.getTransform();
+        }
+        final IPathClipper vclp = (null != viewport) ? viewport.getPathClipper() : null;
+
+        drawSelectionLayer(selection, transform, vclp, getPathClipper(), getDrawBounds(viewport, transform));
+    }
+
+    /**
+     * Returns the area to draw, in this layer coordinate space. When no storage bounds are set and
+     * the children are spatially indexed, the visible area of the viewport is used, so only the
+     * children that intersect it are drawn.
+     */
+    private BoundingBox getDrawBounds(final Viewport viewport, final Transform transform) {
+        final BoundingBox bbox = getStorageBounds();
+
+        if ((null != bbox) || (null == viewport) || (!getStorageEngine().isSpatiallyIndexed())) {
+            return bbox;
+        }
+        final BoundingBox visible = BoundingBox.fromDoubles(0, 0, viewport.getWidth(), viewport.getHeight());
+
+        if (null == transform) {
+            return visible;
+        }
+        try {
+            return new BoundingPoints(visible).transform(transform.getInverse()).getBoundingBox();
+        } catch (final GeometryException e) {
+            return null;
+        }
+    }
+
     /**
      * Performs batch updates to the Layer, that is, drawing is deferred till the next AnimationFrame,
-     * to cut down on redraws on rapid event dispatch.
+     * to cut down on redraws on rapid event dispatch. See {@link #drawDamaged()}.
      *
      * @return Layer
      */
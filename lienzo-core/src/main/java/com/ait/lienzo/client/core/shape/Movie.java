@@ -539,10 +539,14 @@ public class Movie extends Shape<Movie> implements ImageDataFilterable<Movie> {
      * @return this Movie
      */
     public Movie setWidth(int wide) {
+        damage();
+
         this.width = wide;
 
         setSizes();
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -572,10 +576,14 @@ public class Movie extends Shape<Movie> implements ImageDataFilterable<Movie> {
      * @return this Movie
      */
     public Movie setHeight(int high) {
+        damage();
+
         this.height = high;
 
         setSizes();
 
+        onBoundsChanged();
+
         return this;
     }
 
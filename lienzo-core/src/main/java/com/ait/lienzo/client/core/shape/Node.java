@@ -236,12 +236,16 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     }
 
     public final T setX(final double x) {
+        damage();
         this.x = x;
+        onBoundsChanged();
         return cast();
     }
 
     public final T setY(final double y) {
+        damage();
         this.y = y;
+        onBoundsChanged();
         return cast();
     }
 
@@ -260,7 +264,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     }
 
     public final T setRotation(final double radians) {
+        damage();
         this.rotation = radians;
+        onBoundsChanged();
         return cast();
     }
 
@@ -269,11 +275,14 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     }
 
     public final T setRotationDegrees(final double degrees) {
+        damage();
         this.rotation = Geometry.toRadians(degrees);
+        onBoundsChanged();
         return cast();
     }
 
     public final T setAlpha(double alpha) {
+        damage();
         this.alpha = alpha;
         return cast();
     }
@@ -283,6 +292,7 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     }
 
     public final T setStrokeAlpha(double alpha) {
+        damage();
         this.strokeAlpha = alpha;
         return cast();
     }
@@ -292,6 +302,7 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     }
 
     public final T setFillAlpha(double alpha) {
+        damage();
         this.fillAlpha = alpha;
         return cast();
     }
@@ -305,7 +316,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     }
 
     public final T setScale(final Point2D scale) {
+        damage();
         this.scale = scale;
+        onBoundsChanged();
         return cast();
     }
 
@@ -329,7 +342,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     }
 
     public final T setShear(final Point2D shear) {
+        damage();
         this.shear = shear;
+        onBoundsChanged();
         return cast();
     }
 
@@ -338,7 +353,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     }
 
     public final T setOffset(final Point2D offset) {
+        damage();
         this.offset = offset;
+        onBoundsChanged();
         return cast();
     }
 
@@ -502,6 +519,65 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
         m_parent = parent;
     }
 
+    /**
+     * Notifies the nearest spatially indexed ancestor that the bounds of this node may have changed,
+     * so it can re-index the child this node belongs to. Containers with the default storage in
+     * between are skipped, as their bounds change with this node's. Called by the location and
+     * transform setters, by the geometry setters of shapes, and when children are added or removed.
+     */
+    protected void onBoundsChanged() {
+        Node<?> child = this;
+
+        Node<?> parent = m_parent;
+
+        while (null != parent) {
+            if (parent.isSpatiallyIndexed()) {
+                parent.onChildBoundsChanged(child);
+
+                return;
+            }
+            child = parent;
+
+            parent = parent.m_parent;
+        }
+    }
+
+    boolean isSpatiallyIndexed() {
+        return false;
+    }
+
+    void onChildBoundsChanged(final Node<?> child) {
+    }
+
+    /**
+     * Reports this node to its layer before it changes, so a layer that redraws dirty regions
+     * repaints both the area this node covers now and the area it covers after the change.
+     */
+    protected final void damage() {
+        if (!Layer.hasDirtyRegionRedraw()) {
+            return;
+        }
+        final Layer layer = getLayer();
+
+        if ((null != layer) && (layer != this) && (layer.isDirtyRegionRedraw())) {
+            layer.damage(this);
+        }
+    }
+
+    /**
+     * Damages the whole layer of this node, for changes whose previous bounds are not known.
+     */
+    protected final void damageLayer() {
+        if (!Layer.hasDirtyRegionRedraw()) {
+            return;
+        }
+        final Layer layer = getLayer();
+
+        if (null != layer) {
+            layer.invalidateDamage();
+        }
+    }
+
     public final boolean isAnimating() {
         return m_opts.isAnimating();
     }
@@ -845,6 +921,7 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
      */
     @Override
     public T setVisible(final boolean visible) {
+        damage();
         this.visible = visible;
 
         return cast();
@@ -915,7 +992,9 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     }
 
     public T setTransform(final Transform transform) {
+        damage();
         this.transform = transform;
+        onBoundsChanged();
         return cast();
     }
 
@@ -687,8 +687,12 @@ public class OrthogonalPolyLine extends AbstractDirectionalMultiPointShape<Ortho
     }
 
     public OrthogonalPolyLine setBreakDistance(double distance) {
+        damage();
+
         m_breakDistance = distance;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
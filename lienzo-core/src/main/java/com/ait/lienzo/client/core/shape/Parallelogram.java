@@ -164,8 +164,12 @@ public class Parallelogram extends Shape<Parallelogram> {
      * @return this Parallelogram
      */
     public Parallelogram setWidth(final double width) {
+        damage();
+
         this.width = width;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -185,8 +189,12 @@ public class Parallelogram extends Shape<Parallelogram> {
      * @return this Parallelogram
      */
     public Parallelogram setHeight(final double height) {
+        damage();
+
         this.height = height;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -206,8 +214,12 @@ public class Parallelogram extends Shape<Parallelogram> {
      * @return this Parallelogram
      */
     public Parallelogram setSkew(final double skew) {
+        damage();
+
         this.skew = skew;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -1491,8 +1491,12 @@ public class Picture extends AbstractImageShape<Picture> implements ImageDataFil
      * @return Picture
      */
     public Picture setClippedImageDestinationWidth(int clippedImageDestinationWidth) {
+        damage();
+
         this.clippedImageDestinationWidth = clippedImageDestinationWidth;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -1528,8 +1532,12 @@ public class Picture extends AbstractImageShape<Picture> implements ImageDataFil
      * @return Picture
      */
     public Picture setClippedImageDestinationHeight(int clippedImageDestinationHeight) {
+        damage();
+
         this.clippedImageDestinationHeight = clippedImageDestinationHeight;
 
+        onBoundsChanged();
+
         return this;
     }
 
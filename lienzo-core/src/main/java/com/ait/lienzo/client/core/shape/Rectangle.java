@@ -133,8 +133,12 @@ public class Rectangle extends Shape<Rectangle> {
      * @return this Rectangle
      */
     public Rectangle setWidth(final double width) {
+        damage();
+
         this.width = width;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -154,8 +158,12 @@ public class Rectangle extends Shape<Rectangle> {
      * @return this Rectangle
      */
     public Rectangle setHeight(final double height) {
+        damage();
+
         this.height = height;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -173,8 +173,12 @@ public class RegularPolygon extends Shape<RegularPolygon> {
      * @return this RegularPolygon
      */
     public RegularPolygon setRadius(final double radius) {
+        damage();
+
         this.radius = radius;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -194,11 +198,15 @@ public class RegularPolygon extends Shape<RegularPolygon> {
      * @return this RegularPolygon
      */
     public RegularPolygon setSides(final int sides) {
+        damage();
+
         if (sides < 3) {
             throw new IllegalArgumentException("Cannot have less than 3 sides");
         }
         this.sides = sides;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
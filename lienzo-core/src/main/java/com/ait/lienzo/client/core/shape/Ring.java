@@ -125,8 +125,12 @@ public class Ring extends Shape<Ring> {
      * @return this Star
      */
     public Ring setInnerRadius(final double radius) {
+        damage();
+
         this.innerRadius = radius;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -146,8 +150,12 @@ public class Ring extends Shape<Ring> {
      * @return this Star
      */
     public Ring setOuterRadius(final double radius) {
+        damage();
+
         this.outerRadius = radius;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -502,7 +502,11 @@ public class SVGPath extends Shape<SVGPath> {
     public SVGPath setPath(final String path) {
 
         if (false == path.equals(m_path)) {
+            damage();
+
             parse(m_path = path);
+
+            onBoundsChanged();
         }
         return this;
     }
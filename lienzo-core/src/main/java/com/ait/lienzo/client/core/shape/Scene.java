@@ -373,6 +373,13 @@ public class Scene extends ContainerNode<Layer, Scene> {
                 getElement().removeChild(getElement().firstChild);
             }
         }
+        final NFastArrayList<Layer> layers = getChildNodes();
+
+        if (null != layers) {
+            for (int i = 0; i < layers.size(); i++) {
+                layers.get(i).setParent(null);
+            }
+        }
         super.removeAll();
 
         return this;
@@ -572,6 +572,7 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
     }
 
     public T setDashArray(final DashArray array) {
+        damage();
         this.dashArray = array;
 
         return cast();
@@ -582,6 +583,7 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
     }
 
     public T setDashOffset(final double offset) {
+        damage();
         this.dashOffset = offset;
 
         return cast();
@@ -703,16 +705,19 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
     }
 
     public final T setFillGradient(final LinearGradient gradient) {
+        damage();
         this.gradient = gradient;
         return cast();
     }
 
     public final T setFillGradient(final RadialGradient gradient) {
+        damage();
         this.gradient = gradient;
         return cast();
     }
 
     public final T setFillGradient(final PatternGradient gradient) {
+        damage();
         this.gradient = gradient;
         return cast();
     }
@@ -722,6 +727,7 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
     }
 
     public T setFillColor(String fill) {
+        damage();
         this.fillColor = fill;
         return cast();
     }
@@ -731,6 +737,7 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
     }
 
     public final T setStrokeColor(String stroke) {
+        damage();
         this.strokeColor = stroke;
         return cast();
     }
@@ -821,6 +828,7 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
      * @return T
      */
     public T setStrokeWidth(final double width) {
+        damage();
         this.strokeWidth = width;
 
         return cast();
@@ -842,6 +850,7 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
      * @return T
      */
     public T setLineJoin(final LineJoin linejoin) {
+        damage();
         this.lineJoin = linejoin;
 
         return cast();
@@ -865,6 +874,7 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
      */
 
     public T setMiterLimit(final double limit) {
+        damage();
         this.miterLimit = limit;
 
         return cast();
@@ -896,6 +906,7 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
      * @return T
      */
     public T setLineCap(final LineCap linecap) {
+        damage();
         this.lineCap = linecap;
 
         return cast();
@@ -917,6 +928,7 @@ public abstract class Shape<T extends Shape<T>> extends Node<T> implements IPrim
      * @return T
      */
     public T setShadow(final Shadow shadow) {
+        damage();
         this.shadow = shadow;
 
         return cast();
@@ -122,8 +122,12 @@ public class Slice extends Shape<Slice> {
      * @return this Circle
      */
     public Slice setRadius(final double radius) {
+        damage();
+
         this.radius = radius;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -152,8 +156,12 @@ public class Slice extends Shape<Slice> {
      * @return this slice
      */
     public Slice setStartAngle(final double angle) {
+        damage();
+
         this.startAngle = angle;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -173,8 +181,12 @@ public class Slice extends Shape<Slice> {
      * @return this slice
      */
     public Slice setEndAngle(final double angle) {
+        damage();
+
         this.endAngle = angle;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -194,8 +206,12 @@ public class Slice extends Shape<Slice> {
      * @return this slice
      */
     public Slice setCounterClockwise(final boolean counterClockwise) {
+        damage();
+
         this.counterClockwise = counterClockwise;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -269,8 +269,12 @@ public class Spline extends AbstractMultiPointShape<Spline> {
     }
 
     public Spline setCurveFactor(final double factor) {
+        damage();
+
         this.curveFactor = factor;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -279,8 +283,12 @@ public class Spline extends AbstractMultiPointShape<Spline> {
     }
 
     public Spline setAngleFactor(final double factor) {
+        damage();
+
         this.angleFactor = factor;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -289,8 +297,12 @@ public class Spline extends AbstractMultiPointShape<Spline> {
     }
 
     public Spline setLineFlatten(final boolean flat) {
+        damage();
+
         this.lineFlatten = flat;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -166,11 +166,15 @@ public class Star extends Shape<Star> {
      * @return this Star
      */
     public Star setStarPoints(int points) {
+        damage();
+
         if (points < 5) {
             points = 5;
         }
         this.starPoints = points;
 
+        onBoundsChanged();
+
         return refresh();
     }
 
@@ -190,8 +194,12 @@ public class Star extends Shape<Star> {
      * @return this Star
      */
     public Star setInnerRadius(final double radius) {
+        damage();
+
         this.innerRadius = radius;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -211,8 +219,12 @@ public class Star extends Shape<Star> {
      * @return this Star
      */
     public Star setOuterRadius(final double radius) {
+        damage();
+
         this.outerRadius = radius;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -394,8 +394,12 @@ public class Text extends Shape<Text> {
      * @return this Text
      */
     public Text setText(String text) {
+        damage();
+
         this.text = text;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -414,11 +418,15 @@ public class Text extends Shape<Text> {
      * @return this Text
      */
     public Text setFontFamily(String family) {
+        damage();
+
         if ((null == family) || (family = family.trim()).isEmpty()) {
             family = LienzoCore.get().getDefaultFontFamily();
         }
         this.fontFamily = family;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -438,11 +446,15 @@ public class Text extends Shape<Text> {
      * @return this Text
      */
     public Text setFontStyle(String style) {
+        damage();
+
         if ((null == style) || (style = style.trim()).isEmpty()) {
             style = LienzoCore.get().getDefaultFontStyle();
         }
         this.fontStyle = style;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -462,20 +474,28 @@ public class Text extends Shape<Text> {
      * @return this Text
      */
     public Text setFontSize(double size) {
+        damage();
+
         if (size <= 0.0) {
             size = LienzoCore.get().getDefaultFontSize();
         }
         this.fontSize = size;
 
+        onBoundsChanged();
+
         return this;
     }
 
     public Text setTextUnit(TextUnit unit) {
+        damage();
+
         if (unit == null) {
             throw new IllegalArgumentException("TextUnit cannot be null");
         }
         this.textUnit = unit;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -499,8 +519,12 @@ public class Text extends Shape<Text> {
      * @return this Text
      */
     public Text setTextAlign(TextAlign align) {
+        damage();
+
         this.textAlign = align;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -520,8 +544,12 @@ public class Text extends Shape<Text> {
      * @return this Text
      */
     public Text setTextBaseLine(TextBaseLine baseLine) {
+        damage();
+
         this.textBaseLine = baseLine;
 
+        onBoundsChanged();
+
         return this;
     }
 
@@ -540,7 +568,9 @@ public class Text extends Shape<Text> {
     }
 
     public Text setWrapper(final ITextWrapper wrapper) {
+        damage();
         this.wrapper = wrapper;
+        onBoundsChanged();
         return this;
     }
 }
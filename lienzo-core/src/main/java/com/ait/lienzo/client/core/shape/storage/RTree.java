@@ -0,0 +1,589 @@
+/*
+   Copyright (c) 2017 Ahome' Innovation Technologies. All rights reserved.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A simple R-tree (Guttman, quadratic split) that indexes items by their axis aligned bounds.
+ * <p>
+ * Items are kept in a map as well, so removing or updating an item does not require
+ * a search through the tree, its leaf is reached directly and the tree is condensed upwards.
+ * Queries return every item whose bounds intersect the given area, in no particular order.
+ *
+ * @param <T> the indexed item type. Items are looked up using their equals/hashCode contract.
+ */
+public class RTree<T> {
+
+    static final int MAX_ENTRIES = 16;
+
+    static final int MIN_ENTRIES = 6;
+
+    private final Map<T, Entry<T>> m_entries = new HashMap<>();
+
+    private RNode<T> m_root = new RNode<>(true);
+
+    public int size() {
+        return m_entries.size();
+    }
+
+    public boolean isEmpty() {
+        return m_entries.isEmpty();
+    }
+
+    public boolean contains(final T item) {
+        return m_entries.containsKey(item);
+    }
+
+    public void clear() {
+        m_entries.clear();
+
+        m_root = new RNode<>(true);
+    }
+
+    /**
+     * Adds the item, or updates its bounds if it is already indexed.
+     */
+    public void insert(final T item, final double minx, final double miny, final double maxx, final double maxy) {
+        if (m_entries.containsKey(item)) {
+            update(item, minx, miny, maxx, maxy);
+            return;
+        }
+        final Entry<T> entry = new Entry<>(item, minx, miny, maxx, maxy);
+
+        m_entries.put(item, entry);
+
+        insert(entry);
+    }
+
+    /**
+     * Updates the bounds of an indexed item. Nothing is restructured when the new bounds
+     * stay inside the bounds of the leaf that already holds the item.
+     */
+    public void update(final T item, final double minx, final double miny, final double maxx, final double maxy) {
+        final Entry<T> entry = m_entries.get(item);
+
+        if (null == entry) {
+            insert(item, minx, miny, maxx, maxy);
+            return;
+        }
+        if ((entry.minx == minx) && (entry.miny == miny) && (entry.maxx == maxx) && (entry.maxy == maxy)) {
+            return;
+        }
+        final RNode<T> leaf = entry.leaf;
+
+        if (leaf.contains(minx, miny, maxx, maxy)) {
+            entry.set(minx, miny, maxx, maxy);
+
+            for (RNode<T> node = leaf; node != null; node = node.parent) {
+                node.recompute();
+            }
+            return;
+        }
+        delete(entry);
+
+        entry.set(minx, miny, maxx, maxy);
+
+        insert(entry);
+    }
+
+    public boolean remove(final T item) {
+        final Entry<T> entry = m_entries.remove(item);
+
+        if (null == entry) {
+            return false;
+        }
+        delete(entry);
+
+        return true;
+    }
+
+    /**
+     * Collects every item whose bounds intersect the given area into the given list.
+     */
+    public List<T> search(final double minx, final double miny, final double maxx, final double maxy, final List<T> result) {
+        if (!m_entries.isEmpty()) {
+            search(m_root, minx, miny, maxx, maxy, result);
+        }
+        return result;
+    }
+
+    public List<T> search(final double minx, final double miny, final double maxx, final double maxy) {
+        return search(minx, miny, maxx, maxy, new ArrayList<>());
+    }
+
+    int getHeight() {
+        int height = 1;
+
+        for (RNode<T> node = m_root; !node.leaf; node = node.children.get(0)) {
+            height++;
+        }
+        return height;
+    }
+
+    private static <T> void search(final RNode<T> node, final double minx, final double miny, final double maxx, final double maxy, final List<T> result) {
+        if (node.leaf) {
+            final int size = node.entries.size();
+
+            for (int i = 0; i < size; i++) {
+                final Entry<T> entry = node.entries.get(i);
+
+                if (entry.intersects(minx, miny, maxx, maxy)) {
+                    result.add(entry.item);
+                }
+            }
+        } else {
+            final int size = node.children.size();
+
+            for (int i = 0; i < size; i++) {
+                final RNode<T> child = node.children.get(i);
+
+                if (child.intersects(minx, miny, maxx, maxy)) {
+                    search(child, minx, miny, maxx, maxy, result);
+                }
+            }
+        }
+    }
+
+    private void insert(final Entry<T> entry) {
+        final RNode<T> leaf = chooseLeaf(entry);
+
+        leaf.addEntry(entry);
+
+        RNode<T> split = null;
+
+        if (leaf.entries.size() > MAX_ENTRIES) {
+            split = splitLeaf(leaf);
+        }
+        adjust(leaf, split);
+    }
+
+    private RNode<T> chooseLeaf(final Bounds bounds) {
+        RNode<T> node = m_root;
+
+        while (!node.leaf) {
+            RNode<T> best = null;
+
+            double bestEnlargement = Double.MAX_VALUE;
+
+            double bestArea = Double.MAX_VALUE;
+
+            final int size = node.children.size();
+
+            for (int i = 0; i < size; i++) {
+                final RNode<T> child = node.children.get(i);
+
+                final double area = child.area();
+
+                final double enlargement = child.unionArea(bounds) - area;
+
+                if ((enlargement < bestEnlargement) || ((enlargement == bestEnlargement) && (area < bestArea))) {
+                    best = child;
+
+                    bestEnlargement = enlargement;
+
+                    bestArea = area;
+                }
+            }
+            node = best;
+        }
+        return node;
+    }
+
+    /**
+     * Walks from the given node up to the root, fixing bounds and propagating splits.
+     */
+    private void adjust(RNode<T> node, RNode<T> split) {
+        while (node != m_root) {
+            final RNode<T> parent = node.parent;
+
+            node.recompute();
+
+            if (null != split) {
+                parent.addChild(split);
+
+                split = (parent.children.size() > MAX_ENTRIES) ? splitBranch(parent) : null;
+            }
+            node = parent;
+        }
+        node.recompute();
+
+        if (null != split) {
+            final RNode<T> root = new RNode<>(false);
+
+            root.addChild(node);
+
+            root.addChild(split);
+
+            root.recompute();
+
+            m_root = root;
+        }
+    }
+
+    private void delete(final Entry<T> entry) {
+        final RNode<T> leaf = entry.leaf;
+
+        leaf.entries.remove(entry);
+
+        entry.leaf = null;
+
+        final List<Entry<T>> orphans = new ArrayList<>();
+
+        RNode<T> node = leaf;
+
+        while (node != m_root) {
+            final RNode<T> parent = node.parent;
+
+            if (node.count() < MIN_ENTRIES) {
+                parent.children.remove(node);
+
+                node.parent = null;
+
+                collect(node, orphans);
+            } else {
+                node.recompute();
+            }
+            node = parent;
+        }
+        m_root.recompute();
+
+        while ((!m_root.leaf) && (m_root.children.size() == 1)) {
+            m_root = m_root.children.get(0);
+
+            m_root.parent = null;
+        }
+        if ((!m_root.leaf) && m_root.children.isEmpty()) {
+            m_root = new RNode<>(true);
+        }
+        final int size = orphans.size();
+
+        for (int i = 0; i < size; i++) {
+            insert(orphans.get(i));
+        }
+    }
+
+    private static <T> void collect(final RNode<T> node, final List<Entry<T>> result) {
+        if (node.leaf) {
+            result.addAll(node.entries);
+        } else {
+            final int size = node.children.size();
+
+            for (int i = 0; i < size; i++) {
+                collect(node.children.get(i), result);
+            }
+        }
+    }
+
+    private RNode<T> splitLeaf(final RNode<T> leaf) {
+        final List<Entry<T>> all = new ArrayList<>(leaf.entries);
+
+        leaf.entries.clear();
+
+        final RNode<T> sibling = new RNode<>(true);
+
+        final int[] seeds = pickSeeds(all);
+
+        final Entry<T> a = all.get(seeds[0]);
+
+        final Entry<T> b = all.get(seeds[1]);
+
+        all.remove(a);
+
+        all.remove(b);
+
+        leaf.addEntry(a);
+
+        leaf.recompute();
+
+        sibling.addEntry(b);
+
+        sibling.recompute();
+
+        while (!all.isEmpty()) {
+            final int left = all.size();
+
+            if ((leaf.entries.size() + left) == MIN_ENTRIES) {
+                for (int i = 0; i < left; i++) {
+                    leaf.addEntry(all.get(i));
+                }
+                break;
+            }
+            if ((sibling.entries.size() + left) == MIN_ENTRIES) {
+                for (int i = 0; i < left; i++) {
+                    sibling.addEntry(all.get(i));
+                }
+                break;
+            }
+            final Entry<T> next = all.remove(pickNext(all, leaf, sibling));
+
+            if (preferFirst(next, leaf, sibling)) {
+                leaf.addEntry(next);
+
+                leaf.expand(next);
+            } else {
+                sibling.addEntry(next);
+
+                sibling.expand(next);
+            }
+        }
+        leaf.recompute();
+
+        sibling.recompute();
+
+        return sibling;
+    }
+
+    private RNode<T> splitBranch(final RNode<T> branch) {
+        final List<RNode<T>> all = new ArrayList<>(branch.children);
+
+        branch.children.clear();
+
+        final RNode<T> sibling = new RNode<>(false);
+
+        final int[] seeds = pickSeeds(all);
+
+        final RNode<T> a = all.get(seeds[0]);
+
+        final RNode<T> b = all.get(seeds[1]);
+
+        all.remove(a);
+
+        all.remove(b);
+
+        branch.addChild(a);
+
+        branch.recompute();
+
+        sibling.addChild(b);
+
+        sibling.recompute();
+
+        while (!all.isEmpty()) {
+            final int left = all.size();
+
+            if ((branch.children.size() + left) == MIN_ENTRIES) {
+                for (int i = 0; i < left; i++) {
+                    branch.addChild(all.get(i));
+                }
+                break;
+            }
+            if ((sibling.children.size() + left) == MIN_ENTRIES) {
+                for (int i = 0; i < left; i++) {
+                    sibling.addChild(all.get(i));
+                }
+                break;
+            }
+            final RNode<T> next = all.remove(pickNext(all, branch, sibling));
+
+            if (preferFirst(next, branch, sibling)) {
+                branch.addChild(next);
+
+                branch.expand(next);
+            } else {
+                sibling.addChild(next);
+
+                sibling.expand(next);
+            }
+        }
+        branch.recompute();
+
+        sibling.recompute();
+
+        return sibling;
+    }
+
+    private static int[] pickSeeds(final List<? extends Bounds> all) {
+        final int size = all.size();
+
+        int sa = 0;
+
+        int sb = 1;
+
+        double worst = -Double.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            final Bounds a = all.get(i);
+
+            for (int j = i + 1; j < size; j++) {
+                final Bounds b = all.get(j);
+
+                final double waste = a.unionArea(b) - a.area() - b.area();
+
+                if (waste > worst) {
+                    worst = waste;
+
+                    sa = i;
+
+                    sb = j;
+                }
+            }
+        }
+        return new int[]{sa, sb};
+    }
+
+    private static int pickNext(final List<? extends Bounds> all, final Bounds first, final Bounds second) {
+        final int size = all.size();
+
+        int best = 0;
+
+        double most = -Double.MAX_VALUE;
+
+        final double firstArea = first.area();
+
+        final double secondArea = second.area();
+
+        for (int i = 0; i < size; i++) {
+            final Bounds b = all.get(i);
+
+            final double diff = Math.abs((first.unionArea(b) - firstArea) - (second.unionArea(b) - secondArea));
+
+            if (diff > most) {
+                most = diff;
+
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static boolean preferFirst(final Bounds next, final RNode<?> first, final RNode<?> second) {
+        final double firstArea = first.area();
+
+        final double secondArea = second.area();
+
+        final double e1 = first.unionArea(next) - firstArea;
+
+        final double e2 = second.unionArea(next) - secondArea;
+
+        if (e1 != e2) {
+            return e1 < e2;
+        }
+        if (firstArea != secondArea) {
+            return firstArea < secondArea;
+        }
+        return first.count() <= second.count();
+    }
+
+    private static class Bounds {
+
+        double minx;
+
+        double miny;
+
+        double maxx;
+
+        double maxy;
+
+        final void set(final double minx, final double miny, final double maxx, final double maxy) {
+            this.minx = minx;
+            this.miny = miny;
+            this.maxx = maxx;
+            this.maxy = maxy;
+        }
+
+        final void expand(final Bounds other) {
+            minx = Math.min(minx, other.minx);
+            miny = Math.min(miny, other.miny);
+            maxx = Math.max(maxx, other.maxx);
+            maxy = Math.max(maxy, other.maxy);
+        }
+
+        final double area() {
+            return (maxx - minx) * (maxy - miny);
+        }
+
+        final double unionArea(final Bounds other) {
+            return (Math.max(maxx, other.maxx) - Math.min(minx, other.minx)) * (Math.max(maxy, other.maxy) - Math.min(miny, other.miny));
+        }
+
+        final boolean intersects(final double minx, final double miny, final double maxx, final double maxy) {
+            return (this.minx <= maxx) && (this.maxx >= minx) && (this.miny <= maxy) && (this.maxy >= miny);
+        }
+
+        final boolean contains(final double minx, final double miny, final double maxx, final double maxy) {
+            return (this.minx <= minx) && (this.maxx >= maxx) && (this.miny <= miny) && (this.maxy >= maxy);
+        }
+    }
+
+    private static final class Entry<T> extends Bounds {
+
+        private final T item;
+
+        private RNode<T> leaf;
+
+        private Entry(final T item, final double minx, final double miny, final double maxx, final double maxy) {
+            this.item = item;
+
+            set(minx, miny, maxx, maxy);
+        }
+    }
+
+    private static final class RNode<T> extends Bounds {
+
+        private final boolean leaf;
+
+        private final List<Entry<T>> entries;
+
+        private final List<RNode<T>> children;
+
+        private RNode<T> parent;
+
+        private RNode(final boolean leaf) {
+            this.leaf = leaf;
+            this.entries = leaf ? new ArrayList<>(MAX_ENTRIES + 1) : null;
+            this.children = leaf ? null : new ArrayList<>(MAX_ENTRIES + 1);
+        }
+
+        private int count() {
+            return leaf ? entries.size() : children.size();
+        }
+
+        private void addEntry(final Entry<T> entry) {
+            entries.add(entry);
+
+            entry.leaf = this;
+        }
+
+        private void addChild(final RNode<T> child) {
+            children.add(child);
+
+            child.parent = this;
+        }
+
+        private void recompute() {
+            final List<? extends Bounds> list = leaf ? entries : children;
+
+            final int size = list.size();
+
+            if (size == 0) {
+                set(0, 0, 0, 0);
+                return;
+            }
+            final Bounds first = list.get(0);
+
+            set(first.minx, first.miny, first.maxx, first.maxy);
+
+            for (int i = 1; i < size; i++) {
+                expand(list.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+   Copyright (c) 2017 Ahome' Innovation Technologies. All rights reserved.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ait.lienzo.client.core.shape.IPrimitive;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.BoundingPoints;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+
+/**
+ * A storage engine for primitives that keeps an {@link RTree} of the children bounds (in the container's
+ * coordinate space), so {@link #getChildren(BoundingBox)} only returns the children that intersect the given area,
+ * in drawing order.
+ * <p>
+ * Children bounds are re-indexed lazily: {@link #refresh(IPrimitive)} just marks the child as dirty, and dirty
+ * children are re-indexed before the next bounds query. Children without bounds are never culled.
+ * <p>
+ * Nodes report their own location, transform and geometry changes. A child container only reports the changes
+ * of its own children when it is spatially indexed too, otherwise call {@link #refresh(IPrimitive)} for it.
+ */
+public class SpatialIndexStorageEngine extends AbstractStorageEngine<IPrimitive<?>> {
+
+    private final NFastArrayList<IPrimitive<?>> m_list = new NFastArrayList<>();
+
+    private final RTree<IPrimitive<?>> m_tree = new RTree<>();
+
+    private final Set<IPrimitive<?>> m_unbounded = new HashSet<>();
+
+    private final Set<IPrimitive<?>> m_dirty = new HashSet<>();
+
+    private Map<IPrimitive<?>, Integer> m_order;
+
+    public SpatialIndexStorageEngine() {
+        super(StorageEngineType.SPATIAL_INDEX_STORAGE_ENGINE);
+    }
+
+    @Override
+    public int size() {
+        return m_list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return m_list.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        m_list.clear();
+
+        m_tree.clear();
+
+        m_unbounded.clear();
+
+        m_dirty.clear();
+
+        m_order = null;
+    }
+
+    @Override
+    public boolean contains(final IPrimitive<?> item) {
+        return m_tree.contains(item) || m_unbounded.contains(item) || m_dirty.contains(item);
+    }
+
+    @Override
+    public void add(final IPrimitive<?> item) {
+        m_list.add(item);
+
+        m_dirty.add(item);
+
+        m_order = null;
+    }
+
+    @Override
+    public void remove(final IPrimitive<?> item) {
+        m_list.remove(item);
+
+        m_tree.remove(item);
+
+        m_unbounded.remove(item);
+
+        m_dirty.remove(item);
+
+        m_order = null;
+    }
+
+    @Override
+    public void refresh(final IPrimitive<?> item) {
+        if (m_tree.contains(item) || m_unbounded.contains(item)) {
+            m_dirty.add(item);
+        }
+    }
+
+    @Override
+    public void refresh() {
+        final int size = m_list.size();
+
+        for (int i = 0; i < size; i++) {
+            m_dirty.add(m_list.get(i));
+        }
+    }
+
+    @Override
+    public NFastArrayList<IPrimitive<?>> getChildren() {
+        return m_list;
+    }
+
+    @Override
+    public NFastArrayList<IPrimitive<?>> getChildren(final BoundingBox bounds) {
+        if ((null == bounds) || (!bounds.isValid())) {
+            return m_list;
+        }
+        flush();
+
+        final List<IPrimitive<?>> hits = m_tree.search(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(), new ArrayList<>(m_unbounded));
+
+        final int size = hits.size();
+
+        if (size == m_list.size()) {
+            return m_list;
+        }
+        final Map<IPrimitive<?>, Integer> order = getOrder();
+
+        hits.sort((a, b) -> Integer.compare(order.get(a), order.get(b)));
+
+        final NFastArrayList<IPrimitive<?>> list = new NFastArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            list.add(hits.get(i));
+        }
+        return list;
+    }
+
+    @Override
+    public boolean isSpatiallyIndexed() {
+        return true;
+    }
+
+    @Override
+    public void moveUp(final IPrimitive<?> item) {
+        m_list.moveUp(item);
+
+        m_order = null;
+    }
+
+    @Override
+    public void moveDown(final IPrimitive<?> item) {
+        m_list.moveDown(item);
+
+        m_order = null;
+    }
+
+    @Override
+    public void moveToTop(final IPrimitive<?> item) {
+        m_list.moveToTop(item);
+
+        m_order = null;
+    }
+
+    @Override
+    public void moveToBottom(final IPrimitive<?> item) {
+        m_list.moveToBottom(item);
+
+        m_order = null;
+    }
+
+    private void flush() {
+        if (m_dirty.isEmpty()) {
+            return;
+        }
+        for (IPrimitive<?> item : m_dirty) {
+            index(item);
+        }
+        m_dirty.clear();
+    }
+
+    private void index(final IPrimitive<?> item) {
+        final BoundingPoints points = item.getBoundingPoints();
+
+        final BoundingBox bbox = (null != points) ? points.getBoundingBox() : null;
+
+        if ((null == bbox) || (bbox.getMinX() > bbox.getMaxX()) || (bbox.getMinY() > bbox.getMaxY())) {
+            m_tree.remove(item);
+
+            m_unbounded.add(item);
+        } else {
+            m_unbounded.remove(item);
+
+            m_tree.insert(item, bbox.getMinX(), bbox.getMinY(), bbox.getMaxX(), bbox.getMaxY());
+        }
+    }
+
+    private Map<IPrimitive<?>, Integer> getOrder() {
+        if (null == m_order) {
+            final int size = m_list.size();
+
+            m_order = new HashMap<>(size);
+
+            for (int i = 0; i < size; i++) {
+                m_order.put(m_list.get(i), i);
+            }
+        }
+        return m_order;
+    }
+}
@@ -32,6 +32,7 @@ import com.ait.lienzo.client.core.shape.wires.handlers.WiresShapeControl;
 import com.ait.lienzo.client.core.shape.wires.handlers.impl.WiresControlFactoryImpl;
 import com.ait.lienzo.client.core.shape.wires.handlers.impl.WiresHandlerFactoryImpl;
 import com.ait.lienzo.client.core.shape.wires.handlers.impl.WiresShapeHandler;
+import com.ait.lienzo.client.core.shape.wires.picker.ColorMapBackedPicker;
 import com.ait.lienzo.client.core.types.OnLayerBeforeDraw;
 import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.widget.DragConstraintEnforcer;
@@ -84,6 +85,8 @@ public final class WiresManager {
 
     private WiresEventHandlers m_wiresEventHandlers;
 
+    private ColorMapBackedPicker m_colorMapPicker;
+
     public static final WiresManager get(Layer layer) {
         final String uuid = layer.uuid();
 
@@ -340,6 +343,10 @@ public final class WiresManager {
             m_handler.reset();
             m_handler = null;
         }
+        if (null != m_colorMapPicker) {
+            m_colorMapPicker.clear();
+            m_colorMapPicker = null;
+        }
         m_shapeHandlersMap.clear();
         m_controlFactory = null;
         m_wiresHandlerFactory = null;
@@ -379,6 +386,18 @@ public final class WiresManager {
         this.m_wiresHandlerFactory = wiresHandlerFactory;
     }
 
+    /**
+     * Returns the color map picker shared by the layer indexes of this manager, if any. It's released when
+     * this manager is destroyed.
+     */
+    public ColorMapBackedPicker getColorMapPicker() {
+        return m_colorMapPicker;
+    }
+
+    public void setColorMapPicker(final ColorMapBackedPicker picker) {
+        m_colorMapPicker = picker;
+    }
+
     public WiresControlFactory getControlFactory() {
         return m_controlFactory;
     }
@@ -16,41 +16,74 @@
 
 package com.ait.lienzo.client.core.shape.wires.handlers.impl;
 
+import com.ait.lienzo.client.core.shape.Layer;
 import com.ait.lienzo.client.core.shape.wires.PickerPart;
 import com.ait.lienzo.client.core.shape.wires.WiresContainer;
 import com.ait.lienzo.client.core.shape.wires.WiresLayer;
 import com.ait.lienzo.client.core.shape.wires.handlers.WiresLayerIndex;
 import com.ait.lienzo.client.core.shape.wires.picker.ColorMapBackedPicker;
+import com.ait.lienzo.client.core.util.ScratchPad;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
 
+/**
+ * A {@link WiresLayerIndex} backed by a {@link ColorMapBackedPicker}, which may be shared by several indexes.
+ * Each index keeps its own shapes to skip, and builds the color map again before reading it when another
+ * index has built it since.
+ */
 public class WiresColorMapIndex implements WiresLayerIndex {
 
     private final ColorMapBackedPicker picker;
 
+    private final NFastArrayList<WiresContainer> shapesToSkip = new NFastArrayList<>();
+
+    private WiresLayer layer;
+
     public WiresColorMapIndex(final ColorMapBackedPicker picker) {
         this.picker = picker;
     }
 
     @Override
     public WiresLayerIndex exclude(final WiresContainer shape) {
-        picker.getPickerOptions().getShapesToSkip().add(shape);
+        shapesToSkip.add(shape);
         return this;
     }
 
+    /**
+     * Updates the color map for the given layer. Only the shapes that changed since the previous build,
+     * or that were excluded or included again, are rendered.
+     */
     @Override
     public WiresLayerIndex build(final WiresLayer layer) {
-        picker.build(layer.getChildShapes());
+        this.layer = layer;
+        final Layer canvasLayer = layer.getLayer();
+        final ScratchPad scratchPad = null != canvasLayer ? canvasLayer.getScratchPad() : null;
+        if (null != scratchPad) {
+            picker.setPixelSize(scratchPad.getWidth(),
+                                scratchPad.getHeight());
+        }
+        picker.build(layer.getChildShapes(),
+                     shapesToSkip);
         return this;
     }
 
     @Override
     public PickerPart findShapeAt(final int x,
                                   final int y) {
+        if (null != layer && !picker.isBuiltWith(shapesToSkip)) {
+            picker.build(layer.getChildShapes(),
+                         shapesToSkip);
+        }
         return picker.findShapeAt(x, y);
     }
 
+    /**
+     * Drops the state of the current interaction, that is the shapes to skip and the layer. The color map of the
+     * picker is kept, so the next build only renders the shapes that changed since.
+     */
     @Override
     public void clear() {
-        picker.clear();
-        picker.getPickerOptions().getShapesToSkip().clear();
+        picker.releaseMask();
+        shapesToSkip.clear();
+        layer = null;
     }
 }
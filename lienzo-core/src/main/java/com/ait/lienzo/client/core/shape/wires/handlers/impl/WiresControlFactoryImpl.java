@@ -49,14 +49,29 @@ public class WiresControlFactoryImpl implements WiresControlFactory {
         return new WiresShapeHighlightImpl(wiresManager.getDockingAcceptor().getHotspotSize());
     }
 
+    /**
+     * Returns an index backed by the color map picker of the given manager, which is kept by the manager
+     * between interactions. The picker renders into its own scratch pad, as the layer's one is shared.
+     */
     @Override
     public WiresLayerIndex newIndex(WiresManager manager) {
-        final ScratchPad scratchPad = manager.getLayer().getLayer().getScratchPad();
+        ColorMapBackedPicker picker = manager.getColorMapPicker();
+        if (null == picker) {
+            picker = newPicker(manager);
+            manager.setColorMapPicker(picker);
+        }
+        return new WiresColorMapIndex(picker);
+    }
+
+    private ColorMapBackedPicker newPicker(final WiresManager manager) {
+        final ScratchPad layerScratchPad = manager.getLayer().getLayer().getScratchPad();
+        final ScratchPad scratchPad = new ScratchPad(layerScratchPad.getWidth(),
+                                                     layerScratchPad.getHeight());
         final ColorMapBackedPicker.PickerOptions pickerOptions =
                 new ColorMapBackedPicker.PickerOptions(true,
                                                        manager.getDockingAcceptor().getHotspotSize());
-        return new WiresColorMapIndex(new ColorMapBackedPicker(scratchPad,
-                                                               pickerOptions));
+        return new ColorMapBackedPicker(scratchPad,
+                                        pickerOptions);
     }
 
     @Override
@@ -16,7 +16,10 @@
 
 package com.ait.lienzo.client.core.shape.wires.picker;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.ait.lienzo.client.core.Context2D;
@@ -25,11 +28,24 @@ import com.ait.lienzo.client.core.shape.wires.BackingColorMapUtils;
 import com.ait.lienzo.client.core.shape.wires.PickerPart;
 import com.ait.lienzo.client.core.shape.wires.WiresContainer;
 import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.ColorKeyRotor;
 import com.ait.lienzo.client.core.types.ImageDataPixelColor;
+import com.ait.lienzo.client.core.types.PathPartEntryJSO;
+import com.ait.lienzo.client.core.types.PathPartList;
+import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.util.ScratchPad;
 import com.ait.lienzo.tools.client.collection.NFastArrayList;
 
+/**
+ * Picks shape parts by rendering every shape into a color map, each part with its own color.
+ * <p>
+ * The color map is kept between builds. The first build renders every shape, and the next ones
+ * only render again the areas of the shapes that were added, removed, re-parented, re-ordered, or
+ * whose location, stroke or path changed since the previous build, together with the shapes that
+ * overlap them. The shapes to skip act as a mask: skipping a shape, or not skipping it anymore,
+ * only renders its area again.
+ */
 public class ColorMapBackedPicker {
 
     public static final ColorKeyRotor m_colorKeyRotor = new ColorKeyRotor();
@@ -42,8 +58,16 @@ public class ColorMapBackedPicker {
 
     private final NFastArrayList<WiresShape> m_shapesMap = new NFastArrayList<>();
 
+    private final Map<WiresShape, Entry> m_entries = new HashMap<>();
+
     private final PickerOptions m_options;
 
+    private Entry m_drawing;
+
+    private NFastArrayList<WiresContainer> m_mask;
+
+    private boolean m_built;
+
     public ColorMapBackedPicker(final ScratchPad scratchPad,
                                 final PickerOptions options) {
         m_scratchPad = scratchPad;
@@ -52,11 +76,51 @@ public class ColorMapBackedPicker {
     }
 
     public void build(final NFastArrayList<WiresShape> shapes) {
-        clear();
-        processShapes(shapes);
+        build(shapes, m_options.getShapesToSkip());
+    }
+
+    /**
+     * Builds the color map for the given shapes, without the shapes to skip.
+     *
+     * @param shapes       the shapes to render.
+     * @param shapesToSkip the shapes to leave out of the color map, together with their children.
+     */
+    public void build(final NFastArrayList<WiresShape> shapes,
+                      final NFastArrayList<WiresContainer> shapesToSkip) {
+        if (m_built) {
+            m_mask = shapesToSkip;
+            update(shapes);
+        } else {
+            clear();
+            m_mask = shapesToSkip;
+            processShapes(shapes);
+            m_built = true;
+        }
+    }
+
+    /**
+     * Returns whether the last build used the given shapes to skip, so the color map can be read
+     * without building it again.
+     */
+    public boolean isBuiltWith(final NFastArrayList<WiresContainer> shapesToSkip) {
+        return m_built && m_mask == shapesToSkip;
+    }
+
+    /**
+     * Resizes the color map. The next build renders every shape again if the size changed.
+     */
+    public void setPixelSize(final int width,
+                             final int height) {
+        if (m_scratchPad.getWidth() != width || m_scratchPad.getHeight() != height) {
+            m_scratchPad.setPixelSize(width, height);
+            m_built = false;
+        }
     }
 
     void processShapes(final NFastArrayList<WiresShape> shapes) {
+        if (null == m_mask) {
+            m_mask = m_options.getShapesToSkip();
+        }
         computeShapes(shapes);
         drawShapes();
     }
@@ -65,7 +129,7 @@ public class ColorMapBackedPicker {
         for (int j = 0; j < shapes.size(); j++) {
             WiresShape prim = shapes.get(j);
 
-            if (m_options.shapesToSkip.contains(prim)) {
+            if (m_mask.contains(prim)) {
                 continue;
             }
 
@@ -79,18 +143,92 @@ public class ColorMapBackedPicker {
 
     private void drawShapes() {
         // Draw all shapes (and children) into the scratchPad instance.
+        final double margin = getMargin();
         for (int j = 0; j < m_shapesMap.size(); j++) {
             WiresShape prim = m_shapesMap.get(j);
-            MultiPath multiPath = prim.getPath();
-            drawShape(m_colorKeyRotor.next(), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BODY), true);
-            addSupplementaryPaths(prim);
-
-            if (m_options.hotspotsEnabled) {
-                drawShape(m_colorKeyRotor.next(), m_options.hotspotWidth, new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
-                // need to be able to detect the difference between the actual border selection and the border hotspot
-                drawShape(m_colorKeyRotor.next(), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
+            Entry entry = new Entry(prim, j);
+            entry.measure(margin);
+            m_entries.put(prim, entry);
+            drawEntry(entry);
+        }
+    }
+
+    private void update(final NFastArrayList<WiresShape> shapes) {
+        final Map<WiresShape, Entry> previous = new HashMap<>(m_entries);
+        final List<Entry> entries = new ArrayList<>();
+        final List<BoundingBox> damage = new ArrayList<>();
+        final double margin = getMargin();
+
+        m_shapesMap.clear();
+        m_entries.clear();
+        computeShapes(shapes);
+
+        // Shapes drawn over a shape that was drawn above them before have been re-ordered.
+        int maxOrder = -1;
+        for (int j = 0; j < m_shapesMap.size(); j++) {
+            WiresShape prim = m_shapesMap.get(j);
+            Entry entry = previous.remove(prim);
+            if (null == entry) {
+                entry = new Entry(prim, j);
+                entry.measure(margin);
+                entry.changed = true;
+                addDamage(damage, entry.bounds);
+            } else {
+                if (!entry.matches() || entry.order < maxOrder) {
+                    addDamage(damage, entry.bounds);
+                    entry.measure(margin);
+                    entry.changed = true;
+                    addDamage(damage, entry.bounds);
+                }
+                maxOrder = Math.max(maxOrder, entry.order);
+                entry.order = j;
             }
+            m_entries.put(prim, entry);
+            entries.add(entry);
+        }
+
+        for (Entry removed : previous.values()) {
+            addDamage(damage, removed.bounds);
+            releaseColors(removed);
+        }
+
+        if (damage.isEmpty()) {
+            return;
+        }
+
+        m_ctx.save();
+        m_ctx.beginPath();
+        for (BoundingBox rect : damage) {
+            m_ctx.clearRect(rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight());
+            m_ctx.rect(rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight());
+        }
+        m_ctx.clip();
+        for (Entry entry : entries) {
+            if (entry.changed || intersects(entry.bounds, damage)) {
+                drawEntry(entry);
+            }
+        }
+        m_ctx.restore();
+    }
+
+    private void drawEntry(final Entry entry) {
+        if (entry.changed) {
+            // The whole area of a changed shape is drawn again, so its previous colors are not in use anymore.
+            releaseColors(entry);
+            entry.changed = false;
+        }
+        WiresShape prim = entry.shape;
+        MultiPath multiPath = prim.getPath();
+        m_drawing = entry;
+        drawShape(entry.getColor(0), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BODY), true);
+        addSupplementaryPaths(prim);
+
+        if (m_options.hotspotsEnabled) {
+            drawShape(entry.getColor(1), m_options.hotspotWidth, new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
+            // need to be able to detect the difference between the actual border selection and the border hotspot
+            drawShape(entry.getColor(2), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
         }
+        m_drawing = null;
     }
 
     @SuppressWarnings("unused")
@@ -99,16 +237,54 @@ public class ColorMapBackedPicker {
     }
 
     protected void drawShape(String color, double strokeWidth, PickerPart pickerPart, boolean fill) {
-        m_colorMap.put(color, pickerPart);
+        registerColor(color, pickerPart);
         BackingColorMapUtils.drawShapeToBacking(m_ctx, pickerPart.getShape(), color, strokeWidth, fill);
     }
 
     protected void drawShape(String color, double strokeWidth, MultiPath multiPath, PickerPart pickerPart, boolean fill) {
-        m_colorMap.put(color, pickerPart);
+        registerColor(color, pickerPart);
 
         BackingColorMapUtils.drawShapeToBacking(m_ctx, multiPath, color, strokeWidth, fill);
     }
 
+    private void registerColor(final String color, final PickerPart pickerPart) {
+        m_colorMap.put(color, pickerPart);
+        if (null != m_drawing && !m_drawing.colors.contains(color)) {
+            m_drawing.colors.add(color);
+        }
+    }
+
+    private void releaseColors(final Entry entry) {
+        for (int i = 0; i < entry.colors.size(); i++) {
+            m_colorMap.remove(entry.colors.get(i));
+        }
+        entry.colors.clear();
+    }
+
+    private double getMargin() {
+        // Strokes are centered on the path, plus one pixel for antialiasing.
+        return (m_options.hotspotsEnabled ? m_options.hotspotWidth : 0) / 2 + 1;
+    }
+
+    private static void addDamage(final List<BoundingBox> damage,
+                                  final BoundingBox bounds) {
+        // Whole pixels, so the clip does not blend the colors on its edges.
+        damage.add(BoundingBox.fromDoubles(Math.floor(bounds.getMinX()),
+                                           Math.floor(bounds.getMinY()),
+                                           Math.ceil(bounds.getMaxX()),
+                                           Math.ceil(bounds.getMaxY())));
+    }
+
+    private static boolean intersects(final BoundingBox bounds,
+                                      final List<BoundingBox> damage) {
+        for (BoundingBox rect : damage) {
+            if (rect.intersects(bounds)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public PickerPart findShapeAt(int x, int y) {
         ImageDataPixelColor color = m_ctx.getImageDataPixelColor(x, y);
         if (color != null) {
@@ -120,18 +296,135 @@ public class ColorMapBackedPicker {
         return null;
     }
 
+    /**
+     * Forgets the shapes to skip of the last build, but keeps the color map, so the next build only renders again
+     * the areas of the shapes that changed or that are skipped, or not skipped anymore, by its own shapes to skip.
+     */
+    public void releaseMask() {
+        m_mask = null;
+    }
+
     public void clear() {
         m_scratchPad.clear();
         m_colorMap.clear();
         m_shapesMap.clear();
+        m_entries.clear();
+        m_built = false;
+        m_mask = null;
     }
 
     public PickerOptions getPickerOptions() {
         return m_options;
     }
 
-    public static final class PickerOptions {
+    /**
+     * The state a shape was drawn with, used to find out whether it has to be drawn again.
+     */
+    private static final class Entry {
+
+        private final WiresShape shape;
+        private final String[] partColors = new String[3];
+        private final NFastArrayList<String> colors = new NFastArrayList<>();
+        private int order;
+        private boolean changed;
+        private BoundingBox bounds;
+        private WiresContainer parent;
+        private double x;
+        private double y;
+        private double minX;
+        private double minY;
+        private double maxX;
+        private double maxY;
+        private double strokeWidth;
+        private final List<int[]> commands = new ArrayList<>();
+        private final List<double[]> points = new ArrayList<>();
+
+        private Entry(final WiresShape shape,
+                      final int order) {
+            this.shape = shape;
+            this.order = order;
+        }
+
+        private String getColor(final int part) {
+            if (null == partColors[part]) {
+                partColors[part] = m_colorKeyRotor.next();
+            }
+            return partColors[part];
+        }
+
+        private void measure(final double margin) {
+            final MultiPath path = shape.getPath();
+            final Point2D location = path.getComputedLocation();
+            final BoundingBox box = path.getBoundingBox();
+            parent = shape.getParent();
+            x = location.getX();
+            y = location.getY();
+            minX = box.getMinX();
+            minY = box.getMinY();
+            maxX = box.getMaxX();
+            maxY = box.getMaxY();
+            strokeWidth = path.getStrokeWidth();
+            commands.clear();
+            points.clear();
+            final NFastArrayList<PathPartList> paths = path.getActualPathPartListArray();
+            for (int i = 0; i < paths.size(); i++) {
+                final PathPartList list = paths.get(i);
+                final int[] listCommands = new int[list.size()];
+                for (int j = 0; j < listCommands.length; j++) {
+                    final PathPartEntryJSO part = list.get(j);
+                    listCommands[j] = part.getCommand();
+                    points.add(part.getPoints().clone());
+                }
+                commands.add(listCommands);
+            }
+            final double offset = Math.max(margin, strokeWidth / 2 + 1);
+            bounds = BoundingBox.fromDoubles(x + minX - offset,
+                                             y + minY - offset,
+                                             x + maxX + offset,
+                                             y + maxY + offset);
+        }
 
+        private boolean matches() {
+            final MultiPath path = shape.getPath();
+            final Point2D location = path.getComputedLocation();
+            final BoundingBox box = path.getBoundingBox();
+            return parent == shape.getParent()
+                    && x == location.getX()
+                    && y == location.getY()
+                    && minX == box.getMinX()
+                    && minY == box.getMinY()
+                    && maxX == box.getMaxX()
+                    && maxY == box.getMaxY()
+                    && strokeWidth == path.getStrokeWidth()
+                    && matchesPaths(path.getActualPathPartListArray());
+        }
+
+        /**
+         * Compares every part of the paths, as a shape can change without changing its bounds.
+         */
+        private boolean matchesPaths(final NFastArrayList<PathPartList> paths) {
+            if (commands.size() != paths.size()) {
+                return false;
+            }
+            int index = 0;
+            for (int i = 0; i < paths.size(); i++) {
+                final PathPartList list = paths.get(i);
+                final int[] listCommands = commands.get(i);
+                if (listCommands.length != list.size()) {
+                    return false;
+                }
+                for (int j = 0; j < listCommands.length; j++) {
+                    final PathPartEntryJSO part = list.get(j);
+                    if (listCommands[j] != part.getCommand() || !Arrays.equals(points.get(index++), part.getPoints())) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    public static final class PickerOptions {
         private final NFastArrayList<WiresContainer> shapesToSkip;
         private final boolean hotspotsEnabled;
         private final double hotspotWidth;
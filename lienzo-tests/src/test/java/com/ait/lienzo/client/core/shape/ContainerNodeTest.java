@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2017 Ahome' Innovation Technologies. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.shape.storage.SpatialIndexStorageEngine;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class ContainerNodeTest {
+
+    @Mock
+    private Context2D context;
+
+    private Rectangle near;
+
+    private Rectangle far;
+
+    @Before
+    public void setup() {
+        near = spy(new Rectangle(10, 10).setX(10).setY(10));
+        far = spy(new Rectangle(10, 10).setX(1000).setY(1000));
+    }
+
+    @Test
+    public void testDrawCullsSpatiallyIndexedChildren() {
+        final Group group = new Group().setStorageEngine(new SpatialIndexStorageEngine());
+        group.add(near);
+        group.add(far);
+        group.drawWithTransforms(context, 1, BoundingBox.fromDoubles(0, 0, 100, 100));
+        verify(near, times(1)).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+        verify(far, never()).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+    }
+
+    @Test
+    public void testDrawCullsInLocalCoordinates() {
+        final Group group = new Group().setStorageEngine(new SpatialIndexStorageEngine()).setX(-1000).setY(-1000);
+        group.add(near);
+        group.add(far);
+        group.drawWithTransforms(context, 1, BoundingBox.fromDoubles(0, 0, 100, 100));
+        verify(near, never()).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+        verify(far, times(1)).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+    }
+
+    @Test
+    public void testDrawCullsChildrenAfterGeometryChange() {
+        final Group group = new Group().setStorageEngine(new SpatialIndexStorageEngine());
+        group.add(near);
+        group.add(far);
+        group.drawWithTransforms(context, 1, BoundingBox.fromDoubles(500, 500, 600, 600));
+        near.setWidth(600).setHeight(600);
+        group.drawWithTransforms(context, 1, BoundingBox.fromDoubles(500, 500, 600, 600));
+        verify(near, times(1)).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+        verify(far, never()).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+    }
+
+    @Test
+    public void testDrawAllChildrenWithoutSpatialIndex() {
+        final Group group = new Group();
+        group.add(near);
+        group.add(far);
+        group.drawWithTransforms(context, 1, BoundingBox.fromDoubles(0, 0, 100, 100));
+        verify(near, times(1)).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+        verify(far, times(1)).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+    }
+
+    @Test
+    public void testBoundsChangesPropagatedThroughGroupWithoutSpatialIndex() {
+        final Group group = spy(new Group());
+        final Layer layer = spy(new Layer().setStorageEngine(new SpatialIndexStorageEngine()));
+        group.add(near);
+        layer.add(group);
+        near.setX(20);
+        near.setWidth(20);
+        verify(group, never()).onChildBoundsChanged(any(Node.class));
+        verify(layer, times(2)).onChildBoundsChanged(group);
+        group.setX(20);
+        verify(layer, times(3)).onChildBoundsChanged(group);
+        near.setTransform(new Transform().translate(10, 10));
+        verify(layer, times(4)).onChildBoundsChanged(group);
+        group.add(far);
+        verify(layer, times(5)).onChildBoundsChanged(group);
+        group.remove(far);
+        verify(layer, times(6)).onChildBoundsChanged(group);
+    }
+
+    @Test
+    public void testDrawCullsAfterMovingShapeInsideGroupWithoutSpatialIndex() {
+        final Group indexed = new Group().setStorageEngine(new SpatialIndexStorageEngine());
+        final Group group = spy(new Group());
+        group.add(far);
+        indexed.add(group);
+        indexed.drawWithTransforms(context, 1, BoundingBox.fromDoubles(0, 0, 100, 100));
+        verify(group, never()).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+        far.setX(20).setY(20);
+        indexed.drawWithTransforms(context, 1, BoundingBox.fromDoubles(0, 0, 100, 100));
+        verify(group, times(1)).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+        group.add(near);
+        far.setTransform(new Transform().translate(2000, 2000));
+        group.remove(near);
+        indexed.drawWithTransforms(context, 1, BoundingBox.fromDoubles(0, 0, 100, 100));
+        verify(group, times(1)).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+    }
+}
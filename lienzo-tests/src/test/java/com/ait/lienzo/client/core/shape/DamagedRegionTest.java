@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class DamagedRegionTest {
+
+    private DamagedRegion tested;
+
+    private Rectangle rectangle;
+
+    private Function<Node<?>, BoundingBox> measure;
+
+    @Before
+    public void setup() {
+        tested = new DamagedRegion();
+        rectangle = new Rectangle(10, 10);
+        measure = node -> BoundingBox.fromDoubles(node.getX(), node.getY(), node.getX() + 10, node.getY() + 10);
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(tested.isEmpty());
+        assertFalse(tested.isFull());
+        assertTrue(tested.merge(measure).isEmpty());
+    }
+
+    @Test
+    public void testNodeOldAndNewBounds() {
+        tested.add(rectangle, measure);
+        rectangle.setX(100);
+        assertFalse(tested.isEmpty());
+        final List<BoundingBox> rects = tested.merge(measure);
+        assertEquals(2, rects.size());
+        assertEquals(BoundingBox.fromDoubles(0, 0, 10, 10), rects.get(0));
+        assertEquals(BoundingBox.fromDoubles(100, 0, 110, 10), rects.get(1));
+        assertTrue(tested.isEmpty());
+    }
+
+    @Test
+    public void testNodeReportedOnce() {
+        tested.add(rectangle, measure);
+        rectangle.setX(5);
+        // The bounds the node was drawn at are kept from the first report.
+        tested.add(rectangle, measure);
+        rectangle.setX(8);
+        final List<BoundingBox> rects = tested.merge(measure);
+        assertEquals(1, rects.size());
+        assertEquals(BoundingBox.fromDoubles(0, 0, 18, 10), rects.get(0));
+    }
+
+    @Test
+    public void testNodeNotDrawn() {
+        tested.add(rectangle, node -> null);
+        assertFalse(tested.isEmpty());
+        assertTrue(tested.merge(node -> null).isEmpty());
+    }
+
+    @Test
+    public void testJoinOverlappingAreas() {
+        tested.add(BoundingBox.fromDoubles(0, 0, 10, 10));
+        tested.add(BoundingBox.fromDoubles(20, 0, 30, 10));
+        tested.add(BoundingBox.fromDoubles(5, 5, 25, 8));
+        final List<BoundingBox> rects = tested.merge(measure);
+        assertEquals(1, rects.size());
+        assertEquals(BoundingBox.fromDoubles(0, 0, 30, 10), rects.get(0));
+    }
+
+    @Test
+    public void testMaxRectangles() {
+        for (int i = 0; i < DamagedRegion.MAX_RECTANGLES * 2; i++) {
+            tested.add(BoundingBox.fromDoubles(i * 100, 0, i * 100 + 10, 10));
+        }
+        final List<BoundingBox> rects = tested.merge(measure);
+        assertEquals(DamagedRegion.MAX_RECTANGLES, rects.size());
+        final BoundingBox union = new BoundingBox();
+        double area = 0;
+        for (int i = 0; i < rects.size(); i++) {
+            union.addBoundingBox(rects.get(i));
+            area += DamagedRegion.area(rects.get(i));
+            for (int j = i + 1; j < rects.size(); j++) {
+                assertFalse(rects.get(i).intersects(rects.get(j)));
+            }
+        }
+        assertEquals(BoundingBox.fromDoubles(0, 0, (DamagedRegion.MAX_RECTANGLES * 2 - 1) * 100 + 10, 10), union);
+        assertTrue(area < DamagedRegion.area(union));
+    }
+
+    @Test
+    public void testNodeReportsDamageToLayer() {
+        final Layer layer = spy(new Layer());
+        layer.add(rectangle);
+        rectangle.setX(10);
+        verify(layer, never()).damage(rectangle);
+        layer.setDirtyRegionRedraw(true);
+        rectangle.setX(20);
+        rectangle.setFillColor("red");
+        verify(layer, times(2)).damage(rectangle);
+    }
+
+    @Test
+    public void testInvalidate() {
+        tested.add(rectangle, measure);
+        tested.add((BoundingBox) null);
+        assertTrue(tested.isFull());
+        assertFalse(tested.isEmpty());
+        tested.add(BoundingBox.fromDoubles(0, 0, 10, 10));
+        assertNull(tested.merge(measure));
+        assertFalse(tested.isFull());
+        assertTrue(tested.isEmpty());
+    }
+}
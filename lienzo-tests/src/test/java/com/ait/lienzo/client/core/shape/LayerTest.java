@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2017 Ahome' Innovation Technologies. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.types.ImageDataPixelColor;
+import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.shared.core.types.Color;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import elemental2.dom.ImageData;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class LayerTest {
+
+    private Layer tested;
+
+    private Rectangle rectangle;
+
+    @Before
+    public void setup() {
+        tested = new Layer();
+        tested.getCanvasElement();
+        tested.getSelectionLayer().getCanvasElement();
+        rectangle = new Rectangle(10, 10).setFillColor("red");
+        tested.add(rectangle);
+    }
+
+    @Test
+    public void testEagerSelectionLayer() {
+        tested.draw();
+        tested.draw();
+        assertEquals(2, tested.getSelectionLayerDrawRequests());
+        assertEquals(2, tested.getSelectionLayerDraws());
+        assertEquals(0, tested.getSelectionLayerDrawsSaved());
+    }
+
+    @Test
+    public void testLazySelectionLayerRenderedOnDemand() {
+        tested.setLazySelectionLayer(true);
+        tested.draw();
+        tested.draw();
+        tested.draw();
+        assertEquals(3, tested.getSelectionLayerDrawRequests());
+        assertEquals(0, tested.getSelectionLayerDraws());
+        tested.findShapeAtPoint(5, 5);
+        assertEquals(1, tested.getSelectionLayerDraws());
+        tested.findShapeAtPoint(6, 6);
+        assertEquals(1, tested.getSelectionLayerDraws());
+        assertEquals(2, tested.getSelectionLayerDrawsSaved());
+    }
+
+    @Test
+    public void testLazySelectionLayerInvalidatedOnShapeChange() {
+        tested.setLazySelectionLayer(true);
+        tested.draw();
+        tested.findShapeAtPoint(5, 5);
+        assertEquals(1, tested.getSelectionLayerDraws());
+        rectangle.setX(50);
+        tested.drawDamaged();
+        assertEquals(1, tested.getSelectionLayerDraws());
+        tested.findShapeAtPoint(55, 5);
+        assertEquals(2, tested.getSelectionLayerDraws());
+        tested.findShapeAtPoint(55, 5);
+        assertEquals(2, tested.getSelectionLayerDraws());
+    }
+
+    @Test
+    public void testLazySelectionLayerEagerWhileShown() {
+        tested.setLazySelectionLayer(true);
+        tested.setShowSelectionLayer(true);
+        tested.draw();
+        assertEquals(1, tested.getSelectionLayerDraws());
+        tested.findShapeAtPoint(5, 5);
+        assertEquals(1, tested.getSelectionLayerDraws());
+    }
+
+    @Test
+    public void testLazySelectionLayerHitTesting() {
+        final Context2D context = mock(Context2D.class);
+        final Layer.SelectionLayer selection = spy(new Layer.SelectionLayer());
+        when(context.isSelection()).thenReturn(true);
+        doReturn(context).when(selection).getContext();
+        tested = spy(new Layer());
+        tested.getCanvasElement();
+        doReturn(selection).when(tested).getSelectionLayer();
+        tested.add(rectangle);
+        tested.setLazySelectionLayer(true);
+        tested.draw();
+        verify(context, never()).setFillColor(anyString());
+        when(context.getImageDataPixelColor(5, 5)).thenReturn(pixel(rectangle.getColorKey(), 255));
+        assertSame(rectangle, tested.findShapeAtPoint(5, 5));
+        // The selection layer is rendered with the color keys before its pixels are read.
+        final InOrder order = inOrder(context);
+        order.verify(context).setFillColor(rectangle.getColorKey());
+        order.verify(context).getImageDataPixelColor(5, 5);
+        when(context.getImageDataPixelColor(50, 50)).thenReturn(pixel(rectangle.getColorKey(), 0));
+        assertNull(tested.findShapeAtPoint(50, 50));
+        rectangle.setVisible(false);
+        tested.draw();
+        assertNull(tested.findShapeAtPoint(5, 5));
+        verify(context, times(1)).setFillColor(rectangle.getColorKey());
+    }
+
+    @Test
+    public void testDirtyRegionRedrawOnGeometryChange() {
+        final Context2D context = mock(Context2D.class);
+        dirtyRegionLayer(context, null);
+        tested.draw();
+        rectangle.setWidth(20);
+        tested.drawDamaged();
+        verify(context).clip();
+        verify(context).clearRect(0, 0, 22, 12);
+    }
+
+    @Test
+    public void testDirtyRegionRedrawInCanvasCoordinates() {
+        final Context2D context = mock(Context2D.class);
+        final Viewport viewport = mock(Viewport.class);
+        when(viewport.getTransform()).thenReturn(new Transform().scale(2));
+        dirtyRegionLayer(context, viewport);
+        tested.draw();
+        rectangle.setWidth(20);
+        tested.drawDamaged();
+        verify(context).clip();
+        verify(context).clearRect(0, 0, 44, 24);
+    }
+
+    @Test
+    public void testDirtyRegionRedrawDrawsAllOnTransformChange() {
+        final Context2D context = mock(Context2D.class);
+        final Viewport viewport = mock(Viewport.class);
+        when(viewport.getTransform()).thenReturn(new Transform());
+        dirtyRegionLayer(context, viewport);
+        tested.draw();
+        when(viewport.getTransform()).thenReturn(new Transform().translate(10, 0));
+        rectangle.setX(5);
+        tested.drawDamaged();
+        verify(context, never()).clip();
+        verify(context).transform(new Transform().translate(10, 0));
+    }
+
+    @Test
+    public void testDirtyRegionLayerNotCountedOnceRemoved() {
+        final int count = Layer.getDirtyRegionLayerCount();
+        final Scene scene = new Scene();
+        tested.setDirtyRegionRedraw(true);
+        assertEquals(count + 1, Layer.getDirtyRegionLayerCount());
+        attach(scene, tested);
+        assertEquals(count + 1, Layer.getDirtyRegionLayerCount());
+        scene.remove(tested);
+        assertEquals(count, Layer.getDirtyRegionLayerCount());
+        attach(scene, tested);
+        assertEquals(count + 1, Layer.getDirtyRegionLayerCount());
+        scene.removeAll();
+        assertEquals(count, Layer.getDirtyRegionLayerCount());
+        tested.removeFromParent();
+        tested.setDirtyRegionRedraw(false);
+        assertEquals(count, Layer.getDirtyRegionLayerCount());
+    }
+
+    // Scene.add also sizes the layer's DOM elements, which are not mocked
+    private static void attach(final Scene scene, final Layer layer) {
+        layer.setParent(scene);
+        scene.getStorageEngine().add(layer);
+    }
+
+    private void dirtyRegionLayer(final Context2D context, final Viewport viewport) {
+        rectangle.setStrokeWidth(0);
+        tested = spy(new Layer());
+        tested.getCanvasElement();
+        doReturn(100).when(tested).getWidth();
+        doReturn(100).when(tested).getHeight();
+        doReturn(context).when(tested).getContext();
+        doReturn(viewport).when(tested).getViewport();
+        tested.add(rectangle);
+        tested.setDirtyRegionRedraw(true);
+    }
+
+    private static ImageDataPixelColor pixel(final String key, final int alpha) {
+        final Color color = Color.fromColorString(key);
+        final ImageData data = new ImageData(1, 1);
+        data.data.setAt(0, (double) color.getR());
+        data.data.setAt(1, (double) color.getG());
+        data.data.setAt(2, (double) color.getB());
+        data.data.setAt(3, (double) alpha);
+        return new ImageDataPixelColor(data);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2017 Ahome' Innovation Technologies. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RTreeTest {
+
+    private static final int COUNT = 2000;
+
+    private RTree<Integer> tested;
+
+    private double[][] bounds;
+
+    @Before
+    public void setup() {
+        tested = new RTree<>();
+        bounds = new double[COUNT][];
+        final Random random = new Random(7);
+        for (int i = 0; i < COUNT; i++) {
+            bounds[i] = randomBounds(random);
+            tested.insert(i, bounds[i][0], bounds[i][1], bounds[i][2], bounds[i][3]);
+        }
+    }
+
+    @Test
+    public void testInsert() {
+        assertEquals(COUNT, tested.size());
+        assertTrue(tested.getHeight() > 1);
+        assertSearch(0, 0, 5000, 5000);
+        assertSearch(100, 100, 400, 300);
+        assertSearch(-10, -10, -1, -1);
+    }
+
+    @Test
+    public void testSearchPoint() {
+        final List<Integer> result = tested.search(bounds[42][0], bounds[42][1], bounds[42][0], bounds[42][1]);
+        assertTrue(result.contains(42));
+        assertSearch(bounds[42][0], bounds[42][1], bounds[42][0], bounds[42][1]);
+    }
+
+    @Test
+    public void testRemove() {
+        for (int i = 0; i < COUNT; i += 2) {
+            assertTrue(tested.remove(i));
+            bounds[i] = null;
+        }
+        assertFalse(tested.remove(0));
+        assertEquals(COUNT / 2, tested.size());
+        assertSearch(0, 0, 5000, 5000);
+        assertSearch(1000, 1000, 1500, 1200);
+    }
+
+    @Test
+    public void testRemoveAll() {
+        for (int i = 0; i < COUNT; i++) {
+            tested.remove(i);
+        }
+        assertTrue(tested.isEmpty());
+        assertEquals(1, tested.getHeight());
+        assertTrue(tested.search(0, 0, 5000, 5000).isEmpty());
+    }
+
+    @Test
+    public void testUpdate() {
+        final Random random = new Random(11);
+        for (int i = 0; i < COUNT; i += 3) {
+            bounds[i] = randomBounds(random);
+            tested.update(i, bounds[i][0], bounds[i][1], bounds[i][2], bounds[i][3]);
+        }
+        tested.update(7, bounds[7][0] + 1, bounds[7][1] + 1, bounds[7][2] - 1, bounds[7][3] - 1);
+        bounds[7] = new double[]{bounds[7][0] + 1, bounds[7][1] + 1, bounds[7][2] - 1, bounds[7][3] - 1};
+        assertEquals(COUNT, tested.size());
+        assertSearch(0, 0, 5000, 5000);
+        assertSearch(2000, 2000, 2600, 2300);
+        assertSearch(bounds[3][0], bounds[3][1], bounds[3][0], bounds[3][1]);
+    }
+
+    @Test
+    public void testInsertExistingUpdates() {
+        tested.insert(5, -100, -100, -90, -90);
+        assertEquals(COUNT, tested.size());
+        final List<Integer> result = tested.search(-95, -95, -95, -95);
+        assertEquals(1, result.size());
+        assertEquals(5, result.get(0).intValue());
+    }
+
+    @Test
+    public void testClear() {
+        tested.clear();
+        assertTrue(tested.isEmpty());
+        assertFalse(tested.contains(1));
+        assertTrue(tested.search(0, 0, 5000, 5000).isEmpty());
+    }
+
+    private void assertSearch(final double minx, final double miny, final double maxx, final double maxy) {
+        final Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < COUNT; i++) {
+            final double[] b = bounds[i];
+            if ((null != b) && (b[0] <= maxx) && (b[2] >= minx) && (b[1] <= maxy) && (b[3] >= miny)) {
+                expected.add(i);
+            }
+        }
+        final List<Integer> result = tested.search(minx, miny, maxx, maxy, new ArrayList<>());
+        assertEquals(expected.size(), result.size());
+        assertEquals(expected, new HashSet<>(result));
+    }
+
+    private static double[] randomBounds(final Random random) {
+        final double x = random.nextDouble() * 4000;
+        final double y = random.nextDouble() * 4000;
+        return new double[]{x, y, x + 1 + random.nextDouble() * 100, y + 1 + random.nextDouble() * 100};
+    }
+}
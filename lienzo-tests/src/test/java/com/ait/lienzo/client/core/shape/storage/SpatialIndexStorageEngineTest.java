@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017 Ahome' Innovation Technologies. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import com.ait.lienzo.client.core.shape.Group;
+import com.ait.lienzo.client.core.shape.IPrimitive;
+import com.ait.lienzo.client.core.shape.Rectangle;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class SpatialIndexStorageEngineTest {
+
+    private SpatialIndexStorageEngine tested;
+
+    private Group group;
+
+    private Rectangle first;
+
+    private Rectangle second;
+
+    private Rectangle third;
+
+    @Before
+    public void setup() {
+        tested = new SpatialIndexStorageEngine();
+        group = new Group().setStorageEngine(tested);
+        first = new Rectangle(10, 10).setX(0).setY(0);
+        second = new Rectangle(10, 10).setX(100).setY(0);
+        third = new Rectangle(10, 10).setX(5).setY(5);
+        group.add(first);
+        group.add(second);
+        group.add(third);
+    }
+
+    @Test
+    public void testGetChildren() {
+        assertEquals(3, tested.size());
+        assertTrue(tested.isSpatiallyIndexed());
+        assertSame(tested.getChildren(), tested.getChildren(null));
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(-50, -50, 500, 500)), first, second, third);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(0, 0, 20, 20)), first, third);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(95, 0, 120, 5)), second);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(200, 200, 300, 300)));
+    }
+
+    @Test
+    public void testGetChildrenInDrawingOrder() {
+        group.moveToBottom(third);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(0, 0, 20, 20)), third, first);
+        group.moveToTop(third);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(0, 0, 20, 20)), first, third);
+    }
+
+    @Test
+    public void testRemove() {
+        group.remove(third);
+        assertFalse(tested.contains(third));
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(0, 0, 20, 20)), first);
+        tested.clear();
+        assertTrue(tested.isEmpty());
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(0, 0, 20, 20)));
+    }
+
+    @Test
+    public void testRefreshOnLocationChange() {
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(200, 200, 300, 300)));
+        second.setX(250).setY(250);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(200, 200, 300, 300)), second);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(95, 0, 120, 5)));
+    }
+
+    @Test
+    public void testRefreshOnGeometryChange() {
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(50, 50, 60, 60)));
+        first.setWidth(60).setHeight(60);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(50, 50, 60, 60)), first);
+        first.setWidth(10).setHeight(10);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(50, 50, 60, 60)));
+    }
+
+    @Test
+    public void testRefreshOnNestedSpatialContainerChange() {
+        final Rectangle nested = new Rectangle(10, 10);
+        final Group inner = new Group().setStorageEngine(new SpatialIndexStorageEngine());
+        inner.add(nested);
+        group.add(inner);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(300, 300, 400, 400)));
+        nested.setX(350).setY(350);
+        assertChildren(tested.getChildren(BoundingBox.fromDoubles(300, 300, 400, 400)), inner);
+    }
+
+    private static void assertChildren(final NFastArrayList<IPrimitive<?>> children, final IPrimitive<?>... expected) {
+        assertEquals(expected.length, children.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(expected[i], children.get(i));
+        }
+    }
+}
@@ -32,6 +32,7 @@ import com.ait.lienzo.client.core.shape.wires.handlers.WiresConnectorControl;
 import com.ait.lienzo.client.core.shape.wires.handlers.WiresConnectorHandler;
 import com.ait.lienzo.client.core.shape.wires.handlers.WiresHandlerFactory;
 import com.ait.lienzo.client.core.shape.wires.handlers.WiresShapeControl;
+import com.ait.lienzo.client.core.shape.wires.picker.ColorMapBackedPicker;
 import com.ait.lienzo.client.core.util.ScratchPad;
 import com.ait.lienzo.test.LienzoMockitoTestRunner;
 import com.ait.lienzo.tools.client.event.HandlerRegistration;
@@ -117,6 +118,16 @@ public class WiresManagerTest {
         assertEquals(layer2, wiresLayer.getLayer());
     }
 
+    @Test
+    public void testRemoveReleasesColorMapPicker() {
+        final ColorMapBackedPicker picker = mock(ColorMapBackedPicker.class);
+        tested.setColorMapPicker(picker);
+        assertEquals(picker, tested.getColorMapPicker());
+        WiresManager.remove(tested);
+        verify(picker, times(1)).clear();
+        assertNull(tested.getColorMapPicker());
+    }
+
     @Test
     public void testRegisterShape() {
         final IContainmentAcceptor containmentAcceptor = mock(IContainmentAcceptor.class);
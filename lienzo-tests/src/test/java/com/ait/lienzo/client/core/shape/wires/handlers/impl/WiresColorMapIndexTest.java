@@ -16,24 +16,29 @@
 
 package com.ait.lienzo.client.core.shape.wires.handlers.impl;
 
+import com.ait.lienzo.client.core.shape.Layer;
 import com.ait.lienzo.client.core.shape.wires.PickerPart;
 import com.ait.lienzo.client.core.shape.wires.WiresContainer;
 import com.ait.lienzo.client.core.shape.wires.WiresLayer;
 import com.ait.lienzo.client.core.shape.wires.WiresShape;
 import com.ait.lienzo.client.core.shape.wires.picker.ColorMapBackedPicker;
+import com.ait.lienzo.client.core.util.ScratchPad;
 import com.ait.lienzo.test.LienzoMockitoTestRunner;
 import com.ait.lienzo.tools.client.collection.NFastArrayList;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -46,36 +51,64 @@ public class WiresColorMapIndexTest {
     @Mock
     private ColorMapBackedPicker picker;
 
+    @Mock
+    private WiresLayer layer;
+
     private WiresColorMapIndex tested;
     private ColorMapBackedPicker.PickerOptions pickerOptions;
+    private NFastArrayList<WiresShape> children;
 
     @Before
     public void setup() {
         pickerOptions = new ColorMapBackedPicker.PickerOptions(false, 0);
+        children = new NFastArrayList<>();
         when(picker.getPickerOptions()).thenReturn(pickerOptions);
+        when(layer.getChildShapes()).thenReturn(children);
         tested = new WiresColorMapIndex(picker);
     }
 
     @Test
     public void testExclude() {
         WiresContainer shape = mock(WiresContainer.class);
-        assertTrue(pickerOptions.getShapesToSkip().isEmpty());
         tested.exclude(shape);
-        assertFalse(pickerOptions.getShapesToSkip().isEmpty());
-        assertTrue(pickerOptions.getShapesToSkip().contains(shape));
+        tested.build(layer);
+        NFastArrayList<WiresContainer> shapesToSkip = getShapesToSkip();
+        assertEquals(1, shapesToSkip.size());
+        assertTrue(shapesToSkip.contains(shape));
+        // The shapes to skip of the picker options are not shared with the index.
+        assertTrue(pickerOptions.getShapesToSkip().isEmpty());
+    }
+
+    @Test
+    public void testExcludeIsNotSharedBetweenIndexes() {
+        WiresColorMapIndex other = new WiresColorMapIndex(picker);
+        tested.exclude(mock(WiresContainer.class));
+        other.build(layer);
+        assertTrue(getShapesToSkip().isEmpty());
     }
 
     @Test
     public void testBuild() {
-        WiresLayer layer = mock(WiresLayer.class);
-        NFastArrayList<WiresShape> children = new NFastArrayList<>();
-        when(layer.getChildShapes()).thenReturn(children);
         tested.build(layer);
-        verify(picker, times(1)).build(eq(children));
+        verify(picker, times(1)).build(eq(children), any(NFastArrayList.class));
         verify(picker, never()).findShapeAt(anyInt(), anyInt());
         verify(picker, never()).clear();
     }
 
+    @Test
+    public void testBuildResizesPicker() {
+        Layer canvasLayer = mock(Layer.class);
+        ScratchPad scratchPad = mock(ScratchPad.class);
+        when(layer.getLayer()).thenReturn(canvasLayer);
+        when(canvasLayer.getScratchPad()).thenReturn(scratchPad);
+        when(scratchPad.getWidth()).thenReturn(100);
+        when(scratchPad.getHeight()).thenReturn(200);
+        tested.build(layer);
+        InOrder inOrder = inOrder(picker);
+        inOrder.verify(picker).setPixelSize(100, 200);
+        inOrder.verify(picker).build(eq(children), any(NFastArrayList.class));
+    }
+
     @Test
     public void testFindShapeAt() {
         PickerPart part = mock(PickerPart.class);
@@ -84,13 +117,33 @@ public class WiresColorMapIndexTest {
     }
 
     @Test
-    @SuppressWarnings("unchecked")
+    public void testFindShapeAtBuildsAgainWhenBuiltByOtherIndex() {
+        tested.build(layer);
+        when(picker.isBuiltWith(any(NFastArrayList.class))).thenReturn(true);
+        tested.findShapeAt(3, 5);
+        verify(picker, times(1)).build(eq(children), any(NFastArrayList.class));
+        when(picker.isBuiltWith(any(NFastArrayList.class))).thenReturn(false);
+        tested.findShapeAt(3, 5);
+        verify(picker, times(2)).build(eq(children), any(NFastArrayList.class));
+        verify(picker, times(2)).findShapeAt(3, 5);
+    }
+
+    @Test
     public void testClear() {
-        pickerOptions.getShapesToSkip().add(mock(WiresContainer.class));
+        tested.exclude(mock(WiresContainer.class));
+        tested.build(layer);
         tested.clear();
-        assertTrue(pickerOptions.getShapesToSkip().isEmpty());
-        verify(picker, times(1)).clear();
-        verify(picker, never()).build(any(NFastArrayList.class));
-        verify(picker, never()).findShapeAt(anyInt(), anyInt());
+        verify(picker, times(1)).releaseMask();
+        verify(picker, never()).clear();
+        assertTrue(getShapesToSkip().isEmpty());
+        tested.findShapeAt(3, 5);
+        verify(picker, times(1)).build(eq(children), any(NFastArrayList.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private NFastArrayList<WiresContainer> getShapesToSkip() {
+        ArgumentCaptor<NFastArrayList> captor = ArgumentCaptor.forClass(NFastArrayList.class);
+        verify(picker, atLeastOnce()).build(eq(children), captor.capture());
+        return captor.getValue();
     }
 }
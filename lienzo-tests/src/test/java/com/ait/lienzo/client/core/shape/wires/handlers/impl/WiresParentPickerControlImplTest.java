@@ -35,7 +35,6 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
@@ -120,10 +119,13 @@ public class WiresParentPickerControlImplTest {
         WiresParentPickerControlImpl tested = new WiresParentPickerControlImpl(shapeLocationControl,
                                                                                () -> wiresColorMapIndex);
         final WiresLayerIndex index = tested.getIndex();
+        assertEquals(wiresColorMapIndex, index);
         index.clear();
+        verify(picker).releaseMask();
         assertTrue(pickerOptions.getShapesToSkip().isEmpty());
+        // The index keeps its own shapes to skip, apart from the ones of the picker options.
         index.exclude(mock(WiresShape.class));
-        assertFalse(pickerOptions.getShapesToSkip().isEmpty());
+        assertTrue(pickerOptions.getShapesToSkip().isEmpty());
     }
 
     @Test
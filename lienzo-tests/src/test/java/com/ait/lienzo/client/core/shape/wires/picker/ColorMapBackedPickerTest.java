@@ -20,8 +20,11 @@ import com.ait.lienzo.client.core.Context2D;
 import com.ait.lienzo.client.core.shape.Group;
 import com.ait.lienzo.client.core.shape.MultiPath;
 import com.ait.lienzo.client.core.shape.wires.PickerPart;
+import com.ait.lienzo.client.core.shape.wires.WiresContainer;
 import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.ImageDataPixelColor;
+import com.ait.lienzo.client.core.types.PathPartEntryJSO;
 import com.ait.lienzo.client.core.types.PathPartList;
 import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.util.ScratchPad;
@@ -34,6 +37,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -81,6 +90,7 @@ public class ColorMapBackedPickerTest {
         when(context.getImageDataPixelColor(X, Y)).thenReturn(pixelColor);
         when(pixelColor.toBrowserRGB()).thenReturn(Color.rgbToBrowserHexColor(0, 0, 0));
         when(pickerPart.getShape()).thenReturn(shape);
+        when(path.getBoundingBox()).thenReturn(BoundingBox.fromDoubles(0, 0, 10, 10));
         tested = new ColorMapBackedPicker(scratchPad, pickerOptions);
     }
 
@@ -93,4 +103,162 @@ public class ColorMapBackedPickerTest {
         verify(context).getImageDataPixelColor(X, Y);
         verify(pixelColor).toBrowserRGB();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBuildKeepsColorMap() {
+        final NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+        verify(scratchPad, times(1)).clear();
+        verify(context, times(1)).fill();
+
+        tested.build(shapes);
+        verify(scratchPad, times(1)).clear();
+        verify(context, times(1)).fill();
+        verify(context, never()).clip();
+    }
+
+    @Test
+    public void testBuildRendersMovedShape() {
+        final NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+
+        when(path.getComputedLocation()).thenReturn(new Point2D(100, 0));
+        tested.build(shapes);
+
+        verify(scratchPad, times(1)).clear();
+        verify(context, times(1)).clip();
+        // Old and new bounds, including the antialiasing margin.
+        verify(context).clearRect(-1, -1, 12, 12);
+        verify(context).clearRect(99, -1, 12, 12);
+        verify(context, times(2)).fill();
+    }
+
+    @Test
+    public void testBuildMasksSkippedShapes() {
+        final WiresShape other = mockShape(new Point2D(500, 500));
+        final NFastArrayList<WiresShape> shapes = shapes(shape, other);
+        tested.build(shapes);
+        verify(context, times(2)).fill();
+
+        tested.getPickerOptions().getShapesToSkip().add(other);
+        tested.build(shapes);
+        // Only the area of the skipped shape is cleared, and nothing else is drawn.
+        verify(context).clearRect(499, 499, 12, 12);
+        verify(context, times(2)).fill();
+
+        tested.getPickerOptions().getShapesToSkip().clear();
+        tested.build(shapes);
+        verify(context, times(2)).clearRect(499, 499, 12, 12);
+        verify(context, times(3)).fill();
+        verify(scratchPad, times(1)).clear();
+    }
+
+    @Test
+    public void testBuildRendersChangedPath() {
+        when(partList.size()).thenReturn(1);
+        when(partList.get(0)).thenReturn(new PathPartEntryJSO(PathPartEntryJSO.LINETO_ABSOLUTE, new double[]{10, 0}));
+        final NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+
+        // Same bounds, different path.
+        when(partList.get(0)).thenReturn(new PathPartEntryJSO(PathPartEntryJSO.LINETO_ABSOLUTE, new double[]{0, 10}));
+        tested.build(shapes);
+        verify(context, times(1)).clip();
+        verify(context, times(2)).clearRect(-1, -1, 12, 12);
+        verify(context, times(2)).fill();
+
+        tested.build(shapes);
+        verify(context, times(1)).clip();
+    }
+
+    @Test
+    public void testBuildWithShapesToSkip() {
+        final WiresShape other = mockShape(new Point2D(500, 500));
+        final NFastArrayList<WiresShape> shapes = shapes(shape, other);
+        final NFastArrayList<WiresContainer> shapesToSkip = new NFastArrayList<>();
+        shapesToSkip.add(other);
+        tested.build(shapes, shapesToSkip);
+        verify(context, times(1)).fill();
+        assertTrue(tested.isBuiltWith(shapesToSkip));
+        assertFalse(tested.isBuiltWith(tested.getPickerOptions().getShapesToSkip()));
+
+        tested.build(shapes);
+        verify(context, times(2)).fill();
+        assertFalse(tested.isBuiltWith(shapesToSkip));
+        verify(scratchPad, times(1)).clear();
+
+        tested.clear();
+        assertFalse(tested.isBuiltWith(tested.getPickerOptions().getShapesToSkip()));
+    }
+
+    @Test
+    public void testReleaseMaskKeepsColorMap() {
+        final WiresShape other = mockShape(new Point2D(500, 500));
+        final NFastArrayList<WiresShape> shapes = shapes(shape, other);
+        final NFastArrayList<WiresContainer> shapesToSkip = new NFastArrayList<>();
+        shapesToSkip.add(other);
+        tested.build(shapes, shapesToSkip);
+        verify(context, times(1)).fill();
+
+        tested.releaseMask();
+        assertFalse(tested.isBuiltWith(shapesToSkip));
+        shapesToSkip.clear();
+        tested.build(shapes, shapesToSkip);
+        // Only the shape that is not skipped anymore is drawn.
+        verify(scratchPad, times(1)).clear();
+        verify(context).clearRect(499, 499, 12, 12);
+        verify(context, times(2)).fill();
+        assertTrue(tested.isBuiltWith(shapesToSkip));
+
+        tested.releaseMask();
+        tested.build(shapes, shapesToSkip);
+        verify(scratchPad, times(1)).clear();
+        verify(context, times(2)).fill();
+    }
+
+    @Test
+    public void testSetPixelSizeRebuilds() {
+        final NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+        tested.setPixelSize(0, 0);
+        tested.build(shapes);
+        verify(scratchPad, times(1)).clear();
+
+        tested.setPixelSize(100, 200);
+        verify(scratchPad).setPixelSize(100, 200);
+        tested.build(shapes);
+        verify(scratchPad, times(2)).clear();
+        verify(context, times(2)).fill();
+    }
+
+    @Test
+    public void testClear() {
+        final NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+        tested.clear();
+        assertNull(tested.findShapeAt(X, Y));
+        tested.build(shapes);
+        verify(scratchPad, times(3)).clear();
+        verify(context, times(2)).fill();
+    }
+
+    private static NFastArrayList<WiresShape> shapes(final WiresShape... shapes) {
+        final NFastArrayList<WiresShape> list = new NFastArrayList<>();
+        for (WiresShape shape : shapes) {
+            list.add(shape);
+        }
+        return list;
+    }
+
+    private WiresShape mockShape(final Point2D location) {
+        final WiresShape other = mock(WiresShape.class);
+        final MultiPath otherPath = mock(MultiPath.class);
+        final NFastArrayList<PathPartList> pathPartList = new NFastArrayList<>();
+        pathPartList.add(partList);
+        when(other.getPath()).thenReturn(otherPath);
+        when(otherPath.getActualPathPartListArray()).thenReturn(pathPartList);
+        when(otherPath.getComputedLocation()).thenReturn(location);
+        when(otherPath.getBoundingBox()).thenReturn(BoundingBox.fromDoubles(0, 0, 10, 10));
+        return other;
+    }
+}
@@ -328,6 +328,29 @@ public interface GridData {
      */
     int getVisibleHeight();
 
+    /**
+     * Returns the y-offset of a row relative to the first row; i.e. the sum of the heights of the preceding rows.
+     * @param rowIndex The index of the row. Indexes past the last row return the height of all rows.
+     * @return
+     */
+    double getRowOffset(final int rowIndex);
+
+    /**
+     * Returns the index of the row containing a y-offset relative to the first row.
+     * @param offset The y-offset.
+     * @return The row index, or the number of rows if the offset is below the last row.
+     */
+    int getRowIndexAt(final double offset);
+
+    /**
+     * Updates the row offsets with the current height of the rows whose height follows their content; see
+     * {@link GridRow#hasDynamicHeight()}. Row offsets follow mutations made through GridData and
+     * {@link GridRow#setHeight(double)}, however the height of other rows can change without either.
+     * Renderers call this with the heights they read.
+     * @param rowHeights The height of each row.
+     */
+    void refreshRowOffsets(final List<Double> rowHeights);
+
     /**
      * A range of rows.
      */
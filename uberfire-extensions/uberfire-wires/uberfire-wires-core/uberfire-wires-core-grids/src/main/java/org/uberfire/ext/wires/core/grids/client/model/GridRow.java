@@ -41,6 +41,15 @@ public interface GridRow {
      */
     double peekHeight();
 
+    /**
+     * Returns whether the height of the row follows its content, rather than being set with {@link #setHeight(double)}.
+     * The row offsets of {@link GridData} read the height of such rows again each time the grid is rendered.
+     * @return true if the height of the row follows its content.
+     */
+    default boolean hasDynamicHeight() {
+        return false;
+    }
+
     /**
      * Returns the cells within the row. This is an sparse map of column index to value.
      * Empty cells do not have an entry within the map. Empty cells should be considered
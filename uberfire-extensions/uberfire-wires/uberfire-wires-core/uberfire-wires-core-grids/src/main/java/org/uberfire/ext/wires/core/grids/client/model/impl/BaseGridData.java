@@ -137,6 +137,7 @@ public class BaseGridData implements GridData {
 
         internalRefreshWidth(true, OptionalDouble.empty());
 
+        indexManager.onRowsChanged();
         selectionsManager.onDeleteColumn(index);
     }
 
@@ -198,6 +199,8 @@ public class BaseGridData implements GridData {
     @Override
     public void appendRow(final GridRow row) {
         this.rows.add(row);
+
+        indexManager.onRowsChanged();
     }
 
     @Override
@@ -288,6 +291,24 @@ public class BaseGridData implements GridData {
         return rows.size();
     }
 
+    @Override
+    public double getRowOffset(final int rowIndex) {
+        if (rowIndex <= 0) {
+            return 0;
+        }
+        return indexManager.getRowOffset(rowIndex);
+    }
+
+    @Override
+    public int getRowIndexAt(final double offset) {
+        return indexManager.getRowIndexAt(offset);
+    }
+
+    @Override
+    public void refreshRowOffsets(final List<Double> rowHeights) {
+        indexManager.onRefreshRowHeights(rowHeights);
+    }
+
     @Override
     public int getHeaderRowCount() {
         int headerRowCount = this.headerRowCount;
@@ -354,6 +375,8 @@ public class BaseGridData implements GridData {
         for (GridRow row : rows) {
             ((BaseGridRow) row).deleteCell(column.getIndex());
         }
+
+        indexManager.onRowsChanged();
     }
 
     @Override
@@ -431,6 +454,7 @@ public class BaseGridData implements GridData {
         if (!isMerged) {
             ((BaseGridRow) rows.get(rowIndex)).setCell(_columnIndex,
                                                        cellSupplier.apply(new AbstractMap.SimpleEntry<>(rowIndex, columnIndex)));
+            indexManager.onRowsChanged();
             return new Range(rowIndex);
         }
 
@@ -470,6 +494,7 @@ public class BaseGridData implements GridData {
         //If we're not merged just set the value of a single cell
         if (!isMerged) {
             ((BaseGridRow) rows.get(rowIndex)).deleteCell(_columnIndex);
+            indexManager.onRowsChanged();
             return new Range(rowIndex);
         }
 
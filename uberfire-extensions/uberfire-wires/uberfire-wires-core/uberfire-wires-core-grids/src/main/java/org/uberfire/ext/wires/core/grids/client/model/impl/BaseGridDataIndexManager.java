@@ -16,6 +16,7 @@
 
 package org.uberfire.ext.wires.core.grids.client.model.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.uberfire.ext.wires.core.grids.client.model.GridCell;
@@ -24,17 +25,61 @@ import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
 
 /**
- * Helper class that manages "merge" and "group" meta-data following different mutations to {@link GridData}
+ * Helper class that manages "merge" and "group" meta-data, and the row offsets, following different mutations to {@link GridData}
  */
 public class BaseGridDataIndexManager {
 
     private final GridData gridData;
+    private final RowOffsetIndex rowOffsetIndex = new RowOffsetIndex();
+    private final List<Integer> dynamicHeightRowIndexes = new ArrayList<>();
+    private boolean isRowOffsetIndexValid = false;
 
     public BaseGridDataIndexManager(final GridData gridData) {
         this.gridData = gridData;
     }
 
+    //Row offsets are rebuilt when next needed following mutations that can change the number, order or height of rows,
+    //including BaseGridRow.setHeight(..). Only rows whose height follows their content are read again when rendered.
+    public void onRowsChanged() {
+        isRowOffsetIndexValid = false;
+    }
+
+    public void onRefreshRowHeights(final List<Double> rowHeights) {
+        final RowOffsetIndex rowOffsetIndex = getRowOffsetIndex();
+        for (int rowIndex : dynamicHeightRowIndexes) {
+            rowOffsetIndex.setHeight(rowIndex,
+                                     rowHeights.get(rowIndex));
+        }
+    }
+
+    public double getRowOffset(final int rowIndex) {
+        return getRowOffsetIndex().getOffset(rowIndex);
+    }
+
+    public int getRowIndexAt(final double offset) {
+        return getRowOffsetIndex().getIndexAt(offset);
+    }
+
+    private RowOffsetIndex getRowOffsetIndex() {
+        if (!isRowOffsetIndexValid) {
+            final List<GridRow> rows = gridData.getRows();
+            rowOffsetIndex.rebuild(rows);
+            dynamicHeightRowIndexes.clear();
+            for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+                final GridRow row = rows.get(rowIndex);
+                if (row instanceof BaseGridRow && !row.hasDynamicHeight()) {
+                    ((BaseGridRow) row).setIndexManager(this);
+                } else {
+                    dynamicHeightRowIndexes.add(rowIndex);
+                }
+            }
+            isRowOffsetIndexValid = true;
+        }
+        return rowOffsetIndex;
+    }
+
     public void onMerge(final boolean isMerged) {
+        onRowsChanged();
         if (isMerged) {
             fullIndex();
         } else {
@@ -105,6 +150,7 @@ public class BaseGridDataIndexManager {
     }
 
     public void onInsertRow(final int rowIndex) {
+        onRowsChanged();
         if (!gridData.isMerged()) {
             return;
         }
@@ -124,6 +170,7 @@ public class BaseGridDataIndexManager {
     }
 
     public void onDeleteRow(final GridData.Range range) {
+        onRowsChanged();
         if (!gridData.isMerged()) {
             return;
         }
@@ -180,6 +227,7 @@ public class BaseGridDataIndexManager {
 
     public void onSetCell(final GridData.Range range,
                           final int columnIndex) {
+        onRowsChanged();
         final int minRowIndex = range.getMinRowIndex();
         updateMergeMetaData(minRowIndex,
                             columnIndex);
@@ -187,6 +235,7 @@ public class BaseGridDataIndexManager {
 
     public void onDeleteCell(final GridData.Range range,
                              final int columnIndex) {
+        onRowsChanged();
         final int minRowIndex = range.getMinRowIndex();
         final int maxRowIndex = range.getMaxRowIndex();
         for (int i = minRowIndex; i <= maxRowIndex; i++) {
@@ -200,6 +249,7 @@ public class BaseGridDataIndexManager {
 
     public void onCollapseCell(final int rowIndex,
                                final int columnIndex) {
+        onRowsChanged();
         int minRowIndex = rowIndex;
         int maxRowIndex = rowIndex + 1;
         final List<GridRow> rows = gridData.getRows();
@@ -486,6 +536,7 @@ public class BaseGridDataIndexManager {
 
     public void onExpandCell(final int rowIndex,
                              final int columnIndex) {
+        onRowsChanged();
         int minRowIndex = rowIndex;
         int maxRowIndex = rowIndex + 1;
         final List<GridRow> rows = gridData.getRows();
@@ -585,6 +636,7 @@ public class BaseGridDataIndexManager {
 
     public void onMoveRows(final List<GridRow> rowsMoved,
                            final GridData.Range oldBlockExtent) {
+        onRowsChanged();
         if (!gridData.isMerged()) {
             return;
         }
@@ -34,6 +34,7 @@ public class BaseGridRow implements GridRow {
     private boolean hasMergedCells = false;
     private Stack<Double> heights = new Stack<Double>();
     private int collapseLevel = 0;
+    private BaseGridDataIndexManager indexManager;
 
     public BaseGridRow() {
         this(20);
@@ -56,7 +57,10 @@ public class BaseGridRow implements GridRow {
 
     @Override
     public void setHeight(final double height) {
-        this.height = height;
+        if (this.height != height) {
+            this.height = height;
+            onHeightChanged();
+        }
     }
 
     @Override
@@ -90,6 +94,7 @@ public class BaseGridRow implements GridRow {
         }
         collapseLevel--;
         height = heights.pop();
+        onHeightChanged();
         for (GridCell<?> cell : cells.values()) {
             cell.expand();
         }
@@ -102,11 +107,18 @@ public class BaseGridRow implements GridRow {
         height = heights.firstElement();
         heights.clear();
         heights.push(height);
+        onHeightChanged();
         for (GridCell<?> cell : cells.values()) {
             cell.reset();
         }
     }
 
+    private void onHeightChanged() {
+        if (indexManager != null) {
+            indexManager.onRowsChanged();
+        }
+    }
+
     //This is not part of the GridCell interface as we don't want to expose this for general use
     @SuppressWarnings("unchecked")
     void setCell(final int columnIndex,
@@ -120,6 +132,11 @@ public class BaseGridRow implements GridRow {
         cells.remove(columnIndex);
     }
 
+    //This is not part of the GridCell interface as we don't want to expose this for general use
+    void setIndexManager(final BaseGridDataIndexManager indexManager) {
+        this.indexManager = indexManager;
+    }
+
     //This is not part of the GridCell interface as we don't want to expose this for general use
     void setHasMergedCells(final boolean hasMergedCells) {
         this.hasMergedCells = hasMergedCells;
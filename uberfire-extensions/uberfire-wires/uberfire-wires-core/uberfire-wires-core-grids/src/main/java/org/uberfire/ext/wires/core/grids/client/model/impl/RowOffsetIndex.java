@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.uberfire.ext.wires.core.grids.client.model.impl;
+
+import java.util.List;
+
+import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+
+/**
+ * Prefix sums of row heights held in a Fenwick tree, answering both "offset of row" and "row at offset"
+ * queries in O(log n). Changing the height of a single row is also O(log n); changing the number or
+ * order of rows requires the index to be rebuilt.
+ */
+public class RowOffsetIndex {
+
+    private double[] heights = new double[0];
+    private double[] tree = new double[1];
+    private int size = 0;
+
+    /**
+     * Rebuilds the index from the current heights of the given rows.
+     * @param rows The rows in the order they are rendered.
+     */
+    public void rebuild(final List<GridRow> rows) {
+        final int size = rows.size();
+        ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            heights[i] = rows.get(i).getHeight();
+        }
+        build(size);
+    }
+
+    /**
+     * Updates the height of a single row.
+     * @param rowIndex The index of the row.
+     * @param height The new height of the row.
+     */
+    public void setHeight(final int rowIndex,
+                          final double height) {
+        final double delta = height - heights[rowIndex];
+        if (delta == 0) {
+            return;
+        }
+        heights[rowIndex] = height;
+        for (int i = rowIndex + 1; i <= size; i += i & -i) {
+            tree[i] = tree[i] + delta;
+        }
+    }
+
+    /**
+     * Returns the number of rows indexed.
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the sum of the heights of the rows before the given index. Indexes past the last row
+     * return the height of all rows.
+     * @param rowIndex The index of the row.
+     * @return
+     */
+    public double getOffset(final int rowIndex) {
+        double offset = 0;
+        for (int i = Math.min(rowIndex, size); i > 0; i -= i & -i) {
+            offset = offset + tree[i];
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the index of the row containing the given offset; i.e. the first row whose bottom edge is
+     * not above the offset. Offsets past the last row return the number of rows.
+     * @param offset An offset relative to the top of the first row.
+     * @return
+     */
+    public int getIndexAt(final double offset) {
+        int rowIndex = 0;
+        double remaining = offset;
+        for (int step = Integer.highestOneBit(Math.max(size, 1)); step > 0; step >>= 1) {
+            final int next = rowIndex + step;
+            if (next <= size && tree[next] < remaining) {
+                rowIndex = next;
+                remaining = remaining - tree[next];
+            }
+        }
+        return rowIndex;
+    }
+
+    private void ensureCapacity(final int size) {
+        if (heights.length < size) {
+            heights = new double[Math.max(size, heights.length * 2)];
+            tree = new double[heights.length + 1];
+        }
+    }
+
+    private void build(final int size) {
+        this.size = size;
+        for (int i = 1; i <= size; i++) {
+            tree[i] = heights[i - 1];
+        }
+        for (int i = 1; i <= size; i++) {
+            final int parent = i + (i & -i);
+            if (parent <= size) {
+                tree[parent] = tree[parent] + tree[i];
+            }
+        }
+    }
+}
@@ -25,7 +25,6 @@ import com.google.gwt.dom.client.NativeEvent;
 import com.google.gwt.event.dom.client.DomEvent;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
-import org.uberfire.ext.wires.core.grids.client.model.GridRow;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.GridWidget;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
@@ -86,13 +85,8 @@ public class CoordinateUtilities {
         }
 
         //Get row index
-        GridRow row;
-        int uiRowIndex = 0;
-        double offsetY = relativeY - renderer.getHeaderHeight();
-        while ((row = gridModel.getRow(uiRowIndex)).getHeight() < offsetY) {
-            offsetY = offsetY - row.getHeight();
-            uiRowIndex++;
-        }
+        final double offsetY = relativeY - renderer.getHeaderHeight();
+        final int uiRowIndex = gridModel.getRowIndexAt(offsetY);
         if (uiRowIndex > gridModel.getRowCount() - 1) {
             return null;
         }
@@ -244,8 +244,12 @@ public class BaseGridWidget extends Group implements GridWidget {
 
     @Override
     public double getHeight() {
+        //Rows are summed rather than looked up in the row offsets as the height of a row can depend on
+        //that of a nested GridWidget that has not been rendered since it changed
         double height = renderer.getHeaderHeight();
-        height = height + rendererHelper.getRowOffset(model.getRowCount());
+        for (GridRow row : model.getRows()) {
+            height = height + row.getHeight();
+        }
         return height;
     }
 
@@ -18,6 +18,7 @@ package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.i
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import com.ait.lienzo.client.core.shape.BoundingBoxPathClipper;
 import com.ait.lienzo.client.core.shape.Group;
@@ -40,6 +41,39 @@ import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.Gri
 
 public abstract class BaseGridColumnRenderer<T> implements GridColumnRenderer<T> {
 
+    protected static final Function<GridRendererTheme, Text> BODY_TEXT = GridRendererTheme::getBodyText;
+
+    protected static final Function<GridRendererTheme, Text> PLACEHOLDER_TEXT = GridRendererTheme::getPlaceholderText;
+
+    private final CellPrimitivePool cellPrimitivePool = new CellPrimitivePool();
+
+    private boolean isVirtualized = false;
+
+    /**
+     * Returns whether cells are rendered with primitives recycled from a {@link CellPrimitivePool}.
+     * @return true if cell primitives are recycled.
+     */
+    public boolean isVirtualized() {
+        return isVirtualized;
+    }
+
+    /**
+     * Sets whether cells are rendered with primitives recycled from a {@link CellPrimitivePool}. Primitives are
+     * retained for the visible rows, plus an overscan, and recycled for rows scrolled into view. Renderers opting
+     * in must not retain references to the Groups they return, nor change them other than through this class.
+     * @param isVirtualized true if cell primitives are to be recycled.
+     */
+    public void setVirtualized(final boolean isVirtualized) {
+        this.isVirtualized = isVirtualized;
+        if (!isVirtualized) {
+            cellPrimitivePool.clear();
+        }
+    }
+
+    public CellPrimitivePool getCellPrimitivePool() {
+        return cellPrimitivePool;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<GridRenderer.RendererCommand> renderHeader(final List<GridColumn.HeaderMetaData> headerMetaData,
@@ -235,6 +269,10 @@ public abstract class BaseGridColumnRenderer<T> implements GridColumnRenderer<T>
                                                            final BaseGridRendererHelper rendererHelper,
                                                            final BaseGridRendererHelper.RenderingInformation renderingInformation,
                                                            final BiFunction<Boolean, GridColumn<?>, Boolean> columnRenderingConstraint) {
+        if (isVirtualized) {
+            cellPrimitivePool.setVisibleRows(context.getMinVisibleRowIndex(),
+                                             context.getMaxVisibleRowIndex());
+        }
         if (context.getModel().isMerged()) {
             return ColumnRenderingStrategyMerged.render(column,
                                                         context,
@@ -278,6 +316,68 @@ public abstract class BaseGridColumnRenderer<T> implements GridColumnRenderer<T>
         return g;
     }
 
+    /**
+     * Return the <code>Group</code> holding the <b>cell</b> data. When virtualized the <code>Group</code> and
+     * <code>Text</code> are recycled from the {@link CellPrimitivePool}, otherwise a new <code>Text</code> is
+     * created and rendered with {@link #internalRenderCell(GridCell, GridBodyCellRenderContext, Text, String)}.
+     *
+     * @param cell
+     * @param context
+     * @param textFactory creates the <code>Text</code> that will contain the data to show from the theme
+     * @param value       the String to show
+     * @return
+     */
+    protected Group internalRenderCell(final GridCell<T> cell,
+                                       final GridBodyCellRenderContext context,
+                                       final Function<GridRendererTheme, Text> textFactory,
+                                       final String value) {
+        final GridRendererTheme theme = context.getRenderer().getTheme();
+        if (!isVirtualized) {
+            return internalRenderCell(cell,
+                                      context,
+                                      textFactory.apply(theme),
+                                      value);
+        }
+        if (value == null) {
+            return null;
+        }
+
+        return internalRenderPooledCell(context,
+                                        textFactory,
+                                        value,
+                                        context.getCellWidth() / 2,
+                                        context.getCellHeight() / 2);
+    }
+
+    /**
+     * Return the <code>Group</code> holding the <b>cell</b> data, recycled from the {@link CellPrimitivePool}.
+     * Renderers whose cells are not centered use this when virtualized.
+     *
+     * @param context
+     * @param textFactory creates the <code>Text</code> that will contain the data to show from the theme
+     * @param value       the String to show
+     * @param x           the x-coordinate of the <code>Text</code> within the cell
+     * @param y           the y-coordinate of the <code>Text</code> within the cell
+     * @return
+     */
+    protected Group internalRenderPooledCell(final GridBodyCellRenderContext context,
+                                             final Function<GridRendererTheme, Text> textFactory,
+                                             final String value,
+                                             final double x,
+                                             final double y) {
+        final CellPrimitivePool.CellPrimitives primitives = cellPrimitivePool.acquire(context.getRowIndex(),
+                                                                                      context.getColumnIndex(),
+                                                                                      context.getRenderer().getTheme(),
+                                                                                      textFactory);
+        final Text text = primitives.getText();
+        text.setText(value);
+        text.setListening(false);
+        text.setX(x);
+        text.setY(y);
+
+        return primitives.getGroup();
+    }
+
     protected boolean isToReturnNull(final GridCell<T> cell) {
         return cell == null || cell.getValue() == null || (cell.getValue().getValue() == null && cell.getValue().getPlaceHolder() == null);
     }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.ait.lienzo.client.core.shape.Group;
+import com.ait.lienzo.client.core.shape.Text;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
+
+/**
+ * A pool of the primitives used to render the cells of the visible rows, plus an overscan either side. Cells
+ * keep their primitives whilst their row remains within the window; primitives of rows scrolled out of the
+ * window are recycled for the rows scrolled into it, so scrolling mutates existing primitives rather than
+ * allocating new ones.
+ */
+public class CellPrimitivePool {
+
+    public static final int DEFAULT_OVERSCAN = 10;
+
+    private final int overscan;
+    private final Map<Long, CellPrimitives> cells = new HashMap<>();
+    private final Deque<CellPrimitives> free = new ArrayDeque<>();
+    private int allocationCount = 0;
+
+    public CellPrimitivePool() {
+        this(DEFAULT_OVERSCAN);
+    }
+
+    public CellPrimitivePool(final int overscan) {
+        this.overscan = overscan;
+    }
+
+    /**
+     * Sets the rows being rendered. Primitives of cells in rows outside the range, plus overscan, are released
+     * for recycling. This marks the start of a new frame for the cells that remain.
+     * @param minVisibleRowIndex The first visible row.
+     * @param maxVisibleRowIndex The last visible row.
+     */
+    public void setVisibleRows(final int minVisibleRowIndex,
+                               final int maxVisibleRowIndex) {
+        final int minRowIndex = minVisibleRowIndex - overscan;
+        final int maxRowIndex = maxVisibleRowIndex + overscan;
+        final Iterator<CellPrimitives> itr = cells.values().iterator();
+        while (itr.hasNext()) {
+            final CellPrimitives primitives = itr.next();
+            primitives.isAcquired = false;
+            if (primitives.rowIndex < minRowIndex || primitives.rowIndex > maxRowIndex) {
+                itr.remove();
+                free.push(primitives);
+            }
+        }
+    }
+
+    /**
+     * Returns the primitives for a cell. Primitives previously acquired for the cell are reused, otherwise
+     * released primitives are recycled before new ones are allocated. A cell acquired more than once in the same
+     * frame (e.g. when rendered on both the main and selection layers) is given new primitives that are not pooled.
+     * @param rowIndex The index of the cell's row.
+     * @param columnIndex The index of the cell's column.
+     * @param theme The theme from which the cell's Text is created.
+     * @param textFactory Creates the cell's Text from the theme.
+     * @return
+     */
+    public CellPrimitives acquire(final int rowIndex,
+                                  final int columnIndex,
+                                  final GridRendererTheme theme,
+                                  final Function<GridRendererTheme, Text> textFactory) {
+        final Long key = getKey(rowIndex,
+                                columnIndex);
+        CellPrimitives primitives = cells.get(key);
+        if (primitives != null && primitives.isAcquired) {
+            primitives = new CellPrimitives(newGroup());
+        } else {
+            if (primitives == null) {
+                primitives = free.isEmpty() ? new CellPrimitives(newGroup()) : free.pop();
+                cells.put(key,
+                          primitives);
+            }
+            primitives.isAcquired = true;
+        }
+        primitives.rowIndex = rowIndex;
+        if (primitives.text == null || primitives.theme != theme || primitives.textFactory != textFactory) {
+            if (primitives.text != null) {
+                primitives.group.remove(primitives.text);
+            }
+            primitives.text = newText(theme,
+                                      textFactory);
+            primitives.theme = theme;
+            primitives.textFactory = textFactory;
+            primitives.group.add(primitives.text);
+        }
+        return primitives;
+    }
+
+    /**
+     * Releases all primitives.
+     */
+    public void clear() {
+        cells.clear();
+        free.clear();
+    }
+
+    /**
+     * Returns the number of Groups and Texts allocated by this pool.
+     * @return
+     */
+    public int getAllocationCount() {
+        return allocationCount;
+    }
+
+    /**
+     * Returns the number of cells holding primitives.
+     * @return
+     */
+    public int size() {
+        return cells.size();
+    }
+
+    private Group newGroup() {
+        allocationCount++;
+        return new Group();
+    }
+
+    private Text newText(final GridRendererTheme theme,
+                         final Function<GridRendererTheme, Text> textFactory) {
+        allocationCount++;
+        return textFactory.apply(theme);
+    }
+
+    private static Long getKey(final int rowIndex,
+                               final int columnIndex) {
+        return ((long) columnIndex << 32) | (rowIndex & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The primitives rendering a single cell; a Group containing a Text.
+     */
+    public static class CellPrimitives {
+
+        private final Group group;
+        private Text text;
+        private GridRendererTheme theme;
+        private Function<GridRendererTheme, Text> textFactory;
+        private int rowIndex;
+        private boolean isAcquired;
+
+        private CellPrimitives(final Group group) {
+            this.group = group;
+        }
+
+        public Group getGroup() {
+            return group;
+        }
+
+        public Text getText() {
+            return text;
+        }
+    }
+}
@@ -15,11 +15,12 @@
  */
 package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.impl;
 
+import java.util.function.Function;
+
 import com.ait.lienzo.client.core.shape.Group;
 import com.ait.lienzo.client.core.shape.Text;
 import org.uberfire.ext.wires.core.grids.client.model.GridCell;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyCellRenderContext;
-import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
 
 public class IntegerColumnRenderer extends BaseGridColumnRenderer<Integer> {
@@ -31,23 +32,20 @@ public class IntegerColumnRenderer extends BaseGridColumnRenderer<Integer> {
             return null;
         }
 
-        final GridRenderer renderer = context.getRenderer();
-        final GridRendererTheme theme = renderer.getTheme();
-
-        Text text;
+        Function<GridRendererTheme, Text> textFactory;
         String value;
 
         if (isPlaceHolderToBeShown(cell)) {
-            text = theme.getPlaceholderText();
+            textFactory = PLACEHOLDER_TEXT;
             value = cell.getValue().getPlaceHolder();
         } else {
-            text = theme.getBodyText();
+            textFactory = BODY_TEXT;
             value = cell.getValue() != null ? Integer.toString(cell.getValue().getValue()) : null;
         }
 
         return internalRenderCell(cell,
                                   context,
-                                  text,
+                                  textFactory,
                                   value);
     }
 }
@@ -106,18 +106,14 @@ public class BaseGridRendererHelper {
     }
 
     /**
-     * Get the y-offset for a given Row index.
+     * Get the y-offset for a given Row index. Offsets are looked up in the model's row offsets that
+     * are refreshed each time {@link #getRenderingInformation()} reads the height of the rows.
      * @param rowIndex The index of the GridRow.
      * @return
      */
     public double getRowOffset(final int rowIndex) {
-        double rowOffset = 0;
         final GridData model = view.getModel();
-        for (int i = 0; i < rowIndex; i++) {
-            final GridRow row = model.getRow(i);
-            rowOffset = rowOffset + row.getHeight();
-        }
-        return rowOffset;
+        return model.getRowOffset(rowIndex);
     }
 
     public double getRowOffset(final GridRow row,
@@ -171,6 +167,7 @@ public class BaseGridRendererHelper {
             viewHeight = viewHeight + rowHeight;
             rowHeights.add(rowHeight);
         }
+        model.refreshRowOffsets(rowHeights);
 
         final double vpX = bounds.getX();
         final double vpY = bounds.getY();
@@ -217,20 +214,17 @@ public class BaseGridRendererHelper {
 
         int minVisibleRowIndex = 0;
         if (model.getRowCount() > 0) {
-            double clipTop = vpY - view.getComputedLocation().getY() - (isFloatingHeader ? 0.0 : renderer.getHeaderHeight());
-            while (rowHeights.get(minVisibleRowIndex) < clipTop && minVisibleRowIndex < rowCount - 1) {
-                clipTop = clipTop - rowHeights.get(minVisibleRowIndex);
-                minVisibleRowIndex++;
-            }
+            final double clipTop = vpY - view.getComputedLocation().getY() - (isFloatingHeader ? 0.0 : renderer.getHeaderHeight());
+            minVisibleRowIndex = Math.min(model.getRowIndexAt(clipTop),
+                                          rowCount - 1);
         }
 
         int maxVisibleRowIndex = minVisibleRowIndex;
         if (model.getRowCount() > 0) {
-            double clipBottom = vpY - view.getComputedLocation().getY() - renderer.getHeaderHeight() + vpHeight - getRowOffset(minVisibleRowIndex, rowHeights);
-            while (rowHeights.get(maxVisibleRowIndex) < clipBottom && maxVisibleRowIndex < rowCount - 1) {
-                clipBottom = clipBottom - rowHeights.get(maxVisibleRowIndex);
-                maxVisibleRowIndex++;
-            }
+            final double clipBottom = vpY - view.getComputedLocation().getY() - renderer.getHeaderHeight() + vpHeight;
+            maxVisibleRowIndex = Math.max(minVisibleRowIndex,
+                                          Math.min(model.getRowIndexAt(clipBottom),
+                                                   rowCount - 1));
         }
         log(LOGGER, " - Post- identify rows to render", currentTimeMillis);
 
@@ -282,7 +276,7 @@ public class BaseGridRendererHelper {
         log(LOGGER, " - Post- identify columns to render", currentTimeMillis);
 
         //Construct details of Floating and Body blocks
-        double visibleRowOffset = getRowOffset(minVisibleRowIndex, rowHeights);
+        double visibleRowOffset = model.getRowOffset(minVisibleRowIndex);
         final double bodyOffsetY = visibleRowOffset + renderer.getHeaderHeight();
         final double offsetX = (bodyColumns.size() > 0 ? getColumnOffset(bodyColumns.get(0)) : 0);
         final double floatingOffsetX = getFloatingColumnOffset();
@@ -485,6 +485,97 @@ public class BaseGridDataTest {
         assertEquals(minWidth, column4.getWidth(), 0.1);
     }
 
+    @Test
+    public void getRowOffsetFollowsRowMutations() {
+        final BaseGridRow row0 = new BaseGridRow(10.0);
+        final BaseGridRow row1 = new BaseGridRow(20.0);
+        final BaseGridRow row2 = new BaseGridRow(30.0);
+        baseGridData.appendRow(row0);
+        baseGridData.appendRow(row2);
+
+        assertEquals(0.0, baseGridData.getRowOffset(0), 0.0);
+        assertEquals(10.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(40.0, baseGridData.getRowOffset(2), 0.0);
+
+        baseGridData.insertRow(1, row1);
+        assertEquals(30.0, baseGridData.getRowOffset(2), 0.0);
+        assertEquals(60.0, baseGridData.getRowOffset(3), 0.0);
+
+        baseGridData.moveRowTo(0, row2);
+        assertEquals(30.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(40.0, baseGridData.getRowOffset(2), 0.0);
+
+        baseGridData.deleteRow(0);
+        assertEquals(10.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(30.0, baseGridData.getRowOffset(2), 0.0);
+    }
+
+    @Test
+    public void getRowIndexAt() {
+        baseGridData.appendRow(new BaseGridRow(10.0));
+        baseGridData.appendRow(new BaseGridRow(20.0));
+        baseGridData.appendRow(new BaseGridRow(30.0));
+
+        assertEquals(0, baseGridData.getRowIndexAt(0.0));
+        assertEquals(0, baseGridData.getRowIndexAt(10.0));
+        assertEquals(1, baseGridData.getRowIndexAt(10.5));
+        assertEquals(2, baseGridData.getRowIndexAt(60.0));
+        assertEquals(3, baseGridData.getRowIndexAt(60.5));
+    }
+
+    @Test
+    public void getRowOffsetFollowsRowHeight() {
+        final BaseGridRow row0 = new BaseGridRow(10.0);
+        baseGridData.appendRow(row0);
+        baseGridData.appendRow(new BaseGridRow(20.0));
+        assertEquals(30.0, baseGridData.getRowOffset(2), 0.0);
+
+        row0.setHeight(50.0);
+
+        assertEquals(50.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(70.0, baseGridData.getRowOffset(2), 0.0);
+        assertEquals(1, baseGridData.getRowIndexAt(51.0));
+    }
+
+    @Test
+    public void refreshRowOffsetsReadsDynamicHeightRows() {
+        final BaseGridRow row0 = new BaseGridRow(10.0);
+        final DynamicHeightGridRow row1 = new DynamicHeightGridRow(20.0);
+        baseGridData.appendRow(row0);
+        baseGridData.appendRow(row1);
+        baseGridData.appendRow(new BaseGridRow(30.0));
+        assertEquals(60.0, baseGridData.getRowOffset(3), 0.0);
+
+        row1.contentHeight = 40.0;
+        assertEquals(60.0, baseGridData.getRowOffset(3), 0.0);
+
+        //Only the rows whose height follows their content are read from the given heights
+        baseGridData.refreshRowOffsets(Arrays.asList(99.0, 40.0, 99.0));
+
+        assertEquals(10.0, baseGridData.getRowOffset(1), 0.0);
+        assertEquals(50.0, baseGridData.getRowOffset(2), 0.0);
+        assertEquals(80.0, baseGridData.getRowOffset(3), 0.0);
+    }
+
+    static class DynamicHeightGridRow extends BaseGridRow {
+
+        double contentHeight;
+
+        DynamicHeightGridRow(final double contentHeight) {
+            this.contentHeight = contentHeight;
+        }
+
+        @Override
+        public double getHeight() {
+            return contentHeight;
+        }
+
+        @Override
+        public boolean hasDynamicHeight() {
+            return true;
+        }
+    }
+
     static class CustomGridCell<T> extends BaseGridCell<T> {
 
         public CustomGridCell(final GridCellValue<T> value) {
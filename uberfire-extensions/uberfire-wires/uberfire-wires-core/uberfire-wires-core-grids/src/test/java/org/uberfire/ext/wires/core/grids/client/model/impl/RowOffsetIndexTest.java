@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.uberfire.ext.wires.core.grids.client.model.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+
+import static org.junit.Assert.assertEquals;
+
+public class RowOffsetIndexTest {
+
+    private final RowOffsetIndex index = new RowOffsetIndex();
+
+    @Test
+    public void testEmpty() {
+        index.rebuild(new ArrayList<>());
+
+        assertEquals(0, index.size());
+        assertEquals(0.0, index.getOffset(0), 0.0);
+        assertEquals(0, index.getIndexAt(0.0));
+        assertEquals(0, index.getIndexAt(100.0));
+    }
+
+    @Test
+    public void testRebuild() {
+        index.rebuild(rows(10.0, 20.0, 30.0));
+
+        assertEquals(3, index.size());
+        assertEquals(0.0, index.getOffset(0), 0.0);
+        assertEquals(10.0, index.getOffset(1), 0.0);
+        assertEquals(30.0, index.getOffset(2), 0.0);
+        assertEquals(60.0, index.getOffset(3), 0.0);
+        assertEquals(60.0, index.getOffset(4), 0.0);
+    }
+
+    @Test
+    public void testGetIndexAt() {
+        index.rebuild(rows(10.0, 0.0, 20.0));
+
+        assertEquals(0, index.getIndexAt(-5.0));
+        assertEquals(0, index.getIndexAt(0.0));
+        assertEquals(0, index.getIndexAt(10.0));
+        assertEquals(2, index.getIndexAt(10.5));
+        assertEquals(2, index.getIndexAt(30.0));
+        assertEquals(3, index.getIndexAt(30.5));
+    }
+
+    @Test
+    public void testSetHeight() {
+        index.rebuild(rows(10.0, 20.0, 30.0));
+
+        index.setHeight(1,
+                        5.0);
+
+        assertEquals(15.0, index.getOffset(2), 0.0);
+        assertEquals(45.0, index.getOffset(3), 0.0);
+        assertEquals(2, index.getIndexAt(15.5));
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        final Random random = new Random(0);
+        final List<Double> heights = new ArrayList<>();
+        final List<GridRow> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            heights.add((double) random.nextInt(4) * 10);
+            rows.add(new BaseGridRow(heights.get(i)));
+        }
+        index.rebuild(rows);
+        for (int i = 0; i < 100; i++) {
+            final int rowIndex = random.nextInt(heights.size());
+            heights.set(rowIndex,
+                        (double) random.nextInt(4) * 10);
+            index.setHeight(rowIndex,
+                            heights.get(rowIndex));
+        }
+
+        double offset = 0;
+        for (int i = 0; i < heights.size(); i++) {
+            assertEquals(offset, index.getOffset(i), 0.0);
+            if (heights.get(i) > 0) {
+                assertEquals(i, index.getIndexAt(offset + 1));
+                assertEquals(i, index.getIndexAt(offset + heights.get(i)));
+            }
+            offset = offset + heights.get(i);
+        }
+        assertEquals(heights.size(), index.getIndexAt(offset + 1));
+    }
+
+    private static List<GridRow> rows(final double... heights) {
+        final List<GridRow> rows = new ArrayList<>();
+        for (double height : heights) {
+            rows.add(new BaseGridRow(height));
+        }
+        return rows;
+    }
+}
@@ -37,7 +37,6 @@ import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridData;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyCellRenderContext;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridHeaderColumnRenderContext;
-import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.GridColumnRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl.BaseGridRendererHelper;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
@@ -45,7 +44,9 @@ import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.Gri
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
@@ -53,7 +54,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(LienzoMockitoTestRunner.class)
-public abstract class BaseColumnRendererTest<T, R extends GridColumnRenderer<T>> {
+public abstract class BaseColumnRendererTest<T, R extends BaseGridColumnRenderer<T>> {
 
     private static final String TITLE = "title";
 
@@ -200,6 +201,66 @@ public abstract class BaseColumnRendererTest<T, R extends GridColumnRenderer<T>>
         verify(placeHolderText, times(1)).setText(eq(PLACEHOLDER));
     }
 
+    @Test
+    public void testRenderingVirtualized() {
+        doReturn(cellValue).when(cell).getValue();
+        doReturn(getValueToRender()).when(cellValue).getValue();
+        renderer.setVirtualized(true);
+
+        renderer.getCellPrimitivePool().setVisibleRows(0, 0);
+        final Group g1 = renderer.renderCell(cell, context);
+        assertNotNull(g1);
+        assertEquals(1,
+                     g1.getChildNodes().size());
+        assertEquals(text,
+                     g1.getChildNodes().get(0));
+
+        //Same row in the next frame reuses the primitives
+        renderer.getCellPrimitivePool().setVisibleRows(0, 0);
+        assertSame(g1, renderer.renderCell(cell, context));
+
+        //Rows scrolled into view recycle the primitives of rows scrolled out of view
+        renderer.getCellPrimitivePool().setVisibleRows(100, 100);
+        when(context.getRowIndex()).thenReturn(100);
+        assertSame(g1, renderer.renderCell(cell, context));
+
+        verify(theme, times(1)).getBodyText();
+        verify(text, times(3)).setText(eq(String.valueOf(getValueToRender())));
+    }
+
+    @Test
+    public void testRenderingVirtualizedPlaceHolder() {
+        doReturn(cellValue).when(cell).getValue();
+        doReturn(getValueToRender()).when(cellValue).getValue();
+        renderer.setVirtualized(true);
+
+        renderer.getCellPrimitivePool().setVisibleRows(0, 0);
+        final Group g1 = renderer.renderCell(cell, context);
+
+        doReturn(null).when(cellValue).getValue();
+        doReturn(PLACEHOLDER).when(cellValue).getPlaceHolder();
+        renderer.getCellPrimitivePool().setVisibleRows(0, 0);
+        final Group g2 = renderer.renderCell(cell, context);
+
+        assertSame(g1, g2);
+        assertEquals(1,
+                     g2.getChildNodes().size());
+        assertEquals(placeHolderText,
+                     g2.getChildNodes().get(0));
+        verify(placeHolderText, times(1)).setText(eq(PLACEHOLDER));
+    }
+
+    @Test
+    public void testRenderingNotVirtualized() {
+        doReturn(cellValue).when(cell).getValue();
+        doReturn(getValueToRender()).when(cellValue).getValue();
+
+        assertNotSame(renderer.renderCell(cell, context),
+                      renderer.renderCell(cell, context));
+        assertEquals(0,
+                     renderer.getCellPrimitivePool().size());
+    }
+
     @Test
     public void testRenderHeader() {
         final List<GridRenderer.RendererCommand> commands = renderer.renderHeader(Collections.singletonList(headerMetaData),
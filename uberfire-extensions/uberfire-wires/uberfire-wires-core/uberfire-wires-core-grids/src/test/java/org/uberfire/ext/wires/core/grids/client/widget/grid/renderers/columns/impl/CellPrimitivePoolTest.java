@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.impl;
+
+import com.ait.lienzo.client.core.shape.Text;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.impl.CellPrimitivePool.CellPrimitives;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class CellPrimitivePoolTest {
+
+    private static final int OVERSCAN = 2;
+
+    @Mock
+    private GridRendererTheme theme;
+
+    private CellPrimitivePool pool;
+
+    @Before
+    public void setup() {
+        this.pool = new CellPrimitivePool(OVERSCAN);
+
+        when(theme.getBodyText()).thenAnswer(i -> new Text(""));
+        when(theme.getPlaceholderText()).thenAnswer(i -> new Text(""));
+    }
+
+    @Test
+    public void testAcquireReusesPrimitivesOfCell() {
+        pool.setVisibleRows(0, 0);
+        final CellPrimitives primitives = pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT);
+
+        pool.setVisibleRows(0, 0);
+        assertSame(primitives, pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT));
+        assertNotSame(primitives, pool.acquire(0, 1, theme, BaseGridColumnRenderer.BODY_TEXT));
+
+        assertEquals(1, primitives.getGroup().getChildNodes().size());
+        assertSame(primitives.getText(), primitives.getGroup().getChildNodes().get(0));
+        assertEquals(4, pool.getAllocationCount());
+        verify(theme, times(2)).getBodyText();
+    }
+
+    @Test
+    public void testAcquireTwiceInSameFrame() {
+        pool.setVisibleRows(0, 0);
+        final CellPrimitives primitives = pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT);
+
+        final CellPrimitives duplicate = pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT);
+        assertNotSame(primitives, duplicate);
+        assertNotSame(primitives.getText(), duplicate.getText());
+        assertEquals(1, pool.size());
+
+        pool.setVisibleRows(0, 0);
+        assertSame(primitives, pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT));
+    }
+
+    @Test
+    public void testSetVisibleRowsRetainsOverscan() {
+        pool.setVisibleRows(0, 0);
+        final CellPrimitives primitives = pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT);
+
+        pool.setVisibleRows(OVERSCAN, OVERSCAN);
+        assertEquals(1, pool.size());
+        assertSame(primitives, pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT));
+
+        pool.setVisibleRows(OVERSCAN + 1, OVERSCAN + 1);
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testReleasedPrimitivesAreRecycled() {
+        pool.setVisibleRows(0, 0);
+        final CellPrimitives primitives = pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT);
+        final Text text = primitives.getText();
+
+        pool.setVisibleRows(100, 100);
+        final CellPrimitives recycled = pool.acquire(100, 0, theme, BaseGridColumnRenderer.BODY_TEXT);
+
+        assertSame(primitives, recycled);
+        assertSame(text, recycled.getText());
+        assertEquals(2, pool.getAllocationCount());
+    }
+
+    @Test
+    public void testTextIsRecreatedWhenFactoryChanges() {
+        pool.setVisibleRows(0, 0);
+        final CellPrimitives primitives = pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT);
+        final Text text = primitives.getText();
+
+        pool.setVisibleRows(0, 0);
+        pool.acquire(0, 0, theme, BaseGridColumnRenderer.PLACEHOLDER_TEXT);
+
+        assertNotSame(text, primitives.getText());
+        assertEquals(1, primitives.getGroup().getChildNodes().size());
+        assertSame(primitives.getText(), primitives.getGroup().getChildNodes().get(0));
+        verify(theme).getPlaceholderText();
+    }
+
+    @Test
+    public void testTextIsRecreatedWhenThemeChanges() {
+        final GridRendererTheme otherTheme = mock(GridRendererTheme.class);
+        when(otherTheme.getBodyText()).thenAnswer(i -> new Text(""));
+
+        pool.setVisibleRows(0, 0);
+        final CellPrimitives primitives = pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT);
+        final Text text = primitives.getText();
+
+        pool.setVisibleRows(0, 0);
+        pool.acquire(0, 0, otherTheme, BaseGridColumnRenderer.BODY_TEXT);
+
+        assertNotSame(text, primitives.getText());
+        verify(otherTheme).getBodyText();
+    }
+
+    @Test
+    public void testClear() {
+        pool.setVisibleRows(0, 0);
+        final CellPrimitives primitives = pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT);
+
+        pool.clear();
+        assertEquals(0, pool.size());
+
+        pool.setVisibleRows(0, 0);
+        assertNotSame(primitives, pool.acquire(0, 0, theme, BaseGridColumnRenderer.BODY_TEXT));
+    }
+}
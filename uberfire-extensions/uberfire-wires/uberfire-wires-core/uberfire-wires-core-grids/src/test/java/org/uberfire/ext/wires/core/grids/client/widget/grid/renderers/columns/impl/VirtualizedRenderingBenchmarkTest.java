@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.columns.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import com.ait.lienzo.client.core.shape.Group;
+import com.ait.lienzo.client.core.shape.Text;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCell;
+import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCellValue;
+import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyCellRenderContext;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
+import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.themes.GridRendererTheme;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the primitives allocated whilst scrolling a large grid, with and without virtualized rendering.
+ */
+@RunWith(LienzoMockitoTestRunner.class)
+public class VirtualizedRenderingBenchmarkTest {
+
+    private static final int ROW_COUNT = 10000;
+    private static final int VISIBLE_ROW_COUNT = 40;
+    private static final int[] SCROLL_STEPS = {1, 5, 20};
+
+    @Mock
+    private GridRenderer renderer;
+
+    @Mock
+    private GridRendererTheme theme;
+
+    private final List<GridCell<String>> cells = new ArrayList<>();
+
+    private int textAllocations;
+
+    @Before
+    public void setup() {
+        when(renderer.getTheme()).thenReturn(theme);
+        when(theme.getBodyText()).thenAnswer(i -> {
+            textAllocations++;
+            return new Text("");
+        });
+        for (int rowIndex = 0; rowIndex < ROW_COUNT; rowIndex++) {
+            cells.add(new BaseGridCell<>(new BaseGridCellValue<>("row" + rowIndex)));
+        }
+    }
+
+    @Test
+    public void testScrollingAllocatesOnlyForNewRows() {
+        final StringColumnRenderer columnRenderer = new StringColumnRenderer();
+        columnRenderer.setVirtualized(true);
+
+        //Rows above the window are retained for the overscan, after which their primitives are recycled
+        final int allocations = scroll(columnRenderer, 1, 100);
+        assertEquals(2 * (VISIBLE_ROW_COUNT + CellPrimitivePool.DEFAULT_OVERSCAN),
+                     allocations);
+        assertEquals(allocations,
+                     columnRenderer.getCellPrimitivePool().getAllocationCount());
+    }
+
+    @Test
+    public void testVirtualizedAllocationsAreBoundedForEachScrollStep() {
+        for (final int step : SCROLL_STEPS) {
+            final int frames = (ROW_COUNT - VISIBLE_ROW_COUNT) / step;
+
+            final int flatAllocations = scroll(new StringColumnRenderer(), step, frames);
+
+            final StringColumnRenderer columnRenderer = new StringColumnRenderer();
+            columnRenderer.setVirtualized(true);
+            final int virtualizedAllocations = scroll(columnRenderer, step, frames);
+
+            //Without virtualization each frame allocates a Group and a Text for every visible row
+            assertEquals("Scrolling by " + step,
+                         2 * VISIBLE_ROW_COUNT * frames,
+                         flatAllocations);
+
+            //With virtualization only the rows held by the pool are ever allocated, however far the grid is scrolled
+            assertTrue("Scrolling by " + step + " allocated " + virtualizedAllocations,
+                       virtualizedAllocations <= 2 * (VISIBLE_ROW_COUNT + CellPrimitivePool.DEFAULT_OVERSCAN));
+            assertTrue("Scrolling by " + step + " allocated " + virtualizedAllocations + " against " + flatAllocations,
+                       virtualizedAllocations < flatAllocations);
+        }
+    }
+
+    /**
+     * Renders the visible rows of a frame, as the column rendering strategies do, scrolling between frames.
+     * @return The number of Groups and Texts allocated.
+     */
+    private int scroll(final StringColumnRenderer columnRenderer,
+                       final int step,
+                       final int frames) {
+        final Set<Group> groups = Collections.newSetFromMap(new IdentityHashMap<>());
+        textAllocations = 0;
+        for (int frame = 0; frame < frames; frame++) {
+            final int minVisibleRowIndex = frame * step;
+            final int maxVisibleRowIndex = minVisibleRowIndex + VISIBLE_ROW_COUNT - 1;
+            columnRenderer.getCellPrimitivePool().setVisibleRows(minVisibleRowIndex,
+                                                                 maxVisibleRowIndex);
+            for (int rowIndex = minVisibleRowIndex; rowIndex <= maxVisibleRowIndex; rowIndex++) {
+                final GridBodyCellRenderContext context = new GridBodyCellRenderContext(0,
+                                                                                        rowIndex * 20.0,
+                                                                                        100,
+                                                                                        20,
+                                                                                        0,
+                                                                                        0,
+                                                                                        rowIndex,
+                                                                                        0,
+                                                                                        false,
+                                                                                        null,
+                                                                                        renderer);
+                final Group g = columnRenderer.renderCell(cells.get(rowIndex),
+                                                          context);
+                g.setX(0).setY(rowIndex * 20.0).setListening(true);
+                groups.add(g);
+            }
+        }
+        return groups.size() + textAllocations;
+    }
+}